@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,13 +30,16 @@ import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.core.manipulation.ASTCache;
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
 /**
  * The {@link CoreASTProvider} provides access to the {@link CompilationUnit AST root} used by
- * the current active Java editor.
+ * the current active Java editor. The ASTs of recently active Java elements are kept in a bounded,
+ * memory sensitive cache and are reused as long as no Java element change could have made them
+ * outdated.
  *
  * The {@link CoreASTProvider} contains all methods/functionality that are
  * not dependent on the UI, from org.eclipse.jdt.internal.ui.javaeditor.ASTProvider
@@ -59,6 +62,11 @@ public final class CoreASTProvider {
 	private volatile ITypeRoot fReconcilingJavaElement;
 	private ITypeRoot fActiveJavaElement;
 	private CompilationUnit fAST;
+	private ITypeRoot fASTJavaElement;
+	private long fASTModificationStamp;
+	private long fASTElementModificationStamp;
+	private volatile long fReconcileModificationStamp;
+	private volatile long fReconcileElementModificationStamp;
 	private Object fReconcileLock= new Object();
 	private Object fWaitLock= new Object();
 	private volatile boolean fIsReconciling;
@@ -136,6 +144,18 @@ public final class CoreASTProvider {
 		synchronized (this) {
 			isActiveElement= input.equals(fActiveJavaElement);
 			if (isActiveElement) {
+				if (fAST == null && !isReconciling(input)) {
+					long modificationStamp= ASTCache.getModificationStamp();
+					long elementModificationStamp= ASTCache.getModificationStamp(input);
+					CompilationUnit cachedAST= ASTCache.get(input);
+					if (cachedAST != null) {
+						ASTCache.remove(input);
+						fAST= cachedAST;
+						fASTJavaElement= input;
+						fASTModificationStamp= modificationStamp;
+						fASTElementModificationStamp= elementModificationStamp;
+					}
+				}
 				if (fAST != null) {
 					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning cached AST:" + toString(fAST) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
@@ -152,6 +172,16 @@ public final class CoreASTProvider {
 			}
 		}
 
+		if (!isActiveElement) {
+			CompilationUnit cachedAST= ASTCache.get(input);
+			if (cachedAST != null) {
+				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+					System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning recently used AST:" + toString(cachedAST) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+				return cachedAST;
+			}
+		}
+
 		final boolean canReturnNull= waitFlag == CoreASTProvider.WAIT_NO || (waitFlag == CoreASTProvider.WAIT_ACTIVE_ONLY && (!isActiveElement || fAST != null));
 		boolean isReconciling= false;
 		final ITypeRoot activeElement;
@@ -195,6 +225,8 @@ public final class CoreASTProvider {
 
 
 		CompilationUnit ast= null;
+		long modificationStamp= ASTCache.getModificationStamp();
+		long elementModificationStamp= ASTCache.getModificationStamp(input);
 		try {
 			ast= createAST(input, progressMonitor);
 			if (progressMonitor != null && progressMonitor.isCanceled()) {
@@ -214,6 +246,8 @@ public final class CoreASTProvider {
 					reconciled(ast, input, null);
 			}
 		}
+		if (!isActiveElement && ast != null)
+			ASTCache.put(ast, input, modificationStamp, elementModificationStamp);
 		return ast;
 	}
 
@@ -253,8 +287,11 @@ public final class CoreASTProvider {
 		synchronized (fReconcileLock) {
 			fReconcilingJavaElement= javaElement;
 			fIsReconciling= true;
+			fReconcileModificationStamp= ASTCache.getModificationStamp();
+			fReconcileElementModificationStamp= ASTCache.getModificationStamp(javaElement);
 			this.fFinishReconciling = finishReconciling;
 		}
+		ASTCache.remove(javaElement);
 		cache(null, javaElement);
 	}
 
@@ -372,6 +409,9 @@ public final class CoreASTProvider {
 			disposeAST();
 
 		fAST= ast;
+		fASTJavaElement= javaElement;
+		fASTModificationStamp= fReconcileModificationStamp;
+		fASTElementModificationStamp= fReconcileElementModificationStamp;
 
 		// Signal AST change
 		synchronized (fWaitLock) {
@@ -399,7 +439,8 @@ public final class CoreASTProvider {
 	}
 
 	/**
-	 * Disposes the cached AST.
+	 * Disposes the cached AST. If the AST belongs to an element which is no longer the active one,
+	 * it is kept in the cache of recently used ASTs.
 	 */
 	public synchronized void disposeAST() {
 
@@ -409,7 +450,11 @@ public final class CoreASTProvider {
 		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "disposing AST: " + toString(fAST) + " for: " + toString(fActiveJavaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
+		if (fASTJavaElement != null && !fASTJavaElement.equals(fActiveJavaElement))
+			ASTCache.put(fAST, fASTJavaElement, fASTModificationStamp, fASTElementModificationStamp);
+
 		fAST= null;
+		fASTJavaElement= null;
 
 		cache(null, null);
 	}
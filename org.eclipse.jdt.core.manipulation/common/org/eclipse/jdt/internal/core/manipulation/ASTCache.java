@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+
+import org.eclipse.jdt.core.BufferChangedEvent;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IBufferChangedListener;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+
+import org.eclipse.jdt.internal.corext.util.ConcurrentLRUCache;
+
+/**
+ * A thread-safe cache for the shared ASTs of recently used, but currently not active Java
+ * elements, e.g. the inputs of the previously active editors.
+ * <p>
+ * The ASTs are only softly referenced, so the garbage collector can reclaim them when memory gets
+ * low. Every entry is stamped with the Java model modification stamp and with the modification
+ * stamp of the element's own buffer, both taken before its AST was created, so entries are only
+ * returned while both stamps are current and lookups do not need to synchronize with the listener.
+ * The buffer stamp catches edits of working copies which have not been reconciled yet. Buffers
+ * without a file buffer document are stamped by a listener that counts their changes.
+ * The stamp is increased by every Java element delta that can change the bindings of other
+ * compilation units; changes that are confined to method bodies only evict the changed element.
+ * </p>
+ *
+ * @see CoreASTProvider
+ */
+public final class ASTCache {
+
+	private static final class ASTCacheEntry {
+
+		private final SoftReference<CompilationUnit> fAST;
+		private final long fModificationStamp;
+		private final long fElementModificationStamp;
+
+		public ASTCacheEntry(CompilationUnit ast, long modificationStamp, long elementModificationStamp) {
+			fAST= new SoftReference<>(ast);
+			fModificationStamp= modificationStamp;
+			fElementModificationStamp= elementModificationStamp;
+		}
+
+		public CompilationUnit getAST(long modificationStamp, ITypeRoot input) {
+			if (modificationStamp != fModificationStamp || getModificationStamp(input) != fElementModificationStamp)
+				return null;
+			return fAST.get();
+		}
+	}
+
+	/**
+	 * The modification stamp of a buffer which is not connected to a file buffer. The stamps are
+	 * taken from a global counter, so a reopened buffer does not repeat the stamps of its
+	 * predecessor.
+	 */
+	private static final class BufferStamp implements IBufferChangedListener {
+
+		private volatile long fStamp= fgBufferStampCounter.incrementAndGet();
+
+		@Override
+		public void bufferChanged(BufferChangedEvent event) {
+			fStamp= fgBufferStampCounter.incrementAndGet();
+			IBuffer buffer= event.getBuffer();
+			if (buffer.isClosed()) {
+				buffer.removeBufferChangedListener(this);
+				fgBufferStamps.remove(buffer);
+			}
+		}
+	}
+
+	private static final int CACHE_SIZE= 5;
+
+	private static final int BODY_CHANGE_FLAGS= IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED | IJavaElementDelta.F_PRIMARY_RESOURCE;
+
+	private static final ConcurrentLRUCache<ITypeRoot, ASTCacheEntry> fgCache= new ConcurrentLRUCache<>(CACHE_SIZE);
+
+	private static final Object fgLock= new Object();
+
+	private static volatile long fgModificationStamp= 0;
+
+	private static volatile IElementChangedListener fgListener;
+
+	private static final AtomicLong fgBufferStampCounter= new AtomicLong();
+
+	private static final Map<IBuffer, BufferStamp> fgBufferStamps= Collections.synchronizedMap(new WeakHashMap<>());
+
+	private static final AtomicInteger fgCacheHits= new AtomicInteger();
+	private static final AtomicInteger fgCacheMisses= new AtomicInteger();
+
+	/**
+	 * Returns the cached AST for the given Java element.
+	 *
+	 * @param input the Java element
+	 * @return the AST or <code>null</code> if no up-to-date AST is cached
+	 */
+	public static CompilationUnit get(ITypeRoot input) {
+		ASTCacheEntry entry= fgCache.get(input);
+		CompilationUnit ast= entry != null ? entry.getAST(fgModificationStamp, input) : null;
+		if (ast == null) {
+			if (entry != null)
+				fgCache.remove(input, entry);
+			fgCacheMisses.incrementAndGet();
+		} else {
+			fgCacheHits.incrementAndGet();
+		}
+		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+			System.out.println(CoreASTProvider.getThreadName() + " - " + CoreASTProvider.DEBUG_PREFIX + "AST cache " + (ast != null ? "hit" : "miss") + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		return ast;
+	}
+
+	/**
+	 * Returns the current Java model modification stamp. Clients pass the stamp taken before they
+	 * started to create an AST to {@link #put(CompilationUnit, ITypeRoot, long, long)}.
+	 *
+	 * @return the modification stamp
+	 */
+	public static long getModificationStamp() {
+		if (fgListener == null) {
+			synchronized (fgLock) {
+				installListener();
+			}
+		}
+		return fgModificationStamp;
+	}
+
+	/**
+	 * Returns the current modification stamp of the contents of the given Java element: the
+	 * stamp of its file buffer document if the file is connected, otherwise the stamp of its
+	 * buffer if it is a working copy, otherwise the stamp of its resource. Clients pass the stamp taken
+	 * before they started to create an AST to {@link #put(CompilationUnit, ITypeRoot, long, long)}.
+	 *
+	 * @param input the Java element
+	 * @return the modification stamp of the element, or 0 if the element cannot be edited
+	 */
+	public static long getModificationStamp(ITypeRoot input) {
+		if (!(input instanceof ICompilationUnit))
+			return 0;
+		ICompilationUnit unit= (ICompilationUnit) input;
+		IResource resource= unit.getResource();
+		if (resource != null) {
+			ITextFileBuffer fileBuffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(resource.getFullPath(), LocationKind.IFILE);
+			IDocument document= fileBuffer != null ? fileBuffer.getDocument() : null;
+			if (document instanceof IDocumentExtension4)
+				return ((IDocumentExtension4) document).getModificationStamp();
+		}
+		if (unit.isWorkingCopy()) {
+			try {
+				IBuffer buffer= unit.getBuffer();
+				if (buffer != null && !buffer.isClosed())
+					return getModificationStamp(buffer);
+			} catch (JavaModelException e) {
+				// fall back to the resource
+			}
+		}
+		return resource != null ? resource.getModificationStamp() : 0;
+	}
+
+	private static long getModificationStamp(IBuffer buffer) {
+		return fgBufferStamps.computeIfAbsent(buffer, b -> {
+			BufferStamp stamp= new BufferStamp();
+			b.addBufferChangedListener(stamp);
+			return stamp;
+		}).fStamp;
+	}
+
+	/**
+	 * Caches the given AST for the given Java element.
+	 *
+	 * @param ast the AST
+	 * @param input the Java element the AST has been created for
+	 * @param modificationStamp the Java model modification stamp taken before the AST was created
+	 * @param elementModificationStamp the modification stamp of the element taken before the AST
+	 *            was created, see {@link #getModificationStamp(ITypeRoot)}
+	 */
+	public static void put(CompilationUnit ast, ITypeRoot input, long modificationStamp, long elementModificationStamp) {
+		if (ast == null || input == null)
+			return;
+		if (fgListener == null || modificationStamp != fgModificationStamp)
+			return;
+		// an entry added concurrently with a delta is stale and gets removed by the next lookup
+		fgCache.put(input, new ASTCacheEntry(ast, modificationStamp, elementModificationStamp));
+	}
+
+	/**
+	 * Removes the cached AST of the given Java element.
+	 *
+	 * @param input the Java element
+	 */
+	public static void remove(ITypeRoot input) {
+		if (input == null)
+			return;
+		fgCache.remove(input);
+	}
+
+	/**
+	 * Removes all cached ASTs and the Java element listener.
+	 */
+	public static void dispose() {
+		synchronized (fgLock) {
+			fgModificationStamp++;
+			fgCache.clear();
+			if (fgListener != null) {
+				JavaCore.removeElementChangedListener(fgListener);
+				fgListener= null;
+			}
+		}
+	}
+
+	private static void installListener() {
+		if (fgListener == null) {
+			fgListener= new IElementChangedListener() {
+				@Override
+				public void elementChanged(ElementChangedEvent event) {
+					processDelta(event.getDelta());
+				}
+			};
+			JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	private static void processDelta(IJavaElementDelta delta) {
+		synchronized (fgLock) {
+			if (!removeBodyChanges(delta)) {
+				fgModificationStamp++;
+				fgCache.clear();
+			}
+		}
+	}
+
+	/**
+	 * Removes the cached ASTs of all compilation units which are changed by the given delta.
+	 *
+	 * @param delta the delta
+	 * @return <code>true</code> if the delta only changes method bodies and can therefore not
+	 *         affect the bindings of other compilation units
+	 */
+	private static boolean removeBodyChanges(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return false;
+		int flags= delta.getFlags();
+		IJavaElement element= delta.getElement();
+		if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+			fgCache.remove((ITypeRoot) element);
+			if (flags == 0)
+				return true;
+			return (flags & ~BODY_CHANGE_FLAGS) == 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) != 0 && delta.getAffectedChildren().length == 0;
+		}
+		if ((flags & ~IJavaElementDelta.F_CHILDREN) != 0)
+			return false;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!removeBodyChanges(child))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the number of times an AST could be taken from the cache.
+	 * @return Returns a int
+	 */
+	public static int getCacheHits() {
+		return fgCacheHits.get();
+	}
+
+	/**
+	 * Gets the number of times no AST was found in the cache. Used for testing.
+	 * @return Returns a int
+	 */
+	public static int getCacheMisses() {
+		return fgCacheMisses.get();
+	}
+
+	private ASTCache() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,9 +30,11 @@ import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
+import org.eclipse.jdt.internal.ui.text.ChainIndex;
 
 /**
  * The main plug-in class to be used in the workbench.
@@ -54,6 +56,8 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	public static boolean DEBUG_TYPE_CONSTRAINTS;
 
+	public static boolean DEBUG_RENAME_SESSION_CACHE;
+
 	//The shared instance.
 	private static JavaManipulationPlugin fgDefault;
 
@@ -81,9 +85,14 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		ChainIndex.dispose();
+		SuperTypeHierarchyCache.saveHierarchies();
+
 		super.stop(context);
 		fgDefault= null;
 
+		ASTCache.dispose();
+
 		if (fTypeFilter != null) {
 			fTypeFilter.dispose();
 			fTypeFilter= null;
@@ -186,5 +195,6 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	public void optionsChanged(DebugOptions options) {
 		DEBUG_AST_PROVIDER= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/ASTProvider", false); //$NON-NLS-1$
 		DEBUG_TYPE_CONSTRAINTS= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/TypeConstraints", false); //$NON-NLS-1$
+		DEBUG_RENAME_SESSION_CACHE= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/RenameSessionCache", false); //$NON-NLS-1$
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text;
 
+import java.util.Arrays;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -27,10 +28,19 @@ import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 /**
  * A buffered document scanner. The buffer always contains a section
  * of a fixed size of the document to be scanned.
+ * <p>
+ * When the buffer is refilled while reading forward, its last characters are kept at its start,
+ * so that unreading a few characters across the buffer boundary does not reload the buffer.
+ * </p>
  */
 
 public final class BufferedDocumentScanner implements ICharacterScanner {
 
+	/**
+	 * The maximum number of characters kept at the start of the buffer when it is refilled forward.
+	 */
+	private static final int LOOKBEHIND= 16;
+
 	/** The document being scanned. */
 	private IDocument fDocument;
 	/** The offset of the document range to scan. */
@@ -39,6 +49,8 @@ public final class BufferedDocumentScanner implements ICharacterScanner {
 	private int fRangeLength;
 	/** The delimiters of the document. */
 	private char[][] fDelimiters;
+	/** The legal line delimiters from which the delimiters have been created. */
+	private String[] fLegalDelimiters;
 
 	/** The buffer. */
 	private final char[] fBuffer;
@@ -49,6 +61,9 @@ public final class BufferedDocumentScanner implements ICharacterScanner {
 	/** The offset of the scanner within the buffer. */
 	private int fOffset;
 
+	/** The number of characters kept at the start of the buffer when it is refilled forward. */
+	private final int fLookbehind;
+
 
 	/**
 	 * Creates a new buffered document scanner.
@@ -59,6 +74,7 @@ public final class BufferedDocumentScanner implements ICharacterScanner {
 	public BufferedDocumentScanner(int size) {
 		Assert.isTrue(size >= 1);
 		fBuffer= new char[size];
+		fLookbehind= Math.min(LOOKBEHIND, size / 2);
 	}
 
 	/**
@@ -82,6 +98,27 @@ public final class BufferedDocumentScanner implements ICharacterScanner {
 		}
 	}
 
+	/**
+	 * Refills the buffer with the contents of the document following it, keeping the last
+	 * characters of the buffer at its start.
+	 */
+	private void advanceBuffer() {
+		int keep= Math.min(fLookbehind, fBufferLength);
+		System.arraycopy(fBuffer, fBufferLength - keep, fBuffer, 0, keep);
+
+		int offset= fBufferOffset + fBufferLength;
+		int length= Math.min(fBuffer.length - keep, fRangeOffset + fRangeLength - offset);
+		fBufferOffset= offset - keep;
+		fBufferLength= keep + length;
+		fOffset= keep;
+
+		try {
+			final String content= fDocument.get(offset, length);
+			content.getChars(0, length, fBuffer, keep);
+		} catch (BadLocationException e) {
+		}
+	}
+
 	/**
 	 * Configures the scanner by providing access to the document range over which to scan.
 	 *
@@ -95,10 +132,14 @@ public final class BufferedDocumentScanner implements ICharacterScanner {
 		fRangeOffset= offset;
 		fRangeLength= length;
 
+		// the delimiters rarely change, reuse them for the many partial ranges of a document
 		String[] delimiters= document.getLegalLineDelimiters();
-		fDelimiters= new char[delimiters.length][];
-		for (int i= 0; i < delimiters.length; i++)
-			fDelimiters[i]= delimiters[i].toCharArray();
+		if (fDelimiters == null || !Arrays.equals(delimiters, fLegalDelimiters)) {
+			fDelimiters= new char[delimiters.length][];
+			for (int i= 0; i < delimiters.length; i++)
+				fDelimiters[i]= delimiters[i].toCharArray();
+			fLegalDelimiters= delimiters.clone();
+		}
 
 		updateBuffer(offset);
 		fOffset= 0;
@@ -114,10 +155,8 @@ public final class BufferedDocumentScanner implements ICharacterScanner {
 			int end= fBufferOffset + fBufferLength;
 			if (end == fDocument.getLength() || end == fRangeOffset + fRangeLength)
 				return EOF;
-			else {
-				updateBuffer(fBufferOffset + fBufferLength);
-				fOffset= 0;
-			}
+			else
+				advanceBuffer();
 		}
 
 		try {
@@ -150,8 +189,9 @@ public final class BufferedDocumentScanner implements ICharacterScanner {
 			if (fBufferOffset == fRangeOffset) {
 				// error: BOF
 			} else {
-				updateBuffer(fBufferOffset - fBuffer.length);
-				fOffset= fBuffer.length - 1;
+				int offset= fBufferOffset - 1;
+				updateBuffer(Math.max(fRangeOffset, fBufferOffset - fBuffer.length));
+				fOffset= offset - fBufferOffset;
 			}
 		} else {
 			--fOffset;
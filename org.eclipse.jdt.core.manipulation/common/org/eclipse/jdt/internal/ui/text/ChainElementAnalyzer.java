@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2011, 2019 Stefan Henss and others.
+ * Copyright (c) 2011, 2026 Stefan Henss and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,11 +12,11 @@ package org.eclipse.jdt.internal.ui.text;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.eclipse.jdt.core.CompletionContext;
@@ -34,7 +34,7 @@ import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 public final class ChainElementAnalyzer {
 
-	private static final Map<String, IType> typeCache= new HashMap<>();
+	private static final Map<String, IType> typeCache= new ConcurrentHashMap<>();
 
 	private static final Predicate<IField> NON_STATIC_FIELDS_ONLY_FILTER = t -> {
 		try {
@@ -91,13 +91,47 @@ public final class ChainElementAnalyzer {
                 STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER);
     }
 
+    /**
+     * Returns the fields and methods of the given types which can be used to continue a chain,
+     * without considering their visibility.
+     *
+     * @param types the type and its super types as returned by {@link #findAllSupertypesIncludingArgument(ChainType)}
+     * @param staticOnly <code>true</code> for the static members, <code>false</code> for the instance members
+     * @return the fields and methods
+     * @see #canBeSeenBy(IJavaElement, IType)
+     */
+    static Collection<IJavaElement> findAllFieldsAndMethods(final List<IType> types, final boolean staticOnly) {
+        return staticOnly
+                ? findFieldsAndMethods(types, null, STATIC_FIELDS_ONLY_FILTER, STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER)
+                : findFieldsAndMethods(types, null, NON_STATIC_FIELDS_ONLY_FILTER, RELEVANT_NON_STATIC_METHODS_ONLY_FILTER);
+    }
+
+    /**
+     * Tests whether the given field or method is visible in the given type.
+     *
+     * @param member the field or method
+     * @param invocationType the type in which the member is accessed
+     * @return <code>true</code> if the member can be accessed
+     */
+    public static boolean canBeSeenBy(final IJavaElement member, final IType invocationType) {
+        if (member instanceof IMethod) {
+            return methodCanBeSeenBy((IMethod) member, invocationType);
+        }
+        return member instanceof IField && fieldCanBeSeenBy((IField) member, invocationType);
+    }
+
     private static Collection<IJavaElement> findFieldsAndMethods(final ChainType type, final ChainType receiverType,
             final Predicate<IField> fieldFilter, final Predicate<IMethod> methodFilter) {
+        return findFieldsAndMethods(findAllSupertypesIncludingArgument(type), receiverType, fieldFilter, methodFilter);
+    }
+
+    private static Collection<IJavaElement> findFieldsAndMethods(final List<IType> types, final ChainType receiverType,
+            final Predicate<IField> fieldFilter, final Predicate<IMethod> methodFilter) {
         final Map<String, IJavaElement> tmp = new LinkedHashMap<>();
-        for (final IType cur : findAllSupertypesIncludingArgument(type)) {
+        for (final IType cur : types) {
             try {
 				for (final IMethod method : cur.getMethods()) {
-				    if (!methodFilter.test(method) || !methodCanBeSeenBy(method, receiverType.getType())) {
+				    if (!methodFilter.test(method) || receiverType != null && !methodCanBeSeenBy(method, receiverType.getType())) {
 				        continue;
 				    }
 				    final String key = method.getKey();
@@ -110,7 +144,7 @@ public final class ChainElementAnalyzer {
 			}
             try {
 				for (final IField field : cur.getFields()) {
-				    if (!fieldFilter.test(field) || !fieldCanBeSeenBy(field, receiverType.getType())) {
+				    if (!fieldFilter.test(field) || receiverType != null && !fieldCanBeSeenBy(field, receiverType.getType())) {
 				        continue;
 				    }
 				    final String key = field.getKey();
@@ -125,7 +159,7 @@ public final class ChainElementAnalyzer {
         return tmp.values();
     }
 
-    private static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
+    static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
         if ((type.getPrimitiveType() != null)) {
             return Collections.emptyList();
         }
@@ -293,7 +327,7 @@ public final class ChainElementAnalyzer {
 			if (resType != null) {
 				String fqExpectedType= JavaModelUtil.concatenateName(resType[0][0], resType[0][1]);
 				res= proj.findType(fqExpectedType);
-				if (isResolved) {
+				if (isResolved && res != null) {
 					typeCache.put(typeSig, res);
 				}
 				return res;
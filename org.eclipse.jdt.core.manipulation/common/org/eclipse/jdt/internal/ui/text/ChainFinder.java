@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2020 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,11 +11,17 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
@@ -24,22 +30,50 @@ import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
 public class ChainFinder {
 
+	/**
+	 * The maximum number of incomplete chains queued by all searches, beyond which the chains are
+	 * not followed any deeper.
+	 */
+	private static final int MAX_QUEUED_CHAINS= 50000;
+
 	private final List<ChainType> expectedTypes;
 
 	private final List<String> excludedTypes;
 
 	private final IType receiverType;
 
-	private final List<Chain> chains= new LinkedList<>();
+	private final List<SearchTask> tasks= new ArrayList<>();
+
+	private final Map<IJavaElement, ChainElement> edgeCache= new ConcurrentHashMap<>();
+
+	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new ConcurrentHashMap<>();
+
+	private final Map<String, Boolean> assignableCache= new ConcurrentHashMap<>();
 
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
+	private volatile int maxChains;
 
-	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
+	/** The number of incomplete chains queued by all searches. */
+	private final AtomicInteger queuedChains= new AtomicInteger();
 
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
+	/** The number of chains found by all searches. */
+	private final AtomicInteger foundChains= new AtomicInteger();
 
 	private volatile boolean isCanceled;
 
+	/**
+	 * The chains found by a breadth-first search for one expected type, shortest first.
+	 */
+	private static final class SearchTask {
+
+		private final int expectedTypeIndex;
+
+		private final List<Chain> chains= new ArrayList<>();
+
+		SearchTask(final int expectedTypeIndex) {
+			this.expectedTypeIndex= expectedTypeIndex;
+		}
+	}
+
 	public ChainFinder(final List<ChainType> expectedTypes, final List<String> excludedTypes,
 			final IType receiverType) {
 		this.expectedTypes= expectedTypes;
@@ -49,53 +83,151 @@ public class ChainFinder {
 
 	public void startChainSearch(final List<ChainElement> entrypoints, final int maxChains, final int minDepth,
 			final int maxDepth) {
-		for (final ChainType expected : expectedTypes) {
+		this.maxChains= maxChains;
+		for (int i= 0; i < expectedTypes.size(); i++) {
+			final ChainType expected= expectedTypes.get(i);
 			if (expected != null && !ChainFinder.isFromExcludedType(excludedTypes, expected)) {
 				ChainType expectedType= expected;
 				int expectedDimension= 0;
 				if (expectedType.getDimension() > 0) {
 					expectedDimension= expectedType.getDimension();
 				}
-				searchChainsForExpectedType(expectedType, expectedDimension, entrypoints, maxChains, minDepth,
+				searchChainsForExpectedType(createTask(i), expectedType, expectedDimension, entrypoints, minDepth,
 						maxDepth);
 			}
 		}
 	}
 
+	/**
+	 * Searches the chains for every pair of expected type and entry point as a separate task of the
+	 * given executor. {@link #cancel()} stops all tasks at their next step, for example when the
+	 * caller does not want to wait any longer and takes the chains found so far from
+	 * {@link #getChains()}.
+	 * <p>
+	 * All tasks share the bound on the number of queued chains and stop once <code>maxChains</code>
+	 * chains have been found in total. Which chains are found first depends on the scheduling of the
+	 * tasks, so the chains may differ from those found by
+	 * {@link #startChainSearch(List, int, int, int)} when the search is bounded or canceled.
+	 * </p>
+	 *
+	 * @param entrypoints the entry points of the chains
+	 * @param maxChains the maximum number of chains
+	 * @param minDepth the minimum number of elements of a chain
+	 * @param maxDepth the maximum number of elements of a chain
+	 * @param executor the executor running the tasks
+	 * @return a future which is completed when all tasks are finished
+	 */
+	public CompletableFuture<Void> startChainSearch(final List<ChainElement> entrypoints, final int maxChains,
+			final int minDepth, final int maxDepth, final Executor executor) {
+		this.maxChains= maxChains;
+		final List<CompletableFuture<Void>> futures= new ArrayList<>();
+		for (int i= 0; i < expectedTypes.size(); i++) {
+			final ChainType expected= expectedTypes.get(i);
+			if (expected != null && !ChainFinder.isFromExcludedType(excludedTypes, expected)) {
+				final int expectedDimension= Math.max(0, expected.getDimension());
+				for (final ChainElement entrypoint : entrypoints) {
+					final SearchTask task= createTask(i);
+					futures.add(CompletableFuture.runAsync(() -> searchChainsForExpectedType(task, expected, expectedDimension,
+							Collections.singletonList(entrypoint), minDepth, maxDepth), executor));
+				}
+			}
+		}
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
+	}
+
 	public void cancel() {
 		isCanceled= true;
 	}
 
-	private void searchChainsForExpectedType(final ChainType expectedType, final int expectedDimensions,
-			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
+	private SearchTask createTask(final int expectedTypeIndex) {
+		final SearchTask task= new SearchTask(expectedTypeIndex);
+		synchronized (tasks) {
+			tasks.add(task);
+		}
+		return task;
+	}
 
-		while (!incompleteChains.isEmpty() && !isCanceled) {
-			final LinkedList<ChainElement> chain= incompleteChains.poll();
-			final ChainElement edge= chain.getLast();
-			if (isValidEndOfChain(edge, expectedType, expectedDimensions)) {
-				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
-						break;
+	private void searchChainsForExpectedType(final SearchTask task, final ChainType expectedType, final int expectedDimensions,
+			final List<ChainElement> entrypoints, final int minDepth, final int maxDepth) {
+		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
+		queuedChains.addAndGet(incompleteChains.size());
+		try {
+			while (!incompleteChains.isEmpty() && !isCanceled && !hasFoundMaxChains()) {
+				final LinkedList<ChainElement> chain= incompleteChains.poll();
+				queuedChains.decrementAndGet();
+				final ChainElement edge= chain.getLast();
+				if (isValidEndOfChain(edge, expectedType, expectedDimensions)) {
+					if (chain.size() >= minDepth) {
+						addChain(task, new Chain(chain, expectedDimensions));
 					}
+					continue;
+				}
+				if (chain.size() < maxDepth && queuedChains.get() <= MAX_QUEUED_CHAINS) {
+					final int queued= incompleteChains.size();
+					searchDeeper(chain, incompleteChains, edge.getReturnType());
+					queuedChains.addAndGet(incompleteChains.size() - queued);
 				}
-				continue;
-			}
-			if (chain.size() < maxDepth && incompleteChains.size() <= 50000) {
-				searchDeeper(chain, incompleteChains, edge.getReturnType());
 			}
+		} finally {
+			queuedChains.addAndGet(-incompleteChains.size());
+		}
+	}
+
+	private boolean hasFoundMaxChains() {
+		return maxChains > 0 && foundChains.get() >= maxChains;
+	}
+
+	/*
+	 * Chains found by other tasks after the last chain was counted are dropped. The result of a search
+	 * by startChainSearch(List, int, int, int) is not changed by the shared count: getChains() keeps
+	 * the first maxChains chains in the order of the expected types, which are searched one after the
+	 * other.
+	 */
+	private void addChain(final SearchTask task, final Chain chain) {
+		if (maxChains > 0 && foundChains.incrementAndGet() > maxChains) {
+			return;
+		}
+		synchronized (task.chains) {
+			task.chains.add(chain);
 		}
 	}
 
 	/**
 	 * Returns the potentially incomplete list of call chains that could be found before a time out
-	 * happened. The contents of this list are mutable and may change as the search makes progress.
+	 * happened. The chains are ordered by expected type and length. The returned list is a snapshot
+	 * of the chains found when it is called, it does not change as the search makes progress.
 	 *
 	 * @return The list of call chains
 	 */
 	public List<Chain> getChains() {
-		return chains;
+		final List<Chain> result= new ArrayList<>();
+		int expectedTypeIndex= -1;
+		int start= 0;
+		synchronized (tasks) {
+			for (final SearchTask task : tasks) {
+				if (task.expectedTypeIndex != expectedTypeIndex) {
+					sortByLength(result.subList(start, result.size()));
+					expectedTypeIndex= task.expectedTypeIndex;
+					start= result.size();
+				}
+				synchronized (task.chains) {
+					result.addAll(task.chains);
+				}
+			}
+		}
+		sortByLength(result.subList(start, result.size()));
+		if (maxChains > 0 && result.size() > maxChains) {
+			return new ArrayList<>(result.subList(0, maxChains));
+		}
+		return result;
+	}
+
+	/*
+	 * Each task finds shorter chains first, a stable sort merges the chains of the tasks for one
+	 * expected type by length. Chains of equal length keep the order of the entry points.
+	 */
+	private static void sortByLength(final List<Chain> chains) {
+		chains.sort(Comparator.comparingInt(chain -> chain.getElements().size()));
 	}
 
 	private static LinkedList<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
@@ -161,11 +293,11 @@ public class ChainFinder {
 		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
 		if (cached == null) {
 			cached= new LinkedList<>();
-			Collection<IJavaElement> candidates= staticOnly
-					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(chainElementType, new ChainType(receiverType))
-					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(chainElementType, new ChainType(receiverType));
+			Collection<IJavaElement> candidates= chainElementType.getType() != null
+					? ChainIndex.getInstance().getMembers(chainElementType.getType(), staticOnly)
+					: Collections.emptyList();
 			for (final IJavaElement e : candidates) {
-				if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
+				if (ChainElementAnalyzer.canBeSeenBy(e, receiverType) && !ChainFinder.isFromExcludedType(excludedTypes, e)) {
 					cached.add(e);
 				}
 			}
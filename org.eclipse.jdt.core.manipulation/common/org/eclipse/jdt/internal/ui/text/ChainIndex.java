@@ -0,0 +1,447 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+/**
+ * A persistent index from a type to the fields and methods which can be used to continue a call
+ * chain from an expression of that type, i.e. the members of the type and all its super types.
+ * <p>
+ * The members are indexed per project, separately for static and instance access, but without
+ * considering their visibility, which depends on the type in which the chain is completed.
+ * Entries are computed on first use and removed when a Java element delta, including the deltas of
+ * reconciled working copies, changes one of the compilation units or class files declaring the
+ * types they are computed from. The index of every project is bounded, the least recently used
+ * entries are evicted when it is full. The index is written to the plug-in state location on shutdown;
+ * entries loaded from disk are checked against the modification stamps of their types before
+ * they are used for the first time.
+ * </p>
+ *
+ * @see ChainFinder
+ */
+public final class ChainIndex {
+
+	private static final String INDEX_DIR= "chainIndex"; //$NON-NLS-1$
+
+	private static final String INDEX_FILE_EXTENSION= ".index"; //$NON-NLS-1$
+
+	private static final int VERSION= 2;
+
+	/** The maximum number of entries in the index of a project. */
+	private static final int MAX_ENTRIES= 500;
+
+	private static final int BODY_CHANGE_FLAGS= IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED | IJavaElementDelta.F_PRIMARY_RESOURCE;
+
+	private static final int CLASSPATH_CHANGE_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	private static final int ROOT_CHANGE_FLAGS= IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER;
+
+	private static final class Entry {
+
+		private final String[] members;
+
+		private final String[] types;
+
+		private final long[] stamps;
+
+		/** The handle identifiers of the compilation units and class files declaring the types. */
+		private final String[] typeRoots;
+
+		private List<IJavaElement> elements;
+
+		private boolean verified;
+
+		Entry(String[] members, String[] types, long[] stamps, String[] typeRoots, boolean verified) {
+			this.members= members;
+			this.types= types;
+			this.stamps= stamps;
+			this.typeRoots= typeRoots;
+			this.verified= verified;
+		}
+
+		List<IJavaElement> getElements() {
+			if (elements == null) {
+				List<IJavaElement> result= new ArrayList<>(members.length);
+				for (String member : members) {
+					IJavaElement element= JavaCore.create(member);
+					if (element != null) {
+						result.add(element);
+					}
+				}
+				elements= Collections.unmodifiableList(result);
+			}
+			return elements;
+		}
+
+		boolean dependsOn(String typeRoot) {
+			for (String root : typeRoots) {
+				if (root.equals(typeRoot)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static ChainIndex fgInstance;
+
+	private final Map<IJavaProject, Map<String, Entry>> indexes= new HashMap<>();
+
+	private final List<IJavaProject> dirtyProjects= new ArrayList<>();
+
+	private final IElementChangedListener listener= event -> processDelta(event.getDelta());
+
+	private long modificationCount;
+
+	private ChainIndex() {
+		JavaCore.addElementChangedListener(listener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the shared index.
+	 *
+	 * @return the index
+	 */
+	public static synchronized ChainIndex getInstance() {
+		if (fgInstance == null) {
+			fgInstance= new ChainIndex();
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Writes the index to disk and removes the Java element listener.
+	 */
+	public static synchronized void dispose() {
+		if (fgInstance != null) {
+			JavaCore.removeElementChangedListener(fgInstance.listener);
+			fgInstance.save();
+			fgInstance= null;
+		}
+	}
+
+	/**
+	 * Returns the static or instance fields and methods of the given type and all its super types
+	 * which can be used to continue a chain. The visibility of the members is not considered.
+	 *
+	 * @param type the type
+	 * @param staticOnly <code>true</code> for the static members, <code>false</code> for the
+	 *            instance members
+	 * @return the fields and methods
+	 */
+	public Collection<IJavaElement> getMembers(IType type, boolean staticOnly) {
+		IJavaProject project= type.getJavaProject();
+		String key= (staticOnly ? 'S' : 'I') + type.getFullyQualifiedName();
+		long count;
+		synchronized (this) {
+			Map<String, Entry> index= getIndex(project);
+			Entry entry= index.get(key);
+			if (entry != null) {
+				if (entry.verified || verify(project, entry)) {
+					entry.verified= true;
+					return entry.getElements();
+				}
+				index.remove(key);
+			}
+			count= modificationCount;
+		}
+
+		List<IType> types= ChainElementAnalyzer.findAllSupertypesIncludingArgument(new ChainType(type));
+		Collection<IJavaElement> members= ChainElementAnalyzer.findAllFieldsAndMethods(types, staticOnly);
+
+		String[] memberHandles= new String[members.size()];
+		int i= 0;
+		for (IJavaElement member : members) {
+			memberHandles[i++]= member.getHandleIdentifier();
+		}
+		String[] typeNames= new String[types.size()];
+		long[] stamps= new long[types.size()];
+		String[] typeRoots= new String[types.size()];
+		for (int j= 0; j < typeNames.length; j++) {
+			IType superType= types.get(j);
+			typeNames[j]= superType.getFullyQualifiedName();
+			stamps[j]= getModificationStamp(superType);
+			typeRoots[j]= superType.getTypeRoot().getHandleIdentifier();
+		}
+		Entry entry= new Entry(memberHandles, typeNames, stamps, typeRoots, true);
+
+		synchronized (this) {
+			if (count == modificationCount) {
+				getIndex(project).put(key, entry);
+				markDirty(project);
+			}
+		}
+		return entry.getElements();
+	}
+
+	private boolean verify(IJavaProject project, Entry entry) {
+		try {
+			for (int i= 0; i < entry.types.length; i++) {
+				IType type= project.findType(entry.types[i].replace('$', '.'));
+				if (type == null || getModificationStamp(type) != entry.stamps[i]) {
+					return false;
+				}
+			}
+			return true;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	private static long getModificationStamp(IType type) {
+		IResource resource= type.getResource();
+		if (resource != null) {
+			return resource.getModificationStamp();
+		}
+		IPackageFragmentRoot root= (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root != null) {
+			return root.getPath().toFile().lastModified();
+		}
+		return IResource.NULL_STAMP;
+	}
+
+	private void markDirty(IJavaProject project) {
+		if (!dirtyProjects.contains(project)) {
+			dirtyProjects.add(project);
+		}
+	}
+
+	private Map<String, Entry> getIndex(IJavaProject project) {
+		Map<String, Entry> index= indexes.get(project);
+		if (index == null) {
+			index= load(project);
+			indexes.put(project, index);
+		}
+		return index;
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		synchronized (this) {
+			if (!indexes.isEmpty()) {
+				processDelta0(delta);
+			}
+		}
+	}
+
+	private void processDelta0(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+				if (kind == IJavaElementDelta.REMOVED) {
+					indexes.remove(element);
+					dirtyProjects.remove(element);
+					deleteIndexFile((IJavaProject) element);
+				}
+				if (kind != IJavaElementDelta.CHANGED || (flags & CLASSPATH_CHANGE_FLAGS) != 0) {
+					clear();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & ROOT_CHANGE_FLAGS) != 0) {
+					clear();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (kind == IJavaElementDelta.ADDED) {
+					clear();
+					return;
+				}
+				if (kind == IJavaElementDelta.REMOVED) {
+					removePackage(element.getElementName());
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				if (kind == IJavaElementDelta.ADDED) {
+					// a new type can resolve a previously unresolved super type
+					clear();
+				} else if (kind == IJavaElementDelta.REMOVED || !isBodyChange(delta)) {
+					removeTypeRoot(element);
+				}
+				return;
+			default:
+				break;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta0(child);
+		}
+	}
+
+	private static boolean isBodyChange(IJavaElementDelta delta) {
+		int flags= delta.getFlags();
+		return (flags & ~BODY_CHANGE_FLAGS) == 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) != 0 && delta.getAffectedChildren().length == 0;
+	}
+
+	/**
+	 * Removes the entries depending on any type declared in the given compilation unit or class
+	 * file, including its secondary and nested types.
+	 *
+	 * @param typeRoot the compilation unit or class file
+	 */
+	private void removeTypeRoot(IJavaElement typeRoot) {
+		removeEntries(typeRoot.getHandleIdentifier(), false);
+	}
+
+	private void removePackage(String packageName) {
+		removeEntries(packageName + '.', true);
+	}
+
+	private void removeEntries(String name, boolean isPrefix) {
+		modificationCount++;
+		for (Map.Entry<IJavaProject, Map<String, Entry>> index : indexes.entrySet()) {
+			for (Iterator<Entry> iter= index.getValue().values().iterator(); iter.hasNext();) {
+				Entry entry= iter.next();
+				if (isPrefix ? Arrays.stream(entry.types).anyMatch(type -> type.startsWith(name)) : entry.dependsOn(name)) {
+					iter.remove();
+					markDirty(index.getKey());
+				}
+			}
+		}
+	}
+
+	private void clear() {
+		modificationCount++;
+		for (Map.Entry<IJavaProject, Map<String, Entry>> index : indexes.entrySet()) {
+			if (!index.getValue().isEmpty()) {
+				index.getValue().clear();
+				markDirty(index.getKey());
+			}
+		}
+	}
+
+	private static File getIndexFile(IJavaProject project) {
+		JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		IPath location= plugin.getStateLocation().append(INDEX_DIR).append(project.getElementName() + INDEX_FILE_EXTENSION);
+		return location.toFile();
+	}
+
+	private static void deleteIndexFile(IJavaProject project) {
+		File file= getIndexFile(project);
+		if (file != null && file.exists()) {
+			file.delete();
+		}
+	}
+
+	private static Map<String, Entry> load(IJavaProject project) {
+		Map<String, Entry> index= new LRUMap<>(MAX_ENTRIES);
+		File file= getIndexFile(project);
+		if (file == null || !file.isFile()) {
+			return index;
+		}
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return index;
+			}
+			int size= in.readInt();
+			for (int i= 0; i < size; i++) {
+				String key= in.readUTF();
+				String[] members= new String[in.readInt()];
+				for (int j= 0; j < members.length; j++) {
+					members[j]= in.readUTF();
+				}
+				String[] types= new String[in.readInt()];
+				long[] stamps= new long[types.length];
+				String[] typeRoots= new String[types.length];
+				for (int j= 0; j < types.length; j++) {
+					types[j]= in.readUTF();
+					stamps[j]= in.readLong();
+					typeRoots[j]= in.readUTF();
+				}
+				index.put(key, new Entry(members, types, stamps, typeRoots, false));
+			}
+		} catch (IOException e) {
+			// the index is recomputed
+			index.clear();
+		}
+		return index;
+	}
+
+	private void save() {
+		for (IJavaProject project : dirtyProjects) {
+			Map<String, Entry> index= indexes.get(project);
+			File file= getIndexFile(project);
+			if (index == null || file == null) {
+				continue;
+			}
+			if (index.isEmpty() || !project.exists()) {
+				file.delete();
+				continue;
+			}
+			file.getParentFile().mkdirs();
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+				out.writeInt(VERSION);
+				out.writeInt(index.size());
+				for (Map.Entry<String, Entry> mapEntry : index.entrySet()) {
+					Entry entry= mapEntry.getValue();
+					out.writeUTF(mapEntry.getKey());
+					out.writeInt(entry.members.length);
+					for (String member : entry.members) {
+						out.writeUTF(member);
+					}
+					out.writeInt(entry.types.length);
+					for (int i= 0; i < entry.types.length; i++) {
+						out.writeUTF(entry.types[i]);
+						out.writeLong(entry.stamps[i]);
+						out.writeUTF(entry.typeRoots[i]);
+					}
+				}
+			} catch (IOException e) {
+				JavaManipulationPlugin.log(e);
+				file.delete();
+			}
+		}
+		dirtyProjects.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1647,6 +1647,12 @@ public final class RefactoringCoreMessages extends NLS {
 
 	public static String RefactoringAnalyzeUtil_name_collision;
 
+	public static String RefactoringScriptRunner_no_refactoring;
+
+	public static String RefactoringScriptRunner_performing;
+
+	public static String RefactoringScriptRunner_saving;
+
 	public static String RefactoringSearchEngine_binary_match_grouped;
 
 	public static String RefactoringSearchEngine_binary_match_ungrouped;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -141,10 +141,14 @@ public class RefactoringSearchEngine {
 	//TODO: throw CoreException
 	private static SearchResultGroup[] internalSearch(SearchEngine searchEngine, SearchPattern pattern, IJavaSearchScope scope,
 			CollectingSearchRequestor requestor, IProgressMonitor monitor, RefactoringStatus status) throws JavaModelException {
+		RefactoringTrace.Phase phase= RefactoringTrace.begin(RefactoringTrace.SEARCH, requestor);
 		try {
 			searchEngine.search(pattern, SearchUtils.getDefaultSearchParticipants(), scope, requestor, monitor);
+			RefactoringTrace.count(RefactoringTrace.SEARCH_MATCHES, requestor.getResults().size());
 		} catch (CoreException e) {
 			throw new JavaModelException(e);
+		} finally {
+			phase.end();
 		}
 		return groupByCu(requestor.getResults(), status);
 	}
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.PerformanceStats;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.util.TimingStatistics;
+
+/**
+ * Timing of the phases of refactorings: checking the conditions, searching, creating and
+ * performing the change. For every phase and class of refactoring, the number of runs, the time
+ * spent and the compilation units, search matches and parses counted while the phase ran are
+ * recorded. Counts are added to all phases that run on the counting thread. Work that is handed to
+ * other threads counts towards a phase if it is run with {@link #runIn(Phase, TracedOperation)}.
+ * <p>
+ * The statistics are recorded and exported as described in {@link TimingStatistics}, to the file
+ * named by the {@link #EXPORT_FILE_PROPERTY} system property whenever an outermost phase ends.
+ * Outermost phases are also reported as {@link PerformanceStats} events named
+ * <code>org.eclipse.jdt.core.manipulation/perf/refactoring/&lt;phase&gt;</code>.
+ * </p>
+ *
+ * @since 1.21
+ */
+public final class RefactoringTrace {
+
+	/**
+	 * A running phase, which must be ended on the thread that began it.
+	 */
+	public static final class Phase {
+
+		private final String fName;
+		private final Object fOwner;
+		private final Phase fParent;
+		private final TimingStatistics.Timing fTiming;
+		private final AtomicLongArray fCounts= new AtomicLongArray(COUNTERS);
+		private final PerformanceStats fStats;
+
+		private Phase(String name, Object owner, Phase parent) {
+			fName= name;
+			fOwner= owner;
+			fParent= parent;
+			fStats= parent == null ? startMeter(name, owner) : null;
+			fTiming= TimingStatistics.begin();
+		}
+
+		/**
+		 * Ends this phase and records its time and counts.
+		 */
+		public void end() {
+			String ownerClass= getClassName(fOwner != null ? fOwner.getClass() : null);
+			long time= fTiming.end(fName, ownerClass);
+			if (fStats != null)
+				fStats.endRun();
+			fgCurrent.set(fParent);
+			fgStatistics.get(fName, ownerClass).record(time, fCounts);
+			if (fParent == null)
+				exportIfRequested();
+		}
+	}
+
+	/**
+	 * An operation that runs in a phase.
+	 *
+	 * @param <T> the type of the result
+	 */
+	@FunctionalInterface
+	public interface TracedOperation<T> {
+
+		/**
+		 * Runs the operation.
+		 *
+		 * @return the result
+		 * @throws CoreException if the operation fails
+		 */
+		T run() throws CoreException;
+	}
+
+	/**
+	 * The statistics of one phase of one class of refactoring.
+	 */
+	public static final class PhaseStatistics extends TimingStatistics.Entry {
+
+		private final AtomicLongArray fCounts= new AtomicLongArray(COUNTERS);
+
+		void record(long nanos, AtomicLongArray counts) {
+			record(nanos);
+			for (int i= 0; i < COUNTERS; i++)
+				fCounts.addAndGet(i, counts.get(i));
+		}
+
+		/**
+		 * Returns the sum of a counter over all runs.
+		 *
+		 * @param counter the counter, e.g. {@link RefactoringTrace#PARSES}
+		 * @return the count
+		 */
+		public long getCount(int counter) {
+			return fCounts.get(counter);
+		}
+
+		@Override
+		protected void exportValues(PrintWriter out) {
+			for (int i= 0; i < COUNTERS; i++) {
+				out.print(',');
+				out.print(fCounts.get(i));
+			}
+		}
+	}
+
+	/**
+	 * The system property to set the file to which the statistics are exported whenever an
+	 * outermost phase ends.
+	 */
+	public static final String EXPORT_FILE_PROPERTY= "jdt.refactoring.traceFile"; //$NON-NLS-1$
+
+	/** The phase checking the initial conditions. */
+	public static final String CHECK_INITIAL_CONDITIONS= "checkInitialConditions"; //$NON-NLS-1$
+	/** The phase checking the final conditions. */
+	public static final String CHECK_FINAL_CONDITIONS= "checkFinalConditions"; //$NON-NLS-1$
+	/** The phase creating the change. */
+	public static final String CREATE_CHANGE= "createChange"; //$NON-NLS-1$
+	/** The phase performing the change. */
+	public static final String PERFORM_CHANGE= "performChange"; //$NON-NLS-1$
+	/** A search for the elements to refactor or their references. */
+	public static final String SEARCH= "search"; //$NON-NLS-1$
+	/** A batch of refactorings performed from a refactoring script. */
+	public static final String BATCH= "batch"; //$NON-NLS-1$
+
+	/** The counter of compilation units for which a change was created. */
+	public static final int COMPILATION_UNITS= 0;
+	/** The counter of search matches. */
+	public static final int SEARCH_MATCHES= 1;
+	/** The counter of compilation units parsed. */
+	public static final int PARSES= 2;
+
+	private static final int COUNTERS= 3;
+	private static final String[] COUNTER_NAMES= { "compilation_units", "search_matches", "parses" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static final String PERFORMANCE_EVENT_PREFIX= JavaManipulationPlugin.getPluginId() + "/perf/refactoring/"; //$NON-NLS-1$
+
+	private static final ThreadLocal<Phase> fgCurrent= new ThreadLocal<>();
+	private static final TimingStatistics<PhaseStatistics> fgStatistics= new TimingStatistics<>("phase", "class", COUNTER_NAMES, EXPORT_FILE_PROPERTY, PhaseStatistics::new); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private RefactoringTrace() {
+		// no instance
+	}
+
+	/**
+	 * Begins a phase on the current thread. The phase must be ended in a <code>finally</code> block.
+	 *
+	 * @param phase the name of the phase, e.g. {@link #CREATE_CHANGE}
+	 * @param owner the refactoring, processor or change running the phase, or <code>null</code>
+	 * @return the running phase
+	 */
+	public static Phase begin(String phase, Object owner) {
+		Phase result= new Phase(phase, owner, fgCurrent.get());
+		fgCurrent.set(result);
+		return result;
+	}
+
+	/**
+	 * Runs an operation in a new phase, which is ended when the operation returns or fails.
+	 *
+	 * @param phase the name of the phase, e.g. {@link #CREATE_CHANGE}
+	 * @param owner the refactoring, processor or change running the phase, or <code>null</code>
+	 * @param operation the operation
+	 * @param <T> the type of the result
+	 * @return the result of the operation
+	 * @throws CoreException if the operation fails
+	 */
+	public static <T> T trace(String phase, Object owner, TracedOperation<T> operation) throws CoreException {
+		Phase running= begin(phase, owner);
+		try {
+			return operation.run();
+		} finally {
+			running.end();
+		}
+	}
+
+	/**
+	 * Returns the innermost phase running on the current thread.
+	 *
+	 * @return the current phase, or <code>null</code> if no phase is running
+	 */
+	public static Phase getCurrent() {
+		return fgCurrent.get();
+	}
+
+	/**
+	 * Runs an operation on the current thread as part of a phase that was begun on another thread,
+	 * so that the counts of the operation are added to that phase. Worker threads do not inherit
+	 * the phases of the thread that started them.
+	 *
+	 * @param phase the phase to run in, see {@link #getCurrent()}, or <code>null</code>
+	 * @param operation the operation
+	 * @param <T> the type of the result
+	 * @return the result of the operation
+	 * @throws CoreException if the operation fails
+	 */
+	public static <T> T runIn(Phase phase, TracedOperation<T> operation) throws CoreException {
+		Phase previous= fgCurrent.get();
+		fgCurrent.set(phase);
+		try {
+			return operation.run();
+		} finally {
+			fgCurrent.set(previous);
+		}
+	}
+
+	/**
+	 * Adds to a counter of the phases running on the current thread.
+	 *
+	 * @param counter the counter, e.g. {@link #SEARCH_MATCHES}
+	 * @param delta the number to add
+	 */
+	public static void count(int counter, long delta) {
+		for (Phase phase= fgCurrent.get(); phase != null; phase= phase.fParent)
+			phase.fCounts.addAndGet(counter, delta);
+	}
+
+	/**
+	 * Returns the statistics of a phase.
+	 *
+	 * @param phase the name of the phase
+	 * @param ownerClass the class of the owners of the phase, or <code>null</code>
+	 * @return the statistics, or <code>null</code> if the phase has not ended yet
+	 */
+	public static PhaseStatistics getStatistics(String phase, Class<?> ownerClass) {
+		return fgStatistics.getIfPresent(phase, getClassName(ownerClass));
+	}
+
+	/**
+	 * Discards all recorded statistics.
+	 */
+	public static void reset() {
+		fgStatistics.reset();
+	}
+
+	/**
+	 * Writes the statistics as comma separated values, one line per phase and class, sorted by
+	 * phase and class. The columns are the phase, the class, the number of runs, the total and the
+	 * maximum time in milliseconds and the counts.
+	 *
+	 * @param writer the writer
+	 */
+	public static void export(Writer writer) {
+		fgStatistics.export(writer);
+	}
+
+	/**
+	 * Exports the statistics to the file named by the {@link #EXPORT_FILE_PROPERTY} system
+	 * property, if it is set.
+	 */
+	public static void exportIfRequested() {
+		fgStatistics.exportIfRequested();
+	}
+
+	private static PerformanceStats startMeter(String phase, Object owner) {
+		if (!PerformanceStats.ENABLED || owner == null)
+			return null;
+		String event= PERFORMANCE_EVENT_PREFIX + phase;
+		if (!PerformanceStats.isEnabled(event))
+			return null;
+		PerformanceStats stats= PerformanceStats.getStats(event, owner);
+		stats.startRun();
+		return stats;
+	}
+
+	private static String getClassName(Class<?> ownerClass) {
+		return ownerClass != null ? ownerClass.getName() : "-"; //$NON-NLS-1$
+	}
+}
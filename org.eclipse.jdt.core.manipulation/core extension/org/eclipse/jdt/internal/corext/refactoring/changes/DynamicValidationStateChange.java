@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.jdt.core.JavaCore;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace;
 
 //import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 
@@ -103,7 +104,12 @@ public class DynamicValidationStateChange extends CompositeChange implements Wor
 	public Change perform(IProgressMonitor pm) throws CoreException {
 		final Change[] result= new Change[1];
 		IWorkspaceRunnable runnable= monitor -> result[0]= DynamicValidationStateChange.super.perform(monitor);
-		JavaCore.run(runnable, fSchedulingRule, pm);
+		RefactoringTrace.Phase phase= RefactoringTrace.begin(RefactoringTrace.PERFORM_CHANGE, this);
+		try {
+			JavaCore.run(runnable, fSchedulingRule, pm);
+		} finally {
+			phase.end();
+		}
 		return result[0];
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,13 +19,24 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IResource;
 
@@ -61,11 +72,13 @@ import org.eclipse.jdt.core.search.FieldDeclarationMatch;
 import org.eclipse.jdt.core.search.MethodDeclarationMatch;
 import org.eclipse.jdt.core.search.SearchMatch;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.SourceRangeFactory;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace;
 import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
 import org.eclipse.jdt.internal.corext.refactoring.base.JavaStringStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
@@ -154,10 +167,143 @@ public class RenameAnalyzeUtil {
 		}
 	}
 
+	/**
+	 * The analysis of a contiguous range of the compilation units affected by a rename, see
+	 * {@link RenameAnalyzeUtil#analyzeInPartitions(int, PartitionAnalysis, IProgressMonitor)}.
+	 */
+	interface PartitionAnalysis {
+
+		/**
+		 * Analyzes the compilation units with the indices from <code>start</code> inclusive to
+		 * <code>end</code> exclusive. Implementations must only modify the text changes of these
+		 * compilation units and report one unit of work per compilation unit.
+		 *
+		 * @param start the index of the first compilation unit
+		 * @param end the index after the last compilation unit
+		 * @param status the status of this partition
+		 * @param pm the progress monitor
+		 * @throws CoreException if the analysis failed
+		 */
+		void analyze(int start, int end, RefactoringStatus status, IProgressMonitor pm) throws CoreException;
+	}
+
+	/**
+	 * System property holding the number of threads used to analyze the compilation units affected
+	 * by a rename. The default of <code>1</code> analyzes all compilation units on the calling
+	 * thread.
+	 */
+	public static final String ANALYSIS_THREADS_PROPERTY= "jdt.rename.analysisThreads"; //$NON-NLS-1$
+
+	/**
+	 * The minimal number of compilation units analyzed by one thread.
+	 */
+	private static final int MIN_PARTITION_SIZE= 8;
+
 	private RenameAnalyzeUtil() {
 		//no instance
 	}
 
+	/**
+	 * Runs an analysis of <code>count</code> compilation units. If {@link #ANALYSIS_THREADS_PROPERTY}
+	 * allows more than one thread, the compilation units are split into contiguous partitions which
+	 * are analyzed concurrently, each into a status of its own. The statuses are merged in the order
+	 * of the partitions, so the result does not depend on the number of threads.
+	 *
+	 * @param count the number of compilation units
+	 * @param analysis the analysis of a partition
+	 * @param pm the progress monitor
+	 * @return the merged status of all partitions
+	 * @throws CoreException if the analysis of a partition failed
+	 */
+	static RefactoringStatus analyzeInPartitions(int count, PartitionAnalysis analysis, IProgressMonitor pm) throws CoreException {
+		pm.beginTask("", count); //$NON-NLS-1$
+		try {
+			RefactoringStatus result= new RefactoringStatus();
+			int threadCount= Math.min(Integer.getInteger(ANALYSIS_THREADS_PROPERTY, 1).intValue(), count / MIN_PARTITION_SIZE);
+			if (threadCount <= 1) {
+				analysis.analyze(0, count, result, pm);
+				return result;
+			}
+
+			// the first failure of a partition, which cancels the other partitions
+			final AtomicReference<Throwable> failure= new AtomicReference<>();
+			final IProgressMonitor workerMonitor= new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return failure.get() != null || pm.isCanceled();
+				}
+
+				@Override
+				public void worked(int work) {
+					internalWorked(work);
+				}
+
+				@Override
+				public void internalWorked(double work) {
+					synchronized (pm) {
+						pm.internalWorked(work);
+					}
+				}
+			};
+
+			// the workers count towards the phase of the calling thread
+			final RefactoringTrace.Phase phase= RefactoringTrace.getCurrent();
+			int partitionSize= (count + threadCount - 1) / threadCount;
+			List<RefactoringStatus> statuses= new ArrayList<>(threadCount);
+			List<Future<?>> futures= new ArrayList<>(threadCount);
+			ExecutorService executor= Executors.newFixedThreadPool(threadCount);
+			try {
+				for (int start= 0; start < count; start+= partitionSize) {
+					final int partitionStart= start;
+					final int partitionEnd= Math.min(start + partitionSize, count);
+					final RefactoringStatus status= new RefactoringStatus();
+					statuses.add(status);
+					futures.add(executor.submit(() -> {
+						try {
+							RefactoringTrace.runIn(phase, () -> {
+								analysis.analyze(partitionStart, partitionEnd, status, workerMonitor);
+								return null;
+							});
+						} catch (CoreException | RuntimeException | Error e) {
+							// only the first failure is kept, not the cancellations it causes in the other partitions
+							failure.compareAndSet(null, e);
+						}
+						return null;
+					}));
+				}
+				// wait for all partitions, so that none of them still runs after a failure
+				for (Future<?> future : futures) {
+					try {
+						future.get();
+					} catch (ExecutionException e) {
+						failure.compareAndSet(null, e.getCause());
+					} catch (InterruptedException e) {
+						failure.compareAndSet(null, new OperationCanceledException());
+					}
+				}
+			} finally {
+				executor.shutdown();
+			}
+
+			Throwable t= failure.get();
+			if (t instanceof CoreException)
+				throw (CoreException) t;
+			if (t instanceof RuntimeException)
+				throw (RuntimeException) t;
+			if (t instanceof Error)
+				throw (Error) t;
+			if (t != null)
+				throw new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), t.getMessage(), t));
+
+			for (RefactoringStatus status : statuses) {
+				result.merge(status);
+			}
+			return result;
+		} finally {
+			pm.done();
+		}
+	}
+
 	public static RefactoringStatus analyzeRenameChanges(TextChangeManager manager,  SearchResultGroup[] oldOccurrences, SearchResultGroup[] newOccurrences) {
 		RefactoringStatus result= new RefactoringStatus();
 		for (SearchResultGroup oldGroup : oldOccurrences) {
@@ -183,14 +329,34 @@ public class RenameAnalyzeUtil {
 		return null;
 	}
 
+	/**
+	 * Creates a working copy with the preview content of each of the given compilation units.
+	 *
+	 * @param compilationUnitsToModify the compilation units, possibly with duplicates
+	 * @param manager the text change manager
+	 * @param owner the owner of the new working copies
+	 * @param pm the progress monitor
+	 * @return one new working copy per distinct compilation unit, in the order of the compilation units
+	 * @throws CoreException if a working copy could not be created
+	 */
 	public static ICompilationUnit[] createNewWorkingCopies(ICompilationUnit[] compilationUnitsToModify, TextChangeManager manager, WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
-		pm.beginTask("", compilationUnitsToModify.length); //$NON-NLS-1$
-		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[compilationUnitsToModify.length];
-		for (int i= 0; i < compilationUnitsToModify.length; i++) {
-			ICompilationUnit cu= compilationUnitsToModify[i];
-			newWorkingCopies[i]= createNewWorkingCopy(cu, manager, owner, Progress.subMonitor(pm, 1));
+		// a duplicate would share its working copy with another partition
+		Set<ICompilationUnit> distinct= new LinkedHashSet<>(Arrays.asList(compilationUnitsToModify));
+		ICompilationUnit[] cus= distinct.toArray(new ICompilationUnit[distinct.size()]);
+		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[cus.length];
+		try {
+			analyzeInPartitions(cus.length, (start, end, status, monitor) -> {
+				for (int i= start; i < end; i++) {
+					newWorkingCopies[i]= createNewWorkingCopy(cus[i], manager, owner, Progress.subMonitor(monitor, 1));
+				}
+			}, pm);
+		} catch (CoreException | RuntimeException e) {
+			for (ICompilationUnit newWorkingCopy : newWorkingCopies) {
+				if (newWorkingCopy != null)
+					newWorkingCopy.discardWorkingCopy();
+			}
+			throw e;
 		}
-		pm.done();
 		return newWorkingCopies;
 	}
 
@@ -257,9 +423,7 @@ public class RenameAnalyzeUtil {
 	//TODO: Currently filters out declarations (MethodDeclarationMatch, FieldDeclarationMatch).
 	//Long term solution: only pass reference search results in.
 	public static RefactoringStatus analyzeRenameChanges2(TextChangeManager manager,
-			SearchResultGroup[] oldReferences, SearchResultGroup[] newReferences, String newElementName) {
-		RefactoringStatus result= new RefactoringStatus();
-
+			SearchResultGroup[] oldReferences, SearchResultGroup[] newReferences, String newElementName) throws CoreException {
 		HashMap<ICompilationUnit, SearchMatch[]> cuToNewResults= new HashMap<>(newReferences.length);
 		for (SearchResultGroup newReference : newReferences) {
 			ICompilationUnit cu= newReference.getCompilationUnit();
@@ -267,21 +431,31 @@ public class RenameAnalyzeUtil {
 				cuToNewResults.put(cu.getPrimary(), newReference.getSearchResults());
 		}
 
-		for (SearchResultGroup oldGroup : oldReferences) {
-			SearchMatch[] oldMatches= oldGroup.getSearchResults();
-			ICompilationUnit cu= oldGroup.getCompilationUnit();
-			if (cu == null)
-				continue;
+		// pair the old and new matches first, the analysis of the pairs may run concurrently
+		SearchMatch[][] newMatchesOfOldGroups= new SearchMatch[oldReferences.length][];
+		for (int i= 0; i < oldReferences.length; i++) {
+			ICompilationUnit cu= oldReferences[i].getCompilationUnit();
+			if (cu != null)
+				newMatchesOfOldGroups[i]= cuToNewResults.remove(cu);
+		}
 
-			SearchMatch[] newSearchMatches= cuToNewResults.remove(cu);
-			if (newSearchMatches == null) {
-				for (SearchMatch oldMatch : oldMatches) {
-					addShadowsError(cu, oldMatch, result);
+		RefactoringStatus result= analyzeInPartitions(oldReferences.length, (start, end, status, pm) -> {
+			for (int i= start; i < end; i++) {
+				SearchMatch[] oldMatches= oldReferences[i].getSearchResults();
+				ICompilationUnit cu= oldReferences[i].getCompilationUnit();
+				if (cu != null) {
+					SearchMatch[] newSearchMatches= newMatchesOfOldGroups[i];
+					if (newSearchMatches == null) {
+						for (SearchMatch oldMatch : oldMatches) {
+							addShadowsError(cu, oldMatch, status);
+						}
+					} else {
+						analyzeChanges(cu, manager.get(cu), oldMatches, newSearchMatches, newElementName, status);
+					}
 				}
-			} else {
-				analyzeChanges(cu, manager.get(cu), oldMatches, newSearchMatches, newElementName, result);
+				pm.worked(1);
 			}
-		}
+		}, new NullProgressMonitor());
 
 		for (Entry<ICompilationUnit, SearchMatch[]> entry : cuToNewResults.entrySet()) {
 			ICompilationUnit cu= entry.getKey();
@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.rename;
+
+import java.lang.ref.SoftReference;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+/**
+ * The results of expensive operations shared by all phases of a rename refactoring and by the
+ * processors it delegates to: the resolved ASTs of the original compilation units, the occurrences
+ * of the renamed elements and the type hierarchies.
+ * <p>
+ * The ASTs are kept within a memory budget, estimated from the source length. When the budget is
+ * exceeded, the least recently used ASTs are spilled: they are only softly referenced and may be
+ * parsed again if the garbage collector has reclaimed them.
+ * </p>
+ * <p>
+ * Like the references cached by {@link RenameTypeProcessor}, the cached results are assumed to stay
+ * valid as long as the refactoring is not executed. The cache is thread safe.
+ * </p>
+ *
+ * @since 1.21
+ */
+public final class RenameSessionCache {
+
+	/**
+	 * System property holding the memory budget in MiB for the ASTs of a session. The default is
+	 * a sixteenth of the maximum heap size.
+	 */
+	public static final String MEMORY_BUDGET_PROPERTY= "jdt.rename.sessionCacheBudget"; //$NON-NLS-1$
+
+	/**
+	 * The estimated size of a resolved AST per character of source.
+	 */
+	private static final int ESTIMATED_BYTES_PER_CHARACTER= 64;
+
+	private static final class CachedAST {
+		final CompilationUnit fAST;
+		final long fSize;
+
+		CachedAST(CompilationUnit ast) {
+			fAST= ast;
+			fSize= (long) ast.getLength() * ESTIMATED_BYTES_PER_CHARACTER;
+		}
+	}
+
+	private final long fBudget;
+
+	/** The ASTs within the budget, in the order of their last use. */
+	private final LinkedHashMap<ICompilationUnit, CachedAST> fASTs= new LinkedHashMap<>(16, 0.75f, true);
+	/** The ASTs that did not fit in the budget. */
+	private final Map<ICompilationUnit, SoftReference<CompilationUnit>> fSpilledASTs= new HashMap<>();
+	private final Map<Set<IJavaElement>, SearchResultGroup[]> fOccurrences= new HashMap<>();
+	private final Map<IType, ITypeHierarchy> fHierarchies= new HashMap<>();
+	private long fSize;
+
+	private int fParseCount;
+	private int fParsesAvoided;
+	private int fSpillCount;
+	private int fSearchCount;
+	private int fSearchesAvoided;
+	private int fHierarchyCount;
+	private int fHierarchiesAvoided;
+
+	/**
+	 * Creates a cache with the budget of the {@link #MEMORY_BUDGET_PROPERTY} system property.
+	 */
+	public RenameSessionCache() {
+		this(getDefaultBudget());
+	}
+
+	/**
+	 * Creates a cache with the given budget.
+	 *
+	 * @param budget the memory budget for ASTs in bytes
+	 */
+	public RenameSessionCache(long budget) {
+		fBudget= budget;
+	}
+
+	private static long getDefaultBudget() {
+		long budget= Long.getLong(MEMORY_BUDGET_PROPERTY, -1).longValue();
+		if (budget <= 0)
+			return Runtime.getRuntime().maxMemory() / 16;
+		return budget << 20;
+	}
+
+	/**
+	 * Returns the AST with resolved bindings of the given compilation unit, parsing it only if it
+	 * is not cached.
+	 *
+	 * @param unit the compilation unit
+	 * @param pm the progress monitor, or <code>null</code>
+	 * @return the AST
+	 */
+	public CompilationUnit getAST(ICompilationUnit unit, IProgressMonitor pm) {
+		synchronized (this) {
+			CachedAST cached= fASTs.get(unit);
+			if (cached != null) {
+				fParsesAvoided++;
+				return cached.fAST;
+			}
+			SoftReference<CompilationUnit> spilled= fSpilledASTs.remove(unit);
+			CompilationUnit ast= spilled != null ? spilled.get() : null;
+			if (ast != null) {
+				fParsesAvoided++;
+				put(unit, ast);
+				return ast;
+			}
+		}
+		// parse outside the lock, so that partitions of a rename can parse concurrently
+		CompilationUnit ast= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(unit, true, pm);
+		synchronized (this) {
+			fParseCount++;
+			CachedAST cached= fASTs.get(unit);
+			if (cached != null)
+				return cached.fAST;
+			put(unit, ast);
+			return ast;
+		}
+	}
+
+	private void put(ICompilationUnit unit, CompilationUnit ast) {
+		CachedAST cached= new CachedAST(ast);
+		fASTs.put(unit, cached);
+		fSize+= cached.fSize;
+		for (Iterator<Map.Entry<ICompilationUnit, CachedAST>> iter= fASTs.entrySet().iterator(); fSize > fBudget && iter.hasNext();) {
+			Map.Entry<ICompilationUnit, CachedAST> eldest= iter.next();
+			if (eldest.getKey().equals(unit))
+				break; // keep the AST just requested
+			iter.remove();
+			fSize-= eldest.getValue().fSize;
+			fSpilledASTs.put(eldest.getKey(), new SoftReference<>(eldest.getValue().fAST));
+			fSpillCount++;
+		}
+	}
+
+	/**
+	 * Returns the cached occurrences of the given elements.
+	 *
+	 * @param elements the elements searched for
+	 * @return the occurrences, or <code>null</code> if they have not been searched in this session
+	 */
+	public synchronized SearchResultGroup[] getOccurrences(Collection<? extends IJavaElement> elements) {
+		SearchResultGroup[] occurrences= fOccurrences.get(new HashSet<IJavaElement>(elements));
+		if (occurrences != null)
+			fSearchesAvoided++;
+		return occurrences;
+	}
+
+	/**
+	 * Records the occurrences of the given elements. Only complete search results may be recorded,
+	 * e.g. no results of a search which reported problems or references in binaries.
+	 *
+	 * @param elements the elements searched for
+	 * @param occurrences the occurrences
+	 */
+	public synchronized void putOccurrences(Collection<? extends IJavaElement> elements, SearchResultGroup[] occurrences) {
+		fSearchCount++;
+		fOccurrences.put(new HashSet<IJavaElement>(elements), occurrences);
+	}
+
+	/**
+	 * Returns the type hierarchy of the given type, creating it only if it is not cached.
+	 *
+	 * @param type the focus type of the hierarchy
+	 * @param pm the progress monitor, or <code>null</code>
+	 * @return the type hierarchy
+	 * @throws JavaModelException if the hierarchy could not be created
+	 */
+	public ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor pm) throws JavaModelException {
+		synchronized (this) {
+			ITypeHierarchy hierarchy= fHierarchies.get(type);
+			if (hierarchy != null) {
+				fHierarchiesAvoided++;
+				return hierarchy;
+			}
+		}
+		ITypeHierarchy hierarchy= type.newTypeHierarchy(pm);
+		synchronized (this) {
+			fHierarchyCount++;
+			ITypeHierarchy cached= fHierarchies.putIfAbsent(type, hierarchy);
+			return cached != null ? cached : hierarchy;
+		}
+	}
+
+	/**
+	 * Records a type hierarchy created elsewhere.
+	 *
+	 * @param hierarchy the type hierarchy, ignored if it has no focus type
+	 */
+	public synchronized void putTypeHierarchy(ITypeHierarchy hierarchy) {
+		if (hierarchy.getType() != null)
+			fHierarchies.putIfAbsent(hierarchy.getType(), hierarchy);
+	}
+
+	/**
+	 * Returns the number of parses avoided, counting reused spilled ASTs.
+	 *
+	 * @return the number of parses avoided
+	 */
+	public synchronized int getParsesAvoided() {
+		return fParsesAvoided;
+	}
+
+	/**
+	 * Returns the number of ASTs parsed by this cache.
+	 *
+	 * @return the number of parses
+	 */
+	public synchronized int getParses() {
+		return fParseCount;
+	}
+
+	/**
+	 * Returns the number of ASTs spilled because the budget was exceeded.
+	 *
+	 * @return the number of spills
+	 */
+	public synchronized int getSpills() {
+		return fSpillCount;
+	}
+
+	/**
+	 * Returns the number of searches avoided.
+	 *
+	 * @return the number of searches avoided
+	 */
+	public synchronized int getSearchesAvoided() {
+		return fSearchesAvoided;
+	}
+
+	/**
+	 * Returns the number of type hierarchies not created again.
+	 *
+	 * @return the number of type hierarchies avoided
+	 */
+	public synchronized int getHierarchiesAvoided() {
+		return fHierarchiesAvoided;
+	}
+
+	/**
+	 * Releases all cached results and prints the counters if tracing is enabled. The cache can
+	 * still be used afterwards.
+	 */
+	public synchronized void dispose() {
+		if (JavaManipulationPlugin.DEBUG_RENAME_SESSION_CACHE)
+			System.out.println(this);
+		fASTs.clear();
+		fSpilledASTs.clear();
+		fOccurrences.clear();
+		fHierarchies.clear();
+		fSize= 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "RenameSessionCache [parses=" + fParseCount + ", parsesAvoided=" + fParsesAvoided + ", spills=" + fSpillCount //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", searches=" + fSearchCount + ", searchesAvoided=" + fSearchesAvoided //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", hierarchies=" + fHierarchyCount + ", hierarchiesAvoided=" + fHierarchiesAvoided //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", estimatedSize=" + fSize + ", budget=" + fBudget + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
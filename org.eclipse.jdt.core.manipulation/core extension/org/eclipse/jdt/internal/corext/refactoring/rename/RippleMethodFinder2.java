@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,7 @@ public class RippleMethodFinder2 {
 	private final ReferencesInBinaryContext fBinaryRefs;
 	private Map<IMethod, SearchMatch> fDeclarationToMatch;
 	private boolean fSearchOnlyInCompilationUnit = false;
+	private RenameSessionCache fSessionCache;
 
 	private static class MultiMap<K, V> {
 		HashMap<K, Collection<V>> fImplementation= new HashMap<>();
@@ -151,11 +152,30 @@ public class RippleMethodFinder2 {
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, boolean excludeBinaries, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		return getRelatedMethods(method, excludeBinaries, null, pm, owner);
+	}
+
+	/**
+	 * Finds the ripple methods of the given method, sharing type hierarchies with the other phases
+	 * of a rename refactoring.
+	 *
+	 * @param method the method
+	 * @param excludeBinaries whether binary ripple methods are excluded
+	 * @param sessionCache the cache of the rename refactoring, or <code>null</code>; only used if
+	 *            <code>owner</code> is <code>null</code>
+	 * @param pm the progress monitor
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @return the ripple methods
+	 * @throws CoreException if the search or a type hierarchy fails
+	 */
+	public static IMethod[] getRelatedMethods(IMethod method, boolean excludeBinaries, RenameSessionCache sessionCache, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		try{
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, excludeBinaries, false).getAllRippleMethods(pm, owner);
+			RippleMethodFinder2 finder= new RippleMethodFinder2(method, excludeBinaries, false);
+			finder.fSessionCache= sessionCache;
+			return finder.getAllRippleMethods(pm, owner);
 		} finally{
 			pm.done();
 		}
@@ -175,11 +195,30 @@ public class RippleMethodFinder2 {
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, ReferencesInBinaryContext binaryRefs, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		return getRelatedMethods(method, binaryRefs, null, pm, owner);
+	}
+
+	/**
+	 * Finds the ripple methods of the given method, sharing type hierarchies with the other phases
+	 * of a rename refactoring.
+	 *
+	 * @param method the method
+	 * @param binaryRefs the context collecting binary ripple methods
+	 * @param sessionCache the cache of the rename refactoring, or <code>null</code>; only used if
+	 *            <code>owner</code> is <code>null</code>
+	 * @param pm the progress monitor
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @return the ripple methods
+	 * @throws CoreException if the search or a type hierarchy fails
+	 */
+	public static IMethod[] getRelatedMethods(IMethod method, ReferencesInBinaryContext binaryRefs, RenameSessionCache sessionCache, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		try {
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, binaryRefs).getAllRippleMethods(pm, owner);
+			RippleMethodFinder2 finder= new RippleMethodFinder2(method, binaryRefs);
+			finder.fSessionCache= sessionCache;
+			return finder.getAllRippleMethods(pm, owner);
 		} finally{
 			pm.done();
 		}
@@ -359,7 +398,7 @@ public class RippleMethodFinder2 {
 
 		for (IType methodTypeSubtype : methodTypeSubtypes) {
 			checkCanceled(pm);
-			ITypeHierarchy subtypeHierarchy= methodTypeSubtype.newTypeHierarchy(owner, pm);
+			ITypeHierarchy subtypeHierarchy= newTypeHierarchy(methodTypeSubtype, owner, pm);
 			IType[] subtypeSuperTypes= subtypeHierarchy.getAllSupertypes(methodTypeSubtype);
 			for (IType subtypeSuperType : subtypeSuperTypes) {
 				checkCanceled(pm);
@@ -405,10 +444,16 @@ public class RippleMethodFinder2 {
 			throws JavaModelException {
 		ITypeHierarchy hierarchy= getCachedHierarchy(type, owner, Progress.subMonitor(pm, 1));
 		if (hierarchy == null)
-			hierarchy= type.newTypeHierarchy(owner, Progress.subMonitor(pm, 1));
+			hierarchy= newTypeHierarchy(type, owner, Progress.subMonitor(pm, 1));
 		return hierarchy;
 	}
 
+	private ITypeHierarchy newTypeHierarchy(IType type, WorkingCopyOwner owner, IProgressMonitor pm) throws JavaModelException {
+		if (fSessionCache != null && owner == null)
+			return fSessionCache.getTypeHierarchy(type, pm);
+		return type.newTypeHierarchy(owner, pm);
+	}
+
 	private void addMissedSuperTypes() throws JavaModelException {
 		Set<IMethod> newDeclarations = new HashSet<>();
 		for (IMethod method : fDeclarations) {
@@ -425,7 +470,7 @@ public class RippleMethodFinder2 {
 			for (IType root : fRootReps.get(rep)) {
 				ITypeHierarchy hierarchy= fRootHierarchies.get(root);
 				if (hierarchy == null) {
-					hierarchy= root.newTypeHierarchy(owner, Progress.subMonitor(monitor, 1));
+					hierarchy= newTypeHierarchy(root, owner, Progress.subMonitor(monitor, 1));
 					fRootHierarchies.put(root, hierarchy);
 				}
 				if (hierarchy.contains(type))
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,7 @@ import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 
 /**
@@ -249,7 +250,10 @@ public class CompilationUnitRewrite {
 		CompilationUnitChange cuChange= new CompilationUnitChange(name, fCu);
 		MultiTextEdit multiEdit= new MultiTextEdit();
 		cuChange.setEdit(multiEdit);
-		return attachChange(cuChange, generateGroups, monitor);
+		CompilationUnitChange result= attachChange(cuChange, generateGroups, monitor);
+		if (result != null)
+			RefactoringTrace.count(RefactoringTrace.COMPILATION_UNITS, 1);
+		return result;
 	}
 
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 public class RefactoringASTParser {
@@ -63,6 +64,7 @@ public class RefactoringASTParser {
 			fParser.setWorkingCopyOwner(owner);
 		fParser.setCompilerOptions(getCompilerOptions(typeRoot));
 		CompilationUnit result= (CompilationUnit) fParser.createAST(pm);
+		RefactoringTrace.count(RefactoringTrace.PARSES, 1);
 		return result;
 	}
 
@@ -83,6 +85,7 @@ public class RefactoringASTParser {
 		fParser.setProject(originalCu.getJavaProject());
 		fParser.setCompilerOptions(getCompilerOptions(originalCu));
 		CompilationUnit newCUNode= (CompilationUnit) fParser.createAST(pm);
+		RefactoringTrace.count(RefactoringTrace.PARSES, 1);
 		return newCUNode;
 	}
 
@@ -104,6 +107,7 @@ public class RefactoringASTParser {
 		fParser.setProject(originalCf.getJavaProject());
 		fParser.setCompilerOptions(getCompilerOptions(originalCf));
 		CompilationUnit newCUNode= (CompilationUnit) fParser.createAST(pm);
+		RefactoringTrace.count(RefactoringTrace.PARSES, 1);
 		return newCUNode;
 	}
 
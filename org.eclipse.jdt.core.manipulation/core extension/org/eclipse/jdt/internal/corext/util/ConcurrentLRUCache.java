@@ -0,0 +1,434 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * A thread-safe least-recently-used cache. Unlike a synchronized {@link LRUMap}, the entries are
+ * distributed over several segments by the hash code of their keys, each segment being an
+ * access-ordered map with its own lock, so that threads accessing different keys do not block
+ * each other. The least recently used entry is evicted per segment.
+ * <p>
+ * The cache is bounded by the total weight of its entries. By default every entry has the weight
+ * 1, i.e. the cache is bounded by its size. The weight of an entry must not change while it is
+ * cached.
+ * </p>
+ * <p>
+ * Keys and values must not be <code>null</code>. The eviction listener is notified outside of the
+ * segment locks, after an entry has been evicted to make room for a new one. It is not notified
+ * for entries which are removed explicitly.
+ * </p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class ConcurrentLRUCache<K, V> {
+
+	/**
+	 * Computes the value of a key that is not cached.
+	 *
+	 * @param <K> type of the keys
+	 * @param <V> type of the values
+	 * @param <E> type of the exception thrown by the loader
+	 */
+	@FunctionalInterface
+	public interface Loader<K, V, E extends Exception> {
+
+		/**
+		 * Computes the value for the given key.
+		 *
+		 * @param key the key
+		 * @return the value or <code>null</code> if no value should be cached
+		 * @throws E if the value could not be computed
+		 */
+		V load(K key) throws E;
+	}
+
+	/**
+	 * A snapshot of the statistics of a cache.
+	 */
+	public static final class Stats {
+
+		private final long fHits;
+		private final long fMisses;
+		private final long fEvictions;
+		private final long fLoads;
+		private final long fLoadTime;
+
+		Stats(long hits, long misses, long evictions, long loads, long loadTime) {
+			fHits= hits;
+			fMisses= misses;
+			fEvictions= evictions;
+			fLoads= loads;
+			fLoadTime= loadTime;
+		}
+
+		/**
+		 * @return the number of lookups which found a value
+		 */
+		public long getHits() {
+			return fHits;
+		}
+
+		/**
+		 * @return the number of lookups which did not find a value
+		 */
+		public long getMisses() {
+			return fMisses;
+		}
+
+		/**
+		 * @return the number of entries evicted to respect the maximum weight
+		 */
+		public long getEvictions() {
+			return fEvictions;
+		}
+
+		/**
+		 * @return the number of values computed by a {@link Loader}
+		 */
+		public long getLoads() {
+			return fLoads;
+		}
+
+		/**
+		 * @return the total time spent in {@link Loader}s, in nanoseconds
+		 */
+		public long getTotalLoadTime() {
+			return fLoadTime;
+		}
+
+		@Override
+		public String toString() {
+			return "hits: " + fHits + ", misses: " + fMisses + ", evictions: " + fEvictions + ", loads: " + fLoads + ", load time: " + fLoadTime / 1000000 + "ms"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+		}
+	}
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+		private static final long serialVersionUID= 1L;
+
+		int fWeight;
+
+		public Segment() {
+			super(16, 0.75f, true);
+		}
+	}
+
+	private static final int MAX_SEGMENTS= 16;
+
+	private final Segment<K, V>[] fSegments;
+	private final int fSegmentMaxWeight;
+	private final ToIntFunction<? super V> fWeigher;
+	private final BiConsumer<? super K, ? super V> fEvictionListener;
+
+	private final LongAdder fHits= new LongAdder();
+	private final LongAdder fMisses= new LongAdder();
+	private final LongAdder fEvictions= new LongAdder();
+	private final LongAdder fLoads= new LongAdder();
+	private final LongAdder fLoadTime= new LongAdder();
+
+	/**
+	 * Creates an empty cache with the given maximum size.
+	 *
+	 * @param maxSize the maximum number of entries in the cache
+	 */
+	public ConcurrentLRUCache(int maxSize) {
+		this(maxSize, null, null);
+	}
+
+	/**
+	 * Creates an empty cache with the given maximum weight.
+	 *
+	 * @param maxWeight the maximum total weight of the entries in the cache
+	 * @param weigher computes the weight of a value, or <code>null</code> to give every entry the
+	 *            weight 1
+	 * @param evictionListener notified about evicted entries, or <code>null</code>
+	 */
+	public ConcurrentLRUCache(int maxWeight, ToIntFunction<? super V> weigher, BiConsumer<? super K, ? super V> evictionListener) {
+		this(maxWeight, getDefaultSegmentCount(maxWeight), weigher, evictionListener);
+	}
+
+	/**
+	 * Creates an empty cache with the given maximum weight and number of segments. Every segment
+	 * holds at most the maximum weight divided by the number of segments, so the cache only
+	 * behaves like a global least-recently-used cache if there is a single segment.
+	 *
+	 * @param maxWeight the maximum total weight of the entries in the cache
+	 * @param segmentCount the number of segments, rounded up to a power of two
+	 * @param weigher computes the weight of a value, or <code>null</code> to give every entry the
+	 *            weight 1
+	 * @param evictionListener notified about evicted entries, or <code>null</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentLRUCache(int maxWeight, int segmentCount, ToIntFunction<? super V> weigher, BiConsumer<? super K, ? super V> evictionListener) {
+		if (maxWeight <= 0 || segmentCount <= 0) {
+			throw new IllegalArgumentException();
+		}
+		int segments= Integer.highestOneBit(segmentCount);
+		if (segments < segmentCount) {
+			segments<<= 1;
+		}
+		fSegments= new Segment[segments];
+		for (int i= 0; i < segments; i++) {
+			fSegments[i]= new Segment<>();
+		}
+		fSegmentMaxWeight= Math.max(1, (maxWeight + segments - 1) / segments);
+		fWeigher= weigher;
+		fEvictionListener= evictionListener;
+	}
+
+	private static int getDefaultSegmentCount(int maxWeight) {
+		// keep at least 4 entries per segment, so that the eviction order stays meaningful
+		return Math.max(1, Math.min(MAX_SEGMENTS, maxWeight / 4));
+	}
+
+	private Segment<K, V> getSegment(Object key) {
+		int h= key.hashCode();
+		h^= h >>> 16;
+		return fSegments[h & (fSegments.length - 1)];
+	}
+
+	private int weigh(V value) {
+		return fWeigher != null ? fWeigher.applyAsInt(value) : 1;
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as recently used.
+	 *
+	 * @param key the key
+	 * @return the value or <code>null</code> if no value is cached
+	 */
+	public V get(K key) {
+		Segment<K, V> segment= getSegment(key);
+		V value;
+		synchronized (segment) {
+			value= segment.get(key);
+		}
+		if (value != null) {
+			fHits.increment();
+		} else {
+			fMisses.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the value cached for the given key. If no value is cached, the value is computed
+	 * with the given loader and added to the cache. The loader is invoked without holding a lock,
+	 * so concurrent lookups for the same key may compute the value more than once; the first
+	 * computed value wins.
+	 *
+	 * @param <E> type of the exception thrown by the loader
+	 * @param key the key
+	 * @param loader computes the value if it is not cached
+	 * @return the cached or computed value, or <code>null</code> if the loader returned
+	 *         <code>null</code>
+	 * @throws E if the loader fails
+	 */
+	public <E extends Exception> V get(K key, Loader<? super K, ? extends V, E> loader) throws E {
+		V value= get(key);
+		if (value != null) {
+			return value;
+		}
+		long start= System.nanoTime();
+		try {
+			value= loader.load(key);
+		} finally {
+			fLoads.increment();
+			fLoadTime.add(System.nanoTime() - start);
+		}
+		if (value == null) {
+			return null;
+		}
+		V existing= putIfAbsent(key, value);
+		return existing != null ? existing : value;
+	}
+
+	/**
+	 * Caches the given value for the given key.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @return the value previously cached for the key or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		return put(key, value, false);
+	}
+
+	/**
+	 * Caches the given value for the given key unless a value is already cached.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @return the value already cached for the key or <code>null</code> if the given value has been
+	 *         added
+	 */
+	public V putIfAbsent(K key, V value) {
+		return put(key, value, true);
+	}
+
+	private V put(K key, V value, boolean onlyIfAbsent) {
+		if (key == null || value == null) {
+			throw new IllegalArgumentException();
+		}
+		Segment<K, V> segment= getSegment(key);
+		List<Map.Entry<K, V>> evicted= null;
+		V previous;
+		synchronized (segment) {
+			previous= segment.get(key);
+			if (previous != null && onlyIfAbsent) {
+				return previous;
+			}
+			segment.put(key, value);
+			segment.fWeight+= weigh(value) - (previous != null ? weigh(previous) : 0);
+			for (Iterator<Map.Entry<K, V>> iter= segment.entrySet().iterator(); segment.fWeight > fSegmentMaxWeight && iter.hasNext();) {
+				Map.Entry<K, V> eldest= iter.next();
+				if (eldest.getKey().equals(key)) {
+					continue; // never evict the new entry
+				}
+				if (evicted == null) {
+					evicted= new ArrayList<>();
+				}
+				evicted.add(Map.entry(eldest.getKey(), eldest.getValue()));
+				segment.fWeight-= weigh(eldest.getValue());
+				iter.remove();
+			}
+		}
+		if (evicted != null) {
+			fEvictions.add(evicted.size());
+			if (fEvictionListener != null) {
+				for (Map.Entry<K, V> entry : evicted) {
+					fEvictionListener.accept(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		return previous;
+	}
+
+	/**
+	 * Removes the value cached for the given key.
+	 *
+	 * @param key the key
+	 * @return the removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		Segment<K, V> segment= getSegment(key);
+		synchronized (segment) {
+			V value= segment.remove(key);
+			if (value != null) {
+				segment.fWeight-= weigh(value);
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Removes the given entry if the key is still mapped to the given value.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @return <code>true</code> if the entry has been removed
+	 */
+	public boolean remove(K key, V value) {
+		Segment<K, V> segment= getSegment(key);
+		synchronized (segment) {
+			if (segment.remove(key, value)) {
+				segment.fWeight-= weigh(value);
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Removes all entries whose value matches the given predicate. The predicate is evaluated
+	 * while holding the lock of a segment.
+	 *
+	 * @param filter the predicate
+	 * @return the removed values
+	 */
+	public List<V> removeIf(Predicate<? super V> filter) {
+		List<V> removed= new ArrayList<>();
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				for (Iterator<V> iter= segment.values().iterator(); iter.hasNext();) {
+					V value= iter.next();
+					if (filter.test(value)) {
+						segment.fWeight-= weigh(value);
+						iter.remove();
+						removed.add(value);
+					}
+				}
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns a snapshot of the cached values. Does not affect the order of the entries.
+	 *
+	 * @return the cached values
+	 */
+	public List<V> values() {
+		List<V> result= new ArrayList<>();
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				result.addAll(segment.values());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				segment.clear();
+				segment.fWeight= 0;
+			}
+		}
+	}
+
+	/**
+	 * @return the number of cached entries
+	 */
+	public int size() {
+		int size= 0;
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				size+= segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return a snapshot of the statistics of this cache
+	 */
+	public Stats getStats() {
+		return new Stats(fHits.sum(), fMisses.sum(), fEvictions.sum(), fLoads.sum(), fLoadTime.sum());
+	}
+}
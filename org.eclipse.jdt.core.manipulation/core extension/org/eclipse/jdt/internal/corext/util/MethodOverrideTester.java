@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,7 +82,7 @@ public class MethodOverrideTester {
 	private final IType fFocusType;
 	private final ITypeHierarchy fHierarchy;
 
-	private Map <IMethod, Substitutions> fMethodSubstitutions;
+	private final ConcurrentLRUCache<IMethod, Substitutions> fMethodSubstitutions;
 	private Map<IType, Substitutions> fTypeVariableSubstitutions;
 
 	public MethodOverrideTester(IType focusType, ITypeHierarchy hierarchy) {
@@ -92,7 +92,7 @@ public class MethodOverrideTester {
 		fFocusType= focusType;
 		fHierarchy= hierarchy;
 		fTypeVariableSubstitutions= null;
-		fMethodSubstitutions= null;
+		fMethodSubstitutions= new ConcurrentLRUCache<>(3);
 	}
 
 	public IType getFocusType() {
@@ -412,10 +412,6 @@ public class MethodOverrideTester {
 	 * Returns the substitutions for a method's type parameters
 	 */
 	private Substitutions getMethodSubstitions(IMethod method) throws JavaModelException {
-		if (fMethodSubstitutions == null) {
-			fMethodSubstitutions= new LRUMap<>(3);
-		}
-
 		Substitutions s= fMethodSubstitutions.get(method);
 		if (s == null) {
 			ITypeParameter[] typeParameters= method.getTypeParameters();
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder event of an operation timed by {@link TimingStatistics}.
+ *
+ * @since 1.21
+ */
+@Name("org.eclipse.jdt.Operation")
+@Label("JDT Operation")
+@Category({ "Eclipse", "JDT" })
+@Description("An operation timed by JDT, e.g. a content assist computer or a refactoring phase")
+@StackTrace(false)
+final class OperationEvent extends Event {
+
+	@Label("Kind")
+	String kind;
+
+	@Label("Id")
+	String id;
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,8 @@
 package org.eclipse.jdt.internal.corext.util;
 
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -26,19 +26,24 @@ import org.eclipse.jdt.core.JavaModelException;
 
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * The cached hierarchies are stored in the plug-in state location on shutdown, see
+ * {@link #saveHierarchies()}, and are loaded again when a type they contain is requested in the
+ * next session and none of their types has changed in between.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private final IType fType;
+		private volatile ITypeHierarchy fTypeHierarchy;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
+			fType= hierarchy.getType();
 			fTypeHierarchy= hierarchy;
 			fTypeHierarchy.addTypeHierarchyChangedListener(this);
-			markAsAccessed();
 		}
 
 		@Override
@@ -50,16 +55,13 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
-		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+		public IType getType() {
+			return fType;
 		}
 
-		public long getLastAccess() {
-			return fLastAccess;
-		}
-
-		public void dispose() {
+		public synchronized void dispose() {
 			if (fTypeHierarchy != null) {
+				removeMethodOverrideTester(fTypeHierarchy);
 				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
 				fTypeHierarchy= null;
 			}
@@ -67,19 +69,35 @@ public class SuperTypeHierarchyCache {
 
 		@Override
 		public String toString() {
-			return "Super hierarchy of: " + fTypeHierarchy.getType().getElementName(); //$NON-NLS-1$
+			return "Super hierarchy of: " + fType.getElementName(); //$NON-NLS-1$
 		}
 
 	}
 
 
-	private static final int CACHE_SIZE= 8;
+	/**
+	 * System property to configure the number of cached hierarchies, default is 8.
+	 */
+	public static final String CACHE_SIZE_PROPERTY= "jdt.superTypeHierarchyCache.size"; //$NON-NLS-1$
+
+	/**
+	 * System property to disable storing the cached hierarchies between sessions.
+	 */
+	public static final String PERSIST_PROPERTY= "jdt.superTypeHierarchyCache.persist"; //$NON-NLS-1$
+
+	private static final int CACHE_SIZE= Math.max(1, Integer.getInteger(CACHE_SIZE_PROPERTY, 8).intValue());
+
+	private static final boolean PERSIST= Boolean.parseBoolean(System.getProperty(PERSIST_PROPERTY, Boolean.TRUE.toString()));
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	/**
+	 * The cached hierarchies by their focus type. Evicted entries are disposed.
+	 */
+	private static final ConcurrentLRUCache<IType, HierarchyCacheEntry> fgHierarchyCache= new ConcurrentLRUCache<>(CACHE_SIZE, null, (type, entry) -> entry.dispose());
+	private static final ConcurrentLRUCache<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new ConcurrentLRUCache<>(CACHE_SIZE);
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	private static final AtomicInteger fgCacheHits= new AtomicInteger();
+	private static final AtomicInteger fgCacheMisses= new AtomicInteger();
+	private static final AtomicInteger fgStoreLoads= new AtomicInteger();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -97,32 +115,12 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
-		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
-			}
-		}
-		return test;
+		// the hierarchy is computed without holding a lock, concurrent requests for the same type keep the first tester
+		return fgMethodOverrideTesterCache.get(type, t -> new MethodOverrideTester(t, getTypeHierarchy(t)));
 	}
 
 	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
-		}
+		fgMethodOverrideTesterCache.removeIf(curr -> curr.getTypeHierarchy().equals(hierarchy));
 	}
 
 	/**
@@ -140,42 +138,33 @@ public class SuperTypeHierarchyCache {
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
 		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
 		if (hierarchy == null) {
-			fgCacheMisses++;
-			hierarchy= type.newSupertypeHierarchy(progressMonitor);
+			hierarchy= PERSIST ? SuperTypeHierarchyStore.load(type, progressMonitor) : null;
+			if (hierarchy != null) {
+				fgStoreLoads.incrementAndGet();
+			} else {
+				fgCacheMisses.incrementAndGet();
+				hierarchy= type.newSupertypeHierarchy(progressMonitor);
+			}
 			addTypeHierarchyToCache(hierarchy);
 		} else {
-			fgCacheHits++;
+			fgCacheHits.incrementAndGet();
 		}
 		return hierarchy;
 	}
 
 	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
-		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
-				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
-				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
-					}
-				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
-				}
-			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
-			fgHierarchyCache.add(newEntry);
+		// remove the entries which are obsolete or subsumed by the new hierarchy
+		List<HierarchyCacheEntry> obsoleteEntries= fgHierarchyCache.removeIf(entry -> {
+			ITypeHierarchy curr= entry.getTypeHierarchy();
+			return curr == null || !curr.exists() || hierarchy.contains(entry.getType());
+		});
+		for (HierarchyCacheEntry entry : obsoleteEntries) {
+			entry.dispose();
+		}
+		HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+		HierarchyCacheEntry previous= fgHierarchyCache.put(newEntry.getType(), newEntry);
+		if (previous != null && previous != newEntry) {
+			previous.dispose();
 		}
 	}
 
@@ -191,38 +180,78 @@ public class SuperTypeHierarchyCache {
 
 
 	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
+		HierarchyCacheEntry entry= fgHierarchyCache.get(type);
+		ITypeHierarchy hierarchy= entry != null ? getExistingHierarchy(entry) : null;
+		if (hierarchy != null) {
+			return hierarchy;
+		}
+		// the type may be contained in the hierarchy of one of its subtypes
+		for (HierarchyCacheEntry curr : fgHierarchyCache.values()) {
+			hierarchy= getExistingHierarchy(curr);
+			if (hierarchy != null && hierarchy.contains(type)) {
+				fgHierarchyCache.get(curr.getType()); // mark as recently used
+				return hierarchy;
 			}
 		}
 		return null;
 	}
 
+	private static ITypeHierarchy getExistingHierarchy(HierarchyCacheEntry entry) {
+		ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+		if (hierarchy == null || !hierarchy.exists()) {
+			removeHierarchyEntryFromCache(entry);
+			return null;
+		}
+		return hierarchy;
+	}
+
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
-		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
-			entry.dispose();
-			fgHierarchyCache.remove(entry);
+		fgHierarchyCache.remove(entry.getType(), entry);
+		entry.dispose();
+	}
+
+
+	/**
+	 * Returns the maximum number of cached hierarchies.
+	 *
+	 * @return the cache size
+	 */
+	public static int getCacheSize() {
+		return CACHE_SIZE;
+	}
+
+	/**
+	 * Stores the cached hierarchies, so that they can be loaded in the next session. Called on
+	 * shutdown.
+	 */
+	public static void saveHierarchies() {
+		if (!PERSIST)
+			return;
+		List<ITypeHierarchy> hierarchies= new ArrayList<>();
+		for (HierarchyCacheEntry entry : fgHierarchyCache.values()) {
+			ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+			if (hierarchy != null)
+				hierarchies.add(hierarchy);
 		}
+		SuperTypeHierarchyStore.save(hierarchies);
 	}
 
+	/**
+	 * Removes all hierarchies from the cache, without changing the stored hierarchies. Used for
+	 * testing.
+	 */
+	public static void clearCache() {
+		for (HierarchyCacheEntry entry : fgHierarchyCache.removeIf(entry -> true)) {
+			entry.dispose();
+		}
+	}
 
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
 	 * @return Returns a int
 	 */
 	public static int getCacheHits() {
-		return fgCacheHits;
+		return fgCacheHits.get();
 	}
 
 	/**
@@ -230,7 +259,15 @@ public class SuperTypeHierarchyCache {
 	 * @return Returns a int
 	 */
 	public static int getCacheMisses() {
-		return fgCacheMisses;
+		return fgCacheMisses.get();
+	}
+
+	/**
+	 * Gets the number of times the hierarchy was loaded from a previous session. Used for testing.
+	 * @return Returns a int
+	 */
+	public static int getStoreLoads() {
+		return fgStoreLoads.get();
 	}
 
 	private SuperTypeHierarchyCache() {
@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Persists the super type hierarchies of the {@link SuperTypeHierarchyCache} between sessions.
+ * <p>
+ * Every hierarchy is stored with the modification stamps of the compilation units and archives
+ * its types come from. A stored hierarchy is only loaded if none of them has changed, and at most
+ * once per session.
+ * </p>
+ */
+final class SuperTypeHierarchyStore {
+
+	private static final String STORE_DIR= "superTypeHierarchies"; //$NON-NLS-1$
+
+	private static final String INDEX_FILE= "index"; //$NON-NLS-1$
+
+	private static final String HIERARCHY_FILE_EXTENSION= ".hierarchy"; //$NON-NLS-1$
+
+	private static final int VERSION= 1;
+
+	private static final class StoredHierarchy {
+
+		private final String fFocusType;
+		private final String fFileName;
+		private final String[] fTypes;
+		private final long[] fStamps;
+
+		public StoredHierarchy(String focusType, String fileName, String[] types, long[] stamps) {
+			fFocusType= focusType;
+			fFileName= fileName;
+			fTypes= types;
+			fStamps= stamps;
+		}
+
+		public boolean contains(String type) {
+			for (String curr : fTypes) {
+				if (curr.equals(type)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		public boolean isUpToDate() {
+			for (int i= 0; i < fTypes.length; i++) {
+				IJavaElement element= JavaCore.create(fTypes[i]);
+				if (!(element instanceof IType) || !element.exists() || getModificationStamp((IType) element) != fStamps[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static List<StoredHierarchy> fgStoredHierarchies;
+
+	/**
+	 * Loads a stored super type hierarchy which contains the given type.
+	 *
+	 * @param type the type
+	 * @param monitor the progress monitor
+	 * @return the hierarchy or <code>null</code> if no up-to-date hierarchy is stored
+	 */
+	public static synchronized ITypeHierarchy load(IType type, IProgressMonitor monitor) {
+		File directory= getStoreDirectory();
+		if (directory == null) {
+			return null;
+		}
+		if (fgStoredHierarchies == null) {
+			fgStoredHierarchies= readIndex(directory);
+		}
+		String handle= type.getHandleIdentifier();
+		for (Iterator<StoredHierarchy> iter= fgStoredHierarchies.iterator(); iter.hasNext();) {
+			StoredHierarchy stored= iter.next();
+			if (!stored.contains(handle)) {
+				continue;
+			}
+			iter.remove();
+			IJavaElement focusType= JavaCore.create(stored.fFocusType);
+			if (!(focusType instanceof IType) || !stored.isUpToDate()) {
+				continue;
+			}
+			try (InputStream in= new BufferedInputStream(new FileInputStream(new File(directory, stored.fFileName)))) {
+				ITypeHierarchy hierarchy= ((IType) focusType).loadTypeHierachy(in, monitor);
+				if (hierarchy != null && hierarchy.contains(type)) {
+					return hierarchy;
+				}
+			} catch (IOException | JavaModelException e) {
+				// the hierarchy is computed again
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Replaces the stored hierarchies with the given ones.
+	 *
+	 * @param hierarchies the hierarchies to store
+	 */
+	public static synchronized void save(Collection<ITypeHierarchy> hierarchies) {
+		File directory= getStoreDirectory();
+		if (directory == null) {
+			return;
+		}
+		File[] files= directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		fgStoredHierarchies= null;
+		if (hierarchies.isEmpty()) {
+			return;
+		}
+		directory.mkdirs();
+		List<StoredHierarchy> stored= new ArrayList<>(hierarchies.size());
+		for (ITypeHierarchy hierarchy : hierarchies) {
+			StoredHierarchy entry= store(hierarchy, directory, stored.size() + HIERARCHY_FILE_EXTENSION);
+			if (entry != null) {
+				stored.add(entry);
+			}
+		}
+		writeIndex(directory, stored);
+	}
+
+	private static StoredHierarchy store(ITypeHierarchy hierarchy, File directory, String fileName) {
+		if (!hierarchy.exists()) {
+			return null;
+		}
+		IType[] types= hierarchy.getAllTypes();
+		String[] handles= new String[types.length];
+		long[] stamps= new long[types.length];
+		for (int i= 0; i < types.length; i++) {
+			handles[i]= types[i].getHandleIdentifier();
+			stamps[i]= getModificationStamp(types[i]);
+			if (stamps[i] == IResource.NULL_STAMP) {
+				return null; // can not be validated
+			}
+		}
+		File file= new File(directory, fileName);
+		try (OutputStream out= new BufferedOutputStream(new FileOutputStream(file))) {
+			hierarchy.store(out, null);
+		} catch (IOException | JavaModelException e) {
+			file.delete();
+			return null;
+		}
+		return new StoredHierarchy(hierarchy.getType().getHandleIdentifier(), fileName, handles, stamps);
+	}
+
+	private static List<StoredHierarchy> readIndex(File directory) {
+		List<StoredHierarchy> result= new ArrayList<>();
+		File file= new File(directory, INDEX_FILE);
+		if (!file.isFile()) {
+			return result;
+		}
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return result;
+			}
+			int size= in.readInt();
+			for (int i= 0; i < size; i++) {
+				String focusType= in.readUTF();
+				String fileName= in.readUTF();
+				String[] types= new String[in.readInt()];
+				long[] stamps= new long[types.length];
+				for (int j= 0; j < types.length; j++) {
+					types[j]= in.readUTF();
+					stamps[j]= in.readLong();
+				}
+				result.add(new StoredHierarchy(focusType, fileName, types, stamps));
+			}
+		} catch (IOException e) {
+			// the hierarchies are computed again
+			result.clear();
+		}
+		return result;
+	}
+
+	private static void writeIndex(File directory, List<StoredHierarchy> stored) {
+		File file= new File(directory, INDEX_FILE);
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(VERSION);
+			out.writeInt(stored.size());
+			for (StoredHierarchy entry : stored) {
+				out.writeUTF(entry.fFocusType);
+				out.writeUTF(entry.fFileName);
+				out.writeInt(entry.fTypes.length);
+				for (int i= 0; i < entry.fTypes.length; i++) {
+					out.writeUTF(entry.fTypes[i]);
+					out.writeLong(entry.fStamps[i]);
+				}
+			}
+		} catch (IOException e) {
+			file.delete();
+		}
+	}
+
+	private static long getModificationStamp(IType type) {
+		IResource resource= type.getResource();
+		if (resource != null) {
+			return resource.getModificationStamp();
+		}
+		IPackageFragmentRoot root= (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root != null) {
+			resource= root.getResource();
+			if (resource != null) {
+				return resource.getModificationStamp();
+			}
+			long lastModified= root.getPath().toFile().lastModified();
+			return lastModified != 0 ? lastModified : IResource.NULL_STAMP;
+		}
+		return IResource.NULL_STAMP;
+	}
+
+	private static File getStoreDirectory() {
+		JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		IPath location= plugin.getStateLocation().append(STORE_DIR);
+		return location.toFile();
+	}
+
+	private SuperTypeHierarchyStore() {
+	}
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * The timing statistics of operations, by the kind of the operation and the id of what performed
+ * it. The statistics are always recorded, as recording is cheap, and can be exported as comma
+ * separated values, either with {@link #export(Writer)} or to the file named by a system property
+ * with {@link #exportIfRequested()}. Operations timed with {@link #begin()} are also reported to
+ * Java Flight Recorder as <code>org.eclipse.jdt.Operation</code> events.
+ *
+ * @param <S> the type of the statistics of one kind and id
+ * @since 1.21
+ */
+public final class TimingStatistics<S extends TimingStatistics.Entry> {
+
+	/**
+	 * The statistics of one kind and id: the number, the total and the maximum time of the
+	 * operations. Subclasses record and export additional values.
+	 */
+	public static class Entry {
+
+		private final LongAdder fCount= new LongAdder();
+		private final LongAdder fTotalTime= new LongAdder();
+		private final AtomicLong fMaxTime= new AtomicLong();
+
+		/**
+		 * Records the time of an operation.
+		 *
+		 * @param nanos the time in nanoseconds
+		 */
+		protected void record(long nanos) {
+			fCount.increment();
+			fTotalTime.add(nanos);
+			fMaxTime.accumulateAndGet(nanos, Math::max);
+		}
+
+		/**
+		 * Returns the number of recorded operations.
+		 *
+		 * @return the number of operations
+		 */
+		public long getCount() {
+			return fCount.sum();
+		}
+
+		/**
+		 * Returns the sum of the times of the recorded operations.
+		 *
+		 * @return the total time in nanoseconds
+		 */
+		public long getTotalTime() {
+			return fTotalTime.sum();
+		}
+
+		/**
+		 * Returns the time of the longest recorded operation.
+		 *
+		 * @return the maximum time in nanoseconds
+		 */
+		public long getMaxTime() {
+			return fMaxTime.get();
+		}
+
+		/**
+		 * Writes the additional values of this entry, each preceded by a comma.
+		 *
+		 * @param out the writer
+		 */
+		protected void exportValues(PrintWriter out) {
+			// no additional values
+		}
+	}
+
+	/**
+	 * A running operation, which reports its time to Java Flight Recorder when it ends.
+	 */
+	public static final class Timing {
+
+		private final OperationEvent fEvent;
+		private final long fStart;
+
+		private Timing() {
+			fEvent= new OperationEvent();
+			fEvent.begin();
+			fStart= System.nanoTime();
+		}
+
+		/**
+		 * Ends the operation.
+		 *
+		 * @param kind the kind of the operation
+		 * @param id the id of what performed the operation
+		 * @return the time of the operation in nanoseconds
+		 */
+		public long end(String kind, String id) {
+			long time= System.nanoTime() - fStart;
+			fEvent.end();
+			if (fEvent.shouldCommit()) {
+				fEvent.kind= kind;
+				fEvent.id= id;
+				fEvent.commit();
+			}
+			return time;
+		}
+	}
+
+	private final String fHeader;
+	private final String fExportFileProperty;
+	private final Supplier<S> fEntryFactory;
+	private final Map<String, S> fEntries= new ConcurrentHashMap<>();
+
+	/**
+	 * Creates empty statistics.
+	 *
+	 * @param kindColumn the name of the column of the kinds
+	 * @param idColumn the name of the column of the ids
+	 * @param valueColumns the names of the columns of the additional values of the entries
+	 * @param exportFileProperty the system property naming the file to export to
+	 * @param entryFactory creates the entry of a new kind and id
+	 */
+	public TimingStatistics(String kindColumn, String idColumn, String[] valueColumns, String exportFileProperty, Supplier<S> entryFactory) {
+		StringBuilder header= new StringBuilder(kindColumn).append(',').append(idColumn).append(",count,total_ms,max_ms"); //$NON-NLS-1$
+		for (String column : valueColumns)
+			header.append(',').append(column);
+		fHeader= header.toString();
+		fExportFileProperty= exportFileProperty;
+		fEntryFactory= entryFactory;
+	}
+
+	/**
+	 * Begins timing an operation on the current thread.
+	 *
+	 * @return the running operation
+	 */
+	public static Timing begin() {
+		return new Timing();
+	}
+
+	/**
+	 * Returns the entry of the given kind and id, creating it if needed.
+	 *
+	 * @param kind the kind of the operation
+	 * @param id the id of what performed the operation
+	 * @return the entry
+	 */
+	public S get(String kind, String id) {
+		return fEntries.computeIfAbsent(getKey(kind, id), k -> fEntryFactory.get());
+	}
+
+	/**
+	 * Returns the entry of the given kind and id.
+	 *
+	 * @param kind the kind of the operation
+	 * @param id the id of what performed the operation
+	 * @return the entry, or <code>null</code> if nothing has been recorded
+	 */
+	public S getIfPresent(String kind, String id) {
+		return fEntries.get(getKey(kind, id));
+	}
+
+	/**
+	 * Discards all recorded statistics.
+	 */
+	public void reset() {
+		fEntries.clear();
+	}
+
+	/**
+	 * Writes the statistics as comma separated values, one line per kind and id, sorted by kind
+	 * and id. The columns are the kind, the id, the count, the total and the maximum time in
+	 * milliseconds and the additional values of the entries.
+	 *
+	 * @param writer the writer
+	 */
+	public void export(Writer writer) {
+		@SuppressWarnings("resource")
+		PrintWriter out= new PrintWriter(writer);
+		out.println(fHeader);
+		for (Map.Entry<String, S> entry : new TreeMap<>(fEntries).entrySet()) {
+			S statistics= entry.getValue();
+			out.print(entry.getKey());
+			out.print(',');
+			out.print(statistics.getCount());
+			out.print(',');
+			out.print(statistics.getTotalTime() / 1000000);
+			out.print(',');
+			out.print(statistics.getMaxTime() / 1000000);
+			statistics.exportValues(out);
+			out.println();
+		}
+		out.flush();
+	}
+
+	/**
+	 * Exports the statistics to the file named by the export file system property, if it is set.
+	 */
+	public void exportIfRequested() {
+		String file= System.getProperty(fExportFileProperty);
+		if (file == null || file.isEmpty())
+			return;
+
+		try (Writer writer= Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8)) {
+			export(writer);
+		} catch (IOException e) {
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	private static String getKey(String kind, String id) {
+		return kind + ',' + id.replace(',', '_');
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -132,6 +132,7 @@ import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringArguments;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil;
 import org.eclipse.jdt.internal.corext.refactoring.ParameterInfo;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace;
 import org.eclipse.jdt.internal.corext.refactoring.code.SnippetFinder.Match;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
@@ -309,6 +310,10 @@ public class ExtractMethodRefactoring extends Refactoring {
 	 */
 	@Override
 	public RefactoringStatus checkInitialConditions(IProgressMonitor pm) throws CoreException {
+		return RefactoringTrace.trace(RefactoringTrace.CHECK_INITIAL_CONDITIONS, this, () -> doCheckInitialConditions(pm));
+	}
+
+	private RefactoringStatus doCheckInitialConditions(IProgressMonitor pm) throws CoreException {
 		RefactoringStatus result= new RefactoringStatus();
 		pm.beginTask("", 100); //$NON-NLS-1$
 
@@ -476,6 +481,10 @@ public class ExtractMethodRefactoring extends Refactoring {
 
 	@Override
 	public RefactoringStatus checkFinalConditions(IProgressMonitor pm) throws CoreException {
+		return RefactoringTrace.trace(RefactoringTrace.CHECK_FINAL_CONDITIONS, this, () -> doCheckFinalConditions(pm));
+	}
+
+	private RefactoringStatus doCheckFinalConditions(IProgressMonitor pm) throws CoreException {
 		pm.beginTask(RefactoringCoreMessages.ExtractMethodRefactoring_checking_new_name, 2);
 		pm.subTask(EMPTY);
 
@@ -497,6 +506,10 @@ public class ExtractMethodRefactoring extends Refactoring {
 
 	@Override
 	public Change createChange(IProgressMonitor pm) throws CoreException {
+		return RefactoringTrace.trace(RefactoringTrace.CREATE_CHANGE, this, () -> doCreateChange(pm));
+	}
+
+	private Change doCreateChange(IProgressMonitor pm) throws CoreException {
 		if (fMethodName == null)
 			return null;
 		pm.beginTask("", 2); //$NON-NLS-1$
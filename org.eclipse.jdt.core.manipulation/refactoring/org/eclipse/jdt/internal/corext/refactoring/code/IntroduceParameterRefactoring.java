@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,7 +34,6 @@ import org.eclipse.ltk.core.refactoring.RefactoringContribution;
 import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
-import org.eclipse.ltk.core.refactoring.participants.ProcessorBasedRefactoring;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -93,6 +92,7 @@ import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationRefa
 import org.eclipse.jdt.internal.corext.refactoring.structure.BodyUpdater;
 import org.eclipse.jdt.internal.corext.refactoring.structure.ChangeSignatureProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
+import org.eclipse.jdt.internal.corext.refactoring.structure.JavaChangeSignatureRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.IDelegateUpdating;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
@@ -201,7 +201,7 @@ public class IntroduceParameterRefactoring extends Refactoring implements IDeleg
 				// invoked by script
 				fChangeSignatureProcessor= new ChangeSignatureProcessor(fArguments, result);
 				if (!result.hasFatalError()) {
-					fChangeSignatureRefactoring= new ProcessorBasedRefactoring(fChangeSignatureProcessor);
+					fChangeSignatureRefactoring= new JavaChangeSignatureRefactoring(fChangeSignatureProcessor);
 					fChangeSignatureRefactoring.setValidationContext(getValidationContext());
 					result.merge(fChangeSignatureProcessor.checkInitialConditions(Progress.subMonitor(pm, 2)));
 					if (result.hasFatalError())
@@ -215,7 +215,7 @@ public class IntroduceParameterRefactoring extends Refactoring implements IDeleg
 				fChangeSignatureProcessor= RefactoringAvailabilityTesterCore.isChangeSignatureAvailable(fMethod) ? new ChangeSignatureProcessor(fMethod) : null;
 				if (fChangeSignatureProcessor == null)
 					return RefactoringStatus.createFatalErrorStatus(RefactoringCoreMessages.IntroduceParameterRefactoring_expression_in_method);
-				fChangeSignatureRefactoring= new ProcessorBasedRefactoring(fChangeSignatureProcessor);
+				fChangeSignatureRefactoring= new JavaChangeSignatureRefactoring(fChangeSignatureProcessor);
 				fChangeSignatureRefactoring.setValidationContext(getValidationContext());
 				result.merge(fChangeSignatureProcessor.checkInitialConditions(Progress.subMonitor(pm, 1)));
 				if (result.hasFatalError()) {
@@ -228,7 +228,7 @@ public class IntroduceParameterRefactoring extends Refactoring implements IDeleg
 							String msg= Messages.format(RefactoringCoreMessages.IntroduceParameterRefactoring_cannot_introduce, entry.getMessage());
 							return RefactoringStatus.createFatalErrorStatus(msg);
 						}
-						fChangeSignatureRefactoring= new ProcessorBasedRefactoring(fChangeSignatureProcessor);
+						fChangeSignatureRefactoring= new JavaChangeSignatureRefactoring(fChangeSignatureProcessor);
 						fChangeSignatureRefactoring.setValidationContext(getValidationContext());
 						result= fChangeSignatureProcessor.checkInitialConditions(Progress.subMonitor(pm, 1));
 						if (result.hasFatalError())
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -34,6 +36,11 @@ public class RefactoringScanner {
 	private static int MATCH_QUALIFIED= 1;
 	private static int MATCH_UNQUALIFIED= 2;
 
+	/**
+	 * The number of characters read at once by {@link #mayMatch(Reader)}.
+	 */
+	private static final int READ_BUFFER_SIZE= 8192;
+
 	public static class TextMatch {
 
 		private int fStartPosition;
@@ -110,6 +117,43 @@ public class RefactoringScanner {
 		fScanner= null;
 	}
 
+	/**
+	 * Returns whether the text read from the given reader may contain matches, i.e. whether it
+	 * contains the name at all. The text is read in chunks, so that texts without matches can be
+	 * discarded without holding their whole contents in memory.
+	 *
+	 * @param reader the reader of the text, not closed by this method
+	 * @return <code>true</code> if the text contains the name, <code>false</code> otherwise
+	 * @throws IOException if reading fails
+	 */
+	public boolean mayMatch(Reader reader) throws IOException {
+		char[] buffer= new char[Math.max(READ_BUFFER_SIZE, 2 * fName.length())];
+		int length= 0;
+		int read;
+		while ((read= reader.read(buffer, length, buffer.length - length)) != -1) {
+			length+= read;
+			if (contains(buffer, length, fName))
+				return true;
+			// keep the end of the chunk, which may be the start of a name split across chunks
+			int kept= Math.min(fName.length() - 1, length);
+			System.arraycopy(buffer, length - kept, buffer, 0, kept);
+			length= kept;
+		}
+		return false;
+	}
+
+	private static boolean contains(char[] buffer, int length, String name) {
+		int last= length - name.length();
+		outer: for (int i= 0; i <= last; i++) {
+			for (int j= 0; j < name.length(); j++) {
+				if (buffer[i + j] != name.charAt(j))
+					continue outer;
+			}
+			return true;
+		}
+		return false;
+	}
+
 	private void doScan() {
 		try{
 			int token = fScanner.getNextToken();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -115,6 +115,9 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	private GroupCategorySet fCategorySet;
 	private boolean fDelegateUpdating;
 	private boolean fDelegateDeprecation;
+	private RenameSessionCache fSessionCache;
+	/** Whether the session cache was created by this processor and is disposed by it. */
+	private boolean fOwnsSessionCache;
 	protected boolean fInitialized= false;
 
 	/**
@@ -158,6 +161,32 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 		fWorkingCopyOwner= new WorkingCopyOwner() {/*must subclass*/};
 	}
 
+	/**
+	 * Sets the cache shared with the other processors of a rename refactoring.
+	 * <p>
+	 * This method is only invoked by <code>RenameTypeProcessor</code>, which disposes the cache.
+	 * </p>
+	 *
+	 * @param sessionCache the cache of the rename refactoring
+	 */
+	protected void setSessionCache(RenameSessionCache sessionCache) {
+		fSessionCache= sessionCache;
+		fOwnsSessionCache= false;
+	}
+
+	/**
+	 * Returns the cache shared by all phases of this refactoring. Public for testing.
+	 *
+	 * @return the session cache
+	 */
+	public RenameSessionCache getSessionCache() {
+		if (fSessionCache == null) {
+			fSessionCache= new RenameSessionCache();
+			fOwnsSessionCache= true;
+		}
+		return fSessionCache;
+	}
+
 	protected void setData(RenameMethodProcessor other) {
 		fUpdateReferences= other.fUpdateReferences;
 		setNewElementName(other.getNewElementName());
@@ -249,7 +278,7 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 
 	private void initializeMethodsToRename(IProgressMonitor pm, ReferencesInBinaryContext binaryRefs) throws CoreException {
 		if (fMethodsToRename == null) {
-			IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(getMethod(), binaryRefs, pm, null);
+			IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(getMethod(), binaryRefs, getSessionCache(), pm, null);
 			fMethodsToRename= new HashSet<>();
 			for (IMethod method : rippleMethods) {
 				if (!method.isLambdaMethod()) {
@@ -498,9 +527,22 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	}
 
 	private SearchResultGroup[] getOccurrences(IProgressMonitor pm, RefactoringStatus status, ReferencesInBinaryContext binaryRefs) throws CoreException {
+		HashSet<IMethod> methods= new HashSet<>(fMethodsToRename);
+		methods.add(fMethod);
+		SearchResultGroup[] occurrences= getSessionCache().getOccurrences(methods);
+		if (occurrences != null) {
+			pm.done();
+			return occurrences;
+		}
+
+		int entries= status.getEntries().length;
 		SearchPattern pattern= createOccurrenceSearchPattern();
-		return RefactoringSearchEngine.search(pattern, createRefactoringScope(),
+		occurrences= RefactoringSearchEngine.search(pattern, createRefactoringScope(),
 			new MethodOccurenceCollector(getMethod().getElementName(), binaryRefs), pm, status);
+		// a cached result would not report the problems and references in binaries again
+		if (status.getEntries().length == entries && binaryRefs.getMatches().isEmpty())
+			getSessionCache().putOccurrences(methods, occurrences);
+		return occurrences;
 	}
 
 	private RefactoringStatus checkRelatedMethods() throws CoreException {
@@ -770,6 +812,9 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 			descriptor.setDeprecateDelegate(fDelegateDeprecation);
 			return new DynamicValidationRefactoringChange(descriptor, RefactoringCoreMessages.RenameMethodProcessor_change_name, list.toArray(new Change[list.size()]));
 		} finally {
+			// a cache set by the rename type processor is still used by its other processors
+			if (fOwnsSessionCache)
+				fSessionCache.dispose();
 			monitor.done();
 		}
 	}
@@ -790,65 +835,68 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	 * @throws CoreException if change creation failed
 	 */
 	protected void addOccurrences(TextChangeManager manager, IProgressMonitor pm, RefactoringStatus status) throws CoreException/*thrown in subtype*/{
-		pm.beginTask("", fOccurrences.length);				 //$NON-NLS-1$
-		for (SearchResultGroup occurrence : fOccurrences) {
-			ICompilationUnit cu= occurrence.getCompilationUnit();
-			if (cu == null)
-				continue;
-			// Split matches into declaration and non-declaration matches
+		final SearchResultGroup[] occurrences= fOccurrences;
+		RenameAnalyzeUtil.analyzeInPartitions(occurrences.length, (start, end, partitionStatus, monitor) -> {
+			for (int i= start; i < end; i++) {
+				ICompilationUnit cu= occurrences[i].getCompilationUnit();
+				if (cu != null)
+					addOccurrences(manager, cu, occurrences[i]);
+				monitor.worked(1);
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+			}
+		}, pm);
+	}
 
-			List<SearchMatch> declarationsInThisCu= new ArrayList<>();
-			List<SearchMatch> referencesInThisCu= new ArrayList<>();
-			for (SearchMatch result : occurrence.getSearchResults()) {
-				if (result instanceof MethodDeclarationMatch) {
-					declarationsInThisCu.add(result);
-				} else {
-					referencesInThisCu.add(result);
-				}
+	private void addOccurrences(TextChangeManager manager, ICompilationUnit cu, SearchResultGroup occurrence) throws CoreException {
+		// Split matches into declaration and non-declaration matches
+
+		List<SearchMatch> declarationsInThisCu= new ArrayList<>();
+		List<SearchMatch> referencesInThisCu= new ArrayList<>();
+		for (SearchMatch result : occurrence.getSearchResults()) {
+			if (result instanceof MethodDeclarationMatch) {
+				declarationsInThisCu.add(result);
+			} else {
+				referencesInThisCu.add(result);
 			}
-			// First, handle the declarations
-			if (declarationsInThisCu.size() > 0) {
-
-				if (fDelegateUpdating) {
-					// Update with delegates
-					CompilationUnitRewrite rewrite= new CompilationUnitRewrite(cu);
-					rewrite.setResolveBindings(true);
-
-					for (SearchMatch element : declarationsInThisCu) {
-						MethodDeclaration method= ASTNodeSearchUtil.getMethodDeclarationNode((IMethod) element.getElement(), rewrite.getRoot());
-						DelegateCreator creator= new DelegateMethodCreator();
-						creator.setDeclareDeprecated(fDelegateDeprecation);
-						creator.setDeclaration(method);
-						creator.setSourceRewrite(rewrite);
-						creator.setNewElementName(getNewElementName());
-						creator.prepareDelegate();
-						creator.createEdit();
-					}
-					// Need to handle all delegates first as this
-					// creates a completely new change object.
-					TextChange changeForThisCu= rewrite.createChange(true);
-					changeForThisCu.setKeepPreviewEdits(true);
-					manager.manage(cu, changeForThisCu);
-				}
+		}
+		// First, handle the declarations
+		if (declarationsInThisCu.size() > 0) {
+
+			if (fDelegateUpdating) {
+				// Update with delegates
+				CompilationUnitRewrite rewrite= new CompilationUnitRewrite(cu, getSessionCache().getAST(cu, null));
+				rewrite.setResolveBindings(true);
 
-				// Update the normal methods
 				for (SearchMatch element : declarationsInThisCu) {
-					simpleUpdate(element, cu, manager.get(cu));
+					MethodDeclaration method= ASTNodeSearchUtil.getMethodDeclarationNode((IMethod) element.getElement(), rewrite.getRoot());
+					DelegateCreator creator= new DelegateMethodCreator();
+					creator.setDeclareDeprecated(fDelegateDeprecation);
+					creator.setDeclaration(method);
+					creator.setSourceRewrite(rewrite);
+					creator.setNewElementName(getNewElementName());
+					creator.prepareDelegate();
+					creator.createEdit();
 				}
+				// Need to handle all delegates first as this
+				// creates a completely new change object.
+				TextChange changeForThisCu= rewrite.createChange(true);
+				changeForThisCu.setKeepPreviewEdits(true);
+				manager.manage(cu, changeForThisCu);
 			}
 
-			// Second, handle references
-			if (fUpdateReferences) {
-				for (SearchMatch element : referencesInThisCu) {
-					simpleUpdate(element, cu, manager.get(cu));
-				}
+			// Update the normal methods
+			for (SearchMatch element : declarationsInThisCu) {
+				simpleUpdate(element, cu, manager.get(cu));
 			}
+		}
 
-			pm.worked(1);
-			if (pm.isCanceled())
-				throw new OperationCanceledException();
+		// Second, handle references
+		if (fUpdateReferences) {
+			for (SearchMatch element : referencesInThisCu) {
+				simpleUpdate(element, cu, manager.get(cu));
+			}
 		}
-		pm.done();
 	}
 
 	private void simpleUpdate(SearchMatch element, ICompilationUnit cu, TextChange textChange) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -105,7 +105,7 @@ public class RenameNonVirtualMethodProcessor extends RenameMethodProcessor {
 			final IType declaring= method.getDeclaringType();
 			final String name= getNewElementName();
 			IMethod[] hierarchyMethods= hierarchyDeclaresMethodName(
-				Progress.subMonitor(pm, 1), declaring.newTypeHierarchy(Progress.subMonitor(pm, 1)), method, name);
+				Progress.subMonitor(pm, 1), getSessionCache().getTypeHierarchy(declaring, Progress.subMonitor(pm, 1)), method, name);
 
 			for (IMethod hierarchyMethod : hierarchyMethods) {
 				RefactoringStatusContext context= JavaStatusContext.create(hierarchyMethod);
@@ -148,7 +148,7 @@ public class RenameNonVirtualMethodProcessor extends RenameMethodProcessor {
 
 		if (getDelegateUpdating()) {
 			// create the delegate
-			CompilationUnitRewrite rewrite= new CompilationUnitRewrite(getDeclaringCU());
+			CompilationUnitRewrite rewrite= new CompilationUnitRewrite(getDeclaringCU(), getSessionCache().getAST(getDeclaringCU(), null));
 			rewrite.setResolveBindings(true);
 			MethodDeclaration methodDeclaration= ASTNodeSearchUtil.getMethodDeclarationNode(getMethod(), rewrite.getRoot());
 			DelegateMethodCreator creator= new DelegateMethodCreator();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -174,6 +174,9 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 	private int fCachedRenamingStrategy= -1;
 	private RefactoringStatus fCachedRefactoringStatus= null;
 
+	// ASTs, occurrences and hierarchies shared with the processors of similar elements
+	private final RenameSessionCache fSessionCache= new RenameSessionCache();
+
 	public static final class ParticipantDescriptorFilter implements IParticipantDescriptorFilter {
 
 		@Override
@@ -1085,6 +1088,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 			return result;
 		} finally {
 			fChangeManager= null;
+			fSessionCache.dispose();
 		}
 	}
 
@@ -1200,21 +1204,24 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		}
 	}
 
-	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) {
-		pm.beginTask("", fReferences.length); //$NON-NLS-1$
-		for (SearchResultGroup reference : fReferences) {
-			ICompilationUnit cu= reference.getCompilationUnit();
-			if (cu == null)
-				continue;
+	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) throws CoreException {
+		final SearchResultGroup[] references= fReferences;
+		RenameAnalyzeUtil.analyzeInPartitions(references.length, (start, end, status, monitor) -> {
+			for (int i= start; i < end; i++) {
+				ICompilationUnit cu= references[i].getCompilationUnit();
+				if (cu == null)
+					continue;
 
-			String name= RefactoringCoreMessages.RenameTypeRefactoring_update_reference;
+				String name= RefactoringCoreMessages.RenameTypeRefactoring_update_reference;
 
-			for (SearchMatch match : reference.getSearchResults()) {
-				ReplaceEdit replaceEdit= new ReplaceEdit(match.getOffset(), match.getLength(), getNewElementName());
-				TextChangeCompatibility.addTextEdit(manager.get(cu), name, replaceEdit, CATEGORY_TYPE_RENAME);
+				TextChange change= manager.get(cu);
+				for (SearchMatch match : references[i].getSearchResults()) {
+					ReplaceEdit replaceEdit= new ReplaceEdit(match.getOffset(), match.getLength(), getNewElementName());
+					TextChangeCompatibility.addTextEdit(change, name, replaceEdit, CATEGORY_TYPE_RENAME);
+				}
+				monitor.worked(1);
 			}
-			pm.worked(1);
-		}
+		}, pm);
 	}
 
 	private void computeQualifiedNameMatches(IProgressMonitor pm) {
@@ -1343,7 +1350,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 				final ILocalVariable currentLocal= (ILocalVariable) element;
 
 				if (currentResolvedCU == null)
-					currentResolvedCU= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(currentCU, true);
+					currentResolvedCU= fSessionCache.getAST(currentCU, null);
 
 				processor= createLocalRenameProcessor(currentLocal, newName, currentResolvedCU);
 
@@ -1369,7 +1376,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 					final IType declaringType= currentMethod.getDeclaringType();
 					ITypeHierarchy hierarchy= null;
 					if (!declaringType.isInterface())
-						hierarchy= declaringType.newTypeHierarchy(new NullProgressMonitor());
+						hierarchy= fSessionCache.getTypeHierarchy(declaringType, new NullProgressMonitor());
 
 					final IMethod topmost= MethodChecks.getTopmostMethod(currentMethod, hierarchy, new NullProgressMonitor());
 					if (topmost != null)
@@ -1377,7 +1384,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 					if (handledTopLevelMethods.contains(currentMethod))
 						continue;
 					handledTopLevelMethods.add(currentMethod);
-					final IMethod[] ripples= RippleMethodFinder2.getRelatedMethods(currentMethod, new NullProgressMonitor(), null);
+					final IMethod[] ripples= RippleMethodFinder2.getRelatedMethods(currentMethod, true, fSessionCache, new NullProgressMonitor(), null);
 
 					if (checkForWarnings(warnings, newName, ripples))
 						continue;
@@ -1658,6 +1665,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 	private void initMethodProcessor(RenameMethodProcessor processor, String newMethodName) {
 		processor.setNewElementName(newMethodName);
 		processor.setUpdateReferences(getUpdateReferences());
+		processor.setSessionCache(fSessionCache);
 	}
 
 	private RenameFieldProcessor createFieldRenameProcessor(final IField field, final String newName) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,7 +94,7 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 	private ITypeHierarchy getCachedHierarchy(IType declaring, IProgressMonitor monitor) throws JavaModelException {
 		if (fCachedHierarchy != null && declaring.equals(fCachedHierarchy.getType()))
 			return fCachedHierarchy;
-		fCachedHierarchy= declaring.newTypeHierarchy(Progress.subMonitor(monitor, 1));
+		fCachedHierarchy= getSessionCache().getTypeHierarchy(declaring, Progress.subMonitor(monitor, 1));
 		return fCachedHierarchy;
 	}
 
@@ -203,7 +203,7 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 			for (IType type : types) {
 				final IMethod found= Checks.findMethod(method, type);
 				final IType declaring= found.getDeclaringType();
-				result.addAll(Arrays.asList(hierarchyDeclaresMethodName(Progress.subMonitor(pm, 1), declaring.newTypeHierarchy(Progress.subMonitor(pm, 1)), found, newName)));
+				result.addAll(Arrays.asList(hierarchyDeclaresMethodName(Progress.subMonitor(pm, 1), getSessionCache().getTypeHierarchy(declaring, Progress.subMonitor(pm, 1)), found, newName)));
 			}
 			return result.toArray(new IMethod[result.size()]);
 		} finally {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -67,7 +72,8 @@ public class TextMatchUpdater {
 	private final SearchResultGroup[] fReferences;
 	private final boolean fOnlyQualified;
 
-	private final RefactoringScanner fScanner;
+	private final String fCurrentName;
+	private final String fCurrentQualifier;
 	private final String fNewName;
 	private final int fCurrentNameLength;
 
@@ -80,9 +86,10 @@ public class TextMatchUpdater {
 		fReferences= references;
 		fOnlyQualified= onlyQualified;
 
+		fCurrentName= currentName;
+		fCurrentQualifier= currentQualifier;
 		fNewName= newName;
 		fCurrentNameLength= currentName.length();
-		fScanner= new RefactoringScanner(currentName, currentQualifier);
 	}
 
 	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
@@ -97,12 +104,14 @@ public class TextMatchUpdater {
 		try{
 			IProject[] projectsInScope= getProjectsInScope();
 
-			pm.beginTask("", projectsInScope.length); //$NON-NLS-1$
+			pm.beginTask("", 2 * projectsInScope.length); //$NON-NLS-1$
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (IProject project : projectsInScope) {
 				if (pm.isCanceled())
 					throw new OperationCanceledException();
-				addTextMatches(project, Progress.subMonitor(pm, 1));
+				collectCompilationUnits(project, cus, Progress.subMonitor(pm, 1));
 			}
+			addTextMatches(cus.toArray(new ICompilationUnit[cus.size()]), Progress.subMonitor(pm, projectsInScope.length));
 		} finally{
 			pm.done();
 		}
@@ -121,7 +130,7 @@ public class TextMatchUpdater {
 		return projectsInScope.toArray(new IProject[projectsInScope.size()]);
 	}
 
-	private void addTextMatches(IResource resource, IProgressMonitor pm) throws JavaModelException{
+	private void collectCompilationUnits(IResource resource, List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException{
 		try{
 			String task= RefactoringCoreMessages.TextMatchUpdater_searching + resource.getFullPath();
 			if (resource instanceof IFile){
@@ -133,7 +142,7 @@ public class TextMatchUpdater {
 					return;
 				if (! fScope.encloses(element))
 					return;
-				addCuTextMatches((ICompilationUnit) element);
+				cus.add((ICompilationUnit) element);
 
 			} else if (resource instanceof IContainer){
 				IResource[] members= ((IContainer) resource).members();
@@ -142,7 +151,7 @@ public class TextMatchUpdater {
 				for (IResource member : members) {
 					if (pm.isCanceled())
 						throw new OperationCanceledException();
-					addTextMatches(member, Progress.subMonitor(pm, 1));
+					collectCompilationUnits(member, cus, Progress.subMonitor(pm, 1));
 				}
 			}
 		} catch (JavaModelException e){
@@ -154,9 +163,38 @@ public class TextMatchUpdater {
 		}
 	}
 
-	private void addCuTextMatches(ICompilationUnit cu) throws JavaModelException{
-		fScanner.scan(cu);
-		Set<TextMatch> matches= fScanner.getMatches(); //Set of TextMatch
+	/**
+	 * Scans the compilation units for text matches, in parallel partitions if
+	 * {@link RenameAnalyzeUtil#ANALYSIS_THREADS_PROPERTY} allows it.
+	 *
+	 * @param cus the compilation units in scope
+	 * @param pm the progress monitor
+	 * @throws JavaModelException if a compilation unit could not be read
+	 */
+	private void addTextMatches(ICompilationUnit[] cus, IProgressMonitor pm) throws JavaModelException{
+		try {
+			RenameAnalyzeUtil.analyzeInPartitions(cus.length, (start, end, status, monitor) -> {
+				// the scanner is not thread safe
+				RefactoringScanner scanner= new RefactoringScanner(fCurrentName, fCurrentQualifier);
+				for (int i= start; i < end; i++) {
+					if (monitor.isCanceled())
+						throw new OperationCanceledException();
+					addCuTextMatches(scanner, cus[i]);
+					monitor.worked(1);
+				}
+			}, pm);
+		} catch (JavaModelException e){
+			throw e;
+		} catch (CoreException e){
+			throw new JavaModelException(e);
+		}
+	}
+
+	private void addCuTextMatches(RefactoringScanner scanner, ICompilationUnit cu) throws JavaModelException{
+		if (!mayMatch(scanner, cu))
+			return;
+		scanner.scan(cu);
+		Set<TextMatch> matches= scanner.getMatches(); //Set of TextMatch
 		if (matches.isEmpty())
 			return;
 
@@ -165,6 +203,30 @@ public class TextMatchUpdater {
 			addTextUpdates(cu, matches);
 	}
 
+	/**
+	 * Streams the file of a compilation unit without unsaved changes to find out whether it
+	 * contains the current name, so that its buffer is only opened if it may contain matches.
+	 *
+	 * @param scanner the scanner
+	 * @param cu the compilation unit
+	 * @return <code>false</code> if the compilation unit cannot contain matches
+	 * @throws JavaModelException if the compilation unit does not exist
+	 */
+	private static boolean mayMatch(RefactoringScanner scanner, ICompilationUnit cu) throws JavaModelException {
+		if (cu.isWorkingCopy() || cu.hasUnsavedChanges())
+			return true;
+		IResource resource= cu.getResource();
+		if (!(resource instanceof IFile))
+			return true;
+		IFile file= (IFile) resource;
+		try (InputStream stream= file.getContents(); Reader reader= new InputStreamReader(stream, file.getCharset())) {
+			return scanner.mayMatch(reader);
+		} catch (CoreException | IOException e) {
+			// e.g. out of sync: leave it to the buffer
+			return true;
+		}
+	}
+
 	private void removeReferences(ICompilationUnit cu, Set<TextMatch> matches) {
 		for (SearchResultGroup group : fReferences) {
 			if (cu.equals(group.getCompilationUnit())) {
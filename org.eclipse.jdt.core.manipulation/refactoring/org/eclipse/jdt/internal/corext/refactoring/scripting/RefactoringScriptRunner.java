@@ -0,0 +1,404 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.scripting;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.NullChange;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptorProxy;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.core.refactoring.history.RefactoringHistory;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace.Phase;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+/**
+ * Performs the refactorings of a refactoring script without user interface, e.g. the hundreds of
+ * refactorings of an automated API migration.
+ * <p>
+ * Unlike performing the refactorings one by one, the whole script runs in one workspace operation,
+ * so that builds and Java element deltas are deferred to its end, and the changed files are not
+ * saved after every refactoring. The text changes are left in the primary working copies of the
+ * compilation units and in the file buffers, where the following refactorings find them without
+ * waiting for the saved files to be indexed again. The files are saved at the end, before a
+ * refactoring which changes resources, and whenever more files than given by the
+ * {@link #MAX_UNSAVED_FILES_PROPERTY} system property are unsaved.
+ * </p>
+ * <p>
+ * Like {@link org.eclipse.jdt.core.refactoring.CompilationUnitChange}, deferred saving relies on a
+ * primary buffer provider which shares the buffers of working copies with the file buffers, as
+ * installed by <code>org.eclipse.jdt.ui</code>. No undo is recorded. The time of the run and the
+ * phases of its refactorings are recorded by {@link RefactoringTrace} as the phase
+ * {@link RefactoringTrace#BATCH}.
+ * </p>
+ *
+ * @since 1.21
+ */
+public final class RefactoringScriptRunner {
+
+	/**
+	 * The result of a run: the refactorings performed and failed and the throughput.
+	 */
+	public static final class Result {
+
+		private final int fCount;
+		private int fPerformed;
+		private int fSavedFiles;
+		private long fElapsedTime;
+		private final Map<RefactoringDescriptorProxy, RefactoringStatus> fFailures= new LinkedHashMap<>();
+
+		private Result(int count) {
+			fCount= count;
+		}
+
+		/**
+		 * Returns the number of refactorings in the script.
+		 *
+		 * @return the number of refactorings
+		 */
+		public int getCount() {
+			return fCount;
+		}
+
+		/**
+		 * Returns the number of refactorings performed.
+		 *
+		 * @return the number of refactorings performed
+		 */
+		public int getPerformedCount() {
+			return fPerformed;
+		}
+
+		/**
+		 * Returns the refactorings which could not be performed, in the order of the script, with
+		 * the status which made them fail.
+		 *
+		 * @return the failed refactorings
+		 */
+		public Map<RefactoringDescriptorProxy, RefactoringStatus> getFailures() {
+			return Collections.unmodifiableMap(fFailures);
+		}
+
+		/**
+		 * Returns the number of files saved when saving was deferred.
+		 *
+		 * @return the number of saved files
+		 */
+		public int getSavedFileCount() {
+			return fSavedFiles;
+		}
+
+		/**
+		 * Returns the time of the run, including the time to save the changed files.
+		 *
+		 * @return the elapsed time in nanoseconds
+		 */
+		public long getElapsedTime() {
+			return fElapsedTime;
+		}
+
+		/**
+		 * Returns the throughput of the run.
+		 *
+		 * @return the number of refactorings performed per minute
+		 */
+		public double getRefactoringsPerMinute() {
+			if (fElapsedTime <= 0)
+				return 0;
+			return fPerformed * 60e9 / fElapsedTime;
+		}
+
+		@Override
+		public String toString() {
+			return "RefactoringScriptRunner.Result [count=" + fCount + ", performed=" + fPerformed + ", failed=" + fFailures.size() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ ", savedFiles=" + fSavedFiles + ", elapsedMs=" + fElapsedTime / 1000000 //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", refactoringsPerMinute=" + Math.round(getRefactoringsPerMinute()) + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * System property holding the maximum number of files left unsaved between refactorings. The
+	 * default is 500; 0 saves the changed files after every refactoring.
+	 */
+	public static final String MAX_UNSAVED_FILES_PROPERTY= "jdt.refactoring.batchMaxUnsavedFiles"; //$NON-NLS-1$
+
+	private static final int DEFAULT_MAX_UNSAVED_FILES= 500;
+
+	private final RefactoringDescriptorProxy[] fProxies;
+	private boolean fStopOnFailure= true;
+	private int fFailureSeverity= RefactoringStatus.FATAL;
+
+	/** The files with unsaved changes, with their compilation units held as working copies. */
+	private final Map<IFile, ICompilationUnit> fUnsavedFiles= new LinkedHashMap<>();
+
+	/**
+	 * Creates a runner for the given refactorings, which are performed in the order of their time
+	 * stamps and, for equal time stamps, in the given order.
+	 *
+	 * @param proxies the refactorings to perform
+	 */
+	public RefactoringScriptRunner(RefactoringDescriptorProxy[] proxies) {
+		fProxies= proxies.clone();
+		Arrays.sort(fProxies, Comparator.comparingLong(RefactoringDescriptorProxy::getTimeStamp));
+	}
+
+	/**
+	 * Creates a runner for the refactorings of a refactoring script.
+	 *
+	 * @param stream the refactoring script
+	 * @return the runner
+	 * @throws CoreException if the script could not be read
+	 */
+	public static RefactoringScriptRunner read(InputStream stream) throws CoreException {
+		RefactoringHistory history= RefactoringCore.getHistoryService().readRefactoringHistory(stream, RefactoringDescriptor.NONE);
+		return new RefactoringScriptRunner(history.getDescriptors());
+	}
+
+	/**
+	 * Sets whether the run stops at the first refactoring which fails. This is the default, as the
+	 * following refactorings of a script usually depend on it.
+	 *
+	 * @param stop <code>true</code> to stop at the first failure, <code>false</code> to perform the
+	 *            remaining refactorings
+	 */
+	public void setStopOnFailure(boolean stop) {
+		fStopOnFailure= stop;
+	}
+
+	/**
+	 * Sets the severity of the condition checking status at which a refactoring is not performed.
+	 * The default is {@link RefactoringStatus#FATAL}.
+	 *
+	 * @param severity the severity, e.g. {@link RefactoringStatus#ERROR}
+	 */
+	public void setFailureSeverity(int severity) {
+		fFailureSeverity= severity;
+	}
+
+	/**
+	 * Performs the refactorings and saves the changed files, also if the run fails or is canceled.
+	 *
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @return the result of the run
+	 * @throws CoreException if a refactoring could not be performed or a file could not be saved
+	 * @throws OperationCanceledException if the run has been canceled
+	 */
+	public Result run(IProgressMonitor monitor) throws CoreException {
+		Result result= new Result(fProxies.length);
+		int maxUnsavedFiles= Integer.getInteger(MAX_UNSAVED_FILES_PROPERTY, DEFAULT_MAX_UNSAVED_FILES).intValue();
+		long start= System.nanoTime();
+		Phase phase= RefactoringTrace.begin(RefactoringTrace.BATCH, this);
+		try {
+			JavaCore.run(pm -> performAll(result, maxUnsavedFiles, pm), ResourcesPlugin.getWorkspace().getRoot(), monitor);
+		} finally {
+			result.fElapsedTime= System.nanoTime() - start;
+			phase.end();
+		}
+		return result;
+	}
+
+	private void performAll(Result result, int maxUnsavedFiles, IProgressMonitor pm) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(pm, RefactoringCoreMessages.RefactoringScriptRunner_performing, 10 * fProxies.length + 1);
+		try {
+			for (RefactoringDescriptorProxy proxy : fProxies) {
+				RefactoringStatus status= perform(proxy, result, maxUnsavedFiles, subMonitor.split(10));
+				if (status.getSeverity() >= fFailureSeverity) {
+					result.fFailures.put(proxy, status);
+					if (fStopOnFailure)
+						break;
+				} else {
+					result.fPerformed++;
+				}
+			}
+		} finally {
+			saveAll(result, subMonitor.split(1, SubMonitor.SUPPRESS_ISCANCELED));
+		}
+	}
+
+	private RefactoringStatus perform(RefactoringDescriptorProxy proxy, Result result, int maxUnsavedFiles, IProgressMonitor pm) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(pm, proxy.getDescription(), 12);
+		RefactoringStatus status= new RefactoringStatus();
+		RefactoringDescriptor descriptor= proxy.requestDescriptor(subMonitor.split(1));
+		Refactoring refactoring= descriptor != null ? descriptor.createRefactoring(status) : null;
+		if (refactoring == null) {
+			status.addFatalError(Messages.format(RefactoringCoreMessages.RefactoringScriptRunner_no_refactoring, proxy.getDescription()));
+			return status;
+		}
+		if (status.getSeverity() >= fFailureSeverity)
+			return status;
+
+		status.merge(refactoring.checkAllConditions(subMonitor.split(4)));
+		if (status.getSeverity() >= fFailureSeverity)
+			return status;
+
+		Change change= refactoring.createChange(subMonitor.split(2));
+		try {
+			List<TextFileChange> textFileChanges= new ArrayList<>();
+			if (maxUnsavedFiles > 0 && collectTextFileChanges(change, textFileChanges)) {
+				SubMonitor holdMonitor= subMonitor.split(1).setWorkRemaining(textFileChanges.size());
+				for (TextFileChange textFileChange : textFileChanges)
+					leaveUnsaved(textFileChange, holdMonitor.split(1));
+			} else {
+				// the change may move, create or delete the files left unsaved
+				saveAll(result, subMonitor.split(1));
+			}
+			// after saving, as the validation data of a file depends on whether it is saved
+			change.initializeValidationData(subMonitor.split(1));
+
+			RefactoringStatus validation= change.isValid(subMonitor.split(1));
+			if (validation.hasFatalError()) {
+				status.merge(validation);
+				return status;
+			}
+			Change undo= change.perform(subMonitor.split(2));
+			if (undo != null)
+				undo.dispose();
+		} finally {
+			change.dispose();
+		}
+
+		if (fUnsavedFiles.size() > maxUnsavedFiles)
+			saveAll(result, subMonitor.split(0));
+		return status;
+	}
+
+	/**
+	 * Collects the text file changes of a change tree.
+	 *
+	 * @param change the root of the change tree
+	 * @param result the list to add the text file changes to
+	 * @return <code>true</code> if the tree only consists of text file changes
+	 */
+	private static boolean collectTextFileChanges(Change change, List<TextFileChange> result) {
+		if (change instanceof CompositeChange) {
+			for (Change child : ((CompositeChange) change).getChildren()) {
+				if (!collectTextFileChanges(child, result))
+					return false;
+			}
+			return true;
+		}
+		if (change instanceof TextFileChange) {
+			result.add((TextFileChange) change);
+			return true;
+		}
+		return change instanceof NullChange;
+	}
+
+	/**
+	 * Lets a text file change leave its file unsaved, and keeps the file buffer and the working copy
+	 * of the file connected, so that the changes are neither discarded when the change releases
+	 * them nor hidden from the following refactorings.
+	 *
+	 * @param change the text file change
+	 * @param pm the progress monitor
+	 * @throws CoreException if the file buffer or the working copy could not be created
+	 */
+	private void leaveUnsaved(TextFileChange change, IProgressMonitor pm) throws CoreException {
+		change.setSaveMode(TextFileChange.LEAVE_DIRTY);
+		IFile file= change.getFile();
+		if (fUnsavedFiles.containsKey(file))
+			return;
+
+		SubMonitor subMonitor= SubMonitor.convert(pm, 2);
+		FileBuffers.getTextFileBufferManager().connect(file.getFullPath(), LocationKind.IFILE, subMonitor.split(1));
+		ICompilationUnit unit= change.getAdapter(ICompilationUnit.class);
+		try {
+			if (unit != null)
+				unit.becomeWorkingCopy(subMonitor.split(1));
+		} catch (CoreException e) {
+			FileBuffers.getTextFileBufferManager().disconnect(file.getFullPath(), LocationKind.IFILE, null);
+			throw e;
+		}
+		fUnsavedFiles.put(file, unit);
+	}
+
+	/**
+	 * Saves the files left unsaved and releases their file buffers and working copies. All files
+	 * are released, even if some cannot be saved.
+	 *
+	 * @param result the result counting the saved files
+	 * @param pm the progress monitor
+	 * @throws CoreException if a file could not be saved
+	 */
+	private void saveAll(Result result, IProgressMonitor pm) throws CoreException {
+		if (fUnsavedFiles.isEmpty())
+			return;
+
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		SubMonitor subMonitor= SubMonitor.convert(pm, RefactoringCoreMessages.RefactoringScriptRunner_saving, fUnsavedFiles.size());
+		CoreException exception= null;
+		for (Iterator<Map.Entry<IFile, ICompilationUnit>> iter= fUnsavedFiles.entrySet().iterator(); iter.hasNext();) {
+			Map.Entry<IFile, ICompilationUnit> entry= iter.next();
+			iter.remove();
+			IPath path= entry.getKey().getFullPath();
+			try {
+				ITextFileBuffer buffer= manager.getTextFileBuffer(path, LocationKind.IFILE);
+				if (buffer != null && buffer.isDirty()) {
+					buffer.commit(subMonitor.split(1, SubMonitor.SUPPRESS_ISCANCELED), false);
+					result.fSavedFiles++;
+				}
+			} catch (CoreException e) {
+				if (exception == null)
+					exception= e;
+				else
+					JavaManipulationPlugin.log(e);
+			} finally {
+				try {
+					manager.disconnect(path, LocationKind.IFILE, null);
+					ICompilationUnit unit= entry.getValue();
+					if (unit != null)
+						unit.discardWorkingCopy();
+				} catch (CoreException e) {
+					JavaManipulationPlugin.log(e);
+				}
+			}
+		}
+		if (exception != null)
+			throw exception;
+	}
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.structure;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.participants.ProcessorBasedRefactoring;
+
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace;
+
+/**
+ * A change signature refactoring that traces its phases with {@link RefactoringTrace}. The phases
+ * are recorded for the class of the processor, and include the participants.
+ *
+ * @since 1.21
+ */
+public class JavaChangeSignatureRefactoring extends ProcessorBasedRefactoring {
+
+	/**
+	 * Creates a new change signature refactoring with the given processor.
+	 *
+	 * @param processor the change signature processor
+	 */
+	public JavaChangeSignatureRefactoring(ChangeSignatureProcessor processor) {
+		super(processor);
+	}
+
+	@Override
+	public RefactoringStatus checkInitialConditions(IProgressMonitor pm) throws CoreException {
+		return RefactoringTrace.trace(RefactoringTrace.CHECK_INITIAL_CONDITIONS, getProcessor(), () -> super.checkInitialConditions(pm));
+	}
+
+	@Override
+	public RefactoringStatus checkFinalConditions(IProgressMonitor pm) throws CoreException {
+		return RefactoringTrace.trace(RefactoringTrace.CHECK_FINAL_CONDITIONS, getProcessor(), () -> super.checkFinalConditions(pm));
+	}
+
+	@Override
+	public Change createChange(IProgressMonitor pm) throws CoreException {
+		return RefactoringTrace.trace(RefactoringTrace.CREATE_CHANGE, getProcessor(), () -> super.createChange(pm));
+	}
+}
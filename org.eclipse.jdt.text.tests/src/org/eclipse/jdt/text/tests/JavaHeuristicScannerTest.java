@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,7 @@ import org.eclipse.jdt.ui.text.IJavaPartitions;
 import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
 import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
 import org.eclipse.jdt.internal.ui.text.JavaIndenter;
+import org.eclipse.jdt.internal.ui.text.Symbols;
 
 /**
  * SmartSemicolonAutoEditStrategyTest
@@ -1235,4 +1236,72 @@ public class JavaHeuristicScannerTest {
 		String indent= fScanner.computeIndentation(offset).toString();
 		assertEquals("\t", indent);
 	}
+
+	@Test
+	public void testScanAfterModification() throws Exception {
+		fDocument.set("int a= (b + c);\n");
+		assertEquals(13, fHeuristicScanner.findClosingPeer(8, '(', ')'));
+
+		fDocument.replace(8, 0, "(d) + ");
+		assertEquals(12, fHeuristicScanner.scanBackward(15, JavaHeuristicScanner.UNBOUND, '+'));
+		assertEquals(19, fHeuristicScanner.findClosingPeer(8, '(', ')'));
+		assertEquals(Symbols.TokenIDENT, fHeuristicScanner.previousToken(18, JavaHeuristicScanner.UNBOUND));
+		assertEquals(17, fHeuristicScanner.getPosition());
+	}
+
+	@Test
+	public void testScanAcrossChunks() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("void m() {\n");
+		for (int i= 0; i < 500; i++)
+			buf.append("\tfoo(\"{\", bar" + i + ");\n");
+		buf.append("}\n");
+		fDocument.set(buf.toString());
+
+		int close= buf.lastIndexOf("}");
+		int open= buf.indexOf("{");
+		assertEquals(close, fHeuristicScanner.findClosingPeer(open + 1, '{', '}'));
+		assertEquals(open, fHeuristicScanner.findOpeningPeer(close - 1, '{', '}'));
+		assertEquals(buf.indexOf("bar499"), fHeuristicScanner.scanBackward(close, JavaHeuristicScanner.UNBOUND, 'b'));
+		assertEquals(Symbols.TokenIDENT, fHeuristicScanner.nextToken(buf.indexOf("bar250"), JavaHeuristicScanner.UNBOUND));
+		assertEquals(buf.indexOf("bar250") + 6, fHeuristicScanner.getPosition());
+	}
+
+	@Test
+	public void testIndentLinesWithReplace() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("class A {\n");
+		buf.append("int[] a= new int[] {\n");
+		buf.append("1, 2 };\n");
+		buf.append("void m(int x) {\n");
+		buf.append("if (x > 0) {\n");
+		buf.append("foo(x,\n");
+		buf.append("x);\n");
+		buf.append("} else\n");
+		buf.append("bar();\n");
+		buf.append("}\n");
+		buf.append("void n() {\n");
+		buf.append("}\n");
+		buf.append("}\n");
+		String expected= indentLines(buf.toString(), false);
+		assertEquals(expected, indentLines(buf.toString(), true));
+		assertEquals("\tvoid n() {", fDocument.get(fDocument.getLineOffset(10), fDocument.getLineLength(10) - 1));
+	}
+
+	/**
+	 * Indents all lines of the document in one forward pass, either with one indenter that keeps
+	 * its state across the lines, or with a new indenter for every line.
+	 */
+	private String indentLines(String content, boolean reuseIndenter) throws Exception {
+		fDocument.set(content);
+		for (int line= 0; line < fDocument.getNumberOfLines(); line++) {
+			JavaIndenter indenter= reuseIndenter ? fScanner : new JavaIndenter(fDocument, new JavaHeuristicScanner(fDocument));
+			int offset= fDocument.getLineOffset(line);
+			StringBuffer indent= indenter.computeIndentation(offset);
+			int end= fHeuristicScanner.findNonWhitespaceForwardInAnyPartition(offset, offset + fDocument.getLineLength(line));
+			if (indent != null && end != JavaHeuristicScanner.NOT_FOUND)
+				indenter.replace(offset, end - offset, indent.toString());
+		}
+		return fDocument.get();
+	}
 }
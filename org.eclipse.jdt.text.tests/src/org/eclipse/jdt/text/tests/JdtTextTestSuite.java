@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,12 @@
 package org.eclipse.jdt.text.tests;
 
 import org.eclipse.jdt.text.tests.codemining.CodeMiningTriggerTest;
+import org.eclipse.jdt.text.tests.codemining.JavaCodeMiningReconcilerTest;
+import org.eclipse.jdt.text.tests.codemining.JavaReferenceCountBatchTest;
 import org.eclipse.jdt.text.tests.codemining.ParameterNamesCodeMiningTest;
 import org.eclipse.jdt.text.tests.contentassist.ContentAssistTestSuite;
+import org.eclipse.jdt.text.tests.spelling.CompiledSpellDictionaryTest;
+import org.eclipse.jdt.text.tests.spelling.JavaSpellingReconcileStrategyTest;
 import org.eclipse.jdt.text.tests.spelling.SpellCheckEngineTestCase;
 import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 import org.junit.runner.RunWith;
@@ -57,6 +61,8 @@ import org.junit.runners.Suite;
 //			});
 	BracketInserterTest.class,
 	SpellCheckEngineTestCase.class,
+	CompiledSpellDictionaryTest.class,
+	JavaSpellingReconcileStrategyTest.class,
 	SemanticHighlightingTest.class,
 	AutoboxingSemanticHighlightingTest.class,
 	NewForLoopJavaContextTest.class,
@@ -73,6 +79,8 @@ import org.junit.runners.Suite;
 	JavaElementPrefixPatternMatcherTest.class,
 	CodeMiningTriggerTest.class,
 	ParameterNamesCodeMiningTest.class,
+	JavaReferenceCountBatchTest.class,
+	JavaCodeMiningReconcilerTest.class,
 })
 public class JdtTextTestSuite {
 }
\ No newline at end of file
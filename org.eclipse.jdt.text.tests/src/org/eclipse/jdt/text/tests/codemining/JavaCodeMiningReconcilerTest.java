@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.codemining;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.text.tests.util.DisplayHelper;
+
+import org.eclipse.ui.IEditorReference;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler.MiningRange;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
+
+public class JavaCodeMiningReconcilerTest {
+
+	private static final int LINES= 2000;
+
+	private IJavaProject fProject;
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		fPackage= JavaProjectHelper.addSourceContainer(fProject, "src").createPackageFragment("p", true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		IWorkbenchPage workbenchPage= PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		for (IEditorReference ref : workbenchPage.getEditorReferences()) {
+			workbenchPage.closeEditor(ref.getEditor(false), false);
+		}
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private JavaSourceViewer openEditor() throws Exception {
+		StringBuilder contents= new StringBuilder("package p;\npublic class Foo {\n");
+		for (int i= 2; i < LINES - 1; i++) {
+			contents.append("	int field").append(i).append(";\n");
+		}
+		contents.append("}\n");
+		ICompilationUnit cu= fPackage.createCompilationUnit("Foo.java", contents.toString(), true, new NullProgressMonitor());
+		JavaEditor editor= (JavaEditor) EditorUtility.openInEditor(cu);
+		JavaSourceViewer viewer= (JavaSourceViewer) editor.getViewer();
+		waitFor(viewer, "Editor not reconciled", () -> JavaCodeMiningReconciler.isReconciled(viewer));
+		return viewer;
+	}
+
+	private static void waitFor(JavaSourceViewer viewer, String message, BooleanSupplier condition) {
+		assertTrue(message, new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return condition.getAsBoolean();
+			}
+		}.waitForCondition(viewer.getTextWidget().getDisplay(), 5000));
+	}
+
+	private static void assertVisibleLinesIn(MiningRange range, JavaSourceViewer viewer) {
+		for (int line= viewer.getTopIndex(); line <= viewer.getBottomIndex(); line++) {
+			assertTrue("line " + line, range.isVisible(line));
+			assertTrue("line " + line, range.contains(line));
+		}
+	}
+
+	@Test
+	public void testRangeAroundViewport() throws Exception {
+		JavaSourceViewer viewer= openEditor();
+		viewer.setTopIndex(0);
+		Display display= viewer.getTextWidget().getDisplay();
+		DisplayHelper.sleep(display, 100);
+
+		MiningRange range= JavaCodeMiningReconciler.getMiningRange(viewer);
+		assertNotNull(range);
+		assertVisibleLinesIn(range, viewer);
+		int bottom= viewer.getBottomIndex();
+		// the margin below the viewport is computed, but not visible
+		assertTrue(range.contains(bottom + 50));
+		assertFalse(range.isVisible(bottom + 1));
+		assertFalse(range.contains(LINES - 1));
+		assertFalse(range.isStale());
+
+		// scrolling within the range keeps the code minings
+		viewer.setTopIndex(5);
+		DisplayHelper.sleep(display, 100);
+		assertFalse(range.isStale());
+
+		// scrolling out of the range computes the code minings again
+		viewer.setTopIndex(LINES - 100);
+		waitFor(viewer, "Range not stale after scrolling", range::isStale);
+		MiningRange scrolled= JavaCodeMiningReconciler.getMiningRange(viewer);
+		assertVisibleLinesIn(scrolled, viewer);
+		assertFalse(scrolled.contains(0));
+		assertFalse(scrolled.isStale());
+	}
+
+	@Test
+	public void testRangeStaleAfterChanges() throws Exception {
+		JavaSourceViewer viewer= openEditor();
+		MiningRange range= JavaCodeMiningReconciler.getMiningRange(viewer);
+		assertNotNull(range);
+
+		viewer.getDocument().replace(0, 0, "\n");
+		waitFor(viewer, "Range not stale after a change", range::isStale);
+		waitFor(viewer, "Editor not reconciled", () -> JavaCodeMiningReconciler.isReconciled(viewer));
+
+		range= JavaCodeMiningReconciler.getMiningRange(viewer);
+		assertFalse(range.isStale());
+		IWorkbenchPage workbenchPage= PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		workbenchPage.closeAllEditors(false);
+		assertTrue(range.isStale());
+		assertNull(JavaCodeMiningReconciler.getMiningRange(viewer));
+	}
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.codemining;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaReferenceCountBatch;
+
+public class JavaReferenceCountBatchTest {
+
+	private IJavaProject fJavaProject;
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws CoreException {
+		fJavaProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar(fJavaProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		JavaProjectHelper.delete(fJavaProject);
+	}
+
+	@Test
+	public void testCountsOfBatchMatchSeparateSearches() throws Exception {
+		ICompilationUnit foo= fPackage.createCompilationUnit("Foo.java",
+				"package p;\n" +
+				"public class Foo {\n" +
+				"	int count;\n" +
+				"	public Foo() {}\n" +
+				"	public Foo(int i) { this(); }\n" +
+				"	void run() { count++; }\n" +
+				"	void add(int i) { count+= i; }\n" +
+				"	void add(String s) { add(s.length()); }\n" +
+				"	void unused() {}\n" +
+				"}\n", true, new NullProgressMonitor());
+		fPackage.createCompilationUnit("Bar.java",
+				"package p;\n" +
+				"/** @see Foo#run() */\n" +
+				"public class Bar {\n" +
+				"	Foo foo= new Foo(1);\n" +
+				"	void bar(p.Foo other) {\n" +
+				"		foo.run();\n" +
+				"		other.run();\n" +
+				"		foo.add(1);\n" +
+				"		foo.add(\"s\");\n" +
+				"		System.out.println(foo.count);\n" +
+				"	}\n" +
+				"}\n", true, new NullProgressMonitor());
+
+		IType type= foo.getType("Foo");
+		IField count= type.getField("count");
+		IMethod[] methods= type.getMethods();
+
+		JavaReferenceCountBatch batch= new JavaReferenceCountBatch();
+		batch.add(type);
+		batch.add(count);
+		for (IMethod method : methods) {
+			batch.add(method);
+		}
+
+		assertEquals(JavaReferenceCountBatch.countReferences(type, null), batch.getCount(type, null));
+		assertEquals(3, batch.getCount(count, null));
+		assertEquals(0, batch.getCount(type.getMethod("unused", new String[0]), null));
+		for (IMethod method : methods) {
+			assertEquals(method.getElementName(), JavaReferenceCountBatch.countReferences(method, null), batch.getCount(method, null));
+		}
+
+		// cached counts are reused by a new batch
+		JavaReferenceCountBatch other= new JavaReferenceCountBatch();
+		other.add(count);
+		assertEquals(3, other.getCount(count, null));
+	}
+
+	@Test
+	public void testChangesOnlyRemoveAffectedCounts() throws Exception {
+		ICompilationUnit foo= fPackage.createCompilationUnit("Foo.java",
+				"package p;\n" +
+				"public class Foo {\n" +
+				"	int count;\n" +
+				"	void run() { count++; }\n" +
+				"}\n", true, new NullProgressMonitor());
+		IField count= foo.getType("Foo").getField("count");
+		// a project which does not depend on the project of the field cannot reference it
+		IJavaProject other= JavaProjectHelper.createJavaProject(getClass().getName() + "2", "bin");
+		try {
+			JavaProjectHelper.addRTJar(other);
+			IPackageFragment otherPackage= JavaProjectHelper.addSourceContainer(other, "src").createPackageFragment("q", true, null);
+
+			JavaReferenceCountBatch batch= new JavaReferenceCountBatch();
+			batch.add(count);
+			assertEquals(1, batch.getCount(count, null));
+			assertTrue(JavaReferenceCountBatch.isCached(count));
+
+			otherPackage.createCompilationUnit("Baz.java", "package q;\npublic class Baz {\n}\n", true, new NullProgressMonitor());
+			assertTrue(JavaReferenceCountBatch.isCached(count));
+
+			fPackage.createCompilationUnit("Bar.java",
+					"package p;\n" +
+					"public class Bar {\n" +
+					"	int bar(Foo foo) { return foo.count; }\n" +
+					"}\n", true, new NullProgressMonitor());
+			assertFalse(JavaReferenceCountBatch.isCached(count));
+			batch= new JavaReferenceCountBatch();
+			batch.add(count);
+			assertEquals(2, batch.getCount(count, null));
+		} finally {
+			JavaProjectHelper.delete(other);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -148,6 +148,62 @@ public class ChainCompletionTest {
 		assertEquals("getBar().getBaz() - 2 elements", proposals.get(0).getDisplayString());
 	}
 
+	@Test
+	public void testIndexUpdatedOnMemberChange() throws Exception {
+		StringBuffer bar= new StringBuffer();
+		bar.append("package test;\n" +
+				"public class Bar {\n" +
+				"  public Baz getBaz() {\n" +
+				"    return new Baz();\n" +
+				"  }\n" +
+				"}");
+		getCompilationUnit(pkg, bar, "Bar.java");
+
+		StringBuffer baz= new StringBuffer();
+		baz.append("package test;\n" +
+				"public class Baz {\n" +
+				"}");
+		getCompilationUnit(pkg, baz, "Baz.java");
+
+		StringBuffer buf= new StringBuffer();
+		buf.append("package test;\n" +
+				"public class Foo {\n" +
+				"  public Bar getBar() {\n" +
+				"    return new Bar();\n" +
+				"  }\n" +
+				"  public static void mainMethod () {\n" +
+				"    Foo f = new Foo();\n" +
+				"    Baz z = f.$\n" +
+				"  }\n" +
+				"}");
+
+		int completionIndex= getCompletionIndex(buf);
+		ICompilationUnit cu= getCompilationUnit(pkg, buf, "Foo.java");
+
+		List<ICompletionProposal> proposals= computeCompletionProposals(cu, completionIndex);
+		assertEquals(1, proposals.size());
+		assertEquals("getBar().getBaz() - 2 elements", proposals.get(0).getDisplayString());
+
+		bar= new StringBuffer();
+		bar.append("package test;\n" +
+				"public class Bar {\n" +
+				"  public Baz getBaz() {\n" +
+				"    return new Baz();\n" +
+				"  }\n" +
+				"  public Baz getOtherBaz() {\n" +
+				"    return new Baz();\n" +
+				"  }\n" +
+				"}");
+		pkg.createCompilationUnit("Bar.java", bar.toString(), true, null);
+
+		proposals= computeCompletionProposals(cu, completionIndex);
+		List<String> expected= Arrays.asList(
+				"getBar().getBaz() - 2 elements",
+				"getBar().getOtherBaz() - 2 elements");
+		assertEquals(2, proposals.size());
+		assertProposalsExist(expected, proposals);
+	}
+
 	@Test
 	public void testPrimitiveCompletion() throws Exception {
 		StringBuffer buf= new StringBuffer();
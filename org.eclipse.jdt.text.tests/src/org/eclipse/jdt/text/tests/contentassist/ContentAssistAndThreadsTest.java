@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Red Hat Inc., and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc., and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -11,6 +11,7 @@
 package org.eclipse.jdt.text.tests.contentassist;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -53,12 +54,14 @@ import org.eclipse.jdt.ui.text.IJavaPartitions;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.java.ContentAssistProcessor;
 import org.eclipse.jdt.internal.ui.text.java.JavaCompletionProcessor;
 
 public class ContentAssistAndThreadsTest extends AbstractCompletionTest {
 	@After
 	public void resetPreference() {
 		JavaPlugin.getDefault().getPreferenceStore().setToDefault(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION);
+		System.clearProperty(ContentAssistProcessor.COMPUTER_BUDGET_PROPERTY);
 	}
 
 	@Test
@@ -131,6 +134,44 @@ public class ContentAssistAndThreadsTest extends AbstractCompletionTest {
 		assertTrue("UI was frozen for " + thread.getMaxDuration(), thread.getMaxDuration() < 1000);
 	}
 
+	@Test
+	public void testSlowComputerDoesntDelayOtherProposals() throws Exception {
+		JavaPlugin.getDefault().getPreferenceStore().setValue(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION, true);
+		System.setProperty(ContentAssistProcessor.COMPUTER_BUDGET_PROPERTY, "100");
+		IJavaProject fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		JavaProjectHelper.addRTJar(fJProject1);
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String contents= "package test1;\npublic class Blah {\n\tvoid m() {\n\t\tSystem.\n\t}\n}\n// " + LongCompletionProposalComputer.CONTENT_TRIGGER_STRING + "\n";
+		ICompilationUnit cu= pack1.createCompilationUnit("Blah.java", contents, true, new NullProgressMonitor());
+		JavaEditor part= (JavaEditor) JavaUI.openInEditor(cu);
+		part.getViewer().setSelectedRange(contents.indexOf("System.") + "System.".length(), 0);
+		final Set<Shell> beforeShells = Arrays.stream(part.getSite().getShell().getDisplay().getShells()).filter(Shell::isVisible).collect(Collectors.toSet());
+		Display display= part.getViewer().getTextWidget().getDisplay();
+		ContentAssistAction action = (ContentAssistAction) part.getAction(ITextEditorActionConstants.CONTENT_ASSIST);
+		action.update();
+		display.asyncExec(() -> action.run());
+
+		List<List<String>> shownProposals= new ArrayList<>();
+		assertTrue("Missing late completion proposal", new org.eclipse.jdt.text.tests.performance.DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				Set<Shell> newShells = Arrays.stream(part.getSite().getShell().getDisplay().getShells()).filter(Shell::isVisible).collect(Collectors.toSet());
+				newShells.removeAll(beforeShells);
+				if (!newShells.isEmpty()) {
+					Table completionTable = findCompletionSelectionControl(newShells.iterator().next());
+					if (completionTable != null && completionTable.getItemCount() > 0) {
+						List<String> proposals= Arrays.stream(completionTable.getItems()).map(TableItem::getText).collect(Collectors.toList());
+						shownProposals.add(proposals);
+						return proposals.contains(LongCompletionProposalComputer.CONTENT_TRIGGER_STRING);
+					}
+				}
+				return false;
+			}
+		}.waitForCondition(display, 5000));
+		assertFalse("Proposals waited for the slow computer", shownProposals.get(0).contains(LongCompletionProposalComputer.CONTENT_TRIGGER_STRING));
+	}
+
 	private Table findCompletionSelectionControl(Widget control) {
 		if (control instanceof Table) {
 			return (Table)control;
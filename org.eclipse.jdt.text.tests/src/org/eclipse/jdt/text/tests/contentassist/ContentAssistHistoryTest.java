@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -243,6 +244,33 @@ public class ContentAssistHistoryTest {
 		assertEqualMap(map(LIST, list(ARRAY_LIST), COLLECTION, list(ARRAY_LIST), ITERABLE, list(ARRAY_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
 	}
 
+	@Test
+	public void testLoadStoreJournal() throws Exception {
+		File file= File.createTempFile("ContentAssistHistory", ".history");
+		try {
+			ContentAssistHistory history= new ContentAssistHistory();
+			history.remember(fgListT, fgArrayListT);
+			ContentAssistHistory.store(history, file);
+			long length= file.length();
+
+			history.remember(fgCharSequenceT, fgStringT);
+			history.remember(fgCharSequenceT, fgStringBufferT);
+			ContentAssistHistory.store(history, file);
+			assertTrue("changes must be appended", file.length() > length);
+
+			ContentAssistHistory loaded= ContentAssistHistory.load(file);
+			assertEqualHistory(history.getEntireHistory(), loaded.getEntireHistory());
+			assertEquals(list(ARRAY_LIST), loaded.getHistory(COLLECTION).getTypes());
+			assertEquals(list(STRING, STRING_BUFFER), loaded.getHistory(CHAR_SEQUENCE).getTypes());
+
+			loaded.remember(fgCharSequenceT, fgStringT);
+			ContentAssistHistory.store(loaded, file);
+			assertEquals(list(STRING_BUFFER, STRING), ContentAssistHistory.load(file).getHistory(CHAR_SEQUENCE).getTypes());
+		} finally {
+			file.delete();
+		}
+	}
+
 	private static void assertEqualMap(Map<String, List<String>> expected, Map<String, RHSHistory> actual) {
 		assertEqualMap("", expected, actual);
 	}
@@ -255,6 +283,13 @@ public class ContentAssistHistoryTest {
 		}
 	}
 
+	private static void assertEqualHistory(Map<String, RHSHistory> expected, Map<String, RHSHistory> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (Map.Entry<String, RHSHistory> entry : expected.entrySet()) {
+			assertEquals(entry.getValue().getTypes(), actual.get(entry.getKey()).getTypes());
+		}
+	}
+
 	private Map<String, List<String>> map(String type, List<String> set) {
 		Map<String, List<String>> map= new HashMap<>();
 		map.put(type, set);
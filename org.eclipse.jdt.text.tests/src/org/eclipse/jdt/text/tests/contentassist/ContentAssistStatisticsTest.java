@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.ui.text.java.ContentAssistStatistics;
+import org.eclipse.jdt.internal.ui.text.java.ContentAssistStatistics.Histogram;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests the latency histograms of {@link ContentAssistStatistics} and the Java Flight Recorder
+ * events of the timed operations.
+ */
+public class ContentAssistStatisticsTest {
+
+	private static final long MILLIS= 1000000;
+
+	@Test
+	public void testHistogram() {
+		ContentAssistStatistics statistics= new ContentAssistStatistics();
+		statistics.record(ContentAssistStatistics.COMPUTER, "c", MILLIS / 2);
+		statistics.record(ContentAssistStatistics.COMPUTER, "c", 1 * MILLIS);
+		statistics.record(ContentAssistStatistics.COMPUTER, "c", 3 * MILLIS);
+		statistics.record(ContentAssistStatistics.COMPUTER, "c", 4095 * MILLIS);
+		statistics.record(ContentAssistStatistics.COMPUTER, "c", 10000 * MILLIS);
+
+		Histogram histogram= statistics.getHistogram(ContentAssistStatistics.COMPUTER, "c");
+		assertEquals(5, histogram.getCount());
+		assertEquals(10000 * MILLIS, histogram.getMaxTime());
+		assertEquals(MILLIS / 2 + 14099 * MILLIS, histogram.getTotalTime());
+		assertEquals(1, histogram.getBucketCount(0));
+		assertEquals(1, histogram.getBucketCount(1));
+		assertEquals(1, histogram.getBucketCount(2));
+		assertEquals(1, histogram.getBucketCount(12));
+		assertEquals(1, histogram.getBucketCount(Histogram.BUCKETS - 1));
+		assertEquals(4096, Histogram.getBucketUpperBound(12));
+		assertEquals(Long.MAX_VALUE, Histogram.getBucketUpperBound(Histogram.BUCKETS - 1));
+
+		assertNull(statistics.getHistogram(ContentAssistStatistics.CATEGORY, "c"));
+	}
+
+	@Test
+	public void testExport() {
+		ContentAssistStatistics statistics= new ContentAssistStatistics();
+		statistics.record(ContentAssistStatistics.SORTER, "s", 2 * MILLIS);
+		statistics.record(ContentAssistStatistics.CATEGORY, "a,b", 5 * MILLIS);
+		statistics.record(ContentAssistStatistics.CATEGORY, "a,b", 7 * MILLIS);
+
+		StringWriter writer= new StringWriter();
+		statistics.export(writer);
+		String[] lines= writer.toString().split("\\R");
+		assertEquals(3, lines.length);
+		assertEquals(5 + Histogram.BUCKETS, lines[0].split(",").length);
+		assertEquals("category,a_b,2,12,7,0,0,0,2,0,0,0,0,0,0,0,0,0,0", lines[1]);
+		assertEquals("sorter,s,1,2,2,0,0,1,0,0,0,0,0,0,0,0,0,0,0", lines[2]);
+
+		statistics.reset();
+		assertNull(statistics.getHistogram(ContentAssistStatistics.SORTER, "s"));
+	}
+
+	@Test
+	public void testFlightRecorderEvent() throws Exception {
+		ContentAssistStatistics statistics= new ContentAssistStatistics();
+		Path file= Files.createTempFile("contentassist", ".jfr");
+		try (Recording recording= new Recording()) {
+			recording.enable("org.eclipse.jdt.Operation");
+			recording.start();
+			statistics.record(ContentAssistStatistics.COMPUTER, "c", ContentAssistStatistics.begin());
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events= RecordingFile.readAllEvents(file);
+			assertEquals(1, events.size());
+			assertEquals(ContentAssistStatistics.COMPUTER, events.get(0).getString("kind"));
+			assertEquals("c", events.get(0).getString("id"));
+			assertEquals(1, statistics.getHistogram(ContentAssistStatistics.COMPUTER, "c").getCount());
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
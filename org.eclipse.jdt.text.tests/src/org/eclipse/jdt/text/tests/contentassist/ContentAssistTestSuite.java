@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.junit.runners.Suite;
 			MethodOverwriteCompletionTest.class,
 			MethodParamsCompletionTest.class,
 			MethodParameterGuessingCompletionTest.class,
+			ParameterGuesserTest.class,
 			MissingTypeCompletionTest.class,
 			TypeCompletionTest.class,
 			TypeCompletionTest1d7.class,
@@ -41,7 +42,8 @@ import org.junit.runners.Suite;
 			CodeCompletionTest1d8.class,
 			ContinuousTypingCompletionTest.class,
 			ChainCompletionTest.class,
-			PostFixCompletionTest.class
+			PostFixCompletionTest.class,
+			ContentAssistStatisticsTest.class
 			//$JUnit-END$
 })
 public class ContentAssistTestSuite {
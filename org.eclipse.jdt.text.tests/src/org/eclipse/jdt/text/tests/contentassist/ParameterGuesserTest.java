@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.core.CompletionContext;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.java.FillArgumentNamesCompletionProposalCollector;
+import org.eclipse.jdt.internal.ui.text.java.ParameterGuesser;
+import org.eclipse.jdt.internal.ui.text.java.ParameterGuessingProposal;
+
+/**
+ * Tests that the parameter guessing proposals of one invocation site share their candidates and
+ * that the shared candidates do not change the guesses.
+ */
+public class ParameterGuesserTest {
+
+	private static final String CONTENTS= "package test1;\n" +
+			"public class Completion {\n" +
+			"	private String fName;\n" +
+			"	private int fCount;\n" +
+			"	void add(String name, int count) {\n" +
+			"	}\n" +
+			"	void insert(int index, String name) {\n" +
+			"	}\n" +
+			"	void foomethod() {\n" +
+			"		String local= fName;\n" +
+			"		int i= fCount;\n" +
+			"		this.//here\n" +
+			"	}\n" +
+			"}\n";
+
+	private IJavaProject fJProject1;
+	private ICompilationUnit fCU;
+	private JavaContentAssistInvocationContext fContext;
+	private FillArgumentNamesCompletionProposalCollector fCollector;
+
+	@Before
+	public void setUp() throws Exception {
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		store.setValue(PreferenceConstants.CODEASSIST_FILL_ARGUMENT_NAMES, true);
+		store.setValue(PreferenceConstants.CODEASSIST_GUESS_METHOD_ARGUMENTS, true);
+
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		JavaProjectHelper.addRTJar(fJProject1);
+		IPackageFragment pack1= JavaProjectHelper.addSourceContainer(fJProject1, "src").createPackageFragment("test1", false, null);
+		fCU= pack1.createCompilationUnit("Completion.java", CONTENTS, false, null);
+
+		int offset= CONTENTS.indexOf("//here");
+		JavaEditor editor= (JavaEditor) JavaUI.openInEditor(fCU);
+		fContext= new JavaContentAssistInvocationContext(editor.getViewer(), offset, editor);
+		fCollector= new FillArgumentNamesCompletionProposalCollector(fContext);
+		fCU.codeComplete(offset, fCollector, new NullProgressMonitor());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		IWorkbenchPage page= PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		page.closeAllEditors(false);
+		JavaProjectHelper.delete(fJProject1);
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		store.setToDefault(PreferenceConstants.CODEASSIST_FILL_ARGUMENT_NAMES);
+		store.setToDefault(PreferenceConstants.CODEASSIST_GUESS_METHOD_ARGUMENTS);
+	}
+
+	private ParameterGuessingProposal getProposal(String displayStringPrefix) {
+		for (IJavaCompletionProposal proposal : fCollector.getJavaCompletionProposals()) {
+			if (proposal.getDisplayString().startsWith(displayStringPrefix))
+				return (ParameterGuessingProposal) proposal;
+		}
+		return null;
+	}
+
+	private static List<String> guess(ParameterGuesser guesser, String expectedType, String paramName, IJavaElement[] suggestions) throws Exception {
+		List<String> guesses= new ArrayList<>();
+		for (ICompletionProposal proposal : guesser.parameterProposals(expectedType, paramName, new Position(0, 0), suggestions, true, false)) {
+			guesses.add(proposal.getDisplayString());
+		}
+		return guesses;
+	}
+
+	@Test
+	public void testIndexSharedByProposals() throws Exception {
+		ParameterGuessingProposal add= getProposal("add(");
+		ParameterGuessingProposal insert= getProposal("insert(");
+		assertNotNull(add);
+		assertNotNull(insert);
+
+		ParameterGuesser.CandidateIndex index= add.getCandidateIndex();
+		assertSame(index, insert.getCandidateIndex());
+
+		assertTrue(add.getReplacementString().startsWith("add("));
+		int candidates= index.getCandidateCount();
+		assertTrue(candidates > 0);
+		// the second proposal has the parameter types of the first one, so no candidate is added
+		assertTrue(insert.getReplacementString().startsWith("insert("));
+		assertEquals(candidates, index.getCandidateCount());
+	}
+
+	@Test
+	public void testGuessesWithAndWithoutIndex() throws Exception {
+		CompletionContext coreContext= fContext.getCoreContext();
+		assertTrue(coreContext.isExtended());
+		IJavaElement enclosingElement= coreContext.getEnclosingElement();
+		ParameterGuesser.CandidateIndex index= new ParameterGuesser.CandidateIndex(coreContext);
+
+		String[][] parameters= { { "java.lang.String", "Ljava.lang.String;", "name" }, { "int", "I", "count" }, { "int", "I", "index" } };
+		// a guesser remembers the names it has matched, so both guessers get the same parameters
+		ParameterGuesser indexed= new ParameterGuesser(enclosingElement, index);
+		ParameterGuesser plain= new ParameterGuesser(enclosingElement);
+		for (String[] parameter : parameters) {
+			IJavaElement[] elements= index.getAssignableElements(parameter[1]);
+			// the parameters of the same type share the assignable elements
+			assertSame(elements, index.getAssignableElements(parameter[1]));
+			assertEquals(parameter[2], guess(plain, parameter[0], parameter[2], coreContext.getVisibleElements(parameter[1])),
+					guess(indexed, parameter[0], parameter[2], elements));
+		}
+	}
+}
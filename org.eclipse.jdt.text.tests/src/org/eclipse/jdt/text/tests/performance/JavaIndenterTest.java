@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,6 +76,32 @@ public class JavaIndenterTest extends TextPerformanceTestCase {
 		assertAllPerformance();
 	}
 
+	/**
+	 * Measures "Correct Indentation" of the whole file, which indents all lines in one forward
+	 * pass. As the file is already indented correctly, the document does not change and all runs
+	 * do the same work.
+	 */
+	public void testCorrectIndentation() {
+		// undo the comments added by setUp
+		runAction(fEditor.getAction(ITextEditorActionConstants.SELECT_ALL));
+		runAction(fEditor.getAction("ToggleComment"));
+		runAction(fEditor.getAction(ITextEditorActionConstants.SELECT_ALL));
+
+		IAction indent= fEditor.getAction("Indent");
+		measureCorrectIndentation(indent, getNullPerformanceMeter(), getWarmUpRuns());
+		measureCorrectIndentation(indent, createPerformanceMeter("Correct Indentation"), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measureCorrectIndentation(IAction indent, PerformanceMeter performanceMeter, int runs) {
+		for (int i= 0; i < runs; i++) {
+			performanceMeter.start();
+			runAction(indent);
+			performanceMeter.stop();
+		}
+	}
+
 	private void measureJavaIndenter(PerformanceMeter performanceMeter, int runs) {
 		final IDocument document= EditorTestHelper.getDocument(fEditor);
 		Display display= EditorTestHelper.getActiveDisplay();
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.rules.FastPartitioner;
+
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
+import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
+import org.eclipse.jdt.internal.ui.text.Symbols;
+
+
+/**
+ * Measures the throughput of the Java partition scanner and of the heuristic scanner on a large
+ * Java source, which consists of copies of <code>TextLayout.java</code>. The size of the source is
+ * fixed, so that the measured time corresponds to the throughput.
+ */
+public class JavaScannerThroughputTest extends TextPerformanceTestCase {
+
+	private static final Class<JavaScannerThroughputTest> THIS= JavaScannerThroughputTest.class;
+
+	private static final String FILE= PerformanceTestSetup.TEXT_LAYOUT;
+
+	/** The size of the scanned source, 4 MB */
+	private static final int SIZE= 4 * 1024 * 1024;
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 10;
+
+	private static final String[] TYPES= new String[] {
+		IJavaPartitions.JAVA_DOC,
+		IJavaPartitions.JAVA_MULTI_LINE_COMMENT,
+		IJavaPartitions.JAVA_SINGLE_LINE_COMMENT,
+		IJavaPartitions.JAVA_STRING,
+		IJavaPartitions.JAVA_CHARACTER,
+		IJavaPartitions.JAVA_MULTI_LINE_STRING,
+		IDocument.DEFAULT_CONTENT_TYPE
+	};
+
+	private String fContent;
+
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+
+		String file= ResourceTestHelper.read(FILE).toString();
+		StringBuilder content= new StringBuilder(SIZE + file.length());
+		while (content.length() < SIZE)
+			content.append(file);
+		content.setLength(SIZE);
+		fContent= content.toString();
+	}
+
+	public void testPartitioning() {
+		measurePartitioning(getNullPerformanceMeter(), getWarmUpRuns());
+		measurePartitioning(createPerformanceMeter("Partitioning 4 MB"), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testHeuristicScanning() {
+		IDocument document= createDocument();
+		measureHeuristicScanning(document, getNullPerformanceMeter(), getWarmUpRuns());
+		measureHeuristicScanning(document, createPerformanceMeter("Heuristic scanning 4 MB"), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measurePartitioning(PerformanceMeter performanceMeter, int runs) {
+		for (int i= 0; i < runs; i++) {
+			performanceMeter.start();
+			createDocument();
+			performanceMeter.stop();
+		}
+	}
+
+	private void measureHeuristicScanning(IDocument document, PerformanceMeter performanceMeter, int runs) {
+		for (int i= 0; i < runs; i++) {
+			JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
+			performanceMeter.start();
+			int position= 0;
+			while (scanner.nextToken(position, JavaHeuristicScanner.UNBOUND) != Symbols.TokenEOF)
+				position= scanner.getPosition();
+			position= document.getLength() - 1;
+			while (scanner.previousToken(position, JavaHeuristicScanner.UNBOUND) != Symbols.TokenEOF)
+				position= scanner.getPosition();
+			performanceMeter.stop();
+		}
+	}
+
+	/**
+	 * Creates a document with the content and partitions it completely. The content is set after
+	 * creating the document, so that the document has a modification stamp.
+	 *
+	 * @return the partitioned document
+	 */
+	private IDocument createDocument() {
+		Document document= new Document();
+		document.set(fContent);
+		FastPartitioner partitioner= new FastPartitioner(new FastJavaPartitionScanner(), TYPES);
+		partitioner.connect(document);
+		document.setDocumentPartitioner(IJavaPartitions.JAVA_PARTITIONING, partitioner);
+		return document;
+	}
+}
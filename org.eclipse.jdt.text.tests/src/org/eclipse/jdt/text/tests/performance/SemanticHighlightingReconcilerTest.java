@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.ui.texteditor.AbstractTextEditor;
+
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+
+/**
+ * Measures the latency from an edit inside a method body of a large compilation unit until the
+ * reconciled semantic highlighting has been presented, once with full and once with incremental
+ * reconciling of the semantic highlighting positions. Both scenarios include the same reconciler
+ * delay, the difference between them is the time saved by the incremental reconcile.
+ */
+public class SemanticHighlightingReconcilerTest extends TextPerformanceTestCase {
+
+	private static final Class<SemanticHighlightingReconcilerTest> THIS= SemanticHighlightingReconcilerTest.class;
+
+	private static final String FILE= PerformanceTestSetup.STYLED_TEXT;
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 20;
+
+	private AbstractTextEditor fEditor;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		EditorTestHelper.runEventQueue();
+		fEditor= (AbstractTextEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(FILE), EditorTestHelper.COMPILATION_UNIT_EDITOR_ID, true);
+		EditorTestHelper.joinBackgroundActivities(fEditor);
+
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		System.clearProperty(SemanticHighlightingReconciler.INCREMENTAL_RECONCILE_PROPERTY);
+		EditorTestHelper.revertEditor(fEditor, true);
+		EditorTestHelper.closeAllEditors();
+	}
+
+	public void testFullReconcile() throws Exception {
+		System.setProperty(SemanticHighlightingReconciler.INCREMENTAL_RECONCILE_PROPERTY, Boolean.FALSE.toString());
+		measure(getNullPerformanceMeter(), getWarmUpRuns());
+		measure(createPerformanceMeter(), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testIncrementalReconcile() throws Exception {
+		System.setProperty(SemanticHighlightingReconciler.INCREMENTAL_RECONCILE_PROPERTY, Boolean.TRUE.toString());
+		measure(getNullPerformanceMeter(), getWarmUpRuns());
+		measure(createPerformanceMeter(), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) throws BadLocationException {
+		IDocument document= EditorTestHelper.getDocument(fEditor);
+		SourceViewer sourceViewer= EditorTestHelper.getSourceViewer(fEditor);
+		int offset= document.get().indexOf("return ", document.getLength() / 2);
+		assertTrue(offset > 0);
+		for (int i= 0; i < runs; i++) {
+			performanceMeter.start();
+			document.replace(offset, 0, " ");
+			assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 10000, 10));
+			EditorTestHelper.runEventQueue();
+			performanceMeter.stop();
+
+			document.replace(offset, 1, "");
+			assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 10000, 10));
+			EditorTestHelper.runEventQueue();
+		}
+	}
+}
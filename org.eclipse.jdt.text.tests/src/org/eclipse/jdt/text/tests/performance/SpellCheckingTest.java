@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,11 +40,16 @@ import org.eclipse.ui.texteditor.spelling.SpellingService;
 
 import org.eclipse.ui.editors.text.EditorsUI;
 
+import org.eclipse.jdt.core.JavaCore;
+
 import org.eclipse.jdt.ui.PreferenceConstants;
 
+import org.eclipse.jdt.internal.ui.text.spelling.JavaSpellingEngine;
+
 
 /**
- * Measures the time to spell check a large compilation unit.
+ * Measures the time to spell check a large compilation unit, as text and as Java source, where
+ * the Java spelling engine checks large regions in parallel chunks.
  *
  * @since 3.6
  */
@@ -62,6 +67,8 @@ public class SpellCheckingTest extends TextPerformanceTestCase {
 
 	private SpellingContext fSpellingContext;
 
+	private SpellingContext fJavaSpellingContext;
+
 
 	public static Test suite() {
 		return new PerformanceTestSetup(new TestSuite(THIS));
@@ -79,6 +86,9 @@ public class SpellCheckingTest extends TextPerformanceTestCase {
 		fSpellingContext= new SpellingContext();
 		fSpellingContext.setContentType(Platform.getContentTypeManager().getContentType(IContentTypeManager.CT_TEXT));
 
+		fJavaSpellingContext= new SpellingContext();
+		fJavaSpellingContext.setContentType(Platform.getContentTypeManager().getContentType(JavaCore.JAVA_SOURCE_CONTENT_TYPE));
+
 		IFile file= ResourceTestHelper.findFile(FILE);
 		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
 		try {
@@ -95,23 +105,42 @@ public class SpellCheckingTest extends TextPerformanceTestCase {
 	@Override
 	protected void tearDown() throws Exception {
 		super.tearDown();
+		System.clearProperty(JavaSpellingEngine.PARALLEL_THRESHOLD_PROPERTY);
 		PreferenceConstants.getPreferenceStore().setToDefault(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
 		EditorsUI.getPreferenceStore().setToDefault(SpellingService.PREFERENCE_SPELLING_ENABLED);
 	}
 
 	public void test() throws Exception {
-		measure(getNullPerformanceMeter(), getWarmUpRuns(), true);
+		measure(fSpellingContext, getNullPerformanceMeter(), getWarmUpRuns(), true);
 		PerformanceMeter performanceMeter= createPerformanceMeter("Java Editor: Spell checking");
-		measure(performanceMeter, getMeasuredRuns(), false);
+		measure(fSpellingContext, performanceMeter, getMeasuredRuns(), false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testJavaSequential() throws Exception {
+		System.setProperty(JavaSpellingEngine.PARALLEL_THRESHOLD_PROPERTY, String.valueOf(Integer.MAX_VALUE));
+		measure(fJavaSpellingContext, getNullPerformanceMeter(), getWarmUpRuns(), true);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Java Editor: Spell checking Java source, sequential");
+		measure(fJavaSpellingContext, performanceMeter, getMeasuredRuns(), false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testJavaParallel() throws Exception {
+		System.setProperty(JavaSpellingEngine.PARALLEL_THRESHOLD_PROPERTY, "0");
+		measure(fJavaSpellingContext, getNullPerformanceMeter(), getWarmUpRuns(), true);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Java Editor: Spell checking Java source, parallel");
+		measure(fJavaSpellingContext, performanceMeter, getMeasuredRuns(), false);
 		commitAllMeasurements();
 		assertAllPerformance();
 	}
 
-	private void measure(PerformanceMeter performanceMeter, int runs, boolean printDebugInfo) {
+	private void measure(SpellingContext context, PerformanceMeter performanceMeter, int runs, boolean printDebugInfo) {
 		SpellingService spellingService= EditorsUI.getSpellingService();
 		for (int i= 0; i < runs; i++) {
 			performanceMeter.start();
-			spellingService.check(fDocument, fSpellingContext, new SpellingProblemCollector(printDebugInfo && i == 0), null);
+			spellingService.check(fDocument, context, new SpellingProblemCollector(printDebugInfo && i == 0), null);
 			performanceMeter.stop();
 		}
 	}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultPhoneticDistanceAlgorithm;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.IPhoneticDistanceAlgorithm;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.LocaleSensitiveSpellDictionary;
+
+
+/**
+ * Measures the time to compute correction proposals for misspelled words with the bounded edit
+ * distance and with an edit distance that is always computed completely.
+ */
+public class SpellingProposalsTest extends TextPerformanceTestCase {
+
+	private static final Class<SpellingProposalsTest> THIS= SpellingProposalsTest.class;
+
+	private static final String[] WORDS= { "algorithm", "boundary", "compilation", "declaration", "environment", "frequently", "generation", "hierarchy", "implementation", "judgement", "knowledge", "language", "maintenance", "necessary", "occurrence", "parameter", "qualified", "reference", "separate", "threshold" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$ //$NON-NLS-17$ //$NON-NLS-18$ //$NON-NLS-19$ //$NON-NLS-20$
+
+	private static final int WARM_UP_RUNS= 2;
+
+	private static final int MEASURED_RUNS= 10;
+
+	/**
+	 * Computes the complete edit distance, as the bounded variant is not overridden.
+	 */
+	private static class UnboundedDistanceAlgorithm implements IPhoneticDistanceAlgorithm {
+
+		private final IPhoneticDistanceAlgorithm fAlgorithm= new DefaultPhoneticDistanceAlgorithm();
+
+		@Override
+		public int getDistance(String from, String to) {
+			return fAlgorithm.getDistance(from, to);
+		}
+	}
+
+	private static class Dictionary extends LocaleSensitiveSpellDictionary {
+
+		public Dictionary(URL location, boolean bounded) {
+			super(Locale.US, location);
+			if (!bounded)
+				setDistanceAlgorithm(new UnboundedDistanceAlgorithm());
+		}
+	}
+
+	private URL fLocation;
+
+	private List<String> fMisspelledWords;
+
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+
+		fLocation= SpellCheckEngine.getDictionaryLocations().nextElement();
+
+		// swap each pair of adjacent characters, more words than the proposal cache holds
+		fMisspelledWords= new ArrayList<>();
+		for (String word : WORDS) {
+			char[] characters= word.toCharArray();
+			for (int index= 0; index < characters.length - 1; index++) {
+				char next= characters[index];
+				characters[index]= characters[index + 1];
+				characters[index + 1]= next;
+				fMisspelledWords.add(new String(characters));
+				characters[index + 1]= characters[index];
+				characters[index]= next;
+			}
+		}
+	}
+
+	public void testUnboundedDistance() throws Exception {
+		Dictionary dictionary= new Dictionary(fLocation, false);
+		measure(dictionary, fMisspelledWords, getNullPerformanceMeter(), getWarmUpRuns());
+		PerformanceMeter performanceMeter= createPerformanceMeter("Spelling proposals, unbounded distance");
+		measure(dictionary, fMisspelledWords, performanceMeter, getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testBoundedDistance() throws Exception {
+		Dictionary dictionary= new Dictionary(fLocation, true);
+		measure(dictionary, fMisspelledWords, getNullPerformanceMeter(), getWarmUpRuns());
+		PerformanceMeter performanceMeter= createPerformanceMeter("Spelling proposals, bounded distance");
+		measure(dictionary, fMisspelledWords, performanceMeter, getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testRepeatedWords() throws Exception {
+		Dictionary dictionary= new Dictionary(fLocation, true);
+		List<String> words= fMisspelledWords.subList(0, WORDS.length);
+		measure(dictionary, words, getNullPerformanceMeter(), getWarmUpRuns());
+		PerformanceMeter performanceMeter= createPerformanceMeter("Spelling proposals, repeated words");
+		measure(dictionary, words, performanceMeter, getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(Dictionary dictionary, List<String> words, PerformanceMeter performanceMeter, int runs) {
+		for (int i= 0; i < runs; i++) {
+			performanceMeter.start();
+			for (String word : words)
+				dictionary.getProposals(word, false);
+			performanceMeter.stop();
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.AbstractSpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+public class CompiledSpellDictionaryTest {
+
+	private static final List<String> WORDS= Arrays.asList("truck", "trucks", "lorry", "lorries", "global", "globally", "sentence", "Z\u00FCrich"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+
+	private static class TestDictionary extends AbstractSpellDictionary {
+
+		private final URL fURL;
+
+		private final boolean fCompilable;
+
+		public TestDictionary(URL url, boolean compilable) {
+			fURL= url;
+			fCompilable= compilable;
+		}
+
+		@Override
+		public void addWord(String word) {
+			hashWord(word);
+		}
+
+		@Override
+		protected boolean isCompilable() {
+			return fCompilable;
+		}
+
+		@Override
+		protected URL getURL() throws MalformedURLException {
+			return fURL;
+		}
+
+		@Override
+		protected String getEncoding() {
+			return "UTF-8"; //$NON-NLS-1$
+		}
+	}
+
+	private File fWordList;
+
+	@Before
+	public void setUp() throws IOException {
+		fWordList= File.createTempFile("words", ".dictionary"); //$NON-NLS-1$ //$NON-NLS-2$
+		Files.write(fWordList.toPath(), WORDS, Charset.forName("UTF-8")); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		fWordList.delete();
+	}
+
+	@Test
+	public void testCompiledDictionaryAnswersLikeHashedDictionary() throws Exception {
+		URL url= fWordList.toURI().toURL();
+		TestDictionary hashed= new TestDictionary(url, false);
+		TestDictionary compiling= new TestDictionary(url, true);
+		TestDictionary compiled= new TestDictionary(url, true);
+
+		for (String word : WORDS) {
+			assertTrue(word, compiling.isCorrect(word));
+			assertTrue(word, compiled.isCorrect(word));
+		}
+		assertTrue(compiled.isCorrect("Truck")); //$NON-NLS-1$
+		assertFalse(compiled.isCorrect("trukc")); //$NON-NLS-1$
+		assertFalse(compiled.isCorrect("z\u00FCrich")); //$NON-NLS-1$
+
+		for (String word : new String[] { "trukc", "lorie", "globel", "sentense", "Zurich" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			assertEquals(word, getTexts(hashed.getProposals(word, false)), getTexts(compiled.getProposals(word, false)));
+			assertEquals(word, getTexts(hashed.getProposals(word, true)), getTexts(compiled.getProposals(word, true)));
+		}
+	}
+
+	@Test
+	public void testAddedWordsAreLayeredOnCompiledDictionary() throws Exception {
+		URL url= fWordList.toURI().toURL();
+		new TestDictionary(url, true).isCorrect("truck"); //$NON-NLS-1$
+
+		TestDictionary dictionary= new TestDictionary(url, true);
+		assertFalse(dictionary.isCorrect("trucking")); //$NON-NLS-1$
+		dictionary.addWord("trucking"); //$NON-NLS-1$
+		assertTrue(dictionary.isCorrect("trucking")); //$NON-NLS-1$
+		assertTrue(dictionary.isCorrect("truck")); //$NON-NLS-1$
+		assertTrue(dictionary.getProposals("truckin", false).stream().anyMatch(proposal -> "trucking".equals(proposal.getText()))); //$NON-NLS-1$ //$NON-NLS-2$
+
+		dictionary.unload();
+		assertFalse(dictionary.isCorrect("trucking")); //$NON-NLS-1$
+		assertTrue(dictionary.isCorrect("truck")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testChangedWordListIsCompiledAgain() throws Exception {
+		URL url= fWordList.toURI().toURL();
+		assertFalse(new TestDictionary(url, true).isCorrect("trailer")); //$NON-NLS-1$
+
+		Files.write(fWordList.toPath(), Arrays.asList("trailer", "tractor"), Charset.forName("UTF-8")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		TestDictionary dictionary= new TestDictionary(url, true);
+		assertTrue(dictionary.isCorrect("trailer")); //$NON-NLS-1$
+		assertFalse(dictionary.isCorrect("truck")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testConcurrentLookupsWhileWordsAreAdded() throws Exception {
+		URL url= fWordList.toURI().toURL();
+		for (boolean compilable : new boolean[] { false, true }) {
+			TestDictionary dictionary= new TestDictionary(url, compilable);
+			ExecutorService executor= Executors.newFixedThreadPool(4);
+			try {
+				List<Callable<Boolean>> lookups= new ArrayList<>();
+				for (int i= 0; i < 8; i++) {
+					lookups.add(() -> {
+						boolean correct= true;
+						for (int j= 0; j < 100; j++) {
+							for (String word : WORDS)
+								correct&= dictionary.isCorrect(word);
+						}
+						return Boolean.valueOf(correct);
+					});
+				}
+				// the first lookups load the word list while words are added
+				List<Future<Boolean>> results= new ArrayList<>();
+				for (Callable<Boolean> lookup : lookups)
+					results.add(executor.submit(lookup));
+				for (int i= 0; i < 1000; i++)
+					dictionary.addWord("word" + i); //$NON-NLS-1$
+				for (Future<Boolean> result : results)
+					assertTrue(result.get().booleanValue());
+				for (int i= 0; i < 1000; i++)
+					assertTrue(dictionary.isCorrect("word" + i)); //$NON-NLS-1$
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	private static Set<String> getTexts(Set<RankedWordProposal> proposals) {
+		Set<String> texts= new TreeSet<>();
+		for (RankedWordProposal proposal : proposals) {
+			texts.add(proposal.getText() + ':' + proposal.getRank());
+		}
+		return texts;
+	}
+}
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.source.AnnotationModel;
+import org.eclipse.jface.text.source.IAnnotationModel;
+import org.eclipse.jface.text.source.ISourceViewer;
+
+import org.eclipse.ui.IEditorInput;
+
+import org.eclipse.ui.texteditor.ITextEditor;
+import org.eclipse.ui.texteditor.spelling.SpellingService;
+
+import org.eclipse.ui.editors.text.EditorsUI;
+
+import org.eclipse.jdt.core.IProblemRequestor;
+import org.eclipse.jdt.core.compiler.IProblem;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.spelling.JavaSpellingReconcileStrategy;
+
+/**
+ * Compares the problems reported by an incremental spell check after document changes with the
+ * problems of a full check of the changed document.
+ */
+public class JavaSpellingReconcileStrategyTest {
+
+	private static final String SOURCE=
+			"/**\n" +
+			" * A class with a speling mistake in its comment.\n" +
+			" */\n" +
+			"public class Test {\n" +
+			"\t// anothr mistake\n" +
+			"\tint fField;\n" +
+			"\n" +
+			"\t/* the method has no mistaks */\n" +
+			"\tvoid method() {\n" +
+			"\t\tString s= \"a strng with mistakes\";\n" +
+			"\t}\n" +
+			"}\n";
+
+	/**
+	 * An annotation model which records the problems reported by the last check.
+	 */
+	private static final class ProblemRecorder extends AnnotationModel implements IProblemRequestor {
+
+		private final List<String> fProblems= new ArrayList<>();
+
+		@Override
+		public void acceptProblem(IProblem problem) {
+			fProblems.add(problem.getSourceStart() + "-" + problem.getSourceEnd() + ": " + problem.getMessage());
+		}
+
+		@Override
+		public void beginReporting() {
+			fProblems.clear();
+		}
+
+		@Override
+		public void endReporting() {
+			// the problems are kept until the next check
+		}
+
+		@Override
+		public boolean isActive() {
+			return true;
+		}
+
+		public List<String> getProblems() {
+			List<String> problems= new ArrayList<>(fProblems);
+			Collections.sort(problems);
+			return problems;
+		}
+	}
+
+	private static final class TestStrategy extends JavaSpellingReconcileStrategy {
+
+		private final ProblemRecorder fRecorder= new ProblemRecorder();
+
+		public TestStrategy() {
+			super(createProxy(ISourceViewer.class, null), createProxy(ITextEditor.class, createProxy(IEditorInput.class, "Test.java")));
+			setProgressMonitor(new NullProgressMonitor());
+		}
+
+		@Override
+		protected IAnnotationModel getAnnotationModel() {
+			return fRecorder;
+		}
+
+		public List<String> check(IDocument document) {
+			reconcile(new Region(0, document.getLength()));
+			return fRecorder.getProblems();
+		}
+	}
+
+	private IDocument fDocument;
+
+	private TestStrategy fStrategy;
+
+	/*
+	 * The strategy only asks the editor for its input and the input for its name.
+	 */
+	private static <T> T createProxy(Class<T> type, Object result) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "equals":
+					return Boolean.valueOf(proxy == args[0]);
+				case "hashCode":
+					return Integer.valueOf(System.identityHashCode(proxy));
+				default:
+					return method.getReturnType().isInstance(result) ? result : null;
+			}
+		}));
+	}
+
+	@Before
+	public void setUp() {
+		EditorsUI.getPreferenceStore().setValue(SpellingService.PREFERENCE_SPELLING_ENABLED, IPreferenceStore.TRUE);
+		PreferenceConstants.getPreferenceStore().setValue(PreferenceConstants.SPELLING_LOCALE, Locale.US.toString());
+
+		fDocument= new Document(SOURCE);
+		JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(fDocument, IJavaPartitions.JAVA_PARTITIONING);
+		fStrategy= new TestStrategy();
+		fStrategy.setDocument(fDocument);
+		assertEquals(checkAll(), fStrategy.check(fDocument));
+	}
+
+	@After
+	public void tearDown() {
+		fStrategy.setDocument(null);
+		EditorsUI.getPreferenceStore().setToDefault(SpellingService.PREFERENCE_SPELLING_ENABLED);
+		PreferenceConstants.getPreferenceStore().setToDefault(PreferenceConstants.SPELLING_LOCALE);
+	}
+
+	/*
+	 * A new strategy has no cached problems and checks the whole document.
+	 */
+	private List<String> checkAll() {
+		TestStrategy strategy= new TestStrategy();
+		strategy.setDocument(fDocument);
+		try {
+			return strategy.check(fDocument);
+		} finally {
+			strategy.setDocument(null);
+		}
+	}
+
+	private void replace(String text, String replacement) throws Exception {
+		int offset= fDocument.get().indexOf(text);
+		fDocument.replace(offset, text.length(), replacement);
+		assertEquals(replacement, checkAll(), fStrategy.check(fDocument));
+	}
+
+	@Test
+	public void testFullCheckFindsMistakes() throws Exception {
+		List<String> problems= checkAll();
+		assertFalse(problems.isEmpty());
+		assertEquals(problems, fStrategy.check(fDocument));
+	}
+
+	@Test
+	public void testEditComment() throws Exception {
+		replace("speling", "spelling");
+		replace("anothr", "anothr wrod");
+		replace("mistaks", "mistakes");
+		replace("A class", "A clas");
+	}
+
+	@Test
+	public void testEditCode() throws Exception {
+		replace("int fField;", "int fField;\n	int fOther;");
+		replace("void method", "private void method");
+		replace("strng", "string");
+	}
+
+	@Test
+	public void testEditsBeforeCheck() throws Exception {
+		fDocument.replace(fDocument.get().indexOf("speling"), 0, "mor ");
+		fDocument.replace(fDocument.get().indexOf("mistaks"), "mistaks".length(), "mistaaks");
+		fDocument.replace(0, 0, "// lisence\n");
+		assertEquals(checkAll(), fStrategy.check(fDocument));
+	}
+
+	@Test
+	public void testPartitioningChange() throws Exception {
+		// the code becomes a comment, and the comment becomes code again
+		replace("int fField;", "/* int fFeild;");
+		replace("/* the method", "the method");
+		replace("/* int fFeild;", "int fFeild;");
+		replace("// anothr", "anothr");
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -101,6 +101,10 @@ import org.junit.runners.Suite;
 	RenameNonPrivateFieldTests.class,
 	RenameRecordElementsTests.class,
 
+	//--parallel analysis
+	RenameAnalysisThreadsTests.class,
+	RenameSessionCacheTests.class,
+
 	//--initializers
 	MoveInitializerTests.class,
 
@@ -110,6 +114,9 @@ import org.junit.runners.Suite;
 	//--binaries
 	BinaryReferencesTests.class,
 
+	//--scripts
+	RefactoringScriptRunnerTests.class,
+
 	// validate edit
 //	ValidateEditTests.class,
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.junit.runners.Suite;
 	UndoManagerTests.class,
 	PathTransformationTests.class,
 	RefactoringScannerTests.class,
+	RefactoringTraceTests.class,
 	SurroundWithTests.class,
 	SurroundWithTests1d7.class,
 	SurroundWithTests1d8.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,10 @@
 package org.eclipse.jdt.ui.tests.refactoring;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 
@@ -88,6 +91,22 @@ public class RefactoringScannerTests extends GenericRefactoringTest {
 		assertEquals("results.length", 0, fScanner.getMatches().size());
 	}
 
+	@Test
+	public void testMayMatch() throws Exception{
+		assertFalse(fScanner.mayMatch(new StringReader("")));
+		assertFalse(fScanner.mayMatch(new StringReader("// TestPatter n")));
+		assertTrue(fScanner.mayMatch(new StringReader("// org.eclipse.TestPattern")));
+
+		// a name split across the chunks read
+		StringBuilder text= new StringBuilder();
+		for (int i= 0; i < 8192 - 4; i++)
+			text.append(' ');
+		text.append("TestPattern");
+		assertTrue(fScanner.mayMatch(new StringReader(text.toString())));
+		text.setLength(text.length() - 1);
+		assertFalse(fScanner.mayMatch(new StringReader(text.toString())));
+	}
+
 	@Test
 	public void test1() throws Exception{
 		helper("A.java", 8);
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
+import org.eclipse.ltk.core.refactoring.RefactoringSessionDescriptor;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+
+import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.refactoring.scripting.RefactoringScriptRunner;
+import org.eclipse.jdt.internal.corext.refactoring.scripting.RefactoringScriptRunner.Result;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class RefactoringScriptRunnerTests extends GenericRefactoringTest {
+
+	private static final String[] NO_PARAMETERS= new String[0];
+
+	private ICompilationUnit fCuA;
+	private ICompilationUnit fCuB;
+
+	public RefactoringScriptRunnerTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private void createCUs() throws Exception {
+		fCuA= createCU(getPackageP(), "A.java",
+				"package p;\n" +
+				"public class A {\n" +
+				"	public void m() {\n" +
+				"	}\n" +
+				"	public void n() {\n" +
+				"		m();\n" +
+				"	}\n" +
+				"}\n");
+		fCuB= createCU(getPackageP(), "B.java",
+				"package p;\n" +
+				"public class B {\n" +
+				"	void f(A a) {\n" +
+				"		a.m();\n" +
+				"		a.n();\n" +
+				"	}\n" +
+				"}\n");
+	}
+
+	private static RenameJavaElementDescriptor createRenameDescriptor(String id, IJavaElement element, String newName) {
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(id);
+		descriptor.setJavaElement(element);
+		descriptor.setNewName(newName);
+		descriptor.setUpdateReferences(true);
+		return descriptor;
+	}
+
+	private static RefactoringScriptRunner createRunner(RefactoringDescriptor... descriptors) throws Exception {
+		ByteArrayOutputStream script= new ByteArrayOutputStream();
+		RefactoringCore.getHistoryService().writeRefactoringSession(new RefactoringSessionDescriptor(descriptors, "1.0", null), script, false);
+		return RefactoringScriptRunner.read(new ByteArrayInputStream(script.toByteArray()));
+	}
+
+	@Test
+	public void testRun() throws Exception {
+		createCUs();
+		IType typeA= fCuA.getType("A");
+		IType typeC= getPackageP().getCompilationUnit("C.java").getType("C");
+		RefactoringScriptRunner runner= createRunner(
+				createRenameDescriptor(IJavaRefactorings.RENAME_METHOD, typeA.getMethod("m", NO_PARAMETERS), "k"),
+				createRenameDescriptor(IJavaRefactorings.RENAME_TYPE, typeA, "C"),
+				createRenameDescriptor(IJavaRefactorings.RENAME_METHOD, typeC.getMethod("n", NO_PARAMETERS), "n2"));
+
+		Result result= runner.run(new NullProgressMonitor());
+		assertTrue(result.toString(), result.getFailures().isEmpty());
+		assertEquals(3, result.getCount());
+		assertEquals(3, result.getPerformedCount());
+		// A and B are saved before the type is renamed, C and B at the end
+		assertEquals(4, result.getSavedFileCount());
+		assertTrue(result.getRefactoringsPerMinute() > 0);
+
+		ICompilationUnit cuC= typeC.getCompilationUnit();
+		assertFalse(fCuA.exists());
+		assertFalse(cuC.isWorkingCopy());
+		assertFalse(fCuB.isWorkingCopy());
+		assertEqualLines(
+				"package p;\n" +
+				"public class C {\n" +
+				"	public void k() {\n" +
+				"	}\n" +
+				"	public void n2() {\n" +
+				"		k();\n" +
+				"	}\n" +
+				"}\n", getContents((IFile) cuC.getResource()));
+		assertEqualLines(
+				"package p;\n" +
+				"public class B {\n" +
+				"	void f(C a) {\n" +
+				"		a.k();\n" +
+				"		a.n2();\n" +
+				"	}\n" +
+				"}\n", getContents((IFile) fCuB.getResource()));
+	}
+
+	@Test
+	public void testStopOnFailure() throws Exception {
+		createCUs();
+		IType typeA= fCuA.getType("A");
+		RefactoringScriptRunner runner= createRunner(
+				createRenameDescriptor(IJavaRefactorings.RENAME_METHOD, typeA.getMethod("m", NO_PARAMETERS), "k"),
+				createRenameDescriptor(IJavaRefactorings.RENAME_METHOD, typeA.getMethod("x", NO_PARAMETERS), "y"),
+				createRenameDescriptor(IJavaRefactorings.RENAME_METHOD, typeA.getMethod("n", NO_PARAMETERS), "n2"));
+
+		Result result= runner.run(new NullProgressMonitor());
+		assertEquals(1, result.getPerformedCount());
+		assertEquals(1, result.getFailures().size());
+		RefactoringStatus status= result.getFailures().values().iterator().next();
+		assertTrue(status.toString(), status.hasFatalError());
+
+		// the refactoring performed before the failure is saved
+		assertFalse(fCuA.isWorkingCopy());
+		assertEqualLines(
+				"package p;\n" +
+				"public class A {\n" +
+				"	public void k() {\n" +
+				"	}\n" +
+				"	public void n() {\n" +
+				"		k();\n" +
+				"	}\n" +
+				"}\n", getContents((IFile) fCuA.getResource()));
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace.Phase;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringTrace.PhaseStatistics;
+
+public class RefactoringTraceTests {
+
+	@After
+	public void after() {
+		RefactoringTrace.reset();
+	}
+
+	@Test
+	public void testNestedPhases() throws Exception {
+		Phase outer= RefactoringTrace.begin(RefactoringTrace.CHECK_FINAL_CONDITIONS, this);
+		RefactoringTrace.count(RefactoringTrace.PARSES, 2);
+		Phase inner= RefactoringTrace.begin(RefactoringTrace.SEARCH, "requestor");
+		RefactoringTrace.count(RefactoringTrace.SEARCH_MATCHES, 5);
+		RefactoringTrace.count(RefactoringTrace.PARSES, 1);
+		inner.end();
+		outer.end();
+		RefactoringTrace.count(RefactoringTrace.PARSES, 10); // no phase running
+
+		PhaseStatistics search= RefactoringTrace.getStatistics(RefactoringTrace.SEARCH, String.class);
+		assertEquals(1, search.getCount());
+		assertEquals(5, search.getCount(RefactoringTrace.SEARCH_MATCHES));
+		assertEquals(1, search.getCount(RefactoringTrace.PARSES));
+
+		PhaseStatistics check= RefactoringTrace.getStatistics(RefactoringTrace.CHECK_FINAL_CONDITIONS, getClass());
+		assertEquals(1, check.getCount());
+		assertEquals(5, check.getCount(RefactoringTrace.SEARCH_MATCHES));
+		assertEquals(3, check.getCount(RefactoringTrace.PARSES));
+		assertEquals(0, check.getCount(RefactoringTrace.COMPILATION_UNITS));
+
+		assertNull(RefactoringTrace.getStatistics(RefactoringTrace.CREATE_CHANGE, getClass()));
+	}
+
+	@Test
+	public void testRunIn() throws Exception {
+		Phase phase= RefactoringTrace.begin(RefactoringTrace.CREATE_CHANGE, this);
+		ExecutorService executor= Executors.newSingleThreadExecutor();
+		try {
+			// the worker thread does not inherit the phase
+			executor.submit(() -> RefactoringTrace.count(RefactoringTrace.PARSES, 100)).get();
+			executor.submit(() -> RefactoringTrace.runIn(phase, () -> {
+				assertSame(phase, RefactoringTrace.getCurrent());
+				RefactoringTrace.count(RefactoringTrace.PARSES, 1);
+				return null;
+			})).get();
+			executor.submit(() -> assertNull(RefactoringTrace.getCurrent())).get();
+		} finally {
+			executor.shutdown();
+		}
+		phase.end();
+		assertNull(RefactoringTrace.getCurrent());
+
+		PhaseStatistics statistics= RefactoringTrace.getStatistics(RefactoringTrace.CREATE_CHANGE, getClass());
+		assertEquals(1, statistics.getCount());
+		assertEquals(1, statistics.getCount(RefactoringTrace.PARSES));
+	}
+
+	@Test
+	public void testTrace() throws Exception {
+		assertEquals("result", RefactoringTrace.trace(RefactoringTrace.CHECK_INITIAL_CONDITIONS, this, () -> "result"));
+		try {
+			RefactoringTrace.trace(RefactoringTrace.CHECK_INITIAL_CONDITIONS, this, () -> {
+				throw new CoreException(Status.CANCEL_STATUS);
+			});
+			fail();
+		} catch (CoreException e) {
+			// expected
+		}
+		assertNull(RefactoringTrace.getCurrent());
+		assertEquals(2, RefactoringTrace.getStatistics(RefactoringTrace.CHECK_INITIAL_CONDITIONS, getClass()).getCount());
+	}
+
+	@Test
+	public void testExport() {
+		RefactoringTrace.begin(RefactoringTrace.CREATE_CHANGE, null).end();
+		Phase phase= RefactoringTrace.begin(RefactoringTrace.CREATE_CHANGE, null);
+		RefactoringTrace.count(RefactoringTrace.COMPILATION_UNITS, 3);
+		phase.end();
+
+		StringWriter writer= new StringWriter();
+		RefactoringTrace.export(writer);
+		String[] lines= writer.toString().split("\\R");
+		assertEquals(2, lines.length);
+		assertEquals("phase,class,count,total_ms,max_ms,compilation_units,search_matches,parses", lines[0]);
+		String[] columns= lines[1].split(",");
+		assertEquals("createChange", columns[0]);
+		assertEquals("-", columns[1]);
+		assertEquals("2", columns[2]);
+		assertEquals("3", columns[5]);
+		assertEquals("0", columns[6]);
+	}
+}
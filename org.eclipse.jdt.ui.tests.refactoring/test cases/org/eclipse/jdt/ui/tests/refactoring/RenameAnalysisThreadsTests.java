@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
+import org.eclipse.ltk.core.refactoring.TextChange;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+
+import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameAnalyzeUtil;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Renames with more affected compilation units than fit into one partition, and compares the
+ * analysis in parallel partitions with the sequential analysis.
+ */
+public class RenameAnalysisThreadsTests extends GenericRefactoringTest {
+
+	private static final int SUBCLASS_COUNT= 40;
+	private static final String THREADS= "4";
+
+	public RenameAnalysisThreadsTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private IType createCUs() throws Exception {
+		IType typeA= createCU(getPackageP(), "A.java",
+				"package p;\n" +
+				"public class A {\n" +
+				"	protected int f;\n" +
+				"	public void m() {\n" +
+				"	}\n" +
+				"}\n").getType("A");
+		for (int i= 0; i < SUBCLASS_COUNT; i++) {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package p;\n");
+			buf.append("public class B" + i + " extends A {\n");
+			buf.append("	// increments f and calls m\n");
+			buf.append("	void use() {\n");
+			buf.append("		String name= \"f\";\n");
+			buf.append("		f++;\n");
+			buf.append("		m();\n");
+			buf.append("	}\n");
+			if (i % 5 == 0) {
+				// the renamed field is shadowed by the parameter
+				buf.append("	void set(int g) {\n");
+				buf.append("		f= g;\n");
+				buf.append("	}\n");
+			}
+			buf.append("}\n");
+			createCU(getPackageP(), "B" + i + ".java", buf.toString());
+		}
+		return typeA;
+	}
+
+	/**
+	 * Checks the conditions and creates the change of a rename.
+	 *
+	 * @param id the refactoring id
+	 * @param element the element to rename
+	 * @param newName the new name
+	 * @param textual <code>true</code> to update the textual occurrences
+	 * @param threads the value of the analysis threads property
+	 * @return the severity and message of each status entry, followed by the name and preview
+	 *         content of each text change
+	 * @throws Exception if the rename fails
+	 */
+	private List<String> rename(String id, IJavaElement element, String newName, boolean textual, String threads) throws Exception {
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(id);
+		descriptor.setJavaElement(element);
+		descriptor.setNewName(newName);
+		descriptor.setUpdateReferences(true);
+		descriptor.setUpdateTextualOccurrences(textual);
+		Refactoring refactoring= createRefactoring(descriptor);
+
+		String oldThreads= System.setProperty(RenameAnalyzeUtil.ANALYSIS_THREADS_PROPERTY, threads);
+		try {
+			List<String> result= new ArrayList<>();
+			RefactoringStatus status= refactoring.checkAllConditions(new NullProgressMonitor());
+			assertFalse(status.toString(), status.hasFatalError());
+			for (RefactoringStatusEntry entry : status.getEntries()) {
+				result.add(entry.getSeverity() + ": " + entry.getMessage());
+			}
+			Map<String, String> contents= new TreeMap<>();
+			collectPreviewContents(refactoring.createChange(new NullProgressMonitor()), contents);
+			assertTrue("not enough compilation units to partition", contents.size() > 16);
+			for (Map.Entry<String, String> entry : contents.entrySet()) {
+				result.add(entry.getKey() + ":\n" + entry.getValue());
+			}
+			return result;
+		} finally {
+			if (oldThreads != null)
+				System.setProperty(RenameAnalyzeUtil.ANALYSIS_THREADS_PROPERTY, oldThreads);
+			else
+				System.clearProperty(RenameAnalyzeUtil.ANALYSIS_THREADS_PROPERTY);
+		}
+	}
+
+	private static void collectPreviewContents(Change change, Map<String, String> contents) throws CoreException {
+		if (change instanceof CompositeChange) {
+			for (Change child : ((CompositeChange) change).getChildren()) {
+				collectPreviewContents(child, contents);
+			}
+		} else if (change instanceof TextChange) {
+			contents.put(change.getName(), ((TextChange) change).getPreviewContent(new NullProgressMonitor()));
+		}
+	}
+
+	@Test
+	public void testRenameField() throws Exception {
+		IType typeA= createCUs();
+		List<String> sequential= rename(IJavaRefactorings.RENAME_FIELD, typeA.getField("f"), "g", false, "1");
+		List<String> partitioned= rename(IJavaRefactorings.RENAME_FIELD, typeA.getField("f"), "g", false, THREADS);
+		// the parameters shadow the renamed field
+		assertTrue(sequential.get(0), sequential.get(0).startsWith(RefactoringStatus.ERROR + ": "));
+		assertEquals(sequential, partitioned);
+	}
+
+	@Test
+	public void testRenameMethod() throws Exception {
+		IType typeA= createCUs();
+		List<String> sequential= rename(IJavaRefactorings.RENAME_METHOD, typeA.getMethod("m", new String[0]), "k", false, "1");
+		List<String> partitioned= rename(IJavaRefactorings.RENAME_METHOD, typeA.getMethod("m", new String[0]), "k", false, THREADS);
+		assertEquals(sequential, partitioned);
+	}
+
+	@Test
+	public void testRenameFieldWithTextualOccurrences() throws Exception {
+		IType typeA= createCUs();
+		List<String> sequential= rename(IJavaRefactorings.RENAME_FIELD, typeA.getField("f"), "g", true, "1");
+		List<String> partitioned= rename(IJavaRefactorings.RENAME_FIELD, typeA.getField("f"), "g", true, THREADS);
+		assertEquals(sequential, partitioned);
+		// the comments and strings of all subclasses are updated
+		int textualMatches= 0;
+		for (String entry : partitioned) {
+			if (entry.contains("// increments g and calls m") && entry.contains("String name= \"g\";"))
+				textualMatches++;
+		}
+		assertEquals(SUBCLASS_COUNT, textualMatches);
+	}
+}
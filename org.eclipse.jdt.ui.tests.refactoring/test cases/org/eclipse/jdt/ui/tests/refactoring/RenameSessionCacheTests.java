@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
+import org.eclipse.jdt.internal.corext.refactoring.rename.JavaRenameRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameMethodProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameSessionCache;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameVirtualMethodProcessor;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class RenameSessionCacheTests extends GenericRefactoringTest {
+
+	public RenameSessionCacheTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	@Test
+	public void testBudgetEviction() throws Exception {
+		ICompilationUnit a= createCU(getPackageP(), "A.java", "package p;\npublic class A {\n}\n");
+		ICompilationUnit b= createCU(getPackageP(), "B.java", "package p;\npublic class B {\n}\n");
+		// a budget of one byte only keeps the last AST requested
+		RenameSessionCache cache= new RenameSessionCache(1);
+
+		CompilationUnit astA= cache.getAST(a, null);
+		assertSame(astA, cache.getAST(a, null));
+		assertEquals(1, cache.getParses());
+		assertEquals(1, cache.getParsesAvoided());
+		assertEquals(0, cache.getSpills());
+
+		cache.getAST(b, null);
+		assertEquals(2, cache.getParses());
+		assertEquals(1, cache.getSpills());
+	}
+
+	@Test
+	public void testSpillRevival() throws Exception {
+		ICompilationUnit a= createCU(getPackageP(), "A.java", "package p;\npublic class A {\n}\n");
+		ICompilationUnit b= createCU(getPackageP(), "B.java", "package p;\npublic class B {\n}\n");
+		RenameSessionCache cache= new RenameSessionCache(1);
+
+		// the strong reference keeps the spilled AST from being reclaimed
+		CompilationUnit astA= cache.getAST(a, null);
+		CompilationUnit astB= cache.getAST(b, null);
+		assertEquals(1, cache.getSpills());
+
+		assertSame(astA, cache.getAST(a, null));
+		assertEquals(2, cache.getParses());
+		assertEquals(1, cache.getParsesAvoided());
+		// reviving the AST of a spills the AST of b
+		assertEquals(2, cache.getSpills());
+		assertSame(astB, cache.getAST(b, null));
+		assertEquals(2, cache.getParses());
+		assertEquals(2, cache.getParsesAvoided());
+
+		cache.dispose();
+		cache.getAST(a, null);
+		assertEquals(3, cache.getParses());
+	}
+
+	@Test
+	public void testOccurrences() throws Exception {
+		IType type= createCU(getPackageP(), "A.java",
+				"package p;\n" +
+				"public class A {\n" +
+				"	void m() {\n" +
+				"	}\n" +
+				"	void n() {\n" +
+				"	}\n" +
+				"}\n").getType("A");
+		IMethod m= type.getMethod("m", new String[0]);
+		IMethod n= type.getMethod("n", new String[0]);
+		RenameSessionCache cache= new RenameSessionCache();
+
+		assertNull(cache.getOccurrences(Arrays.asList(m, n)));
+		SearchResultGroup[] occurrences= new SearchResultGroup[0];
+		cache.putOccurrences(Arrays.asList(m, n), occurrences);
+		// the order of the elements does not matter
+		assertSame(occurrences, cache.getOccurrences(Arrays.asList(n, m)));
+		assertNull(cache.getOccurrences(Collections.singletonList(m)));
+		assertEquals(1, cache.getSearchesAvoided());
+
+		cache.dispose();
+		assertNull(cache.getOccurrences(Arrays.asList(m, n)));
+		assertEquals(1, cache.getSearchesAvoided());
+	}
+
+	@Test
+	public void testTypeHierarchies() throws Exception {
+		IType typeA= createCU(getPackageP(), "A.java", "package p;\npublic class A {\n}\n").getType("A");
+		IType typeB= createCU(getPackageP(), "B.java", "package p;\npublic class B extends A {\n}\n").getType("B");
+		RenameSessionCache cache= new RenameSessionCache();
+
+		ITypeHierarchy hierarchyA= cache.getTypeHierarchy(typeA, null);
+		assertSame(hierarchyA, cache.getTypeHierarchy(typeA, null));
+		assertEquals(1, cache.getHierarchiesAvoided());
+
+		ITypeHierarchy hierarchyB= typeB.newTypeHierarchy(null);
+		cache.putTypeHierarchy(hierarchyB);
+		assertSame(hierarchyB, cache.getTypeHierarchy(typeB, null));
+		assertEquals(2, cache.getHierarchiesAvoided());
+	}
+
+	@Test
+	public void testSecondFinalConditionsCheck() throws Exception {
+		IType type= createCU(getPackageP(), "A.java",
+				"package p;\n" +
+				"public class A {\n" +
+				"	public void m() {\n" +
+				"	}\n" +
+				"}\n").getType("A");
+		createCU(getPackageP(), "B.java",
+				"package p;\n" +
+				"public class B extends A {\n" +
+				"	public void m() {\n" +
+				"		super.m();\n" +
+				"	}\n" +
+				"}\n");
+		RenameMethodProcessor processor= new RenameVirtualMethodProcessor(type.getMethod("m", new String[0]));
+		processor.setNewElementName("k");
+		JavaRenameRefactoring refactoring= new JavaRenameRefactoring(processor);
+
+		RefactoringStatus status= refactoring.checkInitialConditions(new NullProgressMonitor());
+		assertFalse(status.toString(), status.hasError());
+		status= refactoring.checkFinalConditions(new NullProgressMonitor());
+		assertFalse(status.toString(), status.hasError());
+		assertEquals(0, processor.getSessionCache().getSearchesAvoided());
+
+		// e.g. after going back from the preview, the occurrences are not searched again
+		status= refactoring.checkFinalConditions(new NullProgressMonitor());
+		assertFalse(status.toString(), status.hasError());
+		assertEquals(1, processor.getSessionCache().getSearchesAvoided());
+	}
+}
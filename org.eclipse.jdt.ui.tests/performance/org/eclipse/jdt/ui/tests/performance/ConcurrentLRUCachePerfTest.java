@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+import org.junit.Test;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.internal.corext.util.ConcurrentLRUCache;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+/**
+ * Measures the throughput of caches which are accessed by several threads at once, comparing a
+ * synchronized {@link LRUMap} with a {@link ConcurrentLRUCache}.
+ */
+public class ConcurrentLRUCachePerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int THREADS= Math.max(4, Runtime.getRuntime().availableProcessors());
+
+	private static final int OPERATIONS_PER_THREAD= 500000;
+
+	private static final int CACHE_SIZE= 64;
+
+	private static final int KEY_RANGE= 96;
+
+	private static final int RUNS= 10;
+
+	@Test
+	public void testSynchronizedLRUMap() throws Exception {
+		Map<Integer, Integer> map= new LRUMap<>(CACHE_SIZE);
+		measure(key -> {
+			synchronized (map) {
+				Integer value= map.get(key);
+				if (value == null) {
+					map.put(key, key);
+				}
+				return value;
+			}
+		});
+	}
+
+	@Test
+	public void testConcurrentLRUCache() throws Exception {
+		ConcurrentLRUCache<Integer, Integer> cache= new ConcurrentLRUCache<>(CACHE_SIZE);
+		measure(key -> {
+			Integer value= cache.get(key);
+			if (value == null) {
+				cache.put(key, key);
+			}
+			return value;
+		});
+	}
+
+	private void measure(IntFunction<Integer> access) throws Exception {
+		tagAsSummary("Contended cache access, " + THREADS + " threads", Dimension.ELAPSED_PROCESS);
+		for (int run= 0; run < RUNS; run++) {
+			CyclicBarrier barrier= new CyclicBarrier(THREADS + 1);
+			List<Thread> threads= new ArrayList<>(THREADS);
+			for (int i= 0; i < THREADS; i++) {
+				Thread thread= new Thread(() -> {
+					try {
+						barrier.await();
+						ThreadLocalRandom random= ThreadLocalRandom.current();
+						for (int j= 0; j < OPERATIONS_PER_THREAD; j++) {
+							access.apply(random.nextInt(KEY_RANGE));
+						}
+						barrier.await();
+					} catch (Exception e) {
+						throw new AssertionError(e);
+					}
+				}, "Cache Access-" + i);
+				thread.start();
+				threads.add(thread);
+			}
+			barrier.await();
+			startMeasuring();
+			barrier.await();
+			stopMeasuring();
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import org.junit.After;
 import org.junit.Before;
@@ -36,6 +38,7 @@ import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
 import org.eclipse.ltk.core.refactoring.Refactoring;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
@@ -44,6 +47,8 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.core.manipulation.ASTCache;
+
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -141,6 +146,68 @@ public class ASTProviderTest extends CoreTests {
 		cu.getBuffer().save(null, true);
 	}
 
+	@Test
+	public void testRecentASTCache() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E1 {\n");
+		buf.append("}\n");
+		ICompilationUnit cu= pack1.createCompilationUnit("E1.java", buf.toString(), false, null);
+		JavaProjectHelper.performDummySearch();
+
+		CompilationUnit ast= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(ast);
+
+		int hits= ASTCache.getCacheHits();
+		assertSame(ast, SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null));
+		assertSame(ast, SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_NO, null));
+		assertEquals(hits + 2, ASTCache.getCacheHits());
+
+		// adding a type can change the bindings of E1
+		buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E2 {\n");
+		buf.append("}\n");
+		pack1.createCompilationUnit("E2.java", buf.toString(), false, null);
+
+		int misses= ASTCache.getCacheMisses();
+		CompilationUnit newAST= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(newAST);
+		assertNotSame(ast, newAST);
+		assertEquals(misses + 1, ASTCache.getCacheMisses());
+	}
+
+	@Test
+	public void testRecentASTCacheUnreconciledEdit() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E1 {\n");
+		buf.append("}\n");
+		ICompilationUnit cu= pack1.createCompilationUnit("E1.java", buf.toString(), false, null);
+		JavaProjectHelper.performDummySearch();
+
+		cu.becomeWorkingCopy(null);
+		try {
+			CompilationUnit ast= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+			assertNotNull(ast);
+			assertSame(ast, SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null));
+
+			// an edit of the working copy without reconcile sends no delta
+			IBuffer buffer= cu.getBuffer();
+			buffer.replace(buffer.getContents().indexOf('}'), 0, "int x;\n");
+
+			CompilationUnit newAST= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+			assertNotNull(newAST);
+			assertNotSame(ast, newAST);
+			// the stamp of the buffer is kept until the next edit
+			assertSame(newAST, SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null));
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
 	private static String getNormalizeNumber(int number) {
 		if (number < 10) {
 			return "000" + number;
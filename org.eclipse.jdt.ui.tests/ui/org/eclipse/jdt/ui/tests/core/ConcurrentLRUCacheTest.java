@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.corext.util.ConcurrentLRUCache;
+
+public class ConcurrentLRUCacheTest {
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		List<String> evicted= new ArrayList<>();
+		ConcurrentLRUCache<String, String> cache= new ConcurrentLRUCache<>(2, 1, null, (key, value) -> evicted.add(key));
+		cache.put("a", "1");
+		cache.put("b", "2");
+		assertEquals("1", cache.get("a"));
+		cache.put("c", "3");
+
+		assertNull(cache.get("b"));
+		assertEquals("1", cache.get("a"));
+		assertEquals("3", cache.get("c"));
+		assertEquals(List.of("b"), evicted);
+		assertEquals(2, cache.size());
+
+		ConcurrentLRUCache.Stats stats= cache.getStats();
+		assertEquals(3, stats.getHits());
+		assertEquals(1, stats.getMisses());
+		assertEquals(1, stats.getEvictions());
+	}
+
+	@Test
+	public void testBoundedByWeight() {
+		ConcurrentLRUCache<String, String> cache= new ConcurrentLRUCache<>(10, 1, String::length, null);
+		cache.put("a", "xxxx");
+		cache.put("b", "xxxx");
+		cache.put("c", "xxxxxx");
+
+		assertNull(cache.get("a"));
+		assertEquals("xxxx", cache.get("b"));
+		assertEquals("xxxxxx", cache.get("c"));
+
+		cache.put("c", "xx");
+		cache.put("d", "xxxxxxxx");
+		assertNull(cache.get("b"));
+		assertEquals("xx", cache.get("c"));
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void testLoadsMissingValues() throws Exception {
+		ConcurrentLRUCache<Integer, String> cache= new ConcurrentLRUCache<>(16);
+		assertEquals("1", cache.get(1, String::valueOf));
+		assertEquals("1", cache.get(1, key -> "other"));
+		assertNull(cache.get(2, key -> null));
+		assertEquals(1, cache.size());
+		assertEquals(2, cache.getStats().getLoads());
+
+		assertEquals(List.of("1"), cache.removeIf(value -> value.equals("1")));
+		assertEquals(0, cache.size());
+	}
+}
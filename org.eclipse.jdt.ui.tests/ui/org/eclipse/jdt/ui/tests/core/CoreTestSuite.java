@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,8 +55,12 @@ TypeHierarchyViewPartTest.class,
 TypeRulesTest.class,
 TypeInfoTest.class,
 StringsTest.class,
+ConcurrentLRUCacheTest.class,
 IndentManipulationTest.class,
 SelectionHistoryTest.class,
+OpenTypeHistoryTest.class,
+TypeNameIndexTest.class,
+SuperTypeHierarchyCacheTest.class,
 ASTProviderTest.class,
 JDTFlagsTest18.class,
 JavaTokenComparatorTest.class,
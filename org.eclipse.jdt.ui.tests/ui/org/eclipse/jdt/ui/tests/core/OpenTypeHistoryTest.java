@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.IJobManager;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.corext.CorextMessages;
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class OpenTypeHistoryTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		assertNotNull("jre is null", JavaProjectHelper.addRTJar(fJProject1));
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPackage= sourceFolder.createPackageFragment("test1", false, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJProject1);
+	}
+
+	private TypeNameMatch createMatch(String name) throws JavaModelException {
+		ICompilationUnit cu= fPackage.createCompilationUnit(name + ".java", "package test1;\npublic class " + name + " {\n}\n", false, null);
+		IType type= cu.getType(name);
+		return SearchEngine.createTypeNameMatch(type, type.getFlags());
+	}
+
+	@Test
+	public void testConsistencyCheckDoesNotLockHistory() throws Exception {
+		TypeNameMatch matchA= createMatch("A");
+		TypeNameMatch matchB= createMatch("B");
+		OpenTypeHistory history= OpenTypeHistory.getInstance();
+
+		IJobManager jobManager= Job.getJobManager();
+		// keep the update job from running the check in the background
+		jobManager.suspend();
+		try {
+			for (Job job : jobManager.find(null)) {
+				if (CorextMessages.TypeInfoHistory_consistency_check.equals(job.getName()) && job.getState() == Job.RUNNING)
+					job.join();
+			}
+			history.accessed(matchA);
+			history.accessed(matchB);
+			matchB.getType().getCompilationUnit().delete(true, null);
+			history.markAsInconsistent();
+
+			boolean[] readDuringCheck= new boolean[1];
+			history.checkConsistency(new NullProgressMonitor() {
+				@Override
+				public void worked(int work) {
+					// the check must not hold the history lock while it accesses the Java model
+					try {
+						readDuringCheck[0]= CompletableFuture.supplyAsync(() -> Boolean.valueOf(history.contains(matchA))).get(10, TimeUnit.SECONDS).booleanValue();
+					} catch (Exception e) {
+						throw new AssertionError("history locked during the consistency check", e);
+					}
+				}
+			});
+
+			assertTrue(readDuringCheck[0]);
+			assertFalse(history.needConsistencyCheck());
+			assertTrue(history.contains(matchA));
+			assertFalse(history.contains(matchB));
+		} finally {
+			history.remove(matchA);
+			history.remove(matchB);
+			jobManager.resume();
+		}
+	}
+}
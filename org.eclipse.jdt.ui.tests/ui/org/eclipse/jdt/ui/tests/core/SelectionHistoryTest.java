@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -25,9 +31,12 @@ import org.junit.Test;
 import org.w3c.dom.Element;
 
 import org.eclipse.jdt.internal.corext.util.History;
+import org.eclipse.jdt.internal.corext.util.JournaledHistory;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 public class SelectionHistoryTest {
 	@Rule
 	public ProjectTestSetup pts= new ProjectTestSetup();
@@ -124,6 +133,25 @@ public class SelectionHistoryTest {
 
 	}
 
+	private static final class JournaledTestHistory extends JournaledHistory<String, String> {
+
+		public JournaledTestHistory() {
+			super("SelectionHistoryTest.xml");
+			load();
+		}
+		@Override
+		protected void setAttributes(Object object, Element element) {}
+		@Override
+		protected String createFromElement(Element type) {return null;}
+		@Override
+		protected String getKey(String object) {return object;}
+		@Override
+		protected void writeObject(String object, DataOutputStream out) throws IOException {out.writeUTF(object);}
+		@Override
+		protected String readObject(DataInputStream in) throws IOException {return in.readUTF();}
+
+	}
+
 	@Test
 	public void organizeImportHistory01() throws Exception {
 		History<String, String> history= new TestHistory();
@@ -190,4 +218,27 @@ public class SelectionHistoryTest {
 		Arrays.sort(strings, comparator);
 		assertEquals(strings, expected);
 	}
+
+	@Test
+	public void historyJournal() throws Exception {
+		File file= JavaPlugin.getDefault().getStateLocation().append("SelectionHistoryTest.history").toFile();
+		file.delete();
+		try {
+			History<String, String> history= new JournaledTestHistory();
+			history.accessed("a");
+			history.accessed("b");
+			history.accessed("c");
+			history.save();
+			history.accessed("a");
+			history.remove("b");
+			history.save();
+
+			History<String, String> loaded= new JournaledTestHistory();
+			assertFalse(loaded.containsKey("b"));
+			assertTrue(loaded.getPosition("c") == 0);
+			assertTrue(loaded.getPosition("a") == 1);
+		} finally {
+			file.delete();
+		}
+	}
 }
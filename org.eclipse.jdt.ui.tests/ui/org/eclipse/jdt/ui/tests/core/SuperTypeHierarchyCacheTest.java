@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class SuperTypeHierarchyCacheTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private ICompilationUnit fCuA;
+	private IType fTypeB;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		assertNotNull("jre is null", JavaProjectHelper.addRTJar(fJProject1));
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("pack1", false, null);
+		fCuA= pack1.createCompilationUnit("A.java", "package pack1;\npublic class A {\n}\n", false, null);
+		fTypeB= pack1.createCompilationUnit("B.java", "package pack1;\npublic class B extends A {\n}\n", false, null).getType("B");
+		SuperTypeHierarchyCache.clearCache();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SuperTypeHierarchyCache.clearCache();
+		// removes the stored hierarchies
+		SuperTypeHierarchyCache.saveHierarchies();
+		JavaProjectHelper.delete(fJProject1);
+	}
+
+	@Test
+	public void testStoredHierarchyIsLoaded() throws Exception {
+		SuperTypeHierarchyCache.getTypeHierarchy(fTypeB);
+		SuperTypeHierarchyCache.saveHierarchies();
+		SuperTypeHierarchyCache.clearCache();
+
+		int loads= SuperTypeHierarchyCache.getStoreLoads();
+		int misses= SuperTypeHierarchyCache.getCacheMisses();
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(fTypeB);
+		assertEquals(loads + 1, SuperTypeHierarchyCache.getStoreLoads());
+		assertEquals(misses, SuperTypeHierarchyCache.getCacheMisses());
+		assertEquals(fCuA.getType("A"), hierarchy.getSuperclass(fTypeB));
+		assertEquals(3, hierarchy.getAllTypes().length);
+
+		// a stored hierarchy is loaded only once per session
+		SuperTypeHierarchyCache.clearCache();
+		SuperTypeHierarchyCache.getTypeHierarchy(fTypeB);
+		assertEquals(loads + 1, SuperTypeHierarchyCache.getStoreLoads());
+		assertEquals(misses + 1, SuperTypeHierarchyCache.getCacheMisses());
+	}
+
+	@Test
+	public void testChangedTypeInvalidatesStoredHierarchy() throws Exception {
+		SuperTypeHierarchyCache.getTypeHierarchy(fTypeB);
+		SuperTypeHierarchyCache.saveHierarchies();
+		SuperTypeHierarchyCache.clearCache();
+
+		fCuA.getBuffer().setContents("package pack1;\npublic class A extends Exception {\n}\n");
+		fCuA.save(null, true);
+
+		int loads= SuperTypeHierarchyCache.getStoreLoads();
+		int misses= SuperTypeHierarchyCache.getCacheMisses();
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(fTypeB);
+		assertEquals(loads, SuperTypeHierarchyCache.getStoreLoads());
+		assertEquals(misses + 1, SuperTypeHierarchyCache.getCacheMisses());
+		assertEquals("Exception", hierarchy.getSuperclass(fCuA.getType("A")).getElementName());
+	}
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class TypeNameIndexTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragmentRoot fSourceFolder;
+	private TypeNameIndex fIndex;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		assertNotNull("jre is null", JavaProjectHelper.addRTJar(fJProject1));
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		pack1.createCompilationUnit("NullPointerAnalyzer.java", "package test1;\npublic class NullPointerAnalyzer {\n	public static class Node {\n	}\n}\n", false, null);
+		pack1.createCompilationUnit("List.java", "package test1;\npublic interface List {\n}\n", false, null);
+		pack1.createCompilationUnit("Lister.java", "package test1;\npublic class Lister {\n}\n", false, null);
+		IPackageFragment pack2= fSourceFolder.createPackageFragment("test2", false, null);
+		pack2.createCompilationUnit("list.java", "package test2;\npublic class list {\n}\n", false, null);
+
+		fIndex= new TypeNameIndex();
+		assertTrue(fIndex.build(null));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fIndex.dispose();
+		JavaProjectHelper.delete(fJProject1);
+	}
+
+	/*
+	 * The names of the matches in the test packages, leaving out the types of the JRE.
+	 */
+	private List<String> query(String pattern) {
+		TypeNameMatch[] matches= fIndex.query(pattern);
+		assertNotNull("index not ready", matches);
+		List<String> result= new ArrayList<>();
+		for (TypeNameMatch match : matches) {
+			if (match.getPackageName().startsWith("test"))
+				result.add(match.getFullyQualifiedName());
+		}
+		return result;
+	}
+
+	@Test
+	public void testPrefix() throws Exception {
+		assertEquals(List.of("test1.NullPointerAnalyzer"), query("NullPointerA"));
+		assertEquals(List.of("test1.NullPointerAnalyzer"), query("nullpointera"));
+		assertEquals(List.of("test1.NullPointerAnalyzer.Node"), query("Node"));
+	}
+
+	@Test
+	public void testCamelCase() throws Exception {
+		assertEquals(List.of("test1.NullPointerAnalyzer"), query("NPA"));
+		assertEquals(List.of("test1.NullPointerAnalyzer"), query("NuPoAn"));
+	}
+
+	@Test
+	public void testWildcard() throws Exception {
+		assertEquals(List.of("test1.NullPointerAnalyzer"), query("*Analyzer"));
+		assertEquals(List.of("test1.NullPointerAnalyzer"), query("Null*Ana"));
+		assertEquals(List.of("test1.NullPointerAnalyzer.Node"), query("?ode"));
+	}
+
+	@Test
+	public void testRanking() throws Exception {
+		// exact matches of the same case first, then exact matches, then prefix matches
+		assertEquals(List.of("test2.list", "test1.List", "test1.Lister"), query("list"));
+		assertEquals(List.of("test1.List", "test2.list", "test1.Lister"), query("List"));
+	}
+
+	@Test
+	public void testChangedCompilationUnits() throws Exception {
+		IPackageFragment pack3= fSourceFolder.createPackageFragment("test3", false, null);
+		ICompilationUnit cu= pack3.createCompilationUnit("Analyzer.java", "package test3;\npublic class Analyzer {\n}\n", false, null);
+		assertEquals(List.of("test3.Analyzer"), query("Analyzer"));
+
+		cu.getBuffer().setContents("package test3;\npublic class Analyzer {\n	class Inner {\n	}\n}\n");
+		cu.save(null, true);
+		assertEquals(List.of("test3.Analyzer.Inner"), query("Inner"));
+
+		cu.delete(true, null);
+		assertEquals(List.of(), query("Analyzer"));
+
+		pack3.delete(true, null);
+		assertTrue(fIndex.isReady());
+	}
+
+	@Test
+	public void testClasspathChange() throws Exception {
+		JavaProjectHelper.addSourceContainer(fJProject1, "src2");
+		assertFalse(fIndex.isReady());
+		assertNull(fIndex.query("List"));
+
+		assertTrue(fIndex.build(null));
+		assertEquals(List.of("test1.List", "test2.list", "test1.Lister"), query("List"));
+	}
+}
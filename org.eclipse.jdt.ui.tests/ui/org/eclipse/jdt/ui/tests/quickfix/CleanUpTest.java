@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,9 +22,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.io.File;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,8 +44,13 @@ import org.eclipse.jdt.testplugin.TestOptions;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 
+import org.eclipse.text.edits.InsertEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
 
@@ -60,6 +69,9 @@ import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring.CleanUpChange;
+import org.eclipse.jdt.internal.corext.fix.CleanUpUndoJournal;
 import org.eclipse.jdt.internal.corext.fix.FixMessages;
 import org.eclipse.jdt.internal.corext.fix.UpdateProperty;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
@@ -67,6 +79,7 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.tests.core.rules.Java13ProjectTestSetup;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
@@ -19346,6 +19359,104 @@ public class CleanUpTest extends CleanUpTestCase {
 		assertRefactoringResultAsExpected(new ICompilationUnit[] {cu1}, new String[] {expected1}, null);
 	}
 
+	@Test
+	public void testApplyImmediately() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String sample1= "" //
+				+ "package test1;\n" //
+				+ "public class E1 {\n" //
+				+ "    void foo(int i) {\n" //
+				+ "        if (i == 0)\n" //
+				+ "            System.out.println(i);\n" //
+				+ "    }\n" //
+				+ "}\n";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", sample1, false, null);
+
+		String sample2= "" //
+				+ "package test1;\n" //
+				+ "public class E2 {\n" //
+				+ "    void bar(int i) {\n" //
+				+ "        while (i > 0)\n" //
+				+ "            i--;\n" //
+				+ "    }\n" //
+				+ "}\n";
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", sample2, false, null);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setApplyImmediately(true);
+		ICleanUp[] cleanUps= JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps();
+		performRefactoring(ref, new ICompilationUnit[] {cu1, cu2}, cleanUps, null);
+
+		String expected1= "" //
+				+ "package test1;\n" //
+				+ "public class E1 {\n" //
+				+ "    void foo(int i) {\n" //
+				+ "        if (i == 0) {\n" //
+				+ "            System.out.println(i);\n" //
+				+ "        }\n" //
+				+ "    }\n" //
+				+ "}\n";
+		String expected2= "" //
+				+ "package test1;\n" //
+				+ "public class E2 {\n" //
+				+ "    void bar(int i) {\n" //
+				+ "        while (i > 0) {\n" //
+				+ "            i--;\n" //
+				+ "        }\n" //
+				+ "    }\n" //
+				+ "}\n";
+		assertEquals(expected1, cu1.getSource());
+		assertEquals(expected2, cu2.getSource());
+
+		RefactoringCore.getUndoManager().performUndo(null, new NullProgressMonitor());
+
+		assertEquals(sample1, cu1.getSource());
+		assertEquals(sample2, cu2.getSource());
+	}
+
+	@Test
+	public void testApplyImmediatelyRestoreFails() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String sample= "" //
+				+ "package test1;\n" //
+				+ "public class E1 {\n" //
+				+ "}\n";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", sample, false, null);
+
+		CleanUpUndoJournal journal= new CleanUpUndoJournal("test", false);
+		CleanUpChange change= new CleanUpChange("test", cu1);
+		change.setEdit(new InsertEdit(sample.length(), "class E2 {\n}\n"));
+		journal.apply(change, cu1, new NullProgressMonitor());
+		File directory= journal.getDirectory();
+		assertTrue(directory.isDirectory());
+
+		// the restore fails once the compilation unit has been deleted
+		cu1.delete(true, null);
+		Change undo= journal.createUndoChange();
+		try {
+			undo.perform(new NullProgressMonitor());
+			fail("restore should fail");
+		} catch (CoreException e) {
+			// expected
+		} finally {
+			undo.dispose();
+		}
+
+		try {
+			// the kept journal holds the only copy of the original contents, even when it is old
+			assertTrue(directory.setLastModified(0));
+			CleanUpUndoJournal.deleteOrphans();
+			assertEquals(sample, new String(Files.readAllBytes(new File(directory, "0.txt").toPath()), StandardCharsets.UTF_8));
+		} finally {
+			journal.delete();
+		}
+		assertFalse(directory.exists());
+	}
+
 	@Test
 	public void testAddParentheses02() throws Exception {
 		//https://bugs.eclipse.org/bugs/show_bug.cgi?id=331845
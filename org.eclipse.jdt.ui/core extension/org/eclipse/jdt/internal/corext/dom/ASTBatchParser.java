@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,15 +39,41 @@ import org.eclipse.jdt.internal.ui.util.Progress;
  */
 public class ASTBatchParser {
 
-	private static final int MAX_AT_ONCE;
-	static {
-		long maxMemory= Runtime.getRuntime().maxMemory() / (1 << 20); // in MiB
+	private static final int MAX_AT_ONCE= getMaxAtOnce(Runtime.getRuntime().maxMemory() / (1 << 20));
 
-		if      (maxMemory >= 2000) MAX_AT_ONCE= 400;
-		else if (maxMemory >= 1500) MAX_AT_ONCE= 300;
-		else if (maxMemory >= 1000) MAX_AT_ONCE= 200;
-		else if (maxMemory >=  500) MAX_AT_ONCE= 100;
-		else                        MAX_AT_ONCE=  25;
+	private final int fMaxAtOnce;
+
+	/**
+	 * Creates a batch parser which sizes the subsets based on the maximum heap size.
+	 */
+	public ASTBatchParser() {
+		this(MAX_AT_ONCE);
+	}
+
+	/**
+	 * Creates a batch parser which creates at most <code>maxAtOnce</code> ASTs with one parser.
+	 *
+	 * @param maxAtOnce the maximum number of compilation units parsed at once
+	 * @since 3.32
+	 */
+	public ASTBatchParser(int maxAtOnce) {
+		fMaxAtOnce= Math.max(1, maxAtOnce);
+	}
+
+	/**
+	 * Returns the number of compilation units which can be parsed at once
+	 * without exceeding the given amount of memory.
+	 *
+	 * @param memory the available memory in MiB
+	 * @return the maximum number of compilation units to parse at once
+	 * @since 3.32
+	 */
+	public static int getMaxAtOnce(long memory) {
+		if      (memory >= 2000) return 400;
+		else if (memory >= 1500) return 300;
+		else if (memory >= 1000) return 200;
+		else if (memory >=  500) return 100;
+		else                     return  25;
 	}
 
 	/**
@@ -79,14 +105,14 @@ public class ASTBatchParser {
 		try {
 
 			for (ICompilationUnit[] units : splitByProject(compilationUnits)) {
-				if (units.length <= MAX_AT_ONCE) {
+				if (units.length <= fMaxAtOnce) {
 					createParser(units[0].getJavaProject()).createASTs(units, bindingKeys, requestor, Progress.subMonitor(monitor, units.length));
 				} else {
 					List<ICompilationUnit> list= Arrays.asList(units);
 					int end= 0;
 					int cursor= 0;
 					while (cursor < units.length) {
-						end= Math.min(end + MAX_AT_ONCE, units.length);
+						end= Math.min(end + fMaxAtOnce, units.length);
 						List<ICompilationUnit> toParse= list.subList(cursor, end);
 
 						createParser(units[0].getJavaProject()).createASTs(toParse.toArray(new ICompilationUnit[toParse.size()]), bindingKeys, requestor,
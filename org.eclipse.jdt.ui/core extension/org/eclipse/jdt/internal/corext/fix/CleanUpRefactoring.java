@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,16 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -326,13 +331,17 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private class CleanUpFixpointIterator {
 
 		private List<ParseListElement> fParseList;
+		private final CleanUpTarget[] fTargets;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
 		private final Map<String, String> fCleanUpOptions;
+		private final CleanUpUndoJournal fJournal;
 		private final int fSize;
 		private int fIndex;
 
-		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps, CleanUpUndoJournal journal) {
+			fTargets= targets;
+			fJournal= journal;
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
 
@@ -357,6 +366,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 
 		public void next(IProgressMonitor monitor) throws CoreException {
+			List<ParseListElement> processed= fParseList;
 			List<ICompilationUnit> parseList= new ArrayList<>();
 			List<ICompilationUnit> sourceList= new ArrayList<>();
 
@@ -383,21 +393,13 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
 				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
 				if (parseList.size() > 0) {
-					ASTBatchParser parser= new ASTBatchParser() {
-						@Override
-						protected ASTParser createParser(IJavaProject project) {
-							ASTParser result= createCleanUpASTParser();
-							result.setProject(project);
-
-							Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
-							options.putAll(fCleanUpOptions);
-							result.setCompilerOptions(options);
-							return result;
-						}
-					};
 					try {
 						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
-						parser.createASTs(units, new String[0], requestor, cuMonitor);
+						if (fThreadCount > 1 && units.length > 1) {
+							createASTsInParallel(units, requestor, cuMonitor);
+						} else {
+							createBatchParser(getMaxUnitsPerBatch()).createASTs(units, new String[0], requestor, cuMonitor);
+						}
 					} catch (FixCalculationException e) {
 						throw e.getException();
 					}
@@ -414,10 +416,100 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 				fParseList= requestor.getUndoneElements();
 				fIndex= cuMonitor.getIndex();
+
+				if (fJournal != null)
+					applyFinishedChanges(processed);
 			} finally {
 			}
 		}
 
+		private ASTBatchParser createBatchParser(int maxAtOnce) {
+			return new ASTBatchParser(maxAtOnce) {
+				@Override
+				protected ASTParser createParser(IJavaProject project) {
+					ASTParser result= createCleanUpASTParser();
+					result.setProject(project);
+
+					Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+					options.putAll(fCleanUpOptions);
+					result.setCompilerOptions(options);
+					return result;
+				}
+			};
+		}
+
+		/**
+		 * Parses the given compilation units in batches on a pool of {@link #fThreadCount} worker
+		 * threads. Clean ups are not required to be thread safe, therefore the fixes are computed
+		 * while holding the lock of the requestor, only the parsing and binding resolution runs
+		 * concurrently.
+		 * <p>
+		 * The first failure of a batch cancels the other batches. The failure is only rethrown
+		 * after all workers have stopped, so that no fix is computed while the caller already
+		 * releases the working copies.
+		 * </p>
+		 *
+		 * @param units the compilation units to parse
+		 * @param requestor the requestor computing the fixes
+		 * @param monitor the progress monitor
+		 */
+		private void createASTsInParallel(ICompilationUnit[] units, final CleanUpASTRequestor requestor, final CleanUpRefactoringProgressMonitor monitor) {
+			int batchSize= Math.min(getMaxUnitsPerBatch(), (units.length + fThreadCount - 1) / fThreadCount);
+			int batchCount= (units.length + batchSize - 1) / batchSize;
+
+			final AtomicReference<Throwable> failure= new AtomicReference<>();
+			final IProgressMonitor cancelMonitor= new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return failure.get() != null || monitor.isCanceled();
+				}
+			};
+			final ASTRequestor synchronizedRequestor= new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					synchronized (requestor) {
+						if (failure.get() != null)
+							return;
+						monitor.internalWorked(1);
+						requestor.acceptAST(source, ast);
+					}
+				}
+			};
+
+			ExecutorService executor= Executors.newFixedThreadPool(Math.min(fThreadCount, batchCount));
+			try {
+				for (int start= 0; start < units.length; start+= batchSize) {
+					final ICompilationUnit[] batch= Arrays.copyOfRange(units, start, Math.min(start + batchSize, units.length));
+					executor.execute(() -> {
+						try {
+							createBatchParser(batch.length).createASTs(batch, new String[0], synchronizedRequestor, cancelMonitor);
+						} catch (RuntimeException | Error e) {
+							failure.compareAndSet(null, e);
+						}
+					});
+				}
+			} finally {
+				executor.shutdown();
+				boolean interrupted= false;
+				while (!executor.isTerminated()) {
+					try {
+						executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+					} catch (InterruptedException e) {
+						// stop the workers, but still wait for them
+						interrupted= true;
+						failure.compareAndSet(null, new OperationCanceledException());
+					}
+				}
+				if (interrupted)
+					Thread.currentThread().interrupt();
+			}
+			Throwable t= failure.get();
+			if (t instanceof RuntimeException)
+				throw (RuntimeException) t;
+			if (t instanceof Error)
+				throw (Error) t;
+		}
+
 		public void dispose() {
 			for (ICompilationUnit cu : fWorkingCopies.values()) {
 				try {
@@ -438,40 +530,74 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return false;
 		}
 
-		public Change[] getResult() {
+		/**
+		 * Applies the changes of all processed compilation units which do not need to be
+		 * processed again and releases them.
+		 *
+		 * @param processed the elements processed by the last iteration
+		 * @throws CoreException if a change could not be applied
+		 */
+		private void applyFinishedChanges(List<ParseListElement> processed) throws CoreException {
+			HashSet<ICompilationUnit> undone= new HashSet<>();
+			for (ParseListElement element : fParseList) {
+				undone.add(element.getTarget().getCompilationUnit());
+			}
 
-			Change[] result= new Change[fSolutions.size()];
-			int i=0;
-			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
-				List<CleanUpChange> changes= entry.getValue();
-				ICompilationUnit unit= entry.getKey();
+			for (ParseListElement element : processed) {
+				ICompilationUnit unit= element.getTarget().getCompilationUnit();
+				if (undone.contains(unit))
+					continue;
 
-				int saveMode;
-				if (fLeaveFilesDirty) {
-					saveMode= TextFileChange.LEAVE_DIRTY;
-				} else {
-					saveMode= TextFileChange.KEEP_SAVE_STATE;
-				}
+				ICompilationUnit workingCopy= fWorkingCopies.remove(unit);
+				if (workingCopy != null)
+					workingCopy.discardWorkingCopy();
 
-				if (changes.size() == 1) {
-					CleanUpChange change= changes.get(0);
-					change.setSaveMode(saveMode);
-					result[i]= change;
-				} else {
-					MultiStateCompilationUnitChange mscuc= new MultiStateCompilationUnitChange(getChangeName(unit), unit);
-					for (CleanUpChange change : changes) {
-						mscuc.addChange(createGroupFreeChange(change));
-					}
-					mscuc.setSaveMode(saveMode);
-					result[i]= mscuc;
-				}
+				List<CleanUpChange> changes= fSolutions.remove(unit);
+				if (changes != null)
+					fJournal.apply(createChange(unit, changes), unit, new NullProgressMonitor());
+			}
+		}
+
+		public Change[] getResult() {
 
+			Change[] result= new Change[fSolutions.size()];
+			int i=0;
+			HashSet<ICompilationUnit> visited= new HashSet<>();
+			for (CleanUpTarget target : fTargets) {
+				ICompilationUnit unit= target.getCompilationUnit();
+				List<CleanUpChange> changes= fSolutions.get(unit);
+				if (changes == null || !visited.add(unit))
+					continue;
+
+				result[i]= createChange(unit, changes);
 				i++;
 			}
 
 			return result;
 		}
 
+		private Change createChange(ICompilationUnit unit, List<CleanUpChange> changes) {
+			int saveMode;
+			if (fLeaveFilesDirty) {
+				saveMode= TextFileChange.LEAVE_DIRTY;
+			} else {
+				saveMode= TextFileChange.KEEP_SAVE_STATE;
+			}
+
+			if (changes.size() == 1) {
+				CleanUpChange change= changes.get(0);
+				change.setSaveMode(saveMode);
+				return change;
+			} else {
+				MultiStateCompilationUnitChange mscuc= new MultiStateCompilationUnitChange(getChangeName(unit), unit);
+				for (CleanUpChange change : changes) {
+					mscuc.addChange(createGroupFreeChange(change));
+				}
+				mscuc.setSaveMode(saveMode);
+				return mscuc;
+			}
+		}
+
 		private TextChange createGroupFreeChange(CleanUpChange change) {
 			CleanUpChange result= new CleanUpChange(change.getName(), change.getCompilationUnit());
 			result.setEdit(change.getEdit());
@@ -494,6 +620,61 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	/**
+	 * Computes and applies the clean ups of all projects when performed. The changes of a
+	 * compilation unit are applied and released as soon as they have been computed, the original
+	 * contents are recorded in a {@link CleanUpUndoJournal}.
+	 */
+	private final class ApplyImmediatelyChange extends Change {
+
+		@Override
+		public String getName() {
+			return CleanUpRefactoring.this.getName();
+		}
+
+		@Override
+		public void initializeValidationData(IProgressMonitor pm) {
+		}
+
+		@Override
+		public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+			return new RefactoringStatus();
+		}
+
+		@Override
+		public Change perform(IProgressMonitor pm) throws CoreException {
+			CleanUpUndoJournal journal= new CleanUpUndoJournal(getName(), fLeaveFilesDirty);
+			boolean success= false;
+			pm.beginTask("", getCleanUpTargetsSize() * 2 * fCleanUps.size() + 4 * fCleanUps.size()); //$NON-NLS-1$
+			try {
+				RefactoringStatus status= cleanUpProjects(null, journal, pm);
+				if (status.hasFatalError())
+					throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, status.getMessageMatchingSeverity(RefactoringStatus.FATAL), null));
+				success= true;
+			} finally {
+				if (!success) {
+					try {
+						journal.restore(null);
+					} catch (CoreException e) {
+						JavaPlugin.log(e);
+					}
+				}
+				pm.done();
+			}
+
+			if (journal.isEmpty()) {
+				journal.delete();
+				return null;
+			}
+			return journal.createUndoChange();
+		}
+
+		@Override
+		public Object getModifiedElement() {
+			return null;
+		}
+	}
+
 	private static final RefactoringTickProvider CLEAN_UP_REFACTORING_TICK_PROVIDER= new RefactoringTickProvider(1, 1, 0, 0);
 
 	/**
@@ -502,6 +683,23 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * System property holding the default number of threads used to parse compilation units. The
+	 * default of <code>1</code> parses all compilation units on the calling thread.
+	 */
+	private static final String THREAD_COUNT_PROPERTY= "jdt.cleanUp.threads"; //$NON-NLS-1$
+
+	/**
+	 * System property holding the default heap budget in MiB for the ASTs of one batch. By default
+	 * the budget is derived from the maximum heap size.
+	 */
+	private static final String BATCH_MEMORY_PROPERTY= "jdt.cleanUp.batchMemory"; //$NON-NLS-1$
+
+	/**
+	 * System property which enables {@link #setApplyImmediately(boolean)} by default.
+	 */
+	private static final String APPLY_IMMEDIATELY_PROPERTY= "jdt.cleanUp.applyImmediately"; //$NON-NLS-1$
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -510,6 +708,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private boolean fUseOptionsFromProfile;
 
+	private int fThreadCount;
+	private int fBatchMemory;
+	private boolean fApplyImmediately;
+
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
 	}
@@ -519,6 +721,55 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fThreadCount= Integer.getInteger(THREAD_COUNT_PROPERTY, 1).intValue();
+		fBatchMemory= Integer.getInteger(BATCH_MEMORY_PROPERTY, -1).intValue();
+		fApplyImmediately= Boolean.getBoolean(APPLY_IMMEDIATELY_PROPERTY);
+	}
+
+	/**
+	 * Sets whether the change of a compilation unit is applied as soon as it has been computed.
+	 * <p>
+	 * If enabled, {@link #checkFinalConditions(IProgressMonitor)} only validates that the files can
+	 * be modified and the change returned by {@link #createChange(IProgressMonitor)} computes and
+	 * applies the clean ups when performed. No preview is available, but only the changes of the
+	 * compilation units in process are kept in memory. The original contents are journaled on disk
+	 * for the undo change and are restored if the clean up fails or is canceled. Non fatal
+	 * problems reported by the clean ups are ignored.
+	 * </p>
+	 *
+	 * @param applyImmediately <code>true</code> to apply the changes immediately
+	 */
+	public void setApplyImmediately(boolean applyImmediately) {
+		fApplyImmediately= applyImmediately;
+	}
+
+	/**
+	 * Sets the number of threads used to parse the compilation units of a project. Fixes are
+	 * still computed one compilation unit at a time and the resulting changes are ordered like
+	 * the clean up targets, independent of the number of threads.
+	 *
+	 * @param threadCount the number of threads, <code>1</code> to parse on the calling thread
+	 */
+	public void setThreadCount(int threadCount) {
+		fThreadCount= Math.max(1, threadCount);
+	}
+
+	/**
+	 * Sets the heap budget for the ASTs parsed together in one batch. With multiple threads, up
+	 * to one batch per thread is kept in memory.
+	 *
+	 * @param batchMemory the budget in MiB, or <code>-1</code> to derive it from the maximum heap
+	 *            size
+	 */
+	public void setBatchMemory(int batchMemory) {
+		fBatchMemory= batchMemory;
+	}
+
+	private int getMaxUnitsPerBatch() {
+		long batchMemory= fBatchMemory;
+		if (batchMemory <= 0)
+			batchMemory= Runtime.getRuntime().maxMemory() / (1 << 20) / Math.max(1, fThreadCount);
+		return ASTBatchParser.getMaxAtOnce(batchMemory);
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
@@ -623,31 +874,24 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 		RefactoringStatus result= new RefactoringStatus();
 
+		if (fApplyImmediately) {
+			List<IResource> files= new ArrayList<>(cuCount);
+			for (CleanUpTarget target : getCleanUpTargets()) {
+				files.add(target.getCompilationUnit().getResource());
+			}
+			fChange= new ApplyImmediatelyChange();
+			result.merge(Checks.validateModifiesFiles(files.toArray(new IFile[files.size()]), getValidationContext(), pm));
+			return result;
+		}
+
 		ICleanUp[] cleanUps= getCleanUps();
 		pm.beginTask("", cuCount * 2 * fCleanUps.size() + 4 * cleanUps.length); //$NON-NLS-1$
 		try {
 			DynamicValidationStateChange change= new DynamicValidationStateChange(getName());
 			change.setSchedulingRule(getSchedulingRule());
-			for (Entry<IJavaProject, List<CleanUpTarget>> entry : fProjects.entrySet()) {
-				IJavaProject project= entry.getKey();
-				List<CleanUpTarget> targetsList= entry.getValue();
-				CleanUpTarget[] targets= targetsList.toArray(new CleanUpTarget[targetsList.size()]);
-				if (fUseOptionsFromProfile) {
-					result.merge(setOptionsFromProfile(project, cleanUps));
-					if (result.hasFatalError())
-						return result;
-				}
-				result.merge(checkPreConditions(project, targets, Progress.subMonitor(pm, 3 * cleanUps.length)));
-				if (result.hasFatalError())
-					return result;
-				Change[] changes= cleanUpProject(project, targets, cleanUps, pm);
-				result.merge(checkPostConditions(Progress.subMonitor(pm, cleanUps.length)));
-				if (result.hasFatalError())
-					return result;
-				for (Change c : changes) {
-					change.add(c);
-				}
-			}
+			result.merge(cleanUpProjects(change, null, pm));
+			if (result.hasFatalError())
+				return result;
 			fChange= change;
 
 			List<IResource> files= new ArrayList<>();
@@ -660,6 +904,44 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		return result;
 	}
 
+	/**
+	 * Cleans up all projects.
+	 *
+	 * @param change the change to add the changes to, or <code>null</code> if the changes are
+	 *            applied immediately
+	 * @param journal the journal recording the immediately applied changes, or <code>null</code>
+	 * @param pm the progress monitor
+	 * @return the status of the clean ups
+	 * @throws CoreException if a clean up failed
+	 */
+	private RefactoringStatus cleanUpProjects(CompositeChange change, CleanUpUndoJournal journal, IProgressMonitor pm) throws CoreException {
+		RefactoringStatus result= new RefactoringStatus();
+		ICleanUp[] cleanUps= getCleanUps();
+		for (Entry<IJavaProject, List<CleanUpTarget>> entry : fProjects.entrySet()) {
+			IJavaProject project= entry.getKey();
+			List<CleanUpTarget> targetsList= entry.getValue();
+			CleanUpTarget[] targets= targetsList.toArray(new CleanUpTarget[targetsList.size()]);
+			if (fUseOptionsFromProfile) {
+				result.merge(setOptionsFromProfile(project, cleanUps));
+				if (result.hasFatalError())
+					return result;
+			}
+			result.merge(checkPreConditions(project, targets, Progress.subMonitor(pm, 3 * cleanUps.length)));
+			if (result.hasFatalError())
+				return result;
+			Change[] changes= cleanUpProject(project, targets, cleanUps, journal, pm);
+			result.merge(checkPostConditions(Progress.subMonitor(pm, cleanUps.length)));
+			if (result.hasFatalError())
+				return result;
+			if (change != null) {
+				for (Change c : changes) {
+					change.add(c);
+				}
+			}
+		}
+		return result;
+	}
+
 	private void findFilesToBeModified(CompositeChange change, List<IResource> result) throws JavaModelException {
 		for (Change child : change.getChildren()) {
 			if (child instanceof CompositeChange) {
@@ -672,8 +954,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
-	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
-		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps);
+	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, CleanUpUndoJournal journal, IProgressMonitor monitor) throws CoreException {
+		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps, journal);
 
 		IProgressMonitor subMonitor= Progress.subMonitor(monitor, 2 * targets.length * cleanUps.length);
 		subMonitor.beginTask("", targets.length); //$NON-NLS-1$
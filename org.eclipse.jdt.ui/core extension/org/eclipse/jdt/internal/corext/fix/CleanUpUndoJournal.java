@@ -0,0 +1,336 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring.CleanUpChange;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Records the original contents of the compilation units changed by a clean up which applies
+ * its changes immediately. The contents are written to disk, so only the names of the changed
+ * compilation units are kept in memory.
+ * <p>
+ * The journal is kept on disk and marked when restoring it fails, as it holds the only copy of the
+ * original contents. Marked journals are never deleted automatically. Unmarked journals left
+ * behind by previous sessions are deleted after a week, when the first journal of a session is
+ * written.
+ * </p>
+ *
+ * @see CleanUpRefactoring#setApplyImmediately(boolean)
+ */
+public class CleanUpUndoJournal {
+
+	private static final String JOURNAL_DIR= "cleanUpUndo"; //$NON-NLS-1$
+
+	/**
+	 * Marks a journal which has been kept because restoring it failed.
+	 */
+	private static final String KEPT_MARKER= "kept"; //$NON-NLS-1$
+
+	private static final long ORPHAN_AGE= TimeUnit.DAYS.toMillis(7);
+
+	private static boolean fgOrphansDeleted;
+
+	private static final class JournalEntry {
+
+		private final ICompilationUnit fCompilationUnit;
+		private final File fFile;
+		private final int fModifiedLength;
+		private final int fModifiedHashCode;
+
+		public JournalEntry(ICompilationUnit unit, File file, String modifiedContent) {
+			fCompilationUnit= unit;
+			fFile= file;
+			fModifiedLength= modifiedContent.length();
+			fModifiedHashCode= modifiedContent.hashCode();
+		}
+
+		public boolean isModified(String content) {
+			return content.length() != fModifiedLength || content.hashCode() != fModifiedHashCode;
+		}
+	}
+
+	/**
+	 * Restores the contents recorded in the journal.
+	 */
+	private final class JournalUndoChange extends Change {
+
+		@Override
+		public String getName() {
+			return fName;
+		}
+
+		@Override
+		public void initializeValidationData(IProgressMonitor pm) {
+		}
+
+		@Override
+		public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+			RefactoringStatus result= new RefactoringStatus();
+			for (JournalEntry entry : fEntries) {
+				ICompilationUnit unit= entry.fCompilationUnit;
+				if (!unit.exists() || entry.isModified(unit.getSource()))
+					result.addFatalError(Messages.format(FixMessages.CleanUpRefactoring_undo_modified_file, BasicElementLabels.getFileName(unit)));
+			}
+			return result;
+		}
+
+		@Override
+		public Change perform(IProgressMonitor pm) throws CoreException {
+			restore(pm);
+			return null;
+		}
+
+		@Override
+		public Object getModifiedElement() {
+			return null;
+		}
+
+		@Override
+		public void dispose() {
+			if (fRestoreFailed)
+				JavaPlugin.logErrorMessage(Messages.format(FixMessages.CleanUpRefactoring_undo_journal_kept, fDirectory));
+			else
+				delete();
+		}
+	}
+
+	private final String fName;
+	private final boolean fLeaveFilesDirty;
+	private final List<JournalEntry> fEntries;
+	private File fDirectory;
+	private boolean fRestoreFailed;
+
+	/**
+	 * Creates a new journal.
+	 *
+	 * @param name the name of the clean up
+	 * @param leaveFilesDirty <code>true</code> if the restored files should be left dirty
+	 */
+	public CleanUpUndoJournal(String name, boolean leaveFilesDirty) {
+		fName= name;
+		fLeaveFilesDirty= leaveFilesDirty;
+		fEntries= new ArrayList<>();
+	}
+
+	/**
+	 * Applies the given change to the given compilation unit and records the content of the
+	 * compilation unit before the change.
+	 *
+	 * @param change the change to apply, disposed afterwards
+	 * @param unit the compilation unit modified by the change
+	 * @param pm the progress monitor
+	 * @throws CoreException if the change is not valid or could not be applied
+	 */
+	public void apply(Change change, ICompilationUnit unit, IProgressMonitor pm) throws CoreException {
+		try {
+			String original= unit.getSource();
+			change.initializeValidationData(pm);
+			RefactoringStatus status= change.isValid(pm);
+			if (status.hasFatalError())
+				throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, status.getMessageMatchingSeverity(RefactoringStatus.FATAL), null));
+			File file= write(original);
+			change.perform(pm);
+			fEntries.add(new JournalEntry(unit, file, unit.getSource()));
+		} finally {
+			change.dispose();
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if no change has been applied
+	 */
+	public boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	/**
+	 * Returns the change which restores the recorded contents. The journal is deleted when the
+	 * returned change is disposed.
+	 *
+	 * @return the undo change
+	 */
+	public Change createUndoChange() {
+		return new JournalUndoChange();
+	}
+
+	/**
+	 * Restores the recorded contents in reverse order and deletes the journal. If a content cannot
+	 * be restored, the journal is kept and marked, and only the contents restored so far are
+	 * removed from it.
+	 *
+	 * @param pm the progress monitor
+	 * @throws CoreException if a content could not be restored
+	 */
+	public void restore(IProgressMonitor pm) throws CoreException {
+		if (pm == null)
+			pm= new NullProgressMonitor();
+		pm.beginTask("", fEntries.size()); //$NON-NLS-1$
+		try {
+			for (int i= fEntries.size() - 1; i >= 0; i--) {
+				JournalEntry entry= fEntries.get(i);
+				ICompilationUnit unit= entry.fCompilationUnit;
+				String original= read(entry.fFile);
+
+				CleanUpChange change= new CleanUpChange(fName, unit);
+				change.setEdit(new ReplaceEdit(0, unit.getSource().length(), original));
+				change.setSaveMode(fLeaveFilesDirty ? TextFileChange.LEAVE_DIRTY : TextFileChange.KEEP_SAVE_STATE);
+				change.initializeValidationData(pm);
+				try {
+					change.perform(pm);
+				} finally {
+					change.dispose();
+				}
+				fEntries.remove(i);
+				pm.worked(1);
+			}
+		} catch (CoreException | RuntimeException e) {
+			fRestoreFailed= true;
+			markKept();
+			throw e;
+		} finally {
+			pm.done();
+		}
+		fRestoreFailed= false;
+		delete();
+	}
+
+	/**
+	 * Returns the directory holding the journal on disk.
+	 *
+	 * @return the directory, or <code>null</code> if no content has been recorded yet or the
+	 *         journal has been deleted
+	 */
+	public File getDirectory() {
+		return fDirectory;
+	}
+
+	/**
+	 * Deletes the journal from disk.
+	 */
+	public void delete() {
+		fEntries.clear();
+		if (fDirectory != null) {
+			File[] files= fDirectory.listFiles();
+			if (files != null) {
+				for (File file : files) {
+					file.delete();
+				}
+			}
+			fDirectory.delete();
+			fDirectory= null;
+		}
+	}
+
+	private File write(String content) throws CoreException {
+		try {
+			if (fDirectory == null) {
+				Path parent= getJournalsLocation().toPath();
+				synchronized (CleanUpUndoJournal.class) {
+					if (!fgOrphansDeleted) {
+						fgOrphansDeleted= true;
+						deleteOrphans();
+					}
+				}
+				Files.createDirectories(parent);
+				fDirectory= Files.createTempDirectory(parent, null).toFile();
+			}
+			File file= new File(fDirectory, fEntries.size() + ".txt"); //$NON-NLS-1$
+			Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+			return file;
+		} catch (IOException e) {
+			throw createException(e);
+		}
+	}
+
+	/**
+	 * Marks the journal as kept, so that it is not deleted as an orphan.
+	 */
+	private void markKept() {
+		if (fDirectory == null)
+			return;
+		try {
+			Files.write(new File(fDirectory, KEPT_MARKER).toPath(), new byte[0]);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+	}
+
+	private static File getJournalsLocation() {
+		return JavaPlugin.getDefault().getStateLocation().append(JOURNAL_DIR).toFile();
+	}
+
+	/**
+	 * Deletes the journals left behind by previous sessions, e.g. after a crash, which have not
+	 * been modified for a week. Journals marked as kept after a failed restore are never deleted.
+	 * Runs before the first journal of a session is written.
+	 */
+	public static synchronized void deleteOrphans() {
+		File[] directories= getJournalsLocation().listFiles();
+		if (directories == null)
+			return;
+		long limit= System.currentTimeMillis() - ORPHAN_AGE;
+		for (File directory : directories) {
+			if (new File(directory, KEPT_MARKER).exists() || directory.lastModified() > limit)
+				continue;
+			File[] files= directory.listFiles();
+			if (files != null) {
+				for (File file : files) {
+					file.delete();
+				}
+			}
+			directory.delete();
+		}
+	}
+
+	private static String read(File file) throws CoreException {
+		try {
+			return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw createException(e);
+		}
+	}
+
+	private static CoreException createException(IOException e) {
+		return new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, FixMessages.CleanUpRefactoring_undo_journal_error, e));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,7 +62,8 @@ import org.eclipse.jdt.internal.ui.util.XmlProcessorFactoryJdtUi;
  * MAX_HISTORY_SIZE. If the list exceeds this size the eldest element is removed
  * from the list. An element can be added/renewed with a call to <code>accessed(Object)</code>.
  *
- * The history can be stored to/loaded from an xml file.
+ * The history can be stored to/loaded from an xml file. A {@link JournaledHistory} is instead
+ * stored in a {@link HistoryJournal}.
  *
  * @param <K> key type
  * @param <V> value type
@@ -73,6 +74,15 @@ public abstract class History<K, V> {
 	private static final String DEFAULT_INFO_NODE_NAME= "infoNode"; //$NON-NLS-1$
 	private static final int MAX_HISTORY_SIZE= 60;
 
+	/** The file extension of history journals */
+	private static final String JOURNAL_EXTENSION= ".history"; //$NON-NLS-1$
+	/** Journal record of an accessed element, moves the element to the newest position */
+	private static final int RECORD_ACCESSED= 1;
+	/** Journal record of a removed element */
+	private static final int RECORD_REMOVED= 2;
+	/** Journal record of an element whose stored data changed, does not move the element */
+	private static final int RECORD_UPDATED= 3;
+
 	private static JavaUIException createException(Throwable t, String message) {
 		return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, t));
 	}
@@ -83,6 +93,13 @@ public abstract class History<K, V> {
 	private final String fRootNodeName;
 	private final String fInfoNodeName;
 
+	/** The journal, or <code>null</code> if the history has not been loaded from a journal yet */
+	private HistoryJournal fJournal;
+	/** Whether the content still has to be loaded on first use */
+	private boolean fLoadPending;
+	/** Whether the journal has to be rewritten on the next save */
+	private boolean fNeedsCompaction;
+
 	public History(String fileName, String rootNodeName, String infoNodeName) {
 		fHistory= new LinkedHashMap<>(80, 0.75f, true) {
 			private static final long serialVersionUID= 1L;
@@ -102,34 +119,56 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void accessed(V object) {
+		ensureLoaded();
 		fHistory.put(getKey(object), object);
 		rebuildPositions();
+		record(RECORD_ACCESSED, object);
 	}
 
 	public synchronized boolean contains(V object) {
+		ensureLoaded();
 		return fHistory.containsKey(getKey(object));
 	}
 
 	public synchronized boolean containsKey(K key) {
+		ensureLoaded();
 		return fHistory.containsKey(key);
 	}
 
 	public synchronized boolean isEmpty() {
+		ensureLoaded();
 		return fHistory.isEmpty();
 	}
 
 	public synchronized Object remove(V object) {
-		Object removed= fHistory.remove(getKey(object));
+		ensureLoaded();
+		V removed= fHistory.remove(getKey(object));
 		rebuildPositions();
+		if (removed != null)
+			record(RECORD_REMOVED, removed);
 		return removed;
 	}
 
 	public synchronized Object removeKey(Object key) {
-		Object removed= fHistory.remove(key);
+		ensureLoaded();
+		V removed= fHistory.remove(key);
 		rebuildPositions();
+		if (removed != null)
+			record(RECORD_REMOVED, removed);
 		return removed;
 	}
 
+	/**
+	 * Records that the data stored for an element has changed.
+	 *
+	 * @param object the changed element
+	 * @see JournaledHistory#updated(Object)
+	 */
+	synchronized void recordUpdated(V object) {
+		if (fHistory.containsKey(getKey(object)))
+			record(RECORD_UPDATED, object);
+	}
+
 	/**
 	 * Normalized position in history of object denoted by key.
 	 * The position is a value between zero and one where zero
@@ -165,6 +204,15 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void load() {
+		if (isJournaled()) {
+			// the journal or xml file is read on first use
+			fLoadPending= true;
+			return;
+		}
+		loadXML();
+	}
+
+	private void loadXML() {
 		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
 		File file= stateLocation.toFile();
 		if (file.exists()) {
@@ -177,6 +225,10 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void save() {
+		if (isJournaled()) {
+			saveJournal();
+			return;
+		}
 		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
 		File file= stateLocation.toFile();
 		try (OutputStream out= new FileOutputStream(file)) {
@@ -189,10 +241,12 @@ public abstract class History<K, V> {
 	}
 
 	protected Set<K> getKeys() {
+		ensureLoaded();
 		return fHistory.keySet();
 	}
 
 	protected Collection<V> getValues() {
+		ensureLoaded();
 		return fHistory.values();
 	}
 
@@ -220,6 +274,88 @@ public abstract class History<K, V> {
 	 */
 	protected abstract K getKey(V object);
 
+	private void ensureLoaded() {
+		if (!fLoadPending)
+			return;
+		fLoadPending= false;
+		fJournal= new HistoryJournal(getJournalFile());
+		boolean loaded= false;
+		if (fJournal.exists()) {
+			try {
+				loaded= fJournal.read((kind, in) -> {
+					V object= journaled().readObject(in);
+					if (object == null)
+						return;
+					K key= getKey(object);
+					switch (kind) {
+						case RECORD_ACCESSED:
+							fHistory.put(key, object);
+							break;
+						case RECORD_REMOVED:
+							fHistory.remove(key);
+							break;
+						default:
+							// RECORD_UPDATED, the element data has been read already
+							break;
+					}
+				});
+			} catch (IOException e) {
+				JavaPlugin.log(e);
+				fHistory.clear();
+			}
+		} else {
+			// migrate the xml file
+			loadXML();
+		}
+		rebuildPositions();
+		fNeedsCompaction= !loaded;
+		journaled().loaded();
+	}
+
+	private void saveJournal() {
+		if (fJournal == null)
+			return;
+		try {
+			if (fNeedsCompaction || fJournal.needsCompaction(fHistory.size())) {
+				fJournal.startCompaction();
+				for (V object : fHistory.values()) {
+					fJournal.record(RECORD_ACCESSED, out -> journaled().writeObject(object, out));
+				}
+				fNeedsCompaction= false;
+			}
+			fJournal.flush();
+		} catch (IOException e) {
+			fNeedsCompaction= true;
+			JavaPlugin.log(e);
+		}
+	}
+
+	private void record(int kind, V object) {
+		if (fJournal == null)
+			return;
+		try {
+			fJournal.record(kind, out -> journaled().writeObject(object, out));
+		} catch (IOException e) {
+			fNeedsCompaction= true;
+			JavaPlugin.log(e);
+		}
+	}
+
+	private boolean isJournaled() {
+		return this instanceof JournaledHistory;
+	}
+
+	private JournaledHistory<K, V> journaled() {
+		return (JournaledHistory<K, V>) this;
+	}
+
+	private File getJournalFile() {
+		String name= fFileName;
+		if (name.endsWith(".xml")) //$NON-NLS-1$
+			name= name.substring(0, name.length() - 4);
+		return JavaPlugin.getDefault().getStateLocation().append(name + JOURNAL_EXTENSION).toFile();
+	}
+
 	private void rebuildPositions() {
 		fPositions.clear();
 		int pos=0;
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * An append-only binary journal of history changes.
+ * <p>
+ * A history records its changes with {@link #record(int, RecordWriter)} and appends them to the
+ * file with {@link #flush()}, instead of writing its complete content on every save. When loading,
+ * the records are replayed in order. Once the journal has grown much larger than the history, the
+ * history rewrites it with {@link #startCompaction()} followed by one record per live entry.
+ * </p>
+ * <p>
+ * The file starts with a magic number and a version, followed by records of the form
+ * <code>[int length][byte kind][payload]</code>. A truncated record at the end of the file, for
+ * example after a crash while appending, is ignored. Callers compact a journal that could not be
+ * read completely before appending to it again.
+ * </p>
+ * <p>
+ * This class is not thread safe, callers synchronize on the history.
+ * </p>
+ *
+ * @since 3.32
+ */
+public final class HistoryJournal {
+
+	/**
+	 * Reads the payload of a record.
+	 */
+	public interface RecordReader {
+		/**
+		 * Reads a record.
+		 *
+		 * @param kind the kind of the record
+		 * @param in the payload of the record
+		 * @throws IOException if the payload can not be read
+		 */
+		void read(int kind, DataInputStream in) throws IOException;
+	}
+
+	/**
+	 * Writes the payload of a record.
+	 */
+	public interface RecordWriter {
+		/**
+		 * Writes a record.
+		 *
+		 * @param out the stream to write the payload to
+		 * @throws IOException if the payload can not be written
+		 */
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	private static final int MAGIC= 0x4A484A4C;
+
+	private static final int VERSION= 1;
+
+	/** The minimum number of records before a journal is compacted */
+	private static final int MIN_COMPACTION_SIZE= 64;
+
+	/** The factor by which the records may outnumber the live entries before compaction */
+	private static final int COMPACTION_FACTOR= 4;
+
+	private final File fFile;
+
+	private final ByteArrayOutputStream fPending= new ByteArrayOutputStream();
+
+	private final DataOutputStream fPendingOut= new DataOutputStream(fPending);
+
+	private final ByteArrayOutputStream fPayload= new ByteArrayOutputStream();
+
+	private final DataOutputStream fPayloadOut= new DataOutputStream(fPayload);
+
+	/** The number of records in the file and in the pending buffer */
+	private int fRecordCount;
+
+	/** Whether the file is rewritten instead of appended to on the next flush */
+	private boolean fRewrite;
+
+	/**
+	 * Creates a journal.
+	 *
+	 * @param file the file of the journal
+	 */
+	public HistoryJournal(File file) {
+		fFile= file;
+	}
+
+	/**
+	 * Returns the file of this journal.
+	 *
+	 * @return the file
+	 */
+	public File getFile() {
+		return fFile;
+	}
+
+	/**
+	 * Tells whether the file of this journal exists.
+	 *
+	 * @return <code>true</code> if the file exists
+	 */
+	public boolean exists() {
+		return fFile.isFile();
+	}
+
+	/**
+	 * Replays the records in the file of this journal.
+	 *
+	 * @param reader the reader to pass the records to
+	 * @return <code>true</code> if all records have been read, <code>false</code> if the file ends
+	 *         with a truncated record and should be compacted
+	 * @throws IOException if the file can not be read or is not a journal
+	 */
+	public boolean read(RecordReader reader) throws IOException {
+		fRecordCount= 0;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				throw new IOException("Not a history journal: " + fFile); //$NON-NLS-1$
+			while (true) {
+				int length;
+				try {
+					length= in.readInt();
+				} catch (EOFException e) {
+					return true;
+				}
+				if (length < 1 || length > fFile.length())
+					return false;
+				byte[] record= new byte[length];
+				try {
+					in.readFully(record);
+				} catch (EOFException e) {
+					return false;
+				}
+				reader.read(record[0], new DataInputStream(new ByteArrayInputStream(record, 1, length - 1)));
+				fRecordCount++;
+			}
+		}
+	}
+
+	/**
+	 * Adds a record, which is written to the file on the next {@link #flush()}.
+	 *
+	 * @param kind the kind of the record, in [0, 127]
+	 * @param writer the writer of the payload
+	 * @throws IOException if the payload can not be written
+	 */
+	public void record(int kind, RecordWriter writer) throws IOException {
+		fPayload.reset();
+		fPayloadOut.writeByte(kind);
+		writer.write(fPayloadOut);
+		fPayloadOut.flush();
+		fPendingOut.writeInt(fPayload.size());
+		fPayload.writeTo(fPendingOut);
+		fRecordCount++;
+	}
+
+	/**
+	 * Tells whether the journal has grown enough to be compacted.
+	 *
+	 * @param liveCount the number of records a compacted journal would contain
+	 * @return <code>true</code> if the journal should be compacted
+	 */
+	public boolean needsCompaction(int liveCount) {
+		return fRecordCount > Math.max(MIN_COMPACTION_SIZE, liveCount * COMPACTION_FACTOR);
+	}
+
+	/**
+	 * Discards all records, so that the records added until the next {@link #flush()} replace the
+	 * content of the file.
+	 */
+	public void startCompaction() {
+		fPending.reset();
+		fRecordCount= 0;
+		fRewrite= true;
+	}
+
+	/**
+	 * Writes the pending records to the file.
+	 *
+	 * @throws IOException if the file can not be written
+	 */
+	public void flush() throws IOException {
+		if (fPending.size() == 0 && !fRewrite)
+			return;
+		if (fRewrite || !exists()) {
+			File parent= fFile.getAbsoluteFile().getParentFile();
+			parent.mkdirs();
+			File temp= File.createTempFile(fFile.getName(), ".tmp", parent); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					fPending.writeTo(out);
+				}
+				Files.move(temp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				temp.delete();
+			}
+		} else {
+			try (FileOutputStream out= new FileOutputStream(fFile, true)) {
+				fPending.writeTo(out);
+			}
+		}
+		fPending.reset();
+		fRewrite= false;
+	}
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * A {@link History} that is stored in a binary {@link HistoryJournal} instead of an xml file. The
+ * journal only appends the changes since the last save and is read lazily on first use. An
+ * existing xml file is migrated once when there is no journal yet.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @since 3.32
+ */
+public abstract class JournaledHistory<K, V> extends History<K, V> {
+
+	public JournaledHistory(String fileName, String rootNodeName, String infoNodeName) {
+		super(fileName, rootNodeName, infoNodeName);
+	}
+
+	public JournaledHistory(String fileName) {
+		super(fileName);
+	}
+
+	/**
+	 * Tells the history that the data stored for an element has changed without the element being
+	 * accessed, so that the change is saved with the next {@link #save()}.
+	 *
+	 * @param object the changed element
+	 */
+	protected void updated(V object) {
+		recordUpdated(object);
+	}
+
+	/**
+	 * Writes an element to a journal record.
+	 *
+	 * @param object the element to write
+	 * @param out the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	protected abstract void writeObject(V object, DataOutputStream out) throws IOException;
+
+	/**
+	 * Reads an element from a journal record written by {@link #writeObject(Object, DataOutputStream)}.
+	 *
+	 * @param in the stream to read from
+	 * @return the element, or <code>null</code> if it no longer exists
+	 * @throws IOException if reading fails
+	 */
+	protected abstract V readObject(DataInputStream in) throws IOException;
+
+	/**
+	 * Called after the content has been loaded lazily, before it is first used.
+	 */
+	protected void loaded() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
  package org.eclipse.jdt.internal.corext.util;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -57,7 +60,7 @@ import org.eclipse.jdt.internal.corext.CorextMessages;
 /**
  * History for the open type dialog. Object and keys are both {@link TypeNameMatch}s.
  */
-public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
+public class OpenTypeHistory extends JournaledHistory<TypeNameMatch, TypeNameMatch> {
 
 	private static class TypeHistoryDeltaListener implements IElementChangedListener {
 		@Override
@@ -169,6 +172,8 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	private volatile boolean fNeedsConsistencyCheck;
 	// Map of cached time stamps
 	private Map<TypeNameMatch, Long> fTimestampMapping;
+	// Serializes consistency checks, which do not hold the history lock while accessing the Java model
+	private final Object fCheckLock= new Object();
 
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
@@ -259,8 +264,12 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+		replace(old, newMatch, getContainerTimestamp(newMatch));
+	}
+
+	private synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch, long timestamp) {
 		fTimestampMapping.remove(old);
-		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
+		fTimestampMapping.put(newMatch, timestamp);
 		super.remove(old);
 		super.accessed(newMatch);
 	}
@@ -293,40 +302,64 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return object;
 	}
 
-	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		// Setting fNeedsConsistencyCheck is necessary here since
-		// markAsInconsistent isn't synchronized.
-		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
-		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
-		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
-		for (TypeNameMatch type : typesToCheck) {
-			long currentTimestamp= getContainerTimestamp(type);
-			Long lastTested= fTimestampMapping.get(type);
-			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
-				continue;
-			try {
-				IType jType= type.getType();
-				if (jType == null || !jType.exists()) {
-					remove(type);
-				} else {
-					// copy over the modifiers since they may have changed
-					int modifiers= jType.getFlags();
-					if (modifiers != type.getModifiers()) {
-						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
-					} else {
-						fTimestampMapping.put(type, currentTimestamp);
-					}
-				}
-			} catch (JavaModelException e) {
+	private void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+		// The Java model and the file system are accessed without holding the history lock, so
+		// that the dialogs and content assist can use the history while a check is running.
+		synchronized (fCheckLock) {
+			// Setting fNeedsConsistencyCheck is necessary here since
+			// markAsInconsistent isn't synchronized.
+			fNeedsConsistencyCheck= true;
+			List<TypeNameMatch> typesToCheck;
+			Map<TypeNameMatch, Long> lastTestedMapping;
+			synchronized (this) {
+				typesToCheck= new ArrayList<>(getKeys());
+				lastTestedMapping= new HashMap<>(fTimestampMapping);
+			}
+			monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
+			monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
+			for (TypeNameMatch type : typesToCheck) {
+				long currentTimestamp= getContainerTimestamp(type);
+				Long lastTested= lastTestedMapping.get(type);
+				if (lastTested == null || currentTimestamp == IResource.NULL_STAMP || currentTimestamp != lastTested.longValue() || isContainerDirty(type))
+					checkType(type, currentTimestamp);
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				monitor.worked(1);
+			}
+			monitor.done();
+			fNeedsConsistencyCheck= false;
+		}
+	}
+
+	private void checkType(TypeNameMatch type, long currentTimestamp) {
+		TypeNameMatch replacement= null;
+		boolean exists;
+		try {
+			IType jType= type.getType();
+			exists= jType != null && jType.exists();
+			if (exists) {
+				// copy over the modifiers since they may have changed
+				int modifiers= jType.getFlags();
+				if (modifiers != type.getModifiers())
+					replacement= SearchEngine.createTypeNameMatch(jType, modifiers);
+			}
+		} catch (JavaModelException e) {
+			exists= false;
+		}
+		synchronized (this) {
+			// the element may have been removed while it was checked
+			if (!contains(type))
+				return;
+			if (!exists) {
 				remove(type);
+			} else if (replacement != null) {
+				replace(type, replacement, currentTimestamp);
+			} else {
+				fTimestampMapping.put(type, currentTimestamp);
+				// save the checked time stamp, so that the check can be skipped after a restart
+				updated(type);
 			}
-			if (monitor.isCanceled())
-				throw new OperationCanceledException();
-			monitor.worked(1);
 		}
-		monitor.done();
-		fNeedsConsistencyCheck= false;
 	}
 
 	private long getContainerTimestamp(TypeNameMatch match) {
@@ -381,6 +414,37 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		save();
 	}
 
+	@Override
+	protected void writeObject(TypeNameMatch type, DataOutputStream out) throws IOException {
+		out.writeUTF(type.getType().getHandleIdentifier());
+		out.writeInt(type.getModifiers());
+		Long timestamp= fTimestampMapping.get(type);
+		out.writeLong(timestamp == null ? IResource.NULL_STAMP : timestamp.longValue());
+	}
+
+	@Override
+	protected TypeNameMatch readObject(DataInputStream in) throws IOException {
+		String handle= in.readUTF();
+		int modifiers= in.readInt();
+		long timestamp= in.readLong();
+
+		IJavaElement element= JavaCore.create(handle);
+		if (!(element instanceof IType))
+			return null;
+
+		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
+		if (timestamp != IResource.NULL_STAMP) {
+			fTimestampMapping.put(info, timestamp);
+		}
+		return info;
+	}
+
+	@Override
+	protected void loaded() {
+		// drop the time stamps of elements that have been removed while replaying the journal
+		fTimestampMapping.keySet().retainAll(getKeys());
+	}
+
 	@Override
 	protected TypeNameMatch createFromElement(Element type) {
 		String handle= type.getAttribute(NODE_HANDLE);
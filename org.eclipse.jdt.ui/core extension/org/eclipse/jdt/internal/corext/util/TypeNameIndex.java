@@ -0,0 +1,520 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.core.manipulation.util.Strings;
+import org.eclipse.jdt.internal.corext.CorextMessages;
+
+import org.eclipse.jdt.internal.ui.util.PatternMatcher;
+
+/**
+ * An in-memory index of the names of all types in the workspace. It answers the prefix, camel
+ * case and wildcard queries of the Open Type dialog with ranked results, without searching the
+ * Java indexes again.
+ * <p>
+ * The index is built by a background job with one search for all type names. It is kept up to
+ * date from Java element deltas: the types of changed compilation units are read from the Java
+ * model when the index is queried next, while class path changes, added or removed projects and
+ * changed libraries invalidate the index until the job has built it again. Queries on an invalid
+ * index return <code>null</code>, so that clients fall back to a search.
+ * </p>
+ *
+ * @since 3.32
+ */
+public final class TypeNameIndex {
+
+	/**
+	 * System property which disables the index of the Open Type dialog when set to
+	 * <code>false</code>.
+	 */
+	public static final String ENABLED_PROPERTY= "jdt.ui.typeNameIndex"; //$NON-NLS-1$
+
+	private static final long REBUILD_DELAY= 1000;
+
+	private static final TypeNameMatch[] NO_MATCHES= new TypeNameMatch[0];
+
+	private static final Comparator<TypeNameMatch> NAME_COMPARATOR= Comparator
+			.comparing((TypeNameMatch match) -> toLowerCase(match.getSimpleTypeName()))
+			.thenComparing(TypeNameMatch::getSimpleTypeName)
+			.thenComparing(TypeNameMatch::getFullyQualifiedName);
+
+	private static TypeNameIndex fgDefault;
+
+	private final class BuildJob extends Job {
+
+		public BuildJob() {
+			super(CorextMessages.TypeNameIndex_build);
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				if (!build(monitor))
+					schedule(REBUILD_DELAY);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (CoreException e) {
+				return e.getStatus();
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private final Object fLock= new Object();
+	/** The source types by primary compilation unit, the binary types by package fragment root. */
+	private Map<IJavaElement, TypeNameMatch[]> fMatches;
+	/** All matches sorted by {@link #NAME_COMPARATOR}, or <code>null</code> if not sorted yet. */
+	private TypeNameMatch[] fSortedMatches;
+	/** The lower case simple names of {@link #fSortedMatches}. */
+	private String[] fSortedNames;
+	private final Set<ICompilationUnit> fChangedUnits= new HashSet<>();
+	/** Increased whenever the index is invalidated, so that a build started before is discarded. */
+	private int fGeneration;
+
+	private final IElementChangedListener fListener;
+	private final BuildJob fBuildJob;
+	private volatile boolean fRebuildScheduled;
+
+	/**
+	 * Returns the index of the Open Type dialog, and schedules it to be built when it is first
+	 * requested.
+	 *
+	 * @return the index, or <code>null</code> if it is disabled by the {@link #ENABLED_PROPERTY}
+	 */
+	public static synchronized TypeNameIndex getDefault() {
+		if (fgDefault == null) {
+			if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, Boolean.TRUE.toString())))
+				return null;
+			fgDefault= new TypeNameIndex();
+			fgDefault.scheduleBuild();
+		}
+		return fgDefault;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgDefault == null)
+			return;
+		fgDefault.dispose();
+		fgDefault= null;
+	}
+
+	/**
+	 * Creates an empty index which listens to Java element changes. The index must be built with
+	 * {@link #build(IProgressMonitor)} or {@link #scheduleBuild()} before it answers queries.
+	 */
+	public TypeNameIndex() {
+		fBuildJob= new BuildJob();
+		fListener= new IElementChangedListener() {
+			@Override
+			public void elementChanged(ElementChangedEvent event) {
+				processDelta(event.getDelta());
+			}
+		};
+		JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Builds the index in a background job now and whenever it has been invalidated.
+	 */
+	public void scheduleBuild() {
+		fRebuildScheduled= true;
+		fBuildJob.schedule();
+	}
+
+	/**
+	 * Removes the Java element listener and releases the index.
+	 */
+	public void dispose() {
+		fRebuildScheduled= false;
+		JavaCore.removeElementChangedListener(fListener);
+		fBuildJob.cancel();
+		synchronized (fLock) {
+			fGeneration++;
+			fMatches= null;
+			fSortedMatches= null;
+			fSortedNames= null;
+			fChangedUnits.clear();
+		}
+	}
+
+	/**
+	 * Builds the index with a search for all type names in the workspace.
+	 *
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @return <code>true</code> if the index has been built, <code>false</code> if it has been
+	 *         invalidated during the search
+	 * @throws CoreException if the search fails
+	 */
+	public boolean build(IProgressMonitor monitor) throws CoreException {
+		int generation;
+		synchronized (fLock) {
+			generation= fGeneration;
+			// the search finds the current types of all compilation units, units changed during
+			// the search are read again by the next query
+			fChangedUnits.clear();
+		}
+		final Map<IJavaElement, List<TypeNameMatch>> matches= new HashMap<>();
+		TypeNameMatchRequestor requestor= new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				matches.computeIfAbsent(getContainer(match), container -> new ArrayList<>()).add(match);
+			}
+		};
+		new SearchEngine((WorkingCopyOwner) null).searchAllTypeNames(null, SearchPattern.R_PATTERN_MATCH, null, SearchPattern.R_PATTERN_MATCH,
+				IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+		Map<IJavaElement, TypeNameMatch[]> index= new HashMap<>(matches.size() * 2);
+		for (Map.Entry<IJavaElement, List<TypeNameMatch>> entry : matches.entrySet()) {
+			List<TypeNameMatch> list= entry.getValue();
+			index.put(entry.getKey(), list.toArray(new TypeNameMatch[list.size()]));
+		}
+		synchronized (fLock) {
+			if (generation != fGeneration)
+				return false;
+			fMatches= index;
+			fSortedMatches= null;
+			fSortedNames= null;
+		}
+		return true;
+	}
+
+	/**
+	 * @return <code>true</code> if the index has been built and not been invalidated since
+	 */
+	public boolean isReady() {
+		synchronized (fLock) {
+			return fMatches != null;
+		}
+	}
+
+	/**
+	 * Returns the types whose simple name matches the given pattern, see {@link PatternMatcher}.
+	 * Exact matches come first, then prefix matches, then the other matches, each preferring
+	 * matches of the same case and ordered by name.
+	 *
+	 * @param namePattern the pattern for the simple type name, the empty pattern matches all types
+	 * @return the matching types, or <code>null</code> if the index is not ready
+	 */
+	public TypeNameMatch[] query(String namePattern) {
+		updateChangedUnits();
+		TypeNameMatch[] sortedMatches;
+		String[] sortedNames;
+		synchronized (fLock) {
+			if (fMatches == null)
+				return null;
+			if (fSortedMatches == null)
+				sort();
+			sortedMatches= fSortedMatches;
+			sortedNames= fSortedNames;
+		}
+
+		// the arrays are not modified once sorted, so they are searched without holding the lock
+		PatternMatcher matcher= namePattern.length() > 0 ? new PatternMatcher(namePattern) : null;
+		String prefix= matcher != null ? toLowerCase(getLiteralPrefix(matcher)) : ""; //$NON-NLS-1$
+		List<TypeNameMatch> result= new ArrayList<>();
+		for (int i= lowerBound(sortedNames, prefix); i < sortedNames.length && sortedNames[i].startsWith(prefix); i++) {
+			if (matcher == null || matcher.matches(sortedMatches[i].getSimpleTypeName()))
+				result.add(sortedMatches[i]);
+		}
+		if (matcher != null) {
+			final String pattern= matcher.getPattern();
+			// the sort is stable, so matches of the same rank stay ordered by name
+			result.sort(Comparator.comparingInt((TypeNameMatch match) -> getRank(match.getSimpleTypeName(), pattern)));
+		}
+		return result.toArray(new TypeNameMatch[result.size()]);
+	}
+
+	/**
+	 * @return the number of indexed types, or 0 if the index is not ready
+	 */
+	public int size() {
+		updateChangedUnits();
+		synchronized (fLock) {
+			if (fMatches == null)
+				return 0;
+			int size= 0;
+			for (TypeNameMatch[] matches : fMatches.values()) {
+				size+= matches.length;
+			}
+			return size;
+		}
+	}
+
+	private void sort() {
+		List<TypeNameMatch> all= new ArrayList<>();
+		for (TypeNameMatch[] matches : fMatches.values()) {
+			all.addAll(Arrays.asList(matches));
+		}
+		TypeNameMatch[] sorted= all.toArray(new TypeNameMatch[all.size()]);
+		Arrays.sort(sorted, NAME_COMPARATOR);
+		String[] names= new String[sorted.length];
+		for (int i= 0; i < sorted.length; i++) {
+			names[i]= toLowerCase(sorted[i].getSimpleTypeName());
+		}
+		fSortedMatches= sorted;
+		fSortedNames= names;
+	}
+
+	/**
+	 * Returns the start of all names matched by the given pattern, ignoring case.
+	 *
+	 * @param matcher the matcher
+	 * @return the prefix shared by all matched names, possibly empty
+	 */
+	private static String getLiteralPrefix(PatternMatcher matcher) {
+		String pattern= matcher.getPattern();
+		switch (matcher.getMatchKind()) {
+			case SearchPattern.R_EXACT_MATCH:
+			case SearchPattern.R_PREFIX_MATCH:
+				return pattern;
+			case SearchPattern.R_PATTERN_MATCH:
+				int end= 0;
+				while (end < pattern.length() && pattern.charAt(end) != '*' && pattern.charAt(end) != '?')
+					end++;
+				return pattern.substring(0, end);
+			default:
+				// camel case patterns only fix the first character
+				return pattern.substring(0, 1);
+		}
+	}
+
+	private static int getRank(String name, String pattern) {
+		if (name.equals(pattern))
+			return 0;
+		if (name.equalsIgnoreCase(pattern))
+			return 1;
+		if (name.startsWith(pattern))
+			return 2;
+		if (Strings.startsWithIgnoreCase(name, pattern))
+			return 3;
+		return 4;
+	}
+
+	private static int lowerBound(String[] names, String prefix) {
+		int low= 0;
+		int high= names.length;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (names[mid].compareTo(prefix) < 0)
+				low= mid + 1;
+			else
+				high= mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Converts the characters one by one, so that the result has the length of the given string.
+	 *
+	 * @param s the string
+	 * @return the lower case string
+	 */
+	private static String toLowerCase(String s) {
+		char[] chars= s.toCharArray();
+		for (int i= 0; i < chars.length; i++) {
+			chars[i]= Character.toLowerCase(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	private static IJavaElement getContainer(TypeNameMatch match) {
+		ICompilationUnit unit= match.getType().getCompilationUnit();
+		if (unit != null)
+			return unit.getPrimary();
+		return match.getPackageFragmentRoot();
+	}
+
+	/**
+	 * Reads the types of the compilation units changed since the last query from the Java model.
+	 * The Java model is accessed without holding the lock of the index.
+	 */
+	private void updateChangedUnits() {
+		ICompilationUnit[] units;
+		int generation;
+		synchronized (fLock) {
+			if (fMatches == null || fChangedUnits.isEmpty())
+				return;
+			units= fChangedUnits.toArray(new ICompilationUnit[fChangedUnits.size()]);
+			fChangedUnits.clear();
+			generation= fGeneration;
+		}
+		Map<ICompilationUnit, TypeNameMatch[]> updates= new HashMap<>();
+		for (ICompilationUnit unit : units) {
+			updates.put(unit, readTypes(unit));
+		}
+		synchronized (fLock) {
+			if (generation != fGeneration || fMatches == null)
+				return;
+			for (Map.Entry<ICompilationUnit, TypeNameMatch[]> update : updates.entrySet()) {
+				if (update.getValue().length == 0)
+					fMatches.remove(update.getKey());
+				else
+					fMatches.put(update.getKey(), update.getValue());
+			}
+			fSortedMatches= null;
+			fSortedNames= null;
+		}
+	}
+
+	private static TypeNameMatch[] readTypes(ICompilationUnit unit) {
+		if (!unit.exists())
+			return NO_MATCHES;
+		try {
+			// includes the member types, but no local and anonymous types
+			IType[] types= unit.getAllTypes();
+			TypeNameMatch[] result= new TypeNameMatch[types.length];
+			for (int i= 0; i < types.length; i++) {
+				result[i]= SearchEngine.createTypeNameMatch(types[i], types[i].getFlags());
+			}
+			return result;
+		} catch (JavaModelException e) {
+			return NO_MATCHES;
+		}
+	}
+
+	private void invalidate() {
+		synchronized (fLock) {
+			fGeneration++;
+			fMatches= null;
+			fSortedMatches= null;
+			fSortedNames= null;
+			fChangedUnits.clear();
+		}
+		if (fRebuildScheduled)
+			fBuildJob.schedule(REBUILD_DELAY);
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+						| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					invalidate();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+						| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH)) != 0) {
+					invalidate();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (kind != IJavaElementDelta.CHANGED) {
+					packageChanged((IPackageFragment) element, kind == IJavaElementDelta.ADDED);
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit= (ICompilationUnit) element;
+				// the types of other working copies are not shown
+				if (JavaModelUtil.isPrimary(unit)) {
+					// also recorded while the index is built, as the search may have missed the change
+					synchronized (fLock) {
+						fChangedUnits.add(unit);
+					}
+				}
+				return;
+			case IJavaElement.CLASS_FILE:
+				invalidate();
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	/**
+	 * Updates the compilation units of an added or removed package. The deltas of such packages
+	 * do not report their compilation units.
+	 *
+	 * @param fragment the package
+	 * @param added <code>true</code> if the package has been added
+	 */
+	private void packageChanged(IPackageFragment fragment, boolean added) {
+		IPackageFragmentRoot root= (IPackageFragmentRoot) fragment.getParent();
+		try {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE) {
+				invalidate();
+				return;
+			}
+		} catch (JavaModelException e) {
+			// the root has been removed as well
+			invalidate();
+			return;
+		}
+		if (added) {
+			try {
+				ICompilationUnit[] units= fragment.getCompilationUnits();
+				synchronized (fLock) {
+					fChangedUnits.addAll(Arrays.asList(units));
+				}
+			} catch (JavaModelException e) {
+				// the package has been removed again
+			}
+			return;
+		}
+		synchronized (fLock) {
+			if (fMatches != null) {
+				for (IJavaElement container : fMatches.keySet()) {
+					if (container instanceof ICompilationUnit && fragment.equals(container.getParent()))
+						fChangedUnits.add((ICompilationUnit) container);
+				}
+			}
+		}
+	}
+}
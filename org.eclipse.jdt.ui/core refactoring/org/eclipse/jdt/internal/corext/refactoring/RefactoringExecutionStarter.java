@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,8 +41,6 @@ import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
 import org.eclipse.ltk.core.refactoring.participants.CopyRefactoring;
-import org.eclipse.ltk.core.refactoring.participants.DeleteRefactoring;
-import org.eclipse.ltk.core.refactoring.participants.MoveRefactoring;
 import org.eclipse.ltk.core.refactoring.participants.ProcessorBasedRefactoring;
 import org.eclipse.ltk.ui.refactoring.RefactoringWizard;
 import org.eclipse.ltk.ui.refactoring.resource.RenameResourceWizard;
@@ -83,7 +81,9 @@ import org.eclipse.jdt.internal.corext.refactoring.reorg.IReorgPolicy.ICopyPolic
 import org.eclipse.jdt.internal.corext.refactoring.reorg.IReorgPolicy.IMovePolicy;
 import org.eclipse.jdt.internal.corext.refactoring.reorg.JavaCopyProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.reorg.JavaDeleteProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.reorg.JavaDeleteRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.reorg.JavaMoveProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.reorg.JavaMoveRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.reorg.ReorgPolicyFactory;
 import org.eclipse.jdt.internal.corext.refactoring.sef.SelfEncapsulateFieldRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.structure.ChangeSignatureProcessor;
@@ -92,6 +92,7 @@ import org.eclipse.jdt.internal.corext.refactoring.structure.ExtractClassRefacto
 import org.eclipse.jdt.internal.corext.refactoring.structure.ExtractInterfaceProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.structure.ExtractSupertypeProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.structure.IntroduceParameterObjectProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.structure.JavaChangeSignatureRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.structure.MoveInnerToTopRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.structure.MoveInstanceMethodProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.structure.MoveStaticMembersProcessor;
@@ -217,7 +218,7 @@ public final class RefactoringExecutionStarter {
 				}
 			}
 
-			Refactoring refactoring= new ProcessorBasedRefactoring(processor);
+			Refactoring refactoring= new JavaChangeSignatureRefactoring(processor);
 			ChangeSignatureWizard wizard= new ChangeSignatureWizard(processor, refactoring);
 			new RefactoringStarter().activate(wizard, shell, wizard.getDefaultPageTitle(), IRefactoringSaveModes.SAVE_REFACTORING);
 		} catch (CoreException e) {
@@ -255,6 +256,8 @@ public final class RefactoringExecutionStarter {
 			} catch (InterruptedException e) {
 			}
 		} else {
+			// the wizard offers a preview of the changes
+			refactoring.setApplyImmediately(false);
 			CleanUpRefactoringWizard refactoringWizard= new CleanUpRefactoringWizard(refactoring, RefactoringWizard.WIZARD_BASED_USER_INTERFACE);
 			RefactoringStarter starter= new RefactoringStarter();
 			starter.activate(refactoringWizard, shell, actionName, IRefactoringSaveModes.SAVE_REFACTORING);
@@ -283,13 +286,13 @@ public final class RefactoringExecutionStarter {
 		JavaDeleteProcessor processor= new JavaDeleteProcessor(elements);
 		processor.setSuggestGetterSetterDeletion(false);
 		processor.setQueries(new ReorgQueries(shell));
-		Refactoring refactoring= new DeleteRefactoring(processor);
+		Refactoring refactoring= new JavaDeleteRefactoring(processor);
 		int stopSeverity= RefactoringCore.getConditionCheckingFailedSeverity();
 		new RefactoringExecutionHelper(refactoring, stopSeverity, IRefactoringSaveModes.SAVE_NOTHING, shell, new ProgressMonitorDialog(shell)).perform(false, false);
 	}
 
 	public static void startDeleteRefactoring(final Object[] elements, final Shell shell) throws CoreException {
-		Refactoring refactoring= new DeleteRefactoring(new JavaDeleteProcessor(elements));
+		Refactoring refactoring= new JavaDeleteRefactoring(new JavaDeleteProcessor(elements));
 		DeleteUserInterfaceManager.getDefault().getStarter(refactoring).activate(refactoring, shell, IRefactoringSaveModes.SAVE_NOTHING);
 	}
 
@@ -401,7 +404,7 @@ public final class RefactoringExecutionStarter {
 
 	public static void startMoveMethodRefactoring(final IMethod method, final Shell shell) {
 		MoveInstanceMethodProcessor processor= new MoveInstanceMethodProcessor(method, JavaPreferencesSettings.getCodeGenerationSettings(method.getJavaProject()));
-		Refactoring refactoring= new MoveRefactoring(processor);
+		Refactoring refactoring= new JavaMoveRefactoring(processor);
 		MoveInstanceMethodWizard wizard= new MoveInstanceMethodWizard(processor, refactoring);
 		new RefactoringStarter().activate(wizard, shell, RefactoringMessages.MoveInstanceMethodAction_dialog_title, IRefactoringSaveModes.SAVE_REFACTORING);
 	}
@@ -410,7 +413,7 @@ public final class RefactoringExecutionStarter {
 		IMovePolicy policy= ReorgPolicyFactory.createMovePolicy(resources, elements);
 		if (policy.canEnable()) {
 			JavaMoveProcessor processor= new JavaMoveProcessor(policy);
-			Refactoring refactoring= new MoveRefactoring(processor);
+			Refactoring refactoring= new JavaMoveRefactoring(processor);
 			RefactoringWizard wizard= new ReorgMoveWizard(processor, refactoring);
 			processor.setCreateTargetQueries(new CreateTargetQueries(wizard));
 			processor.setReorgQueries(new ReorgQueries(wizard));
@@ -427,7 +430,7 @@ public final class RefactoringExecutionStarter {
 		if (elements.length > 0)
 			project= elements[0].getJavaProject();
 		MoveStaticMembersProcessor processor= new MoveStaticMembersProcessor(elements, JavaPreferencesSettings.getCodeGenerationSettings(project));
-		Refactoring refactoring= new MoveRefactoring(processor);
+		Refactoring refactoring= new JavaMoveRefactoring(processor);
 		MoveMembersWizard wizard= new MoveMembersWizard(processor, refactoring);
 		new RefactoringStarter().activate(wizard, shell, RefactoringMessages.OpenRefactoringWizardAction_refactoring, IRefactoringSaveModes.SAVE_REFACTORING);
 	}
@@ -535,7 +538,7 @@ public final class RefactoringExecutionStarter {
 			}
 		}
 		if (processor != null) {
-			Refactoring refactoring= new ProcessorBasedRefactoring(processor);
+			Refactoring refactoring= new JavaChangeSignatureRefactoring(processor);
 			IntroduceParameterObjectWizard wizard= new IntroduceParameterObjectWizard(processor, refactoring);
 			new RefactoringStarter().activate(wizard, shell, RefactoringMessages.OpenRefactoringWizardAction_refactoring, IRefactoringSaveModes.SAVE_REFACTORING);
 		}
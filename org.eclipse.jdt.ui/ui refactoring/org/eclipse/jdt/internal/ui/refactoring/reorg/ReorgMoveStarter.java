@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,7 +27,6 @@ import org.eclipse.ui.PlatformUI;
 
 import org.eclipse.ltk.core.refactoring.Refactoring;
 import org.eclipse.ltk.core.refactoring.RefactoringCore;
-import org.eclipse.ltk.core.refactoring.participants.MoveRefactoring;
 import org.eclipse.ltk.ui.refactoring.RefactoringWizard;
 
 import org.eclipse.jdt.core.IJavaElement;
@@ -35,6 +34,7 @@ import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.corext.refactoring.reorg.IReorgDestination;
 import org.eclipse.jdt.internal.corext.refactoring.reorg.JavaMoveProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.reorg.JavaMoveRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.reorg.ReorgPolicyFactory;
 import org.eclipse.jdt.internal.corext.refactoring.reorg.IReorgPolicy.IMovePolicy;
 
@@ -65,7 +65,7 @@ public class ReorgMoveStarter {
 	}
 
 	public boolean run(Shell parent) throws InterruptedException, InvocationTargetException {
-		Refactoring ref= new MoveRefactoring(fMoveProcessor);
+		Refactoring ref= new JavaMoveRefactoring(fMoveProcessor);
 		if (fMoveProcessor.hasAllInputSet()) {
 			IRunnableContext context= PlatformUI.getWorkbench().getActiveWorkbenchWindow();
 			fMoveProcessor.setCreateTargetQueries(new CreateTargetQueries(parent));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -104,6 +105,7 @@ import org.eclipse.jdt.internal.corext.template.java.SWTContextType;
 import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
 import org.eclipse.jdt.internal.corext.util.QualifiedTypeNameHistory;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
 import org.eclipse.jdt.ui.JavaUI;
@@ -116,6 +118,7 @@ import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitDocumentProvider;
 import org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter;
 import org.eclipse.jdt.internal.ui.javaeditor.ICompilationUnitDocumentProvider;
 import org.eclipse.jdt.internal.ui.javaeditor.WorkingCopyManager;
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaReferenceCountBatch;
 import org.eclipse.jdt.internal.ui.javaeditor.saveparticipant.SaveParticipantRegistry;
 import org.eclipse.jdt.internal.ui.preferences.MembersOrderPreferenceCache;
 import org.eclipse.jdt.internal.ui.preferences.formatter.FormatterProfileStore;
@@ -449,6 +452,7 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 	/* package */ static void initializeAfterLoad(IProgressMonitor monitor) {
 		OpenTypeHistory.getInstance().checkConsistency(monitor);
+		new SuperTypeHierarchyWarmUpJob().schedule();
 	}
 
 	/*
@@ -493,7 +497,9 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 			}
 
 			if (fContentAssistHistory != null) {
-				ContentAssistHistory.store(fContentAssistHistory, getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
+				ContentAssistHistory.store(fContentAssistHistory, getContentAssistHistoryFile());
+				// drop an xml history that has been migrated to the journal
+				getPluginPreferences().setToDefault(PreferenceConstants.CODEASSIST_LRU_HISTORY);
 				fContentAssistHistory= null;
 			}
 
@@ -539,6 +545,9 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 			// must add here to guarantee that it is the first in the listener list
 
 			OpenTypeHistory.shutdown();
+
+			TypeNameIndex.shutdown();
+			JavaReferenceCountBatch.shutdown();
 		} finally {
 			super.stop(context);
 		}
@@ -993,10 +1002,18 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	public ContentAssistHistory getContentAssistHistory() {
 		if (fContentAssistHistory == null) {
 			try {
-				fContentAssistHistory= ContentAssistHistory.load(getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
+				fContentAssistHistory= ContentAssistHistory.load(getContentAssistHistoryFile());
 			} catch (CoreException x) {
 				log(x);
 			}
+			if (fContentAssistHistory == null) {
+				// migrate the xml history stored by earlier versions
+				try {
+					fContentAssistHistory= ContentAssistHistory.load(getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
+				} catch (CoreException x) {
+					log(x);
+				}
+			}
 			if (fContentAssistHistory == null)
 				fContentAssistHistory= new ContentAssistHistory();
 		}
@@ -1004,6 +1021,10 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		return fContentAssistHistory;
 	}
 
+	private File getContentAssistHistoryFile() {
+		return getStateLocation().append("ContentAssistHistory.history").toFile(); //$NON-NLS-1$
+	}
+
 	/**
 	 * Returns a section in the Java plugin's dialog settings. If the section doesn't exist yet, it is created.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -243,6 +243,8 @@ public final class JavaUIMessages extends NLS {
 
 	public static String InitializeAfterLoadJob_starter_job_name;
 
+	public static String SuperTypeHierarchyWarmUpJob_name;
+
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, JavaUIMessages.class);
 	}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IEditorReference;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.IWorkingSet;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+/**
+ * Computes the super type hierarchies of the types in the open editors and in the active working
+ * set in the background, so that the {@link SuperTypeHierarchyCache} can answer the first
+ * requests of the override indicators without computing a hierarchy in the UI thread.
+ * <p>
+ * The types of the active editor come first. Not more types than the cache can hold are warmed;
+ * projects in the working set are skipped, as they usually contain too many types.
+ * </p>
+ */
+public class SuperTypeHierarchyWarmUpJob extends Job {
+
+	public SuperTypeHierarchyWarmUpJob() {
+		super(JavaUIMessages.SuperTypeHierarchyWarmUpJob_name);
+		setSystem(true);
+		setPriority(Job.DECORATE);
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		List<IType> types= collectTypes(SuperTypeHierarchyCache.getCacheSize());
+		SubMonitor subMonitor= SubMonitor.convert(monitor, types.size());
+		try {
+			for (IType type : types) {
+				if (subMonitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				try {
+					if (type.exists())
+						SuperTypeHierarchyCache.getTypeHierarchy(type, subMonitor.split(1));
+					else
+						subMonitor.worked(1);
+				} catch (JavaModelException e) {
+					// the hierarchy is computed again on first use, warm the other types
+				}
+			}
+		} catch (OperationCanceledException e) {
+			return Status.CANCEL_STATUS;
+		}
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public boolean belongsTo(Object family) {
+		return JavaUI.ID_PLUGIN.equals(family);
+	}
+
+	private static List<IType> collectTypes(int max) {
+		Set<IJavaElement> elements= new LinkedHashSet<>();
+		if (PlatformUI.isWorkbenchRunning()) {
+			Display display= PlatformUI.getWorkbench().getDisplay();
+			if (!display.isDisposed())
+				display.syncExec(() -> collectElements(elements));
+		}
+		List<IType> types= new ArrayList<>(max);
+		for (IJavaElement element : elements) {
+			try {
+				addTypes(element, types, max);
+			} catch (JavaModelException e) {
+				// ignore the element
+			}
+			if (types.size() >= max)
+				break;
+		}
+		return types;
+	}
+
+	private static void collectElements(Set<IJavaElement> elements) {
+		IWorkbenchWindow window= PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+		IWorkbenchPage page= window != null ? window.getActivePage() : null;
+		if (page == null)
+			return;
+		IEditorPart activeEditor= page.getActiveEditor();
+		if (activeEditor != null)
+			addElement(JavaUI.getEditorInputTypeRoot(activeEditor.getEditorInput()), elements);
+		for (IEditorReference reference : page.getEditorReferences()) {
+			try {
+				addElement(JavaUI.getEditorInputTypeRoot(reference.getEditorInput()), elements);
+			} catch (PartInitException e) {
+				// ignore the editor
+			}
+		}
+		IWorkingSet workingSet= page.getAggregateWorkingSet();
+		if (workingSet != null && !workingSet.isEmpty()) {
+			for (IAdaptable adaptable : workingSet.getElements()) {
+				addElement(adaptable.getAdapter(IJavaElement.class), elements);
+			}
+		}
+	}
+
+	private static void addElement(IJavaElement element, Set<IJavaElement> elements) {
+		if (element != null)
+			elements.add(element);
+	}
+
+	private static void addTypes(IJavaElement element, List<IType> types, int max) throws JavaModelException {
+		switch (element.getElementType()) {
+			case IJavaElement.TYPE:
+				types.add((IType) element);
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				for (IType type : ((ICompilationUnit) element).getAllTypes()) {
+					if (types.size() >= max)
+						return;
+					types.add(type);
+				}
+				break;
+			case IJavaElement.CLASS_FILE:
+				IType type= ((ITypeRoot) element).findPrimaryType();
+				if (type != null)
+					types.add(type);
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				for (ICompilationUnit unit : ((IPackageFragment) element).getCompilationUnits()) {
+					if (types.size() >= max)
+						return;
+					addTypes(unit, types, max);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -302,7 +302,7 @@ public class IndentAction extends TextEditorAction {
 			if (!data.indent.equals(currentIndent)) {
 				edits.add(new ReplaceEdit(data.offset + shift, replaceLength, data.indent));
 				//We need to change the document, the indenter depends on it.
-				document.replace(data.offset, replaceLength, data.indent);
+				indenter.replace(data.offset, replaceLength, data.indent);
 				shift-= data.indent.length() - replaceLength;
 			}
 		}
@@ -548,7 +548,7 @@ public class IndentAction extends TextEditorAction {
 		// then just insert a tab.
 		if (fIsTabAction && caret == end && whiteSpaceLength(currentIndent, project) >= whiteSpaceLength(indent, project)) {
 			String tab= getTabEquivalent(project);
-			document.replace(caret, 0, tab);
+			indenter.replace(caret, 0, tab);
 			fCaretOffset= caret + tab.length();
 			return true;
 		}
@@ -561,7 +561,7 @@ public class IndentAction extends TextEditorAction {
 
 		// only change the document if it is a real change
 		if (!indent.equals(currentIndent)) {
-			document.replace(offset, length, indent);
+			indenter.replace(offset, length, indent);
 			return true;
 		} else
 			return false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2022 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -420,7 +420,7 @@ public final class IndentUtil {
 
 		// only change the document if it is a real change
 		if (!indent.equals(currentIndent)) {
-			document.replace(offset, length, indent);
+			indenter.replace(offset, length, indent);
 			return true;
 		}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Angelo ZERR.
+ * Copyright (c) 2018, 2026 Angelo ZERR and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,20 @@
 package org.eclipse.jdt.internal.ui.javaeditor;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.events.ControlAdapter;
+import org.eclipse.swt.events.ControlEvent;
+import org.eclipse.swt.events.ControlListener;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.IViewportListener;
 import org.eclipse.jface.text.source.ISourceViewer;
 import org.eclipse.jface.text.source.ISourceViewerExtension5;
 
@@ -30,18 +40,113 @@ import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
  */
 public class JavaCodeMiningReconciler implements IJavaReconcilingListener {
 
+	/**
+	 * The lines for which code minings are computed: the visible lines and a margin above and
+	 * below them. The range becomes stale when the code minings are computed again, i.e. when the
+	 * document is changed, when lines outside of the range become visible, or when the editor is
+	 * closed.
+	 *
+	 * @since 3.32
+	 */
+	public static final class MiningRange {
+
+		private final int fFirstLine;
+		private final int fLastLine;
+		private final int fFirstVisibleLine;
+		private final int fLastVisibleLine;
+		private final AtomicInteger fGeneration;
+		private final int fRangeGeneration;
+
+		MiningRange(int firstLine, int lastLine, int firstVisibleLine, int lastVisibleLine, AtomicInteger generation) {
+			fFirstLine= firstLine;
+			fLastLine= lastLine;
+			fFirstVisibleLine= firstVisibleLine;
+			fLastVisibleLine= lastVisibleLine;
+			fGeneration= generation;
+			fRangeGeneration= generation.get();
+		}
+
+		/**
+		 * @param line a document line
+		 * @return <code>true</code> if code minings are computed for the line
+		 */
+		public boolean contains(int line) {
+			return line >= fFirstLine && line <= fLastLine;
+		}
+
+		/**
+		 * @param line a document line
+		 * @return <code>true</code> if the line is visible, so that its code minings should be
+		 *         resolved first
+		 */
+		public boolean isVisible(int line) {
+			return line >= fFirstVisibleLine && line <= fLastVisibleLine;
+		}
+
+		public int getFirstLine() {
+			return fFirstLine;
+		}
+
+		public int getLastLine() {
+			return fLastLine;
+		}
+
+		/**
+		 * @return <code>true</code> if the code minings computed for this range are replaced, so
+		 *         that pending resolutions of them can be dropped
+		 */
+		public boolean isStale() {
+			return fGeneration.get() != fRangeGeneration;
+		}
+	}
+
+	/**
+	 * System property to compute the code minings of all lines instead of the lines around the
+	 * viewport only.
+	 *
+	 * @since 3.32
+	 */
+	public static final String VIEWPORT_LIMITED_PROPERTY= "jdt.codeMining.viewportLimited"; //$NON-NLS-1$
+
+	/**
+	 * The minimal number of lines above and below the visible lines for which code minings are
+	 * computed. The margin is at least the number of visible lines.
+	 */
+	private static final int MIN_MARGIN_LINES= 50;
+
 	/**
 	 * Stores the set of viewers for which source is reconciled and requests
 	 * for references can be performed.
 	 */
 	private static final Set<ISourceViewerExtension5> reconciledViewers= new HashSet<>();
 
+	/**
+	 * The installed reconcilers by their viewers.
+	 */
+	private static final Map<ISourceViewerExtension5, JavaCodeMiningReconciler> reconcilers= new ConcurrentHashMap<>();
+
 	/** The Java editor this Java code mining reconciler is installed on */
 	private JavaEditor fEditor;
 
 	/** The source viewer this Java code mining reconciler is installed on */
 	private ISourceViewerExtension5 fSourceViewer;
 
+	/** The first visible line, updated in the UI thread */
+	private volatile int fFirstVisibleLine= -1;
+
+	/** The last visible line, updated in the UI thread */
+	private volatile int fLastVisibleLine= -1;
+
+	/** The lines for which the code minings have been computed last, or <code>null</code> */
+	private volatile MiningRange fComputedRange;
+
+	/** Incremented when the computed ranges become stale, see {@link MiningRange#isStale()} */
+	private final AtomicInteger fGeneration= new AtomicInteger();
+
+	private IViewportListener fViewportListener;
+
+	private ControlListener fControlListener;
+
 
 	@Override
 	public void reconciled(CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor) {
@@ -56,6 +161,7 @@ public class JavaCodeMiningReconciler implements IJavaReconcilingListener {
 	public void aboutToBeReconciled() {
 		// interrupt code minings if modification occurs
 		reconciledViewers.remove(fSourceViewer);
+		fGeneration.incrementAndGet();
 	}
 
 	/**
@@ -76,13 +182,99 @@ public class JavaCodeMiningReconciler implements IJavaReconcilingListener {
 		if (fEditor instanceof CompilationUnitEditor) {
 			((CompilationUnitEditor) fEditor).addReconcileListener(this);
 		}
+		installViewportTracker(sourceViewer);
 		fSourceViewer.updateCodeMinings();
 	}
 
+	private void installViewportTracker(ISourceViewer sourceViewer) {
+		if (!Boolean.parseBoolean(System.getProperty(VIEWPORT_LIMITED_PROPERTY, Boolean.TRUE.toString())))
+			return;
+		StyledText textWidget= sourceViewer.getTextWidget();
+		if (textWidget == null || textWidget.isDisposed())
+			return;
+		fViewportListener= verticalOffset -> viewportChanged(sourceViewer);
+		sourceViewer.addViewportListener(fViewportListener);
+		fControlListener= new ControlAdapter() {
+			@Override
+			public void controlResized(ControlEvent e) {
+				viewportChanged(sourceViewer);
+			}
+		};
+		textWidget.addControlListener(fControlListener);
+		updateVisibleLines(sourceViewer);
+		reconcilers.put(fSourceViewer, this);
+	}
+
+	private void uninstallViewportTracker() {
+		if (fSourceViewer == null)
+			return;
+		reconcilers.remove(fSourceViewer);
+		ITextViewer textViewer= (ITextViewer) fSourceViewer;
+		if (fViewportListener != null) {
+			textViewer.removeViewportListener(fViewportListener);
+			fViewportListener= null;
+		}
+		StyledText textWidget= textViewer.getTextWidget();
+		if (fControlListener != null && textWidget != null && !textWidget.isDisposed()) {
+			textWidget.removeControlListener(fControlListener);
+		}
+		fControlListener= null;
+	}
+
+	private void updateVisibleLines(ITextViewer viewer) {
+		fFirstVisibleLine= viewer.getTopIndex();
+		fLastVisibleLine= viewer.getBottomIndex();
+	}
+
+	/**
+	 * Updates the visible lines and recomputes the code minings when lines outside of the
+	 * computed range have become visible. Called in the UI thread.
+	 *
+	 * @param viewer the viewer
+	 */
+	private void viewportChanged(ITextViewer viewer) {
+		updateVisibleLines(viewer);
+		MiningRange computed= fComputedRange;
+		ISourceViewerExtension5 sourceViewer= fSourceViewer;
+		if (computed != null && sourceViewer != null && (!computed.contains(fFirstVisibleLine) || !computed.contains(fLastVisibleLine))) {
+			fComputedRange= null;
+			fGeneration.incrementAndGet();
+			if (isReconciled(sourceViewer))
+				sourceViewer.updateCodeMinings();
+		}
+	}
+
+	private MiningRange computeMiningRange() {
+		int first= fFirstVisibleLine;
+		int last= fLastVisibleLine;
+		if (first < 0 || last < first)
+			return null;
+		int margin= Math.max(MIN_MARGIN_LINES, last - first + 1);
+		MiningRange range= new MiningRange(Math.max(0, first - margin), last + margin, first, last, fGeneration);
+		fComputedRange= range;
+		return range;
+	}
+
+	/**
+	 * Returns the lines for which code minings are to be computed for the given viewer. Code
+	 * minings of other lines are dropped and computed when the lines come close to the viewport.
+	 *
+	 * @param viewer the viewer
+	 * @return the lines for which code minings are computed, or <code>null</code> if the code
+	 *         minings of all lines are computed
+	 * @since 3.32
+	 */
+	public static MiningRange getMiningRange(ISourceViewerExtension5 viewer) {
+		JavaCodeMiningReconciler reconciler= reconcilers.get(viewer);
+		return reconciler != null ? reconciler.computeMiningRange() : null;
+	}
+
 	/**
 	 * Uninstall this reconciler from the editor.
 	 */
 	public void uninstall() {
+		fGeneration.incrementAndGet();
+		uninstallViewportTracker();
 		reconciledViewers.remove(fSourceViewer);
 		if (fEditor instanceof CompilationUnitEditor) {
 			((CompilationUnitEditor) fEditor).removeReconcileListener(this);
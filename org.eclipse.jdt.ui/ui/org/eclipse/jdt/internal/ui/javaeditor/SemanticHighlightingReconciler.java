@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,7 +25,10 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.ITextInputListener;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.TextPresentation;
@@ -39,11 +42,14 @@ import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
+import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.GuardedPattern;
 import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SimpleType;
@@ -323,6 +329,69 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 	}
 
+	/**
+	 * Tracks the document range changed since the last completed reconcile.
+	 *
+	 * @since 3.32
+	 */
+	private class DirtyRegionTracker implements IDocumentListener, ITextInputListener {
+
+		/*
+		 * @see org.eclipse.jface.text.IDocumentListener#documentAboutToBeChanged(org.eclipse.jface.text.DocumentEvent)
+		 */
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			if (!isBodyLocalChange(event.getDocument(), event.getOffset(), event.getLength()))
+				markAllDirty();
+		}
+
+		/*
+		 * @see org.eclipse.jface.text.IDocumentListener#documentChanged(org.eclipse.jface.text.DocumentEvent)
+		 */
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			String text= event.getText();
+			if (text != null && !isBodyLocalText(text))
+				markAllDirty();
+			addDirtyRange(event.getOffset(), event.getLength(), text == null ? 0 : text.length());
+		}
+
+		/*
+		 * @see org.eclipse.jface.text.ITextInputListener#inputDocumentAboutToBeChanged(org.eclipse.jface.text.IDocument, org.eclipse.jface.text.IDocument)
+		 */
+		@Override
+		public void inputDocumentAboutToBeChanged(IDocument oldInput, IDocument newInput) {
+			if (oldInput != null)
+				oldInput.removeDocumentListener(this);
+		}
+
+		/*
+		 * @see org.eclipse.jface.text.ITextInputListener#inputDocumentChanged(org.eclipse.jface.text.IDocument, org.eclipse.jface.text.IDocument)
+		 */
+		@Override
+		public void inputDocumentChanged(IDocument oldInput, IDocument newInput) {
+			markAllDirty();
+			if (newInput != null)
+				newInput.addDocumentListener(this);
+		}
+	}
+
+	/**
+	 * System property to disable the incremental reconcile of edits confined to a single method
+	 * body, e.g. for comparing against full reconciles.
+	 *
+	 * @since 3.32
+	 */
+	public static final String INCREMENTAL_RECONCILE_PROPERTY= "jdt.semanticHighlighting.incremental"; //$NON-NLS-1$
+
+	/**
+	 * Maximal length of replaced text which is inspected for structural characters, longer
+	 * replacements always cause a full reconcile.
+	 *
+	 * @since 3.32
+	 */
+	private static final int MAX_INSPECTED_LENGTH= 1000;
+
 	/** Position collector */
 	private PositionCollector fCollector= new PositionCollector();
 
@@ -373,12 +442,50 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private Highlighting fJobDeprecatedMemberHighlighting;
 
+	/**
+	 * Dirty region tracker, <code>null</code> if not installed.
+	 * @since 3.32
+	 */
+	private DirtyRegionTracker fDirtyRegionTracker;
+	/**
+	 * Lock for the dirty region state.
+	 * @since 3.32
+	 */
+	private final Object fDirtyRegionLock= new Object();
+	/**
+	 * Start offset of the region changed since the last completed reconcile, <code>-1</code> if none.
+	 * @since 3.32
+	 */
+	private int fDirtyRegionStart= -1;
+	/**
+	 * End offset (exclusive) of the region changed since the last completed reconcile.
+	 * @since 3.32
+	 */
+	private int fDirtyRegionEnd= -1;
+	/**
+	 * <code>true</code> iff the next reconcile must cover the whole AST.
+	 * @since 3.32
+	 */
+	private boolean fAllDirty= true;
+	/**
+	 * Number of document changes seen by the dirty region tracker.
+	 * @since 3.32
+	 */
+	private long fModificationCount;
+	/**
+	 * Value of {@link #fModificationCount} when the AST of the current reconcile was requested.
+	 * @since 3.32
+	 */
+	private long fReconcileModificationCount= -1;
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener#aboutToBeReconciled()
 	 */
 	@Override
 	public void aboutToBeReconciled() {
-		// Do nothing
+		synchronized (fDirtyRegionLock) {
+			fReconcileModificationCount= fModificationCount;
+		}
 	}
 
 	/*
@@ -406,11 +513,24 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (ast == null || fJobPresenter.isCanceled())
 				return;
 
-			ASTNode[] subtrees= getAffectedSubtrees(ast);
+			long modificationCount;
+			boolean allDirty;
+			int dirtyStart, dirtyEnd;
+			synchronized (fDirtyRegionLock) {
+				modificationCount= fReconcileModificationCount;
+				allDirty= forced || fAllDirty || modificationCount != fModificationCount || fDirtyRegionStart == -1;
+				dirtyStart= fDirtyRegionStart;
+				dirtyEnd= fDirtyRegionEnd;
+			}
+
+			ASTNode[] subtrees= allDirty ? new ASTNode[] { ast } : getAffectedSubtrees(ast, dirtyStart, dirtyEnd);
 			if (subtrees.length == 0)
 				return;
 
-			startReconcilingPositions();
+			if (subtrees[0] == ast)
+				startReconcilingPositions();
+			else
+				startReconcilingPositions(subtrees[0].getStartPosition(), subtrees[0].getLength());
 
 			if (!fJobPresenter.isCanceled()) {
 				fJobDeprecatedMemberHighlighting= null;
@@ -428,8 +548,16 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (!fJobPresenter.isCanceled())
 				textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
 
-			if (!fJobPresenter.isCanceled())
+			if (!fJobPresenter.isCanceled()) {
 				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
+				synchronized (fDirtyRegionLock) {
+					if (modificationCount == fModificationCount) {
+						fAllDirty= false;
+						fDirtyRegionStart= -1;
+						fDirtyRegionEnd= -1;
+					}
+				}
+			}
 
 			stopReconcilingPositions();
 		} finally {
@@ -444,11 +572,30 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	}
 
 	/**
+	 * Returns the subtrees that may be affected by the document changes in the given range. Edits
+	 * which are confined to the inside of a single method body cannot change the highlighting
+	 * outside of that body, all other edits affect the whole AST.
+	 *
 	 * @param node Root node
+	 * @param start the start offset of the changed range
+	 * @param end the end offset (exclusive) of the changed range
 	 * @return Array of subtrees that may be affected by past document changes
+	 * @since 3.32
 	 */
-	private ASTNode[] getAffectedSubtrees(ASTNode node) {
-		// TODO: only return nodes which are affected by document changes - would require an 'anchor' concept for taking distant effects into account
+	private ASTNode[] getAffectedSubtrees(ASTNode node, int start, int end) {
+		if (!Boolean.parseBoolean(System.getProperty(INCREMENTAL_RECONCILE_PROPERTY, "true"))) //$NON-NLS-1$
+			return new ASTNode[] { node };
+
+		ASTNode covering= NodeFinder.perform(node, start, end - start);
+		while (covering != null) {
+			if (covering instanceof Block && covering.getParent() instanceof MethodDeclaration) {
+				int bodyStart= covering.getStartPosition();
+				if (bodyStart < start && end < bodyStart + covering.getLength())
+					return new ASTNode[] { covering };
+				break;
+			}
+			covering= covering.getParent();
+		}
 		return new ASTNode[] { node };
 	}
 
@@ -460,6 +607,109 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fNOfRemovedPositions= fRemovedPositions.size();
 	}
 
+	/**
+	 * Start reconciling the positions in the given range, positions outside of it are retained.
+	 *
+	 * @param offset The range offset
+	 * @param length The range length
+	 * @since 3.32
+	 */
+	private void startReconcilingPositions(int offset, int length) {
+		List<Position> positions= new ArrayList<>();
+		fJobPresenter.addAllPositions(positions);
+		for (Position position : positions) {
+			if (position.isDeleted() || ((HighlightedPosition) position).isContained(offset, length))
+				fRemovedPositions.add(position);
+		}
+		fNOfRemovedPositions= fRemovedPositions.size();
+	}
+
+	/**
+	 * Adds the given document change to the dirty region.
+	 *
+	 * @param offset the offset of the change
+	 * @param length the length of the replaced text
+	 * @param textLength the length of the inserted text
+	 * @since 3.32
+	 */
+	private void addDirtyRange(int offset, int length, int textLength) {
+		synchronized (fDirtyRegionLock) {
+			fModificationCount++;
+			int delta= textLength - length;
+			int start= offset;
+			int end= offset + textLength;
+			if (fDirtyRegionStart != -1) {
+				if (fDirtyRegionStart < start)
+					start= fDirtyRegionStart;
+				int oldEnd= fDirtyRegionEnd > offset + length ? fDirtyRegionEnd + delta : fDirtyRegionEnd;
+				if (oldEnd > end)
+					end= oldEnd;
+			}
+			fDirtyRegionStart= start;
+			fDirtyRegionEnd= end;
+		}
+	}
+
+	/**
+	 * Marks the whole document as dirty.
+	 *
+	 * @since 3.32
+	 */
+	private void markAllDirty() {
+		synchronized (fDirtyRegionLock) {
+			fAllDirty= true;
+		}
+	}
+
+	/**
+	 * Tells whether replacing the given range can only affect the enclosing method body.
+	 *
+	 * @param document the document
+	 * @param offset the offset of the replaced range
+	 * @param length the length of the replaced range
+	 * @return <code>true</code> iff the replaced text contains no structural characters
+	 * @since 3.32
+	 */
+	private static boolean isBodyLocalChange(IDocument document, int offset, int length) {
+		if (length == 0)
+			return true;
+		if (length > MAX_INSPECTED_LENGTH)
+			return false;
+		try {
+			return isBodyLocalText(document.get(offset, length));
+		} catch (BadLocationException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Tells whether the given text contains no characters which could change the block structure
+	 * of the document, i.e. braces, comment delimiters, quotes and escapes.
+	 *
+	 * @param text the text
+	 * @return <code>true</code> iff the text cannot change the block structure
+	 * @since 3.32
+	 */
+	private static boolean isBodyLocalText(String text) {
+		if (text.length() > MAX_INSPECTED_LENGTH)
+			return false;
+		for (int i= 0, n= text.length(); i < n; i++) {
+			switch (text.charAt(i)) {
+				case '{':
+				case '}':
+				case '/':
+				case '*':
+				case '"':
+				case '\'':
+				case '\\':
+					return false;
+				default:
+					break;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Reconcile positions based on the AST subtrees
 	 *
@@ -543,6 +793,14 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fEditor= editor;
 		fSourceViewer= sourceViewer;
 
+		if (fSourceViewer != null) {
+			fDirtyRegionTracker= new DirtyRegionTracker();
+			fSourceViewer.addTextInputListener(fDirtyRegionTracker);
+			IDocument document= fSourceViewer.getDocument();
+			if (document != null)
+				document.addDocumentListener(fDirtyRegionTracker);
+		}
+
 		if (fEditor instanceof CompilationUnitEditor) {
 			if (registerAsEditorReconcilingListener()) {
 				((CompilationUnitEditor)fEditor).addReconcileListener(this);
@@ -586,6 +844,14 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			fEditor= null;
 		}
 
+		if (fDirtyRegionTracker != null) {
+			fSourceViewer.removeTextInputListener(fDirtyRegionTracker);
+			IDocument document= fSourceViewer.getDocument();
+			if (document != null)
+				document.removeDocumentListener(fDirtyRegionTracker);
+			fDirtyRegionTracker= null;
+		}
+
 		fSourceViewer= null;
 		fSemanticHighlightings= null;
 		fHighlightings= null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Angelo Zerr and others.
+ * Copyright (c) 2018, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.javaeditor.codemining;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 import org.eclipse.swt.events.MouseEvent;
@@ -27,6 +30,8 @@ import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler.MiningRange;
+
 /**
  * Abstract class for Java code mining.
  *
@@ -34,15 +39,38 @@ import org.eclipse.jdt.core.JavaModelException;
  */
 public abstract class AbstractJavaElementLineHeaderCodeMining extends LineHeaderCodeMining {
 
+	/**
+	 * Resolves the code minings of lines which are not visible, one at a time and with low
+	 * priority, so that they don't compete with the visible ones. Resolutions of code minings which
+	 * have been replaced in the meantime are dropped, so that the queue only holds current work.
+	 */
+	private static final ExecutorService idleExecutor= Executors.newSingleThreadExecutor(r -> {
+		Thread thread= new Thread(r, "Java Code Mining Idle Resolution"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		return thread;
+	});
+
 	private final IJavaElement element;
 
+	private volatile MiningRange idleRange;
+
 	public AbstractJavaElementLineHeaderCodeMining(IJavaElement element, IDocument document, ICodeMiningProvider provider,
 			Consumer<MouseEvent> action) throws JavaModelException, BadLocationException {
 		super(getLineNumber(element, document), document, provider, action);
 		this.element= element;
 	}
 
-	private static int getLineNumber(IJavaElement element, IDocument document)
+	/**
+	 * Returns the line of the code mining of the given element.
+	 *
+	 * @param element the java element
+	 * @param document the document
+	 * @return the line number
+	 * @throws JavaModelException when java error
+	 * @throws BadLocationException when the element is not in the document
+	 */
+	static int getLineNumber(IJavaElement element, IDocument document)
 			throws JavaModelException, BadLocationException {
 		ISourceRange r= ((ISourceReference) element).getNameRange();
 		int offset= r.getOffset();
@@ -58,4 +86,35 @@ public abstract class AbstractJavaElementLineHeaderCodeMining extends LineHeader
 		return element;
 	}
 
+	/**
+	 * Sets the range this code mining has been computed for if its line is not visible. The code
+	 * minings of lines which are not visible are resolved in idle time, unless the range is stale
+	 * by then.
+	 *
+	 * @param idleRange the range of the code mining, or <code>null</code> if the line is visible
+	 */
+	public void setIdleRange(MiningRange idleRange) {
+		this.idleRange= idleRange;
+	}
+
+	/**
+	 * Runs the given resolution of this code mining asynchronously, with low priority if the line
+	 * of the code mining is not visible.
+	 *
+	 * @param resolution the resolution
+	 * @return the future of the resolution
+	 */
+	protected CompletableFuture<Void> runAsync(Runnable resolution) {
+		MiningRange range= idleRange;
+		if (range == null) {
+			return CompletableFuture.runAsync(resolution);
+		}
+		return CompletableFuture.runAsync(() -> {
+			// a stale code mining is not shown anymore, its replacement is resolved instead
+			if (!range.isStale()) {
+				resolution.run();
+			}
+		}, idleExecutor);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Angelo Zerr and others.
+ * Copyright (c) 2017, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ClassInstanceCreation;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
@@ -36,9 +37,33 @@ public class CalleeJavaMethodParameterVisitor extends HierarchicalASTVisitor {
 
 	private final ICodeMiningProvider provider;
 
+	private final int rangeStart;
+
+	private final int rangeEnd;
+
 	public CalleeJavaMethodParameterVisitor(List<ICodeMining> minings, ICodeMiningProvider provider) {
+		this(minings, provider, 0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a visitor which only collects the code minings in the given range.
+	 *
+	 * @param minings the list to add the minings to
+	 * @param provider the code mining provider
+	 * @param rangeStart the start offset of the range
+	 * @param rangeEnd the end offset of the range
+	 */
+	public CalleeJavaMethodParameterVisitor(List<ICodeMining> minings, ICodeMiningProvider provider, int rangeStart, int rangeEnd) {
 		this.minings= minings;
 		this.provider= provider;
+		this.rangeStart= rangeStart;
+		this.rangeEnd= rangeEnd;
+	}
+
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		// skip the nodes outside of the range, their bindings are not resolved at all
+		return node.getStartPosition() <= rangeEnd && node.getStartPosition() + node.getLength() >= rangeStart;
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Angelo Zerr and others.
+ * Copyright (c) 2018, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler.MiningRange;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
 import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesPropertyTester;
 
@@ -100,7 +101,10 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 			try {
 				IJavaElement[] elements= unit.getChildren();
 				List<ICodeMining> minings= new ArrayList<>(elements.length);
-				collectMinings(unit, textEditor, unit.getChildren(), minings, viewer, monitor);
+				// the references of all elements are counted by a single search
+				JavaReferenceCountBatch batch= new JavaReferenceCountBatch();
+				MiningRange range= viewer instanceof ISourceViewerExtension5 ? JavaCodeMiningReconciler.getMiningRange((ISourceViewerExtension5) viewer) : null;
+				collectMinings(unit, textEditor, unit.getChildren(), minings, batch, range, viewer, monitor);
 				// interrupt if editor was marked to be reconciled in the meantime
 				if (viewer instanceof ISourceViewerExtension5) {
 					ISourceViewerExtension5 codeMiningViewer= (ISourceViewerExtension5)viewer;
@@ -124,12 +128,14 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 	 * @param textEditor the Java editor
 	 * @param elements the java elements to track
 	 * @param minings the current list of minings to update
+	 * @param batch the batch counting the references
+	 * @param range the lines to compute minings for, or <code>null</code> for all lines
 	 * @param viewer the viewer
 	 * @param monitor the monitor
 	 * @throws JavaModelException thrown when java model error
 	 */
 	private void collectMinings(ITypeRoot unit, ITextEditor textEditor, IJavaElement[] elements,
-			List<ICodeMining> minings, ITextViewer viewer, IProgressMonitor monitor) throws JavaModelException {
+			List<ICodeMining> minings, JavaReferenceCountBatch batch, MiningRange range, ITextViewer viewer, IProgressMonitor monitor) throws JavaModelException {
 
 		// Only Java editor is supported, see bug 541811
 		if(!(textEditor instanceof JavaEditor)) {
@@ -146,19 +152,37 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 				return;
 			}
 			if (element.getElementType() == IJavaElement.TYPE) {
-				collectMinings(unit, textEditor, ((IType) element).getChildren(), minings, viewer, monitor);
+				collectMinings(unit, textEditor, ((IType) element).getChildren(), minings, batch, range, viewer, monitor);
 			} else if ((element.getElementType() != IJavaElement.METHOD)
 					&& (element.getElementType() != IJavaElement.FIELD)) {
 				continue;
 			}
+			MiningRange idleRange= null;
+			if (range != null) {
+				// minings far from the viewport are dropped, they are computed when scrolled into view
+				int line;
+				try {
+					line= AbstractJavaElementLineHeaderCodeMining.getLineNumber(element, viewer.getDocument());
+				} catch (BadLocationException e) {
+					continue;
+				}
+				if (!range.contains(line)) {
+					continue;
+				}
+				if (!range.isVisible(line)) {
+					idleRange= range;
+				}
+			}
 			if (showReferences) {
 				try {
 					if ((showReferencesOnTypes && (element.getElementType() == IJavaElement.TYPE)) // Show references on types
 							|| (showReferencesOnMethods && (element.getElementType() == IJavaElement.METHOD)) // Show references on methods
 							|| (showReferencesOnFields && (element.getElementType() == IJavaElement.FIELD)) // Show references on fields
 					) {
-						minings.add(new JavaReferenceCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(),
-								this, showAtLeastOne));
+						JavaReferenceCodeMining mining= new JavaReferenceCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(),
+								this, showAtLeastOne, batch);
+						mining.setIdleRange(idleRange);
+						minings.add(mining);
 					}
 				} catch (BadLocationException e) {
 					// Should never occur
@@ -177,8 +201,10 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 				}
 				if (addMining) {
 					try {
-						minings.add(new JavaImplementationCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(), this,
-								showAtLeastOne));
+						JavaImplementationCodeMining mining= new JavaImplementationCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(), this,
+								showAtLeastOne);
+						mining.setIdleRange(idleRange);
+						minings.add(mining);
 					} catch (BadLocationException e) {
 						// Should never occur
 					}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Angelo Zerr and others.
+ * Copyright (c) 2019, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,7 +74,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 
 	@Override
 	protected CompletableFuture<Void> doResolve(ITextViewer viewer, IProgressMonitor monitor) {
-		return CompletableFuture.runAsync(() -> {
+		return runAsync(() -> {
 			try {
 				IJavaElement element= super.getElement();
 				if (element instanceof IType) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Angelo Zerr and others.
+ * Copyright (c) 2017, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,8 @@ import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.codemining.AbstractCodeMiningProvider;
 import org.eclipse.jface.text.codemining.ICodeMining;
@@ -38,6 +40,7 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler.MiningRange;
 
 /**
  * Java code mining provider to show method parameters code minings.
@@ -65,7 +68,8 @@ public class JavaMethodParameterCodeMiningProvider extends AbstractCodeMiningPro
 			try {
 				IJavaElement[] elements= unit.getChildren();
 				List<ICodeMining> minings= new ArrayList<>(elements.length);
-				collectLineContentCodeMinings(unit, minings);
+				MiningRange range= viewer instanceof ISourceViewerExtension5 ? JavaCodeMiningReconciler.getMiningRange((ISourceViewerExtension5) viewer) : null;
+				collectLineContentCodeMinings(unit, minings, viewer.getDocument(), range);
 				if (viewer instanceof ISourceViewerExtension5) {
 					ISourceViewerExtension5 codeMiningViewer= (ISourceViewerExtension5)viewer;
 					if (!JavaCodeMiningReconciler.isReconciled(codeMiningViewer)) {
@@ -82,9 +86,22 @@ public class JavaMethodParameterCodeMiningProvider extends AbstractCodeMiningPro
 		});
 	}
 
-	private void collectLineContentCodeMinings(ITypeRoot unit, List<ICodeMining> minings) {
+	private void collectLineContentCodeMinings(ITypeRoot unit, List<ICodeMining> minings, IDocument document, MiningRange range) {
 		CompilationUnit cu= getCompilationUnitNode(unit, true);
-		CalleeJavaMethodParameterVisitor visitor= new CalleeJavaMethodParameterVisitor(minings, this);
+		int rangeStart= 0;
+		int rangeEnd= Integer.MAX_VALUE;
+		if (range != null) {
+			try {
+				// minings far from the viewport are dropped, they are computed when scrolled into view
+				rangeStart= document.getLineOffset(Math.min(range.getFirstLine(), document.getNumberOfLines() - 1));
+				int lastLine= Math.min(range.getLastLine(), document.getNumberOfLines() - 1);
+				rangeEnd= document.getLineOffset(lastLine) + document.getLineLength(lastLine);
+			} catch (BadLocationException e) {
+				rangeStart= 0;
+				rangeEnd= Integer.MAX_VALUE;
+			}
+		}
+		CalleeJavaMethodParameterVisitor visitor= new CalleeJavaMethodParameterVisitor(minings, this, rangeStart, rangeEnd);
 		cu.accept(visitor);
 	}
 
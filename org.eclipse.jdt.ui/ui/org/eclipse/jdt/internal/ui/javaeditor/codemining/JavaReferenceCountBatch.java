@@ -0,0 +1,458 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesPropertyTester;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+/**
+ * Counts the references of the elements of one editor for the {@link JavaReferenceCodeMining}s
+ * with a single search.
+ * <p>
+ * The reference patterns of all elements are combined into one OR-pattern. A match is dispatched
+ * to the element whose name is referenced at the match; elements whose names are not unique in
+ * the batch, like overloaded methods and constructors, are searched separately. If a match can not
+ * be dispatched, all elements are searched separately.
+ * </p>
+ * <p>
+ * The counts are cached, so that reopening an editor does not search again. A Java element change
+ * in a project removes the counts of the elements which that project can reference, i.e. of the
+ * elements of the project and of its class path. Class path changes and added or removed projects
+ * remove all counts.
+ * </p>
+ *
+ * @since 3.32
+ */
+public class JavaReferenceCountBatch {
+
+	/**
+	 * The counts by the handle identifiers of the elements, see
+	 * {@link #getCacheKey(IJavaElement, boolean)}.
+	 */
+	private static final Map<String, Long> cache= new ConcurrentHashMap<>();
+
+	/**
+	 * Guards the modification stamp, so that counts searched before a change are not cached after
+	 * the change has removed the cached counts.
+	 */
+	private static final Object cacheLock= new Object();
+
+	private static long modificationStamp;
+
+	private static IElementChangedListener listener;
+
+	private final List<IJavaElement> elements= new ArrayList<>();
+
+	private Map<IJavaElement, Long> counts;
+
+	/**
+	 * Adds an element whose references are counted.
+	 *
+	 * @param element the element
+	 */
+	public synchronized void add(IJavaElement element) {
+		elements.add(element);
+		counts= null;
+	}
+
+	/**
+	 * Returns the number of references of the given element. The first call searches the
+	 * references of all elements of the batch which are not cached.
+	 *
+	 * @param element an element of the batch
+	 * @param monitor the progress monitor
+	 * @return the number of references
+	 * @throws CoreException if the search fails
+	 */
+	public synchronized long getCount(IJavaElement element, IProgressMonitor monitor) throws CoreException {
+		if (element == null) {
+			return 0;
+		}
+		if (counts == null) {
+			counts= computeCounts(monitor);
+		}
+		Long count= counts.get(element);
+		return count != null ? count.longValue() : countReferences(element, monitor);
+	}
+
+	private Map<IJavaElement, Long> computeCounts(IProgressMonitor monitor) throws CoreException {
+		installListener();
+		long stamp;
+		synchronized (cacheLock) {
+			stamp= modificationStamp;
+		}
+		boolean ignoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+
+		Map<IJavaElement, Long> result= new HashMap<>();
+		Map<String, List<IJavaElement>> elementsByName= new HashMap<>();
+		for (IJavaElement element : elements) {
+			Long cached= cache.get(getCacheKey(element, ignoreInaccurate));
+			if (cached != null) {
+				result.put(element, cached);
+			} else if (!result.containsKey(element)) {
+				elementsByName.computeIfAbsent(getName(element), n -> new ArrayList<>()).add(element);
+			}
+		}
+
+		List<IJavaElement> searchedSeparately= new ArrayList<>();
+		Map<String, IJavaElement> searchedTogether= new HashMap<>();
+		for (Map.Entry<String, List<IJavaElement>> entry : elementsByName.entrySet()) {
+			List<IJavaElement> named= entry.getValue();
+			if (named.size() == 1 && entry.getKey() != null) {
+				searchedTogether.put(entry.getKey(), named.get(0));
+			} else {
+				searchedSeparately.addAll(named);
+			}
+		}
+		if (searchedTogether.size() == 1) {
+			searchedSeparately.addAll(searchedTogether.values());
+			searchedTogether.clear();
+		}
+		if (!searchedTogether.isEmpty() && !countReferences(searchedTogether, ignoreInaccurate, result, monitor)) {
+			searchedSeparately.addAll(searchedTogether.values());
+		}
+		for (IJavaElement element : searchedSeparately) {
+			result.put(element, Long.valueOf(countReferences(element, monitor)));
+		}
+
+		synchronized (cacheLock) {
+			// the counts may be outdated if the Java elements changed during the search
+			if (stamp == modificationStamp) {
+				for (Map.Entry<IJavaElement, Long> entry : result.entrySet()) {
+					cache.put(getCacheKey(entry.getKey(), ignoreInaccurate), entry.getValue());
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Counts the references of the given elements with a single search.
+	 *
+	 * @param elementsByName the elements by their unique name
+	 * @param ignoreInaccurate <code>true</code> to ignore inaccurate matches
+	 * @param result the map to add the counts to
+	 * @param monitor the progress monitor
+	 * @return <code>false</code> if a match could not be dispatched to an element
+	 * @throws CoreException if the search fails
+	 */
+	private static boolean countReferences(Map<String, IJavaElement> elementsByName, boolean ignoreInaccurate, Map<IJavaElement, Long> result, IProgressMonitor monitor) throws CoreException {
+		SearchPattern pattern= null;
+		Map<IJavaElement, AtomicLong> elementCounts= new HashMap<>();
+		for (IJavaElement element : elementsByName.values()) {
+			SearchPattern elementPattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+			if (elementPattern == null) {
+				result.put(element, Long.valueOf(0));
+				continue;
+			}
+			pattern= pattern == null ? elementPattern : SearchPattern.createOrPattern(pattern, elementPattern);
+			elementCounts.put(element, new AtomicLong());
+		}
+		if (pattern == null) {
+			return true;
+		}
+		IJavaElement first= elementCounts.keySet().iterator().next();
+		boolean[] dispatched= { true };
+		Map<IOpenable, IBuffer> buffers= new HashMap<>();
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				createSearchScope(first), new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (match.getAccuracy() == SearchMatch.A_INACCURATE && ignoreInaccurate) {
+							return;
+						}
+						IJavaElement e= getReferencingElement(match);
+						if (e == null) {
+							return;
+						}
+						IJavaElement referenced= elementsByName.get(getReferencedName(e, match, buffers));
+						AtomicLong count= referenced != null ? elementCounts.get(referenced) : null;
+						if (count != null) {
+							count.incrementAndGet();
+						} else {
+							dispatched[0]= false;
+						}
+					}
+				}, monitor);
+		if (!dispatched[0]) {
+			return false;
+		}
+		for (Map.Entry<IJavaElement, AtomicLong> entry : elementCounts.entrySet()) {
+			result.put(entry.getKey(), Long.valueOf(entry.getValue().get()));
+		}
+		return true;
+	}
+
+	/**
+	 * Return the number of references for the given java element.
+	 *
+	 * @param element the java element.
+	 * @param monitor the monitor
+	 * @return the number of references for the given java element.
+	 * @throws CoreException throws when java error.
+	 */
+	public static long countReferences(IJavaElement element, IProgressMonitor monitor) throws CoreException {
+		if (element == null) {
+			return 0;
+		}
+		final AtomicLong count= new AtomicLong(0);
+		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		if (pattern == null) {
+			return 0;
+		}
+		SearchEngine engine= new SearchEngine();
+		final boolean ignoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				createSearchScope(element), new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (match.getAccuracy() == SearchMatch.A_INACCURATE && ignoreInaccurate) {
+							return;
+						}
+						if (getReferencingElement(match) != null) {
+							count.incrementAndGet();
+						}
+					}
+				}, monitor);
+
+		return count.get();
+	}
+
+	private static IJavaElement getReferencingElement(SearchMatch match) {
+		Object o= match.getElement();
+		if (o instanceof IJavaElement) {
+			IJavaElement e= (IJavaElement)o;
+			if (e.getAncestor(IJavaElement.COMPILATION_UNIT) != null
+					|| e.getAncestor(IJavaElement.CLASS_FILE) != null) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the simple name referenced at the given match, e.g. <code>foo</code> for a match
+	 * <code>foo(bar)</code>, <code>p.Foo</code> or <code>Foo#foo()</code>.
+	 *
+	 * @param element the element containing the match
+	 * @param match the match
+	 * @param buffers the buffers read so far
+	 * @return the name or <code>null</code> if the source of the match is not available
+	 * @throws JavaModelException if the source can not be read
+	 */
+	private static String getReferencedName(IJavaElement element, SearchMatch match, Map<IOpenable, IBuffer> buffers) throws JavaModelException {
+		if (match.getOffset() < 0 || match.getLength() <= 0) {
+			return null;
+		}
+		IOpenable openable= element.getOpenable();
+		if (openable == null) {
+			return null;
+		}
+		IBuffer buffer= buffers.get(openable);
+		if (buffer == null) {
+			buffer= openable.getBuffer();
+			if (buffer == null) {
+				return null;
+			}
+			buffers.put(openable, buffer);
+		}
+		if (match.getOffset() + match.getLength() > buffer.getLength()) {
+			return null;
+		}
+		String text= buffer.getText(match.getOffset(), match.getLength());
+		int end= text.indexOf('(');
+		if (end != -1) {
+			text= text.substring(0, end);
+		}
+		int start= 0;
+		for (int i= 0; i < text.length(); i++) {
+			char ch= text.charAt(i);
+			if (ch == '.' || ch == '#' || ch == ':' || ch == '>') {
+				start= i + 1;
+			}
+		}
+		String name= text.substring(start).trim();
+		return name.isEmpty() ? null : name;
+	}
+
+	/**
+	 * Returns the name under which the given element can be referenced, or <code>null</code> if
+	 * references do not always use the name, as for constructors.
+	 *
+	 * @param element the element
+	 * @return the name or <code>null</code>
+	 */
+	private static String getName(IJavaElement element) {
+		try {
+			if (element instanceof IMethod && ((IMethod) element).isConstructor()) {
+				return null;
+			}
+		} catch (JavaModelException e) {
+			return null;
+		}
+		return element.getElementName();
+	}
+
+	private static String getCacheKey(IJavaElement element, boolean ignoreInaccurate) {
+		return ignoreInaccurate ? element.getHandleIdentifier() : '~' + element.getHandleIdentifier();
+	}
+
+	/**
+	 * Create Java workspace scope.
+	 *
+	 * @param element IJavaElement to search references for
+	 *
+	 * @return the Java workspace scope.
+	 * @throws JavaModelException when java error.
+	 */
+	private static IJavaSearchScope createSearchScope(IJavaElement element) throws JavaModelException {
+		JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+		boolean isInsideJRE = factory.isInsideJRE(element);
+		IJavaSearchScope scope= factory.createWorkspaceScope(isInsideJRE);
+		return scope;
+	}
+
+	/**
+	 * Tells whether the number of references of the given element is cached. Used for testing.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the count is cached
+	 */
+	public static boolean isCached(IJavaElement element) {
+		boolean ignoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+		return cache.containsKey(getCacheKey(element, ignoreInaccurate));
+	}
+
+	/**
+	 * Removes the Java element listener and the cached counts. Called on shutdown.
+	 */
+	public static synchronized void shutdown() {
+		if (listener != null) {
+			JavaCore.removeElementChangedListener(listener);
+			listener= null;
+		}
+		cache.clear();
+	}
+
+	private static synchronized void installListener() {
+		if (listener == null) {
+			listener= event -> elementChanged(event.getDelta());
+			JavaCore.addElementChangedListener(listener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	private static void elementChanged(IJavaElementDelta delta) {
+		Set<IJavaProject> changedProjects= new HashSet<>();
+		boolean removeAll= collectChangedProjects(delta, changedProjects);
+		synchronized (cacheLock) {
+			modificationStamp++;
+			if (removeAll) {
+				cache.clear();
+			} else if (!changedProjects.isEmpty()) {
+				cache.keySet().removeIf(key -> isReferenceableFrom(key, changedProjects));
+			}
+		}
+	}
+
+	/**
+	 * Collects the projects whose code has changed.
+	 *
+	 * @param delta the delta
+	 * @param changedProjects the set to add the projects to
+	 * @return <code>true</code> if all counts may have changed
+	 */
+	private static boolean collectChangedProjects(IJavaElementDelta delta, Set<IJavaProject> changedProjects) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (collectChangedProjects(child, changedProjects)) {
+						return true;
+					}
+				}
+				// e.g. a changed external archive
+				return delta.getAffectedChildren().length == 0 && delta.getFlags() != 0;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+						| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					return true;
+				}
+				changedProjects.add((IJavaProject) element);
+				return false;
+			default:
+				// the delta of a reconciled working copy
+				IJavaProject project= element.getJavaProject();
+				if (project == null) {
+					return true;
+				}
+				changedProjects.add(project);
+				return false;
+		}
+	}
+
+	/**
+	 * Tells whether the code of one of the given projects can reference the element with the given
+	 * cache key.
+	 *
+	 * @param key the cache key
+	 * @param projects the projects
+	 * @return <code>true</code> if the element can be referenced or does not exist anymore
+	 */
+	private static boolean isReferenceableFrom(String key, Set<IJavaProject> projects) {
+		IJavaElement element= JavaCore.create(key.charAt(0) == '~' ? key.substring(1) : key);
+		if (element == null) {
+			return true;
+		}
+		for (IJavaProject project : projects) {
+			if (project.equals(element.getJavaProject()) || project.isOnClasspath(element)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
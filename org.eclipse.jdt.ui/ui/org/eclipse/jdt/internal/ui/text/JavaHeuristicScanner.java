@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITypedRegion;
 import org.eclipse.jface.text.Region;
@@ -32,6 +33,10 @@ import org.eclipse.jdt.ui.text.IJavaPartitions;
  *
  * <p>An instance holds some internal position in the document and is therefore not threadsafe.</p>
  *
+ * <p>The document is read in chunks into an internal buffer, which is kept as long as the
+ * modification stamp of the document does not change. Documents without modification stamp are
+ * read character by character.</p>
+ *
  * @since 3.0
  */
 public final class JavaHeuristicScanner implements Symbols {
@@ -47,6 +52,16 @@ public final class JavaHeuristicScanner implements Symbols {
 	 */
 	public static final int UNBOUND= -2;
 
+	/**
+	 * The size of the first chunk read into the buffer by a scan, doubled by each further read.
+	 * @since 3.32
+	 */
+	private static final int MIN_CHUNK_SIZE= 64;
+	/**
+	 * The size of the buffer.
+	 * @since 3.32
+	 */
+	private static final int BUFFER_SIZE= 1024;
 
 	/* character constants */
 	private static final char LBRACE= '{';
@@ -264,6 +279,44 @@ public final class JavaHeuristicScanner implements Symbols {
 	 * @since 3.2
 	 */
 	private ITypedRegion fCachedPartition= new TypedRegion(-1, 0, "__no_partition_at_all"); //$NON-NLS-1$
+	/**
+	 * The most recently used single character match.
+	 * @since 3.32
+	 */
+	private CharacterMatch fCharacterMatch;
+
+	/* buffered document content */
+
+	/**
+	 * The buffered characters of the document.
+	 * @since 3.32
+	 */
+	private final char[] fBuffer= new char[BUFFER_SIZE];
+	/**
+	 * The offset of the buffer in the document.
+	 * @since 3.32
+	 */
+	private int fBufferOffset;
+	/**
+	 * The number of valid characters in the buffer.
+	 * @since 3.32
+	 */
+	private int fBufferLength;
+	/**
+	 * The number of characters read by the next refill of the buffer.
+	 * @since 3.32
+	 */
+	private int fChunkSize= MIN_CHUNK_SIZE;
+	/**
+	 * The modification stamp of the document when the buffer was filled.
+	 * @since 3.32
+	 */
+	private long fBufferStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	/**
+	 * Whether the document is read through the buffer, only if changes can be detected.
+	 * @since 3.32
+	 */
+	private boolean fBuffered;
 
 	/* preset stop conditions */
 	private final StopCondition fNonWSDefaultPart= new NonWhitespaceDefaultPartition();
@@ -366,7 +419,7 @@ public final class JavaHeuristicScanner implements Symbols {
 
 			String identOrKeyword;
 			try {
-				identOrKeyword= fDocument.get(from, to - from);
+				identOrKeyword= getString(from, to);
 			} catch (BadLocationException e) {
 				return TokenEOF;
 			}
@@ -442,7 +495,7 @@ public final class JavaHeuristicScanner implements Symbols {
 
 			String identOrKeyword;
 			try {
-				identOrKeyword= fDocument.get(from, to - from);
+				identOrKeyword= getString(from, to);
 			} catch (BadLocationException e) {
 				return TokenEOF;
 			}
@@ -546,26 +599,22 @@ public final class JavaHeuristicScanner implements Symbols {
 	public int findClosingPeer(int start, int bound, final char openingPeer, final char closingPeer) {
 		Assert.isLegal(start >= 0);
 
-		try {
-			CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
-			int depth= 1;
-			start -= 1;
-			while (true) {
-				start= scanForward(start + 1, bound, match);
-				if (start == NOT_FOUND)
-					return NOT_FOUND;
-
-				if (fDocument.getChar(start) == openingPeer)
-					depth++;
-				else
-					depth--;
-
-				if (depth == 0)
-					return start;
-			}
+		CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
+		int depth= 1;
+		start -= 1;
+		while (true) {
+			start= scanForward(start + 1, bound, match);
+			if (start == NOT_FOUND)
+				return NOT_FOUND;
+
+			// the scan stopped at the peer
+			if (fChar == openingPeer)
+				depth++;
+			else
+				depth--;
 
-		} catch (BadLocationException e) {
-			return NOT_FOUND;
+			if (depth == 0)
+				return start;
 		}
 	}
 
@@ -601,26 +650,22 @@ public final class JavaHeuristicScanner implements Symbols {
 	public int findOpeningPeer(int start, int bound, char openingPeer, char closingPeer) {
 		Assert.isLegal(start < fDocument.getLength());
 
-		try {
-			final CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
-			int depth= 1;
-			start += 1;
-			while (true) {
-				start= scanBackward(start - 1, bound, match);
-				if (start == NOT_FOUND)
-					return NOT_FOUND;
-
-				if (fDocument.getChar(start) == closingPeer)
-					depth++;
-				else
-					depth--;
-
-				if (depth == 0)
-					return start;
-			}
+		final CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
+		int depth= 1;
+		start += 1;
+		while (true) {
+			start= scanBackward(start - 1, bound, match);
+			if (start == NOT_FOUND)
+				return NOT_FOUND;
+
+			// the scan stopped at the peer
+			if (fChar == closingPeer)
+				depth++;
+			else
+				depth--;
 
-		} catch (BadLocationException e) {
-			return NOT_FOUND;
+			if (depth == 0)
+				return start;
 		}
 	}
 
@@ -719,11 +764,12 @@ public final class JavaHeuristicScanner implements Symbols {
 
 		Assert.isLegal(bound <= fDocument.getLength());
 
+		validateBuffer();
 		try {
 			fPos= start;
 			while (fPos < bound) {
 
-				fChar= fDocument.getChar(fPos);
+				fChar= getChar(fPos, true);
 				if (condition.stop(fChar, fPos, true))
 					return fPos;
 
@@ -746,7 +792,7 @@ public final class JavaHeuristicScanner implements Symbols {
 	 * @return the lowest position of <code>ch</code> in (<code>bound</code>, <code>position</code>] that resides in a Java partition, or <code>NOT_FOUND</code> if none can be found
 	 */
 	public int scanForward(int position, int bound, char ch) {
-		return scanForward(position, bound, new CharacterMatch(ch));
+		return scanForward(position, bound, getCharacterMatch(ch));
 	}
 
 	/**
@@ -779,11 +825,12 @@ public final class JavaHeuristicScanner implements Symbols {
 		Assert.isLegal(bound >= -1);
 		Assert.isLegal(start < fDocument.getLength() );
 
+		validateBuffer();
 		try {
 			fPos= start;
 			while (fPos > bound) {
 
-				fChar= fDocument.getChar(fPos);
+				fChar= getChar(fPos, false);
 				if (condition.stop(fChar, fPos, false))
 					return fPos;
 
@@ -805,7 +852,7 @@ public final class JavaHeuristicScanner implements Symbols {
 	 * @return the highest position of one element in <code>chars</code> in (<code>bound</code>, <code>position</code>] that resides in a Java partition, or <code>NOT_FOUND</code> if none can be found
 	 */
 	public int scanBackward(int position, int bound, char ch) {
-		return scanBackward(position, bound, new CharacterMatch(ch));
+		return scanBackward(position, bound, getCharacterMatch(ch));
 	}
 
 	/**
@@ -822,6 +869,97 @@ public final class JavaHeuristicScanner implements Symbols {
 		return scanBackward(position, bound, new CharacterMatch(chars));
 	}
 
+	/**
+	 * Returns a match for a single character, reusing the most recently used one if possible.
+	 *
+	 * @param ch the character to match
+	 * @return the match for <code>ch</code>
+	 * @since 3.32
+	 */
+	private CharacterMatch getCharacterMatch(char ch) {
+		if (fCharacterMatch == null || fCharacterMatch.fChars[0] != ch)
+			fCharacterMatch= new CharacterMatch(ch);
+		return fCharacterMatch;
+	}
+
+	/**
+	 * Discards the buffered document content if the document may have changed since it was read.
+	 *
+	 * @since 3.32
+	 */
+	private void validateBuffer() {
+		long stamp= fDocument instanceof IDocumentExtension4 ? ((IDocumentExtension4) fDocument).getModificationStamp() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		if (stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP || stamp != fBufferStamp) {
+			fBufferLength= 0;
+			fChunkSize= MIN_CHUNK_SIZE;
+			fBufferStamp= stamp;
+		}
+		fBuffered= stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
+	/**
+	 * Returns the character at <code>position</code>, refilling the buffer if it does not
+	 * contain the position.
+	 *
+	 * @param position the position of the character
+	 * @param forward <code>true</code> if the scan is going forward, used to place the next chunk
+	 * @return the character at <code>position</code>
+	 * @throws BadLocationException if <code>position</code> is not a valid position in the document
+	 * @since 3.32
+	 */
+	private char getChar(int position, boolean forward) throws BadLocationException {
+		if (!fBuffered)
+			return fDocument.getChar(position);
+
+		int index= position - fBufferOffset;
+		if (index < 0 || index >= fBufferLength) {
+			fillBuffer(position, forward);
+			index= position - fBufferOffset;
+		}
+		return fBuffer[index];
+	}
+
+	/**
+	 * Reads a chunk of the document starting (forward) or ending (backward) at
+	 * <code>position</code> into the buffer. Short scans only read a small chunk, the chunks grow
+	 * as a scan continues.
+	 *
+	 * @param position the position that must be contained in the buffer
+	 * @param forward <code>true</code> to read the chunk following <code>position</code>,
+	 *            <code>false</code> to read the chunk preceding it
+	 * @throws BadLocationException if <code>position</code> is not a valid position in the document
+	 * @since 3.32
+	 */
+	private void fillBuffer(int position, boolean forward) throws BadLocationException {
+		int length= fDocument.getLength();
+		if (position < 0 || position >= length)
+			throw new BadLocationException();
+
+		int size= fChunkSize;
+		fChunkSize= Math.min(BUFFER_SIZE, fChunkSize * 2);
+		int offset= forward ? position : Math.max(0, position - size + 1);
+		int end= Math.min(length, offset + size);
+		fDocument.get(offset, end - offset).getChars(0, end - offset, fBuffer, 0);
+		fBufferOffset= offset;
+		fBufferLength= end - offset;
+	}
+
+	/**
+	 * Returns the document content between <code>from</code> and <code>to</code>, taken from the
+	 * buffer if it contains the range.
+	 *
+	 * @param from the start of the range
+	 * @param to the end of the range, exclusive
+	 * @return the content of the range
+	 * @throws BadLocationException if the range is not valid in the document
+	 * @since 3.32
+	 */
+	private String getString(int from, int to) throws BadLocationException {
+		if (from >= fBufferOffset && to <= fBufferOffset + fBufferLength)
+			return new String(fBuffer, from - fBufferOffset, to - from);
+		return fDocument.get(from, to - from);
+	}
+
 	/**
 	 * Checks whether <code>position</code> resides in a default (Java) partition of <code>fDocument</code>.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 
 import org.eclipse.jdt.core.IJavaProject;
@@ -36,11 +42,39 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
  * An instance holds some internal position in the document and is therefore
  * not threadsafe.
  * </p>
+ * <p>
+ * The scopes skipped while searching backwards are cached as long as the
+ * modification stamp of the document does not change, so that computing the
+ * indentation of many lines does not scan the same blocks again and again.
+ * Callers that indent lines in one forward pass use {@link #replace(int, int, String)}
+ * to change the document, which only discards the cached scopes following the
+ * change.
+ * </p>
  *
  * @since 3.0
  */
 public final class JavaIndenter {
 
+	/**
+	 * A scope skipped by <code>skipScope</code>, described by the scan state after skipping it,
+	 * or after failing to find its opening token.
+	 * @since 3.32
+	 */
+	private static final class SkippedScope {
+		/** The token opening the scope. */
+		final int fOpenToken;
+		/** The position of the opening token, or of the start of the document. */
+		final int fPosition;
+		/** The position following the opening token, or the start of the first token. */
+		final int fPreviousPos;
+
+		SkippedScope(int openToken, int position, int previousPos) {
+			fOpenToken= openToken;
+			fPosition= position;
+			fPreviousPos= previousPos;
+		}
+	}
+
 	/**
 	 * The JDT Core preferences.
 	 * @since 3.2
@@ -395,6 +429,25 @@ public final class JavaIndenter {
 	 * @since 3.2
 	 */
 	private final CorePrefs fPrefs;
+	/**
+	 * The skipped scopes by the position from which they were skipped, usually
+	 * the position of their closing token.
+	 * @since 3.32
+	 */
+	private final NavigableMap<Integer, SkippedScope> fSkippedScopes= new TreeMap<>();
+	/**
+	 * The scopes whose opening token could not be found, by the position from which
+	 * they were searched. A search that reaches such a position fails as well, which
+	 * keeps the searches for missing brackets from scanning to the start of the
+	 * document for every line.
+	 * @since 3.32
+	 */
+	private final NavigableMap<Integer, SkippedScope> fFailedScopes= new TreeMap<>();
+	/**
+	 * The modification stamp of the document the skipped scopes are valid for.
+	 * @since 3.32
+	 */
+	private long fSkippedScopesStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 
 	/**
 	 * Creates a new instance.
@@ -507,6 +560,58 @@ public final class JavaIndenter {
 		return createReusingIndent(reference, fIndent);
 	}
 
+	/**
+	 * Replaces text in the document, usually the indentation of a line that has
+	 * just been computed. Unlike changing the document directly, this keeps the
+	 * cached scan state before <code>offset</code>, which is not affected by the
+	 * change. Indenting consecutive lines in one forward pass with this method
+	 * therefore does not scan the preceding code again for every line.
+	 *
+	 * @param offset the offset of the replaced text
+	 * @param length the length of the replaced text
+	 * @param text the new text
+	 * @throws BadLocationException if the offset or length are invalid in the document
+	 * @since 3.32
+	 */
+	public void replace(int offset, int length, String text) throws BadLocationException {
+		boolean valid= validateSkippedScopes();
+		fDocument.replace(offset, length, text);
+		if (valid) {
+			// the scans leading to the cached scopes only read the document before their key
+			fSkippedScopes.tailMap(offset, true).clear();
+			fFailedScopes.tailMap(offset, true).clear();
+			fSkippedScopesStamp= getModificationStamp();
+		}
+	}
+
+	/**
+	 * Returns the modification stamp of the document.
+	 *
+	 * @return the modification stamp, or <code>IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP</code>
+	 * @since 3.32
+	 */
+	private long getModificationStamp() {
+		if (fDocument instanceof IDocumentExtension4)
+			return ((IDocumentExtension4) fDocument).getModificationStamp();
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
+	/**
+	 * Discards the skipped scopes if the document has been changed since they were cached.
+	 *
+	 * @return <code>true</code> if skipped scopes can be cached for the document
+	 * @since 3.32
+	 */
+	private boolean validateSkippedScopes() {
+		long stamp= getModificationStamp();
+		if (stamp != fSkippedScopesStamp) {
+			fSkippedScopes.clear();
+			fFailedScopes.clear();
+			fSkippedScopesStamp= stamp;
+		}
+		return stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
 	/**
 	 * Computes the length of a <code>CharacterSequence</code>, counting
 	 * a tab character as the size until the next tab stop and every other
@@ -2160,20 +2265,68 @@ public final class JavaIndenter {
 	 */
 	private boolean skipScope(int openToken, int closeToken) {
 
+		boolean cache= validateSkippedScopes();
+		if (cache) {
+			if (restoreSkippedScope(fSkippedScopes, fPosition, openToken))
+				return true;
+			if (restoreSkippedScope(fFailedScopes, fPosition, openToken))
+				return false;
+		}
+
+		int start= fPosition;
+		// the positions of the nested closing tokens, the outermost scope last
+		Deque<Integer> closings= new ArrayDeque<>();
+		closings.push(Integer.valueOf(fPosition));
+
 		int depth= 1;
 
 		while (true) {
 			nextToken();
 
 			if (fToken == closeToken) {
-				depth++;
+				// skip nested scopes that are known already
+				if (!cache || !restoreSkippedScope(fSkippedScopes, fPosition, openToken)) {
+					depth++;
+					closings.push(Integer.valueOf(fPosition));
+				}
 			} else if (fToken == openToken) {
 				depth--;
+				if (cache)
+					fSkippedScopes.put(closings.pop(), new SkippedScope(openToken, fPosition, fPreviousPos));
 				if (depth == 0)
 					return true;
 			} else if (fToken == Symbols.TokenEOF) {
-					return false;
+				if (cache)
+					fFailedScopes.put(Integer.valueOf(start), new SkippedScope(openToken, fPosition, fPreviousPos));
+				return false;
+			}
+
+			// the search from here failed before, and it does not get easier with open nested scopes
+			if (cache && restoreSkippedScope(fFailedScopes, fPosition, openToken)) {
+				fFailedScopes.put(Integer.valueOf(start), new SkippedScope(openToken, fPosition, fPreviousPos));
+				return false;
 			}
 		}
 	}
+
+	/**
+	 * Restores the scan state after skipping the scope that is skipped from
+	 * <code>position</code>, if it has been skipped or searched before.
+	 *
+	 * @param scopes the skipped or the failed scopes
+	 * @param position the position from which the scope is skipped
+	 * @param openToken the token opening the scope
+	 * @return <code>true</code> if the scope is contained in <code>scopes</code>
+	 * @since 3.32
+	 */
+	private boolean restoreSkippedScope(NavigableMap<Integer, SkippedScope> scopes, int position, int openToken) {
+		SkippedScope scope= scopes.get(Integer.valueOf(position));
+		if (scope == null || scope.fOpenToken != openToken)
+			return false;
+		fToken= scopes == fFailedScopes ? Symbols.TokenEOF : openToken;
+		fPosition= scope.fPosition;
+		fPreviousPos= scope.fPreviousPos;
+		fTokenPos= fPosition;
+		return true;
+	}
 }
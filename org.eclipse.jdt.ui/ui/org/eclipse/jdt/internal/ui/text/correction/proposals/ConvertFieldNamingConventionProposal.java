@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 IBM Corporation and others.
+ * Copyright (c) 2023, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
 
 import org.eclipse.jdt.core.IField;
 
+import org.eclipse.jdt.internal.corext.refactoring.rename.JavaRenameRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RenameFieldProcessor;
 
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
@@ -75,7 +76,7 @@ public class ConvertFieldNamingConventionProposal implements IJavaCompletionProp
 			processor.setRenameSetter(true);
 			processor.setRenameGetter(true);
 			processor.setUpdateTextualMatches(true);
-			RenameRefactoring refactoring= new RenameRefactoring(processor);
+			RenameRefactoring refactoring= new JavaRenameRefactoring(processor);
 			RefactoringStatus status;
 			status= refactoring.checkAllConditions(new NullProgressMonitor());
 			if (status.isOK()) {
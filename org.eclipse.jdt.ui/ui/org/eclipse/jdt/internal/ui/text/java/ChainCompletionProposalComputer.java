@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2022 Darmstadt University of Technology and others
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,10 +14,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -54,6 +55,16 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 	public static final String CATEGORY_ID= "org.eclipse.jdt.ui.javaChainProposalCategory"; //$NON-NLS-1$
 
+	/**
+	 * Interval in milliseconds in which a running search checks whether it got canceled.
+	 */
+	private static final long CANCEL_CHECK_INTERVAL= 50;
+
+	/**
+	 * The pool shared by all chain searches, created on first use.
+	 */
+	private static ForkJoinPool fgSearchPool;
+
 	private JavaContentAssistInvocationContext ctx;
 
 	private CompletionProposalCollector collector;
@@ -64,6 +75,8 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 	private String[] excludedTypes;
 
+	private volatile ChainFinder runningFinder;
+
 	@Override
 	public List<ICompletionProposal> computeCompletionProposals(final ContentAssistInvocationContext context,
 			final IProgressMonitor monitor) {
@@ -74,7 +87,19 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 		if (!shouldPerformCompletionOnExpectedType()) {
 			return Collections.emptyList();
 		}
-		return executeCallChainSearch();
+		return executeCallChainSearch(monitor);
+	}
+
+	private static synchronized ForkJoinPool getSearchPool() {
+		if (fgSearchPool == null) {
+			int parallelism= Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+			fgSearchPool= new ForkJoinPool(parallelism, pool -> {
+				ForkJoinWorkerThread thread= ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Chain Completion Search-" + thread.getPoolIndex()); //$NON-NLS-1$
+				return thread;
+			}, null, true);
+		}
+		return fgSearchPool;
 	}
 
 	private boolean initializeRequiredContext(final ContentAssistInvocationContext context) {
@@ -151,7 +176,7 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 		return String.valueOf(element.getElementName()).startsWith(prefix);
 	}
 
-	private List<ICompletionProposal> executeCallChainSearch() {
+	private List<ICompletionProposal> executeCallChainSearch(final IProgressMonitor monitor) {
 		final int maxChains, minDepth, maxDepth;
 		try {
 			maxChains= Integer.parseInt(JavaManipulation.getPreference(PreferenceConstants.PREF_MAX_CHAINS, ctx.getProject()));
@@ -173,13 +198,13 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 		final List<ChainType> expectedTypes= ChainElementAnalyzer.resolveBindingsForExpectedTypes(ctx.getProject(), ctx.getCoreContext());
 		final ChainFinder finder= new ChainFinder(expectedTypes, Arrays.asList(excludedTypes), invocationType);
-		final ExecutorService executor= Executors.newSingleThreadExecutor();
+		final ForkJoinPool pool= getSearchPool();
+		runningFinder= finder;
 		try {
-			Future<?> future= executor.submit(() -> {
-				if (findEntrypoints()) {
-					finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth);
-				}
-			});
+			CompletableFuture<Void> future= CompletableFuture.supplyAsync(this::findEntrypoints, pool)
+					.thenCompose(found -> found
+							? finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth, pool)
+							: CompletableFuture.completedFuture(null));
 
 			long timeout;
 			try {
@@ -187,15 +212,43 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 			} catch (NumberFormatException e) {
 				timeout = 1;
 			}
-			future.get(timeout, TimeUnit.SECONDS);
+			waitForSearch(future, TimeUnit.SECONDS.toMillis(timeout), monitor);
 		} catch (final Exception e) {
-			finder.cancel();
-			executor.shutdownNow();
 			setError("Timeout during call chain computation."); //$NON-NLS-1$
+		} finally {
+			finder.cancel();
+			runningFinder= null;
 		}
 		return buildCompletionProposals(finder.getChains());
 	}
 
+	/**
+	 * Waits until the search is finished, the timeout elapsed or the monitor got canceled.
+	 *
+	 * @param future the search
+	 * @param timeout the timeout in milliseconds
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @throws Exception if the search failed or did not finish in time
+	 */
+	private void waitForSearch(final CompletableFuture<Void> future, final long timeout, final IProgressMonitor monitor) throws Exception {
+		final long end= System.currentTimeMillis() + timeout;
+		while (true) {
+			long remaining= end - System.currentTimeMillis();
+			if (remaining <= 0) {
+				throw new TimeoutException();
+			}
+			if (monitor != null && monitor.isCanceled() || runningFinder == null) {
+				return;
+			}
+			try {
+				future.get(Math.min(remaining, CANCEL_CHECK_INTERVAL), TimeUnit.MILLISECONDS);
+				return;
+			} catch (TimeoutException e) {
+				// check again
+			}
+		}
+	}
+
 	private List<ICompletionProposal> buildCompletionProposals(final List<Chain> chains) {
 		final List<ICompletionProposal> proposals= new LinkedList<>();
 		for (final Chain chain : chains) {
@@ -228,5 +281,10 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 	@Override
 	public void sessionEnded() {
+		ChainFinder finder= runningFinder;
+		if (finder != null) {
+			finder.cancel();
+			runningFinder= null;
+		}
 	}
 }
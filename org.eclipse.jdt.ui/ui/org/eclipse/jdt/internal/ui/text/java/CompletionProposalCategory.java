@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,7 @@ import org.eclipse.jface.text.contentassist.IContextInformation;
 import org.eclipse.jdt.core.IJavaProject;
 
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.TimingStatistics;
 
 import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
@@ -332,15 +333,32 @@ public final class CompletionProposalCategory {
 	 *         {@link org.eclipse.jface.text.contentassist.ICompletionProposal})
 	 */
 	public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, String partition, IProgressMonitor monitor) {
+		return computeCompletionProposals(new CompletionProposalComputation(context), partition, monitor);
+	}
+
+	/**
+	 * Safely computes completion proposals of all computers of this category within the budget of
+	 * the given computation. Proposals of computers that exceed the budget are not returned, but
+	 * collected by the computation as late proposals.
+	 *
+	 * @param computation the computation of the current content assist invocation
+	 * @param partition the partition type where to invocation occurred
+	 * @param monitor the progress monitor passed on to the extension
+	 * @return the list of completion proposals computed within the budget
+	 * @since 3.32
+	 */
+	List<ICompletionProposal> computeCompletionProposals(CompletionProposalComputation computation, String partition, IProgressMonitor monitor) {
 		fLastError= null;
+		TimingStatistics.Timing timing= ContentAssistStatistics.begin();
 		List<ICompletionProposal> result= new ArrayList<>();
 		List<CompletionProposalComputerDescriptor> descriptors= new ArrayList<>(fRegistry.getProposalComputerDescriptors(partition));
 		for (CompletionProposalComputerDescriptor desc : descriptors) {
 			if (desc.getCategory() == this)
-				result.addAll(desc.computeCompletionProposals(context, monitor));
+				result.addAll(computation.computeCompletionProposals(desc, monitor));
 			if (fLastError == null && desc.getErrorMessage() != null)
 				fLastError= desc.getErrorMessage();
 		}
+		ContentAssistStatistics.getDefault().record(ContentAssistStatistics.CATEGORY, fId, timing);
 		return result;
 	}
 
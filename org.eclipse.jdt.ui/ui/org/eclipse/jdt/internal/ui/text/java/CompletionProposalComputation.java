@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+
+import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+
+/**
+ * One invocation of content assist, which computes the completion proposals of the computers with
+ * a latency budget per computer. Computers which do not require the UI thread run in the
+ * background; a computer which exceeds its budget is not waited for, but continues to run and
+ * its proposals are collected as <em>late proposals</em>. The latencies of the computers are
+ * recorded by {@link ContentAssistStatistics}.
+ * <p>
+ * The invocation context computes its state lazily and is not thread safe. A computer which
+ * exceeds its budget therefore keeps the context it was passed, and the computers after it as
+ * well as the sorting of the proposals use a new context.
+ * </p>
+ *
+ * @since 3.32
+ */
+final class CompletionProposalComputation {
+
+	/**
+	 * Runs the computers which do not require the UI thread.
+	 */
+	private static final ExecutorService EXECUTOR= Executors.newCachedThreadPool(r -> {
+		Thread thread= new Thread(r, "Java Content Assist Computation"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/** Runs a computer in the calling thread. */
+	private static final Executor CALLER= Runnable::run;
+
+	/** Creates a new context for this invocation, <code>null</code> if there is no budget. */
+	private final Supplier<ContentAssistInvocationContext> fContextFactory;
+	/** The context passed to the next computer, not used by any late computation. */
+	private ContentAssistInvocationContext fContext;
+	/** The budget per computer in milliseconds, no budget if not positive. */
+	private final long fBudget;
+	/** The modification stamp of the document when the computation started. */
+	private final long fModificationStamp;
+	/** The monitor of the background computations, canceled with this computation. */
+	private final IProgressMonitor fMonitor= new NullProgressMonitor();
+	/** The computations which exceeded their budget. */
+	private final List<CompletableFuture<Void>> fLateComputations= new ArrayList<>();
+	/** The proposals of the computations which exceeded their budget. */
+	private final List<ICompletionProposal> fLateProposals= new ArrayList<>();
+	/** Whether any of the late proposals needs to be sorted after filtering. */
+	private boolean fLateSortingAfterFilteringNeeded;
+	/** The proposals computed within the budget. */
+	private List<ICompletionProposal> fProposals= Collections.emptyList();
+
+	/**
+	 * Creates a new computation which waits for all computers.
+	 *
+	 * @param context the invocation context passed on to the computers
+	 */
+	CompletionProposalComputation(ContentAssistInvocationContext context) {
+		this(context, 0, null);
+	}
+
+	/**
+	 * Creates a new computation.
+	 *
+	 * @param context the invocation context passed on to the computers
+	 * @param budget the budget per computer in milliseconds, <code>0</code> or less to wait for
+	 *            all computers
+	 * @param contextFactory creates a new invocation context for the same viewer and offset, which
+	 *            replaces the context held by a computer that exceeded the budget; may be
+	 *            <code>null</code> if there is no budget
+	 */
+	CompletionProposalComputation(ContentAssistInvocationContext context, long budget, Supplier<ContentAssistInvocationContext> contextFactory) {
+		fContext= context;
+		fBudget= contextFactory != null ? budget : 0;
+		fContextFactory= contextFactory;
+		fModificationStamp= getModificationStamp(context.getDocument());
+	}
+
+	/**
+	 * Computes the completion proposals of the described computer. If the computer does not finish
+	 * within the budget, an empty list is returned and the proposals are added to the late
+	 * proposals once they are computed.
+	 *
+	 * @param descriptor the computer descriptor
+	 * @param monitor the progress monitor for computers which run in the calling thread
+	 * @return the list of computed completion proposals
+	 */
+	List<ICompletionProposal> computeCompletionProposals(CompletionProposalComputerDescriptor descriptor, IProgressMonitor monitor) {
+		ContentAssistInvocationContext context= fContext;
+		if (descriptor.requiresUIThread())
+			return descriptor.computeCompletionProposals(context, monitor);
+
+		boolean budgeted= fBudget > 0;
+		CompletableFuture<List<ICompletionProposal>> future= descriptor.schedule(() -> descriptor.computeCompletionProposals(context, budgeted ? fMonitor : monitor), budgeted ? EXECUTOR : CALLER);
+		try {
+			return budgeted ? future.get(fBudget, TimeUnit.MILLISECONDS) : future.get();
+		} catch (TimeoutException e) {
+			addLateComputation(descriptor, future);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			addLateComputation(descriptor, future);
+		} catch (ExecutionException e) {
+			JavaPlugin.log(e.getCause());
+		}
+		return Collections.emptyList();
+	}
+
+	private void addLateComputation(CompletionProposalComputerDescriptor descriptor, CompletableFuture<List<ICompletionProposal>> future) {
+		CompletableFuture<Void> late= future.handle((proposals, exception) -> {
+			if (exception != null) {
+				JavaPlugin.log(exception);
+				return null;
+			}
+			if (proposals.isEmpty() || fMonitor.isCanceled())
+				return null;
+			synchronized (fLateProposals) {
+				fLateProposals.addAll(proposals);
+				fLateSortingAfterFilteringNeeded|= descriptor.getCategory().isSortingAfterFilteringNeeded();
+			}
+			return null;
+		});
+		synchronized (fLateComputations) {
+			fLateComputations.add(late);
+		}
+		// the late computer still uses the context, which must not be accessed concurrently
+		fContext= fContextFactory.get();
+	}
+
+	/**
+	 * Returns whether any computer exceeded its budget.
+	 *
+	 * @return <code>true</code> if there are late computations, <code>false</code> otherwise
+	 */
+	boolean hasLateComputations() {
+		synchronized (fLateComputations) {
+			return !fLateComputations.isEmpty();
+		}
+	}
+
+	/**
+	 * Returns a future which completes when all computers which exceeded their budget have
+	 * finished.
+	 *
+	 * @return the future completion of the late computations
+	 */
+	CompletableFuture<Void> getLateComputations() {
+		synchronized (fLateComputations) {
+			return CompletableFuture.allOf(fLateComputations.toArray(new CompletableFuture<?>[fLateComputations.size()]));
+		}
+	}
+
+	/**
+	 * Returns the proposals computed by the computers after they exceeded their budget.
+	 *
+	 * @return the late proposals
+	 */
+	List<ICompletionProposal> getLateProposals() {
+		synchronized (fLateProposals) {
+			return new ArrayList<>(fLateProposals);
+		}
+	}
+
+	/**
+	 * Returns whether any of the late proposals needs to be sorted again after filtering.
+	 *
+	 * @return <code>true</code> if the late proposals need to be sorted after filtering
+	 */
+	boolean isLateSortingAfterFilteringNeeded() {
+		synchronized (fLateProposals) {
+			return fLateSortingAfterFilteringNeeded;
+		}
+	}
+
+	/**
+	 * Sets the proposals that were computed within the budget, before they are sorted.
+	 *
+	 * @param proposals the proposals computed within the budget
+	 */
+	void setProposals(List<ICompletionProposal> proposals) {
+		fProposals= proposals;
+	}
+
+	/**
+	 * Returns the proposals that were computed within the budget.
+	 *
+	 * @return the proposals computed within the budget
+	 */
+	List<ICompletionProposal> getProposals() {
+		return fProposals;
+	}
+
+	/**
+	 * Returns the invocation context which is not used by any late computation.
+	 *
+	 * @return the context for the next computer and for sorting the proposals
+	 */
+	ContentAssistInvocationContext getContext() {
+		return fContext;
+	}
+
+	/**
+	 * Returns whether the document has not been modified since the computation started.
+	 *
+	 * @return <code>true</code> if the document is known to be unchanged, <code>false</code>
+	 *         otherwise
+	 */
+	boolean isDocumentUnchanged() {
+		long stamp= getModificationStamp(fContext.getDocument());
+		return stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && stamp == fModificationStamp;
+	}
+
+	/**
+	 * Cancels the computers which still run in the background; their proposals are dropped.
+	 */
+	void cancel() {
+		fMonitor.setCanceled(true);
+	}
+
+	private static long getModificationStamp(IDocument document) {
+		if (document instanceof IDocumentExtension4)
+			return ((IDocumentExtension4) document).getModificationStamp();
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+}
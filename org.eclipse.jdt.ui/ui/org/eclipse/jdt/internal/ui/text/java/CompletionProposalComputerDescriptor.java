@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2012 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.osgi.framework.Bundle;
 
@@ -41,6 +44,7 @@ import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.jface.text.contentassist.IContextInformation;
 
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.TimingStatistics;
 
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
@@ -160,6 +164,14 @@ final class CompletionProposalComputerDescriptor {
 	 */
 	private final boolean fRequiresUIThread;
 
+	/**
+	 * The last operation scheduled on the computer, or <code>null</code> if none has been
+	 * scheduled. Scheduled operations run one after the other, so that the computer is not called
+	 * concurrently when a computation exceeds its budget and continues in the background.
+	 *
+	 * @since 3.32
+	 */
+	private CompletableFuture<?> fScheduledOperation;
 
 
 
@@ -351,7 +363,13 @@ final class CompletionProposalComputerDescriptor {
 
 			try {
 				PerformanceStats stats= startMeter(context, computer);
-				List<ICompletionProposal> proposals= computer.computeCompletionProposals(context, monitor);
+				TimingStatistics.Timing timing= ContentAssistStatistics.begin();
+				List<ICompletionProposal> proposals;
+				try {
+					proposals= computer.computeCompletionProposals(context, monitor);
+				} finally {
+					ContentAssistStatistics.getDefault().record(ContentAssistStatistics.COMPUTER, fId, timing);
+				}
 				stopMeter(stats, COMPUTE_COMPLETION_PROPOSALS);
 
 				if (proposals != null) {
@@ -446,6 +464,40 @@ final class CompletionProposalComputerDescriptor {
 	}
 
 
+	/**
+	 * Schedules an operation on the described extension, which runs with the given executor after
+	 * all previously scheduled operations have finished.
+	 *
+	 * @param operation the operation, typically computing completion proposals
+	 * @param executor the executor to run the operation with
+	 * @return the future result of the operation
+	 * @since 3.32
+	 */
+	synchronized <T> CompletableFuture<T> schedule(Supplier<T> operation, Executor executor) {
+		CompletableFuture<T> future;
+		if (fScheduledOperation == null || fScheduledOperation.isDone())
+			future= CompletableFuture.supplyAsync(operation, executor);
+		else
+			future= fScheduledOperation.handle((result, exception) -> null).thenApplyAsync(ignored -> operation.get(), executor);
+		fScheduledOperation= future;
+		return future;
+	}
+
+	/**
+	 * Runs the given notification after the scheduled operations if any of them is still running.
+	 *
+	 * @param notification the notification to run
+	 * @return <code>true</code> if the notification was deferred, <code>false</code> if the
+	 *         caller has to run it
+	 * @since 3.32
+	 */
+	private synchronized boolean deferWhileScheduled(Runnable notification) {
+		if (fScheduledOperation == null || fScheduledOperation.isDone())
+			return false;
+		fScheduledOperation= fScheduledOperation.handle((result, exception) -> null).thenRun(notification);
+		return true;
+	}
+
 	/**
 	 * Notifies the described extension of a proposal computation session start.
 	 * <p><em>
@@ -454,6 +506,11 @@ final class CompletionProposalComputerDescriptor {
 	 * </em></p>
 	 */
 	public void sessionStarted() {
+		if (!deferWhileScheduled(this::notifySessionStarted))
+			notifySessionStarted();
+	}
+
+	private void notifySessionStarted() {
 		if (!isEnabled())
 			return;
 
@@ -488,6 +545,11 @@ final class CompletionProposalComputerDescriptor {
 	 * </em></p>
 	 */
 	public void sessionEnded() {
+		if (!deferWhileScheduled(this::notifySessionEnded))
+			notifySessionEnded();
+	}
+
+	private void notifySessionEnded() {
 		if (!isEnabled())
 			return;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.java;
 
+import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -58,6 +60,8 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.corext.util.HistoryJournal;
+
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIException;
 import org.eclipse.jdt.internal.ui.JavaUIStatus;
@@ -179,11 +183,40 @@ public final class ContentAssistHistory {
 			}
 		}
 
-		private JavaUIException createException(Exception e, String message) {
+		private static JavaUIException createException(Exception e, String message) {
 			return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, e));
 		}
 	}
 
+	/**
+	 * Replays the records of a {@link HistoryJournal}.
+	 *
+	 * @since 3.32
+	 */
+	private static final class JournalReader implements HistoryJournal.RecordReader {
+
+		private ContentAssistHistory fHistory;
+
+		@Override
+		public void read(int kind, DataInputStream in) throws IOException {
+			switch (kind) {
+				case RECORD_SIZES:
+					int maxLHS= in.readInt();
+					int maxRHS= in.readInt();
+					fHistory= new ContentAssistHistory(maxLHS > 0 ? maxLHS : DEFAULT_TRACKED_LHS, maxRHS > 0 ? maxRHS : DEFAULT_TRACKED_RHS);
+					break;
+				case RECORD_REMEMBER:
+					if (fHistory == null)
+						throw new IOException("Missing sizes record"); //$NON-NLS-1$
+					String lhs= in.readUTF();
+					fHistory.getCache(lhs).add(in.readUTF());
+					break;
+				default:
+					break;
+			}
+		}
+	}
+
 	/**
 	 * Most recently used variant with capped size that only counts
 	 * {@linkplain #put(Object, Object) put} as access. This is implemented by always removing an
@@ -318,6 +351,11 @@ public final class ContentAssistHistory {
 	private static final int DEFAULT_TRACKED_LHS= 100;
 	private static final int DEFAULT_TRACKED_RHS= 10;
 
+	/** Journal record of the maximum sizes, the first record of a journal */
+	private static final int RECORD_SIZES= 1;
+	/** Journal record of a remembered right hand side for a left hand side */
+	private static final int RECORD_REMEMBER= 2;
+
 	private static final Set<String> UNCACHEABLE;
 	static {
 		Set<String> uncacheable= new HashSet<>();
@@ -332,6 +370,14 @@ public final class ContentAssistHistory {
 	private final int fMaxLHS;
 	private final int fMaxRHS;
 
+	/**
+	 * The journal that the changes are recorded in, or <code>null</code> if the history has not
+	 * been loaded from or stored to a journal
+	 */
+	private HistoryJournal fJournal;
+	/** Whether the journal has to be rewritten on the next store */
+	private boolean fNeedsCompaction;
+
 	/**
 	 * Creates a new history.
 	 *
@@ -422,8 +468,20 @@ public final class ContentAssistHistory {
 
 	private void rememberInternal(IType lhs, String rhsQualifiedName) throws JavaModelException {
 		String lhsQualifiedName= lhs.getFullyQualifiedName();
-		if (isCacheableLHS(lhs, lhsQualifiedName))
+		if (isCacheableLHS(lhs, lhsQualifiedName)) {
 			getCache(lhsQualifiedName).add(rhsQualifiedName);
+			if (fJournal != null) {
+				try {
+					fJournal.record(RECORD_REMEMBER, out -> {
+						out.writeUTF(lhsQualifiedName);
+						out.writeUTF(rhsQualifiedName);
+					});
+				} catch (IOException e) {
+					fNeedsCompaction= true;
+					JavaPlugin.log(e);
+				}
+			}
+		}
 	}
 
 	private boolean isCacheableLHS(IType type, String qualifiedName) throws JavaModelException {
@@ -481,4 +539,82 @@ public final class ContentAssistHistory {
 		}
 		return null;
 	}
+
+	/**
+	 * Stores the history into a binary journal file. If the history has been loaded from or
+	 * stored to the same file before, only the changes since then are appended.
+	 *
+	 * @param history the history to store
+	 * @param file the journal file to store the history into
+	 * @throws CoreException if writing fails
+	 * @see #load(File) on how to restore a history stored by this method
+	 * @since 3.32
+	 */
+	public static void store(ContentAssistHistory history, File file) throws CoreException {
+		if (history.fJournal == null || !history.fJournal.getFile().equals(file)) {
+			history.fJournal= new HistoryJournal(file);
+			history.fNeedsCompaction= true;
+		}
+		HistoryJournal journal= history.fJournal;
+		try {
+			if (history.fNeedsCompaction || journal.needsCompaction(history.getEntryCount() + 1)) {
+				journal.startCompaction();
+				journal.record(RECORD_SIZES, out -> {
+					out.writeInt(history.fMaxLHS);
+					out.writeInt(history.fMaxRHS);
+				});
+				for (Entry<String, MRUSet<String>> entry : history.fLHSCache.entrySet()) {
+					String lhs= entry.getKey();
+					for (String rhs : entry.getValue()) {
+						journal.record(RECORD_REMEMBER, out -> {
+							out.writeUTF(lhs);
+							out.writeUTF(rhs);
+						});
+					}
+				}
+				history.fNeedsCompaction= false;
+			}
+			journal.flush();
+		} catch (IOException e) {
+			history.fNeedsCompaction= true;
+			throw ReaderWriter.createException(e, JavaTextMessages.ContentAssistHistory_serialize_error);
+		}
+	}
+
+	/**
+	 * Loads a history from a binary journal file. The returned history appends its changes to the
+	 * file when it is {@linkplain #store(ContentAssistHistory, File) stored} to the same file.
+	 *
+	 * @param file the journal file to load the history from
+	 * @return the loaded history, or <code>null</code> if the file does not exist
+	 * @throws CoreException if reading fails
+	 * @see #store(ContentAssistHistory, File) on how to store a history such that it can be read
+	 *      by this method
+	 * @since 3.32
+	 */
+	public static ContentAssistHistory load(File file) throws CoreException {
+		HistoryJournal journal= new HistoryJournal(file);
+		if (!journal.exists())
+			return null;
+		JournalReader reader= new JournalReader();
+		boolean complete;
+		try {
+			complete= journal.read(reader);
+		} catch (IOException e) {
+			throw ReaderWriter.createException(e, JavaTextMessages.ContentAssistHistory_deserialize_error);
+		}
+		ContentAssistHistory history= reader.fHistory;
+		if (history == null)
+			return null;
+		history.fJournal= journal;
+		history.fNeedsCompaction= !complete;
+		return history;
+	}
+
+	private int getEntryCount() {
+		int count= 0;
+		for (MRUSet<String> rhsCache : fLHSCache.values())
+			count+= rhsCache.size();
+		return count;
+	}
 }
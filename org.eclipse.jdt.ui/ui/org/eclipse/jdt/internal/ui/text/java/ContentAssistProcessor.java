@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.java;
 
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -185,6 +187,13 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 				cat.sessionEnded();
 			}
 
+			CompletionProposalComputation computation= fComputation;
+			if (computation != null) {
+				computation.cancel();
+				fComputation= null;
+			}
+			fLateProposalsComputation= null;
+			ContentAssistStatistics.getDefault().exportIfRequested();
 			fSelectedProposal= null;
 			fCategoryIteration= null;
 			fRepetition= -1;
@@ -259,6 +268,38 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 */
 	private boolean fNeedsSortingAfterFiltering;
 
+	/**
+	 * The system property to set the time in milliseconds that content assist waits for a single
+	 * completion proposal computer before it shows the proposals of the other computers. The
+	 * proposals of slower computers are appended when they are computed. <code>0</code> waits for
+	 * all computers.
+	 *
+	 * @since 3.32
+	 */
+	public static final String COMPUTER_BUDGET_PROPERTY= "jdt.contentassist.computerBudget"; //$NON-NLS-1$
+
+	/**
+	 * The default budget per completion proposal computer in milliseconds.
+	 *
+	 * @since 3.32
+	 */
+	private static final long DEFAULT_COMPUTER_BUDGET= 500;
+
+	/**
+	 * The most recent computation, or <code>null</code> if there is none or none of its computers
+	 * exceeded the budget.
+	 *
+	 * @since 3.32
+	 */
+	private volatile CompletionProposalComputation fComputation;
+
+	/**
+	 * The computation whose late proposals are shown by the next invocation, or <code>null</code>.
+	 *
+	 * @since 3.32
+	 */
+	private volatile CompletionProposalComputation fLateProposalsComputation;
+
 
 	public ContentAssistProcessor(ContentAssistant assistant, String partition) {
 		Assert.isNotNull(partition);
@@ -275,6 +316,11 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 */
 	@Override
 	public final ICompletionProposal[] computeCompletionProposals(ITextViewer viewer, int offset) {
+		CompletionProposalComputation lateProposalsComputation= fLateProposalsComputation;
+		fLateProposalsComputation= null;
+		if (lateProposalsComputation != null && lateProposalsComputation.getContext().getInvocationOffset() == offset && lateProposalsComputation.isDocumentUnchanged())
+			return appendLateProposals(lateProposalsComputation);
+
 		long start= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
 
 		clearState();
@@ -283,17 +329,27 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		monitor.beginTask(JavaTextMessages.ContentAssistProcessor_computing_proposals, fCategories.size() + 1);
 
 		ContentAssistInvocationContext context= createContext(viewer, offset);
+		// late proposals can only be appended to the proposals of an active session
+		long budget= fRepetition == -1 ? 0 : Long.getLong(COMPUTER_BUDGET_PROPERTY, DEFAULT_COMPUTER_BUDGET).longValue();
+		CompletionProposalComputation computation= new CompletionProposalComputation(context, budget, () -> createContext(viewer, offset));
 		long setup= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
 
 		monitor.subTask(JavaTextMessages.ContentAssistProcessor_collecting_proposals);
-		List<ICompletionProposal> proposals= collectProposals(viewer, offset, monitor, context);
+		List<ICompletionProposal> proposals= collectProposals(viewer, offset, monitor, computation);
+		if (computation.hasLateComputations()) {
+			computation.setProposals(new ArrayList<>(proposals));
+			fComputation= computation;
+			// show the late proposals that were computed even if a late computer failed
+			computation.getLateComputations().whenComplete((result, exception) -> Display.getDefault().asyncExec(() -> showLateProposals(viewer, computation)));
+		}
 		long collect= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
 
 		monitor.subTask(JavaTextMessages.ContentAssistProcessor_sorting_proposals);
 		if (fNeedsSortingAfterFiltering) {
 			setContentAssistSorter();
 		} else {
-			proposals= sortProposals(proposals, monitor, context);
+			// a computer which exceeded its budget may still use the original context
+			proposals= sortProposals(proposals, monitor, computation.getContext());
 		}
 		fNumberOfComputedResults= proposals.size();
 		long filter= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
@@ -306,6 +362,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 			System.err.println("Code Assist (setup):\t" + (setup - start) ); //$NON-NLS-1$
 			System.err.println("Code Assist (collect):\t" + (collect - setup) ); //$NON-NLS-1$
 			System.err.println("Code Assist (sort):\t" + (filter - collect) ); //$NON-NLS-1$
+			printComputerStatistics();
 		}
 
 		return result;
@@ -314,6 +371,67 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	private void clearState() {
 		fErrorMessage=null;
 		fNumberOfComputedResults= 0;
+		CompletionProposalComputation computation= fComputation;
+		if (computation != null) {
+			computation.cancel();
+			fComputation= null;
+		}
+	}
+
+	/**
+	 * Shows the late proposals of the given computation, if the computation is still the most
+	 * recent one, the session is still active and neither the document nor the caret have changed.
+	 * The content assistant is asked to show the proposals again, which returns the proposals of
+	 * the computation together with its late proposals.
+	 *
+	 * @param viewer the text viewer
+	 * @param computation the computation whose late proposals have been computed
+	 * @since 3.32
+	 */
+	private void showLateProposals(ITextViewer viewer, CompletionProposalComputation computation) {
+		if (fComputation != computation || fRepetition == -1 || computation.getLateProposals().isEmpty())
+			return;
+		if (viewer.getTextWidget() == null || viewer.getTextWidget().isDisposed())
+			return;
+		if (viewer.getSelectedRange().x != computation.getContext().getInvocationOffset() || !computation.isDocumentUnchanged())
+			return;
+
+		fLateProposalsComputation= computation;
+		fAssistant.showPossibleCompletions();
+	}
+
+	/**
+	 * Returns the proposals of the given computation together with its late proposals, without
+	 * computing them again.
+	 *
+	 * @param computation the computation whose late proposals have been computed
+	 * @return the sorted proposals
+	 * @since 3.32
+	 */
+	private ICompletionProposal[] appendLateProposals(CompletionProposalComputation computation) {
+		fComputation= null;
+		List<ICompletionProposal> proposals= new ArrayList<>(computation.getProposals());
+		proposals.addAll(computation.getLateProposals());
+
+		fNeedsSortingAfterFiltering|= computation.isLateSortingAfterFilteringNeeded();
+		if (fNeedsSortingAfterFiltering) {
+			setContentAssistSorter();
+		} else {
+			proposals= sortProposals(proposals, new NullProgressMonitor(), computation.getContext());
+		}
+		fNumberOfComputedResults= proposals.size();
+
+		if (JavaPlugin.DEBUG_RESULT_COLLECTOR) {
+			System.err.println("Code Assist Stats (" + proposals.size() + " proposals including late proposals)"); //$NON-NLS-1$ //$NON-NLS-2$
+			printComputerStatistics();
+		}
+
+		return proposals.toArray(new ICompletionProposal[proposals.size()]);
+	}
+
+	private static void printComputerStatistics() {
+		// the latencies of the computers are recorded by the content assist statistics
+		ContentAssistStatistics.getDefault().export(new OutputStreamWriter(System.err, Charset.defaultCharset()));
 	}
 
 	/**
@@ -322,15 +440,15 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 * @param viewer the text viewer
 	 * @param offset the offset
 	 * @param monitor the progress monitor
-	 * @param context the code assist invocation context
+	 * @param computation the computation of this code assist invocation
 	 * @return the list of proposals
 	 */
-	private List<ICompletionProposal> collectProposals(ITextViewer viewer, int offset, IProgressMonitor monitor, ContentAssistInvocationContext context) {
+	private List<ICompletionProposal> collectProposals(ITextViewer viewer, int offset, IProgressMonitor monitor, CompletionProposalComputation computation) {
 		boolean needsSortingAfterFiltering= false;
 		List<ICompletionProposal> proposals= new ArrayList<>();
 		List<CompletionProposalCategory> providers= getCategories();
 		for (CompletionProposalCategory cat : providers) {
-			List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, Progress.subMonitor(monitor, 1));
+			List<ICompletionProposal> computed= cat.computeCompletionProposals(computation, fPartition, Progress.subMonitor(monitor, 1));
 			proposals.addAll(computed);
 			needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
 			if (fErrorMessage == null) {
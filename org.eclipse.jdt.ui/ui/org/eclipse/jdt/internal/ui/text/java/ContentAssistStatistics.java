@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.jdt.internal.corext.util.TimingStatistics;
+
+
+/**
+ * Latency histograms of content assist: per completion proposal computer, per proposal category,
+ * per proposal sorter and per type of applied proposal. The histograms are recorded and exported
+ * as described in {@link TimingStatistics}, to the file named by the {@link #EXPORT_FILE_PROPERTY}
+ * system property at the end of every content assist session.
+ *
+ * @since 3.32
+ */
+public final class ContentAssistStatistics {
+
+	/**
+	 * The latency histogram of one operation. Latencies are counted in buckets whose upper bounds
+	 * are powers of two milliseconds, see {@link #getBucketUpperBound(int)}.
+	 */
+	public static final class Histogram extends TimingStatistics.Entry {
+
+		/** The number of buckets; the last bucket counts all latencies of 4096 ms or more. */
+		public static final int BUCKETS= 14;
+
+		private final AtomicLongArray fBuckets= new AtomicLongArray(BUCKETS);
+
+		@Override
+		protected void record(long nanos) {
+			super.record(nanos);
+			long millis= nanos / 1000000;
+			int bucket= millis == 0 ? 0 : Math.min(Long.SIZE - Long.numberOfLeadingZeros(millis), BUCKETS - 1);
+			fBuckets.incrementAndGet(bucket);
+		}
+
+		/**
+		 * Returns the number of latencies in the given bucket.
+		 *
+		 * @param bucket the bucket, from <code>0</code> to <code>BUCKETS - 1</code>
+		 * @return the number of latencies below the upper bound of the bucket and at or above the
+		 *         upper bound of the previous bucket
+		 */
+		public long getBucketCount(int bucket) {
+			return fBuckets.get(bucket);
+		}
+
+		/**
+		 * Returns the exclusive upper bound of the given bucket.
+		 *
+		 * @param bucket the bucket, from <code>0</code> to <code>BUCKETS - 1</code>
+		 * @return the upper bound in milliseconds, or {@link Long#MAX_VALUE} for the last bucket
+		 */
+		public static long getBucketUpperBound(int bucket) {
+			return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+		}
+
+		@Override
+		protected void exportValues(PrintWriter out) {
+			for (int i= 0; i < BUCKETS; i++) {
+				out.print(',');
+				out.print(fBuckets.get(i));
+			}
+		}
+
+		static String[] getColumns() {
+			String[] columns= new String[BUCKETS];
+			for (int i= 0; i < BUCKETS - 1; i++)
+				columns[i]= "lt_" + getBucketUpperBound(i) + "_ms"; //$NON-NLS-1$ //$NON-NLS-2$
+			columns[BUCKETS - 1]= "ge_" + getBucketUpperBound(BUCKETS - 2) + "_ms"; //$NON-NLS-1$ //$NON-NLS-2$
+			return columns;
+		}
+	}
+
+	/**
+	 * The system property to set the file to which the statistics are exported at the end of
+	 * every content assist session.
+	 */
+	public static final String EXPORT_FILE_PROPERTY= "jdt.contentassist.statisticsFile"; //$NON-NLS-1$
+
+	/** The kind of the latencies of completion proposal computers, by computer id. */
+	public static final String COMPUTER= "computer"; //$NON-NLS-1$
+	/** The kind of the latencies of proposal categories, by category id. */
+	public static final String CATEGORY= "category"; //$NON-NLS-1$
+	/** The kind of the latencies of proposal sorters, by sorter id. */
+	public static final String SORTER= "sorter"; //$NON-NLS-1$
+	/** The kind of the latencies of applying proposals, by proposal class. */
+	public static final String APPLY= "apply"; //$NON-NLS-1$
+
+	private static final ContentAssistStatistics fgDefault= new ContentAssistStatistics();
+
+	/**
+	 * Returns the statistics of the workbench.
+	 *
+	 * @return the default statistics
+	 */
+	public static ContentAssistStatistics getDefault() {
+		return fgDefault;
+	}
+
+	private final TimingStatistics<Histogram> fHistograms= new TimingStatistics<>("kind", "id", Histogram.getColumns(), EXPORT_FILE_PROPERTY, Histogram::new); //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * Begins timing an operation on the current thread.
+	 *
+	 * @return the running operation, to be passed to {@link #record(String, String, TimingStatistics.Timing)}
+	 */
+	public static TimingStatistics.Timing begin() {
+		return TimingStatistics.begin();
+	}
+
+	/**
+	 * Ends an operation and records its latency.
+	 *
+	 * @param kind the kind of the operation, e.g. {@link #COMPUTER}
+	 * @param id the id of the contribution that performed the operation
+	 * @param timing the operation, see {@link #begin()}
+	 */
+	public void record(String kind, String id, TimingStatistics.Timing timing) {
+		record(kind, id, timing.end(kind, id));
+	}
+
+	/**
+	 * Records the latency of an operation.
+	 *
+	 * @param kind the kind of the operation, e.g. {@link #COMPUTER}
+	 * @param id the id of the contribution that performed the operation
+	 * @param nanos the latency in nanoseconds
+	 */
+	public void record(String kind, String id, long nanos) {
+		fHistograms.get(kind, id).record(nanos);
+	}
+
+	/**
+	 * Returns the histogram of the given contribution.
+	 *
+	 * @param kind the kind of the operation, e.g. {@link #COMPUTER}
+	 * @param id the id of the contribution
+	 * @return the histogram, or <code>null</code> if no latency has been recorded
+	 */
+	public Histogram getHistogram(String kind, String id) {
+		return fHistograms.getIfPresent(kind, id);
+	}
+
+	/**
+	 * Discards all recorded latencies.
+	 */
+	public void reset() {
+		fHistograms.reset();
+	}
+
+	/**
+	 * Writes the histograms as comma separated values, one line per contribution, sorted by kind
+	 * and id. The columns are the kind, the id, the count, the total and the maximum time in
+	 * milliseconds and the count of each bucket.
+	 *
+	 * @param writer the writer
+	 */
+	public void export(Writer writer) {
+		fHistograms.export(writer);
+	}
+
+	/**
+	 * Exports the histograms to the file named by the {@link #EXPORT_FILE_PROPERTY} system
+	 * property, if it is set.
+	 */
+	public void exportIfRequested() {
+		fHistograms.exportIfRequested();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,12 @@ public final class FillArgumentNamesCompletionProposalCollector extends Completi
 
 	private final boolean fIsGuessArguments;
 
+	/**
+	 * The candidate arguments of the invocation site, shared by all parameter guessing proposals.
+	 * @since 3.32
+	 */
+	private ParameterGuesser.CandidateIndex fCandidateIndex;
+
 	public FillArgumentNamesCompletionProposalCollector(JavaContentAssistInvocationContext context) {
 		super(context.getCompilationUnit(), true);
 		setInvocationContext(context);
@@ -77,13 +83,22 @@ public final class FillArgumentNamesCompletionProposalCollector extends Completi
 		if ((completion.length() == 0) || ((completion.length() == 1) && completion.charAt(0) == ')') || Signature.getParameterCount(methodProposal.getSignature()) == 0 || getContext().isInJavadoc())
 			return super.createJavaCompletionProposal(methodProposal);
 
-		LazyJavaCompletionProposal proposal= ParameterGuessingProposal.createProposal(methodProposal, getInvocationContext(), fIsGuessArguments);
+		LazyJavaCompletionProposal proposal= ParameterGuessingProposal.createProposal(methodProposal, getInvocationContext(), getCandidateIndex(), fIsGuessArguments);
 		if (proposal == null) {
 			proposal= new FilledArgumentNamesMethodProposal(methodProposal, getInvocationContext());
 		}
 		return proposal;
 	}
 
+	private ParameterGuesser.CandidateIndex getCandidateIndex() {
+		CompletionContext coreContext= getInvocationContext().getCoreContext();
+		if (coreContext == null || !coreContext.isExtended())
+			return null;
+		if (fCandidateIndex == null || !fCandidateIndex.isIndexOf(coreContext))
+			fCandidateIndex= new ParameterGuesser.CandidateIndex(coreContext);
+		return fCandidateIndex;
+	}
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.java.ResultCollector#createTypeCompletion(org.eclipse.jdt.core.CompletionProposal)
 	 */
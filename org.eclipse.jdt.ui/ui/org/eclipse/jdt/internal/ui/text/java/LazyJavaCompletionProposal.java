@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.PerformanceStats;
 
 import org.eclipse.jface.viewers.StyledString;
 
@@ -35,6 +36,7 @@ import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 import org.eclipse.jdt.core.search.SearchPattern;
 
 import org.eclipse.jdt.internal.corext.util.Strings;
+import org.eclipse.jdt.internal.corext.util.TimingStatistics;
 
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 
@@ -49,6 +51,19 @@ public class LazyJavaCompletionProposal extends AbstractJavaCompletionProposal {
 	protected static final String SPACE= " "; //$NON-NLS-1$
 	protected static final String SEMICOLON= ";"; //$NON-NLS-1$
 
+	/**
+	 * The name of the performance event used to trace the application of proposals.
+	 * @since 3.32
+	 */
+	private static final String APPLY_PERFORMANCE_EVENT= JavaPlugin.getPluginId() + "/perf/content_assist/apply"; //$NON-NLS-1$
+
+	/**
+	 * If <code>true</code>, the time to apply proposals is forwarded to core's
+	 * {@link PerformanceStats} service.
+	 * @since 3.32
+	 */
+	private static final boolean MEASURE_APPLY_PERFORMANCE= PerformanceStats.isEnabled(APPLY_PERFORMANCE_EVENT);
+
 	protected static final class FormatterPrefs {
 		/* Methods & constructors */
 		public final boolean beforeOpeningParen;
@@ -439,11 +454,23 @@ public class LazyJavaCompletionProposal extends AbstractJavaCompletionProposal {
 	 */
 	@Override
 	public void apply(ITextViewer viewer, char trigger, int stateMask, int offset) {
-		Point selection= viewer.getSelectedRange();
-		boolean smartToggle= (stateMask & SWT.CTRL) != 0;
-		if (!(insertCompletion() ^ smartToggle) && selection.y > 0)
-			fReplacementLengthComputed= false;
-		super.apply(viewer, trigger, stateMask, offset);
+		PerformanceStats stats= null;
+		if (MEASURE_APPLY_PERFORMANCE) {
+			stats= PerformanceStats.getStats(APPLY_PERFORMANCE_EVENT, getClass());
+			stats.startRun(getDisplayString());
+		}
+		TimingStatistics.Timing timing= ContentAssistStatistics.begin();
+		try {
+			Point selection= viewer.getSelectedRange();
+			boolean smartToggle= (stateMask & SWT.CTRL) != 0;
+			if (!(insertCompletion() ^ smartToggle) && selection.y > 0)
+				fReplacementLengthComputed= false;
+			super.apply(viewer, trigger, stateMask, offset);
+		} finally {
+			ContentAssistStatistics.getDefault().record(ContentAssistStatistics.APPLY, getClass().getName(), timing);
+			if (stats != null)
+				stats.endRun();
+		}
 	}
 
 	/*
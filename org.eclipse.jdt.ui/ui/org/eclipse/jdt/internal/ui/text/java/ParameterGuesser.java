@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,10 @@ package org.eclipse.jdt.internal.ui.text.java;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.swt.graphics.Image;
@@ -28,6 +30,7 @@ import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 
 import org.eclipse.jdt.core.BindingKey;
+import org.eclipse.jdt.core.CompletionContext;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
@@ -109,19 +112,124 @@ public class ParameterGuesser {
 		}
 	}
 
+	/**
+	 * The part of a {@link Variable} that does not depend on the guessed parameter.
+	 *
+	 * @since 3.32
+	 */
+	private static final class Candidate {
+
+		/** Marks elements that are no candidates, e.g. methods that are not getters. */
+		static final Candidate NONE= new Candidate(null, null, -1, null);
+
+		final String qualifiedTypeName;
+		final String name;
+		final int variableType;
+		final ImageDescriptor descriptor;
+
+		Candidate(String qualifiedTypeName, String name, int variableType, ImageDescriptor descriptor) {
+			this.qualifiedTypeName= qualifiedTypeName;
+			this.name= name;
+			this.variableType= variableType;
+			this.descriptor= descriptor;
+		}
+	}
+
+	/**
+	 * The candidates of one code assist invocation site, shared by the parameter guessers of all
+	 * proposals and all of their parameters. The index groups the visible elements by the type
+	 * they are assignable to, as computed by the core completion context, and keeps the type, name
+	 * and image of each element, which do not depend on the guessed parameter. Whether a field or
+	 * method is inherited depends on the type enclosing the invocation site, so the candidates are
+	 * kept per enclosing type.
+	 *
+	 * @since 3.32
+	 */
+	public static final class CandidateIndex {
+
+		private final CompletionContext fContext;
+		private final Map<String, IJavaElement[]> fAssignableElements= new HashMap<>();
+		private final Map<IType, Map<IJavaElement, Candidate>> fCandidates= new HashMap<>();
+
+		/**
+		 * Creates an empty index.
+		 *
+		 * @param context the extended core completion context of the invocation site
+		 */
+		public CandidateIndex(CompletionContext context) {
+			fContext= context;
+		}
+
+		/**
+		 * Returns the visible elements that are assignable to the given type.
+		 *
+		 * @param typeSignature the signature of the type
+		 * @return the assignable elements, ordered by their distance to the invocation site
+		 * @see CompletionContext#getVisibleElements(String)
+		 */
+		public synchronized IJavaElement[] getAssignableElements(String typeSignature) {
+			return fAssignableElements.computeIfAbsent(typeSignature, fContext::getVisibleElements);
+		}
+
+		boolean isIndexOf(CompletionContext context) {
+			return fContext == context;
+		}
+
+		synchronized Candidate getCandidate(IJavaElement element, IType enclosingType) throws JavaModelException {
+			Map<IJavaElement, Candidate> candidates= fCandidates.computeIfAbsent(enclosingType, t -> new HashMap<>());
+			Candidate candidate= candidates.get(element);
+			if (candidate == null) {
+				candidate= createCandidate(element, enclosingType);
+				candidates.put(element, candidate);
+			}
+			return candidate;
+		}
+
+		/**
+		 * Returns the number of elements whose candidates have been computed. Used for testing.
+		 *
+		 * @return the number of computed candidates
+		 */
+		public synchronized int getCandidateCount() {
+			int count= 0;
+			for (Map<IJavaElement, Candidate> candidates : fCandidates.values()) {
+				count+= candidates.size();
+			}
+			return count;
+		}
+	}
+
 	private static final char[] NO_TRIGGERS= new char[0];
 
 	private final Set<String> fAlreadyMatchedNames;
 	private final IJavaElement fEnclosingElement;
 
+	/**
+	 * The candidates of the invocation site, or <code>null</code> if they are not shared.
+	 * @since 3.32
+	 */
+	private final CandidateIndex fCandidateIndex;
+
 	/**
 	 * Creates a parameter guesser
 	 *
 	 * @param enclosingElement the enclosing Java element
 	 */
 	public ParameterGuesser(IJavaElement enclosingElement) {
+		this(enclosingElement, null);
+	}
+
+	/**
+	 * Creates a parameter guesser that takes its candidates from the index of the invocation site.
+	 *
+	 * @param enclosingElement the enclosing Java element
+	 * @param candidateIndex the candidates of the invocation site, or <code>null</code>
+	 * @since 3.32
+	 */
+	public ParameterGuesser(IJavaElement enclosingElement, CandidateIndex candidateIndex) {
 		fEnclosingElement= enclosingElement;
 		fAlreadyMatchedNames= new HashSet<>();
+		fCandidateIndex= candidateIndex;
 	}
 
 	private List<Variable> evaluateVisibleMatches(String expectedType, IJavaElement[] suggestions) throws JavaModelException {
@@ -170,6 +278,15 @@ public class ParameterGuesser {
 	}
 
 	public Variable createVariable(IJavaElement element, IType enclosingType, String expectedType, int positionScore) throws JavaModelException {
+		Candidate candidate= fCandidateIndex != null ? fCandidateIndex.getCandidate(element, enclosingType) : createCandidate(element, enclosingType);
+		if (candidate == Candidate.NONE)
+			return null;
+
+		boolean isAutoboxMatch= isPrimitiveType(expectedType) != isPrimitiveType(candidate.qualifiedTypeName);
+		return new Variable(candidate.qualifiedTypeName, candidate.name, candidate.variableType, isAutoboxMatch, positionScore, NO_TRIGGERS, candidate.descriptor);
+	}
+
+	private static Candidate createCandidate(IJavaElement element, IType enclosingType) throws JavaModelException {
 		int variableType;
 		int elementType= element.getElementType();
 		String elementName= element.getElementName();
@@ -211,27 +328,26 @@ public class ParameterGuesser {
 					}
 					elementName= elementName + "()";  //$NON-NLS-1$
 				} else {
-					return null;
+					return Candidate.NONE;
 				}
 				break;
 			}
 			default:
-				return null;
+				return Candidate.NONE;
 		}
 		String type= Signature.toString(typeSignature);
 
-		boolean isAutoboxMatch= isPrimitiveType(expectedType) != isPrimitiveType(type);
-		return new Variable(type, elementName, variableType, isAutoboxMatch, positionScore, NO_TRIGGERS, getImageDescriptor(element));
+		return new Candidate(type, elementName, variableType, getImageDescriptor(element));
 	}
 
-	private ImageDescriptor getImageDescriptor(IJavaElement elem) {
+	private static ImageDescriptor getImageDescriptor(IJavaElement elem) {
 		JavaElementImageProvider imageProvider= new JavaElementImageProvider();
 		ImageDescriptor desc= imageProvider.getBaseImageDescriptor(elem, JavaElementImageProvider.OVERLAY_ICONS);
 		imageProvider.dispose();
 		return desc;
 	}
 
-	private boolean isPrimitiveType(String type) {
+	private static boolean isPrimitiveType(String type) {
 		return PrimitiveType.toCode(type) != null;
 	}
 
@@ -274,7 +390,7 @@ public class ParameterGuesser {
 		return null;
 	}
 
-	private boolean isMethodToSuggest(IMethod method) {
+	private static boolean isMethodToSuggest(IMethod method) {
 		try {
 			String methodName= method.getElementName();
 			return method.getNumberOfParameters() == 0 && !Signature.SIG_VOID.equals(method.getReturnType())
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,9 +76,25 @@ public class ParameterGuessingProposal extends JavaMethodCompletionProposal {
 	 * @return a proposal or <code>null</code>
 	 */
 	public static ParameterGuessingProposal createProposal(CompletionProposal proposal, JavaContentAssistInvocationContext context, boolean fillBestGuess) {
+		return createProposal(proposal, context, null, fillBestGuess);
+	}
+
+	/**
+	 * Creates a {@link ParameterGuessingProposal} or <code>null</code> if the core context isn't available or extended.
+	 *
+	 * @param proposal the original completion proposal
+	 * @param context the currrent context
+	 * @param candidateIndex the candidates of the invocation site shared with the other proposals
+	 *            of the context, or <code>null</code> to compute the candidates for this proposal
+	 * @param fillBestGuess if set, the best guess will be filled in
+	 *
+	 * @return a proposal or <code>null</code>
+	 * @since 3.32
+	 */
+	public static ParameterGuessingProposal createProposal(CompletionProposal proposal, JavaContentAssistInvocationContext context, ParameterGuesser.CandidateIndex candidateIndex, boolean fillBestGuess) {
 		CompletionContext coreContext= context.getCoreContext();
  		if (coreContext != null && coreContext.isExtended()) {
-			return new ParameterGuessingProposal(proposal, context, coreContext, fillBestGuess);
+			return new ParameterGuessingProposal(proposal, context, coreContext, candidateIndex, fillBestGuess);
  		}
  		return null;
 	}
@@ -93,11 +109,39 @@ public class ParameterGuessingProposal extends JavaMethodCompletionProposal {
 
 	private final CompletionContext fCoreContext;
 
+	private final ParameterGuesser.CandidateIndex fCandidateIndex;
+
  	public ParameterGuessingProposal(CompletionProposal proposal, JavaContentAssistInvocationContext context, CompletionContext coreContext, boolean fillBestGuess) {
- 		super(proposal, context);
+ 		this(proposal, context, coreContext, null, fillBestGuess);
+ 	}
+
+	/**
+	 * Creates a proposal which takes the candidate arguments from the given index.
+	 *
+	 * @param proposal the original completion proposal
+	 * @param context the current context
+	 * @param coreContext the extended core completion context
+	 * @param candidateIndex the candidates of the invocation site, or <code>null</code> to
+	 *            compute the candidates for this proposal
+	 * @param fillBestGuess if set, the best guess will be filled in
+	 * @since 3.32
+	 */
+	public ParameterGuessingProposal(CompletionProposal proposal, JavaContentAssistInvocationContext context, CompletionContext coreContext, ParameterGuesser.CandidateIndex candidateIndex, boolean fillBestGuess) {
+		super(proposal, context);
 		fCoreContext= coreContext;
+		fCandidateIndex= candidateIndex != null ? candidateIndex : new ParameterGuesser.CandidateIndex(coreContext);
 		fFillBestGuess= fillBestGuess;
- 	}
+	}
+
+	/**
+	 * Returns the candidates this proposal guesses its arguments from. Used for testing.
+	 *
+	 * @return the candidates of the invocation site
+	 * @since 3.32
+	 */
+	public ParameterGuesser.CandidateIndex getCandidateIndex() {
+		return fCandidateIndex;
+	}
 
 	private IJavaElement getEnclosingElement() {
 		return fCoreContext.getEnclosingElement();
@@ -109,7 +153,7 @@ public class ParameterGuessingProposal extends JavaMethodCompletionProposal {
 
 		IJavaElement[][] assignableElements= new IJavaElement[types.length][];
 		for (int i= 0; i < types.length; i++) {
-			assignableElements[i]= fCoreContext.getVisibleElements(new String(types[i]));
+			assignableElements[i]= fCandidateIndex.getAssignableElements(new String(types[i]));
 		}
 		return assignableElements;
 	}
@@ -375,7 +419,7 @@ public class ParameterGuessingProposal extends JavaMethodCompletionProposal {
 		fChoices= new ICompletionProposal[count][];
 
 		String[] parameterTypes= getParameterTypes();
-		ParameterGuesser guesser= new ParameterGuesser(getEnclosingElement());
+		ParameterGuesser guesser= new ParameterGuesser(getEnclosingElement(), fCandidateIndex);
 		IJavaElement[][] assignableElements= getAssignableElements();
 
 		for (int i= count - 1; i >= 0; i--) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2012 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.TimingStatistics;
 
 import org.eclipse.jdt.ui.text.java.AbstractProposalSorter;
 import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
@@ -189,11 +190,13 @@ public final class ProposalSorterHandle {
 			AbstractProposalSorter sorter= getSorter();
 
 			PerformanceStats stats= startMeter(SORT, sorter);
+			TimingStatistics.Timing timing= ContentAssistStatistics.begin();
 
 			sorter.beginSorting(context);
 			Collections.sort(proposals, sorter);
 			sorter.endSorting();
 
+			ContentAssistStatistics.getDefault().record(ContentAssistStatistics.SORTER, fId, timing);
 			status= stopMeter(stats, SORT);
 
 			// valid result
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
 import org.eclipse.core.runtime.AssertionFailedException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -23,6 +29,7 @@ import org.eclipse.jface.text.ITypedRegion;
 import org.eclipse.jface.text.TextUtilities;
 
 import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
@@ -32,11 +39,69 @@ import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
 
 /**
  * Java spelling engine
+ * <p>
+ * If the partitions to check are large, they are split into chunks of consecutive partitions
+ * which are checked on a shared pool of worker threads. The problems are reported in document
+ * order, as if the partitions had been checked one after the other.
+ * </p>
  *
  * @since 3.1
  */
 public class JavaSpellingEngine extends SpellingEngine {
 
+	/**
+	 * The system property for the number of characters to check from which on the check is split
+	 * into chunks that run in parallel.
+	 *
+	 * @since 3.32
+	 */
+	public static final String PARALLEL_THRESHOLD_PROPERTY= "jdt.spelling.parallelThreshold"; //$NON-NLS-1$
+
+	/**
+	 * The default number of characters from which on a check runs in parallel.
+	 *
+	 * @since 3.32
+	 */
+	private static final int DEFAULT_PARALLEL_THRESHOLD= 32 * 1024;
+
+	/**
+	 * The number of chunks per worker thread, so that chunks with many problems balance out.
+	 *
+	 * @since 3.32
+	 */
+	private static final int CHUNKS_PER_THREAD= 4;
+
+	/**
+	 * The pool shared by all parallel checks, created on first use.
+	 *
+	 * @since 3.32
+	 */
+	private static ForkJoinPool fgCheckPool;
+
+	/**
+	 * Collects the problems of one chunk.
+	 *
+	 * @since 3.32
+	 */
+	private static class ChunkProblemCollector implements ISpellingProblemCollector {
+
+		private final List<SpellingProblem> fProblems= new ArrayList<>();
+
+		@Override
+		public void accept(SpellingProblem problem) {
+			fProblems.add(problem);
+		}
+
+		@Override
+		public void beginCollecting() {
+			// nothing to do
+		}
+
+		@Override
+		public void endCollecting() {
+			// nothing to do
+		}
+	}
 
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.spelling.SpellingEngine#check(org.eclipse.jface.text.IDocument, org.eclipse.jface.text.IRegion[], org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker, org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector, org.eclipse.core.runtime.IProgressMonitor)
@@ -44,23 +109,135 @@ public class JavaSpellingEngine extends SpellingEngine {
 	@Override
 	protected void check(IDocument document, IRegion[] regions, ISpellChecker checker, ISpellingProblemCollector collector, IProgressMonitor monitor) {
 		SpellEventListener listener= new SpellEventListener(collector, document);
+		List<ITypedRegion> partitions;
+		try {
+			partitions= computeCheckedPartitions(document, regions);
+		} catch (BadLocationException | AssertionFailedException x) {
+			// ignore: the document has been changed in another thread and will be checked again
+			return;
+		}
+
+		int length= 0;
+		for (ITypedRegion partition : partitions)
+			length+= partition.getLength();
+
+		if (length >= Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, DEFAULT_PARALLEL_THRESHOLD).intValue() && getCheckPool().getParallelism() > 1)
+			checkInParallel(document, partitions, length, checker, listener, monitor);
+		else
+			check(document, partitions, checker, listener, monitor);
+	}
+
+	/**
+	 * Returns the partitions of the given regions that are spell checked.
+	 *
+	 * @param document the document
+	 * @param regions the regions
+	 * @return the partitions to check, in document order
+	 * @throws BadLocationException if a region is invalid
+	 * @since 3.32
+	 */
+	private static List<ITypedRegion> computeCheckedPartitions(IDocument document, IRegion[] regions) throws BadLocationException {
 		boolean isIgnoringJavaStrings= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.SPELLING_IGNORE_JAVA_STRINGS);
+		List<ITypedRegion> result= new ArrayList<>();
+		for (IRegion region : regions) {
+			for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, region.getOffset(), region.getLength(), false)) {
+				final String type= partition.getType();
+				if (isIgnoringJavaStrings && (IJavaPartitions.JAVA_STRING.equals(type) || IJavaPartitions.JAVA_MULTI_LINE_STRING.equals(type)))
+					continue;
+				if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type))
+					result.add(partition);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Spell checks the given partitions one after the other.
+	 *
+	 * @param document the document
+	 * @param partitions the partitions to check
+	 * @param checker the spell checker
+	 * @param listener the listener to report the problems to
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @since 3.32
+	 */
+	private static void check(IDocument document, List<ITypedRegion> partitions, ISpellChecker checker, SpellEventListener listener, IProgressMonitor monitor) {
 		try {
-			for (IRegion region : regions) {
-				for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, region.getOffset(), region.getLength(), false)) {
-					if (monitor != null && monitor.isCanceled())
-						return;
-					if (listener.isProblemsThresholdReached())
+			for (ITypedRegion partition : partitions) {
+				if (monitor != null && monitor.isCanceled())
+					return;
+				if (listener.isProblemsThresholdReached())
+					return;
+				checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+			}
+		} catch (AssertionFailedException x) {
+			// ignore: the document has been changed in another thread and will be checked again
+		}
+	}
+
+	/**
+	 * Spell checks chunks of the given partitions in parallel and reports the problems in the
+	 * order of the partitions.
+	 *
+	 * @param document the document
+	 * @param partitions the partitions to check
+	 * @param length the total length of the partitions
+	 * @param checker the spell checker
+	 * @param listener the listener to report the problems to
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @since 3.32
+	 */
+	private static void checkInParallel(IDocument document, List<ITypedRegion> partitions, int length, ISpellChecker checker, SpellEventListener listener, IProgressMonitor monitor) {
+		ForkJoinPool pool= getCheckPool();
+		int chunkLength= Math.max(1, length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+
+		List<ForkJoinTask<List<SpellingProblem>>> tasks= new ArrayList<>();
+		int chunkStart= 0;
+		int currentLength= 0;
+		for (int i= 0; i < partitions.size(); i++) {
+			currentLength+= partitions.get(i).getLength();
+			if (currentLength >= chunkLength || i == partitions.size() - 1) {
+				List<ITypedRegion> chunk= partitions.subList(chunkStart, i + 1);
+				tasks.add(pool.submit(() -> {
+					ChunkProblemCollector chunkCollector= new ChunkProblemCollector();
+					check(document, chunk, checker, new SpellEventListener(chunkCollector, document), monitor);
+					return chunkCollector.fProblems;
+				}));
+				chunkStart= i + 1;
+				currentLength= 0;
+			}
+		}
+
+		try {
+			for (ForkJoinTask<List<SpellingProblem>> task : tasks) {
+				for (SpellingProblem problem : task.join()) {
+					if (listener.isProblemsThresholdReached() || monitor != null && monitor.isCanceled())
 						return;
-					final String type= partition.getType();
-					if (isIgnoringJavaStrings && (IJavaPartitions.JAVA_STRING.equals(type) || IJavaPartitions.JAVA_MULTI_LINE_STRING.equals(type)))
-						continue;
-					if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type))
-						checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+					listener.accept(problem);
 				}
 			}
-		} catch (BadLocationException | AssertionFailedException x) {
-			// ignore: the document has been changed in another thread and will be checked again
+		} finally {
+			for (ForkJoinTask<List<SpellingProblem>> task : tasks)
+				task.cancel(false);
+		}
+	}
+
+	/**
+	 * Returns the pool for parallel checks.
+	 *
+	 * @return the pool
+	 * @since 3.32
+	 */
+	private static synchronized ForkJoinPool getCheckPool() {
+		if (fgCheckPool == null) {
+			int parallelism= Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+			fgCheckPool= new ForkJoinPool(parallelism, pool -> {
+				ForkJoinWorkerThread thread= ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Spell Check-" + thread.getPoolIndex()); //$NON-NLS-1$
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}, null, false);
 		}
+		return fgCheckPool;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,25 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.content.IContentType;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.DocumentPartitioningChangedEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IDocumentPartitioningListener;
+import org.eclipse.jface.text.IDocumentPartitioningListenerExtension2;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextUtilities;
 import org.eclipse.jface.text.source.IAnnotationModel;
 import org.eclipse.jface.text.source.ISourceViewer;
 
@@ -37,9 +50,17 @@ import org.eclipse.jdt.core.IProblemRequestor;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.compiler.IProblem;
 
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
 
 /**
  * Reconcile strategy for spell checking comments.
+ * <p>
+ * In incremental mode, the problems of the last check are kept and moved along with the text.
+ * After an edit, only the partitions that intersect the changed text or whose partitioning changed
+ * are checked again, and the kept problems elsewhere are reported unchanged.
+ * </p>
  *
  * @since 3.1
  */
@@ -57,27 +78,18 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 		 */
 		@Override
 		public void accept(SpellingProblem problem) {
-			IProblemRequestor requestor= fRequestor;
-			if (requestor != null) {
-				try {
-					int line= getDocument().getLineOfOffset(problem.getOffset()) + 1;
-					String word= getDocument().get(problem.getOffset(), problem.getLength());
-					boolean dictionaryMatch= false;
-					boolean sentenceStart= false;
-					if (problem instanceof JavaSpellingProblem) {
-						dictionaryMatch= ((JavaSpellingProblem)problem).isDictionaryMatch();
-						sentenceStart= ((JavaSpellingProblem) problem).isSentenceStart();
-					}
-					// see https://bugs.eclipse.org/bugs/show_bug.cgi?id=81514
-					IEditorInput editorInput= fEditor.getEditorInput();
-					if (editorInput != null) {
-						CoreSpellingProblem iProblem= new CoreSpellingProblem(problem.getOffset(), problem.getOffset() + problem.getLength() - 1, line, problem.getMessage(), word, dictionaryMatch, sentenceStart, getDocument(), editorInput.getName());
-						requestor.acceptProblem(iProblem);
-					}
-				} catch (BadLocationException x) {
-					// drop this SpellingProblem
-				}
+			boolean dictionaryMatch= false;
+			boolean sentenceStart= false;
+			if (problem instanceof JavaSpellingProblem) {
+				dictionaryMatch= ((JavaSpellingProblem)problem).isDictionaryMatch();
+				sentenceStart= ((JavaSpellingProblem) problem).isSentenceStart();
 			}
+			CachedProblem cachedProblem= new CachedProblem(problem.getOffset(), problem.getLength(), problem.getMessage(), dictionaryMatch, sentenceStart);
+			List<CachedProblem> collected= fCollectedProblems;
+			if (collected != null)
+				collected.add(cachedProblem);
+			else
+				report(cachedProblem);
 		}
 
 		/*
@@ -94,15 +106,140 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 		 */
 		@Override
 		public void endCollecting() {
+			List<CachedProblem> collected= fCollectedProblems;
+			if (collected != null) {
+				fCollectedProblems= null;
+				for (CachedProblem problem : updateCache(collected))
+					report(problem);
+			}
 			if (fRequestor != null)
 				fRequestor.endReporting();
 		}
 	}
 
+	/**
+	 * A spelling problem whose offset is updated when the document changes.
+	 *
+	 * @since 3.32
+	 */
+	private static final class CachedProblem {
+
+		private int fOffset;
+		private final int fLength;
+		private final String fMessage;
+		private final boolean fDictionaryMatch;
+		private final boolean fSentenceStart;
+
+		public CachedProblem(int offset, int length, String message, boolean dictionaryMatch, boolean sentenceStart) {
+			fOffset= offset;
+			fLength= length;
+			fMessage= message;
+			fDictionaryMatch= dictionaryMatch;
+			fSentenceStart= sentenceStart;
+		}
+	}
+
+	/**
+	 * Tracks the changes of the document: moves the cached problems, drops the ones touched by
+	 * a change and records the range that needs to be checked again.
+	 *
+	 * @since 3.32
+	 */
+	private class DocumentTracker implements IDocumentListener, IDocumentPartitioningListener, IDocumentPartitioningListenerExtension2 {
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			// the changes are tracked after they have been applied
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			int offset= event.getOffset();
+			int removed= event.getLength();
+			int inserted= event.getText() == null ? 0 : event.getText().length();
+			synchronized (fCacheLock) {
+				int dirtyStart= offset;
+				int dirtyEnd= offset + inserted;
+				for (Iterator<CachedProblem> iter= fCachedProblems.iterator(); iter.hasNext();) {
+					CachedProblem problem= iter.next();
+					if (problem.fOffset + problem.fLength < offset)
+						continue;
+					if (problem.fOffset > offset + removed) {
+						problem.fOffset+= inserted - removed;
+						continue;
+					}
+					// the change touches the word, which is checked again
+					iter.remove();
+					dirtyStart= Math.min(dirtyStart, problem.fOffset);
+					dirtyEnd= Math.max(dirtyEnd, adjust(problem.fOffset + problem.fLength, offset, removed, inserted));
+				}
+				if (fDirtyStart >= 0) {
+					dirtyStart= Math.min(dirtyStart, adjust(fDirtyStart, offset, removed, inserted));
+					dirtyEnd= Math.max(dirtyEnd, adjust(fDirtyEnd, offset, removed, inserted));
+				}
+				IRegion partitioningChange= fPartitioningChange;
+				if (partitioningChange != null) {
+					// already in the coordinates of the changed document
+					fPartitioningChange= null;
+					dirtyStart= Math.min(dirtyStart, partitioningChange.getOffset());
+					dirtyEnd= Math.max(dirtyEnd, partitioningChange.getOffset() + partitioningChange.getLength());
+				}
+				fDirtyStart= dirtyStart;
+				fDirtyEnd= dirtyEnd;
+			}
+		}
+
+		@Override
+		public void documentPartitioningChanged(IDocument document) {
+			synchronized (fCacheLock) {
+				fCacheValid= false;
+			}
+		}
+
+		@Override
+		public void documentPartitioningChanged(DocumentPartitioningChangedEvent event) {
+			IRegion changed= event.getChangedRegion(IJavaPartitions.JAVA_PARTITIONING);
+			if (changed == null)
+				return;
+			synchronized (fCacheLock) {
+				IRegion pending= fPartitioningChange;
+				if (pending == null) {
+					fPartitioningChange= changed;
+				} else {
+					int start= Math.min(pending.getOffset(), changed.getOffset());
+					int end= Math.max(pending.getOffset() + pending.getLength(), changed.getOffset() + changed.getLength());
+					fPartitioningChange= new Region(start, end - start);
+				}
+			}
+		}
+
+		private int adjust(int position, int offset, int removed, int inserted) {
+			if (position <= offset)
+				return position;
+			if (position >= offset + removed)
+				return position + inserted - removed;
+			return offset + inserted;
+		}
+	}
+
 
 	/** The id of the problem */
 	public static final int SPELLING_PROBLEM_ID= 0x80000000;
 
+	/**
+	 * The system property to turn off incremental spell checking.
+	 *
+	 * @since 3.32
+	 */
+	public static final String INCREMENTAL_PROPERTY= "jdt.spelling.incremental"; //$NON-NLS-1$
+
+	/**
+	 * Tells whether only the changed partitions are checked again.
+	 *
+	 * @since 3.32
+	 */
+	private static final boolean INCREMENTAL= Boolean.parseBoolean(System.getProperty(INCREMENTAL_PROPERTY, "true")); //$NON-NLS-1$
+
 	/** Properties file content type */
 	private static final IContentType JAVA_CONTENT_TYPE= Platform.getContentTypeManager().getContentType(JavaCore.JAVA_SOURCE_CONTENT_TYPE);
 
@@ -112,6 +249,95 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	/** The problem requester. */
 	private IProblemRequestor fRequestor;
 
+	/**
+	 * The lock for the cached problems and the dirty range.
+	 *
+	 * @since 3.32
+	 */
+	private final Object fCacheLock= new Object();
+
+	/**
+	 * The problems of the last checks in document order, guarded by {@link #fCacheLock}.
+	 *
+	 * @since 3.32
+	 */
+	private final List<CachedProblem> fCachedProblems= new ArrayList<>();
+
+	/**
+	 * Tells whether the cached problems are complete for the whole document, guarded by
+	 * {@link #fCacheLock}.
+	 *
+	 * @since 3.32
+	 */
+	private boolean fCacheValid;
+
+	/**
+	 * The range changed since the last check, or <code>-1</code>, guarded by {@link #fCacheLock}.
+	 *
+	 * @since 3.32
+	 */
+	private int fDirtyStart= -1;
+
+	/**
+	 * The end of the range changed since the last check, guarded by {@link #fCacheLock}.
+	 *
+	 * @since 3.32
+	 */
+	private int fDirtyEnd= -1;
+
+	/**
+	 * The region whose partitioning changed with the document change that is being reported,
+	 * guarded by {@link #fCacheLock}.
+	 *
+	 * @since 3.32
+	 */
+	private IRegion fPartitioningChange;
+
+	/**
+	 * The region of the running check.
+	 *
+	 * @since 3.32
+	 */
+	private IRegion fCheckedRegion;
+
+	/**
+	 * The modification stamp of the document when the running check started.
+	 *
+	 * @since 3.32
+	 */
+	private long fCheckStamp;
+
+	/**
+	 * The spelling modification stamp when the running check started.
+	 *
+	 * @since 3.32
+	 * @see SpellCheckEngine#getModificationStamp()
+	 */
+	private long fCheckSpellingStamp;
+
+	/**
+	 * The spelling modification stamp of the cached problems, guarded by {@link #fCacheLock}.
+	 *
+	 * @since 3.32
+	 * @see SpellCheckEngine#getModificationStamp()
+	 */
+	private long fCacheSpellingStamp;
+
+	/**
+	 * The problems found by the running check, or <code>null</code> if the problems are reported
+	 * directly.
+	 *
+	 * @since 3.32
+	 */
+	private volatile List<CachedProblem> fCollectedProblems;
+
+	/**
+	 * The document tracker, or <code>null</code> if not incremental.
+	 *
+	 * @since 3.32
+	 */
+	private final DocumentTracker fDocumentTracker= INCREMENTAL ? new DocumentTracker() : null;
+
 
 	/**
 	 * Creates a new comment reconcile strategy.
@@ -129,8 +355,135 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	 */
 	@Override
 	public void reconcile(IRegion region) {
-		if (fRequestor != null && isSpellingEnabled())
+		if (fRequestor == null || !isSpellingEnabled()) {
+			synchronized (fCacheLock) {
+				fCacheValid= false;
+			}
+			return;
+		}
+
+		IDocument document= getDocument();
+		long stamp= getModificationStamp(document);
+		if (fDocumentTracker == null || stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
 			super.reconcile(region);
+			return;
+		}
+
+		long spellingStamp= SpellCheckEngine.getModificationStamp();
+		int dirtyStart;
+		int dirtyEnd;
+		synchronized (fCacheLock) {
+			boolean incremental= fCacheValid && fPartitioningChange == null && fCacheSpellingStamp == spellingStamp;
+			dirtyStart= incremental ? fDirtyStart : -1;
+			dirtyEnd= fDirtyEnd;
+			fDirtyStart= -1;
+			fDirtyEnd= -1;
+			fPartitioningChange= null;
+		}
+
+		// without changes since the last check, the settings may have changed: check all
+		IRegion checkedRegion= region;
+		if (dirtyStart >= 0 && isWholeDocument(region, document)) {
+			try {
+				int length= document.getLength();
+				ITypedRegion first= TextUtilities.getPartition(document, IJavaPartitions.JAVA_PARTITIONING, Math.min(dirtyStart, length), false);
+				ITypedRegion last= TextUtilities.getPartition(document, IJavaPartitions.JAVA_PARTITIONING, Math.min(dirtyEnd, length), false);
+				checkedRegion= new Region(first.getOffset(), last.getOffset() + last.getLength() - first.getOffset());
+			} catch (BadLocationException x) {
+				// check the whole region
+			}
+		}
+
+		fCheckedRegion= checkedRegion;
+		fCheckStamp= stamp;
+		fCheckSpellingStamp= spellingStamp;
+		fCollectedProblems= new ArrayList<>();
+		try {
+			super.reconcile(checkedRegion);
+		} finally {
+			fCollectedProblems= null;
+		}
+	}
+
+	/**
+	 * Replaces the cached problems in the checked region with the collected ones.
+	 *
+	 * @param collected the problems found in the checked region
+	 * @return the problems to report
+	 * @since 3.32
+	 */
+	private List<CachedProblem> updateCache(List<CachedProblem> collected) {
+		IDocument document= getDocument();
+		long stamp= getModificationStamp(document);
+		int threshold= PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+		IRegion checkedRegion= fCheckedRegion;
+		int start= checkedRegion.getOffset();
+		int end= start + checkedRegion.getLength();
+		boolean wholeDocument= isWholeDocument(checkedRegion, document);
+
+		synchronized (fCacheLock) {
+			if (stamp != fCheckStamp) {
+				// the document has changed during the check, the problems can not be merged
+				fCacheValid= false;
+				fCachedProblems.clear();
+				return collected;
+			}
+			if (wholeDocument) {
+				fCachedProblems.clear();
+				fCacheValid= collected.size() < threshold;
+				fCacheSpellingStamp= fCheckSpellingStamp;
+			} else {
+				fCachedProblems.removeIf(problem -> problem.fOffset >= start && problem.fOffset < end);
+			}
+			int index= 0;
+			while (index < fCachedProblems.size() && fCachedProblems.get(index).fOffset < start)
+				index++;
+			fCachedProblems.addAll(index, collected);
+			if (fCachedProblems.size() > threshold)
+				fCacheValid= false;
+			// copies, as the offsets of the cached problems change with the document
+			List<CachedProblem> problems= new ArrayList<>(Math.min(threshold, fCachedProblems.size()));
+			for (int i= 0; i < fCachedProblems.size() && i < threshold; i++) {
+				CachedProblem problem= fCachedProblems.get(i);
+				problems.add(new CachedProblem(problem.fOffset, problem.fLength, problem.fMessage, problem.fDictionaryMatch, problem.fSentenceStart));
+			}
+			return problems;
+		}
+	}
+
+	/**
+	 * Reports the given problem to the problem requestor.
+	 *
+	 * @param problem the problem to report
+	 * @since 3.32
+	 */
+	private void report(CachedProblem problem) {
+		IProblemRequestor requestor= fRequestor;
+		if (requestor != null) {
+			try {
+				IDocument document= getDocument();
+				int line= document.getLineOfOffset(problem.fOffset) + 1;
+				String word= document.get(problem.fOffset, problem.fLength);
+				// see https://bugs.eclipse.org/bugs/show_bug.cgi?id=81514
+				IEditorInput editorInput= fEditor.getEditorInput();
+				if (editorInput != null) {
+					CoreSpellingProblem iProblem= new CoreSpellingProblem(problem.fOffset, problem.fOffset + problem.fLength - 1, line, problem.fMessage, word, problem.fDictionaryMatch, problem.fSentenceStart, document, editorInput.getName());
+					requestor.acceptProblem(iProblem);
+				}
+			} catch (BadLocationException x) {
+				// drop this SpellingProblem
+			}
+		}
+	}
+
+	private static boolean isWholeDocument(IRegion region, IDocument document) {
+		return region.getOffset() == 0 && region.getLength() >= document.getLength();
+	}
+
+	private static long getModificationStamp(IDocument document) {
+		if (document instanceof IDocumentExtension4)
+			return ((IDocumentExtension4) document).getModificationStamp();
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 	}
 
 	private boolean isSpellingEnabled() {
@@ -160,8 +513,24 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	 */
 	@Override
 	public void setDocument(IDocument document) {
+		IDocument oldDocument= getDocument();
+		if (fDocumentTracker != null && oldDocument != null) {
+			oldDocument.removeDocumentListener(fDocumentTracker);
+			oldDocument.removeDocumentPartitioningListener(fDocumentTracker);
+		}
+		synchronized (fCacheLock) {
+			fCachedProblems.clear();
+			fCacheValid= false;
+			fDirtyStart= -1;
+			fDirtyEnd= -1;
+			fPartitioningChange= null;
+		}
 		super.setDocument(document);
 		updateProblemRequester();
+		if (fDocumentTracker != null && document != null) {
+			document.addDocumentListener(fDocumentTracker);
+			document.addDocumentPartitioningListener(fDocumentTracker);
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
@@ -65,6 +66,13 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 	/** The singleton engine instance */
 	private static ISpellCheckEngine fgEngine= null;
 
+	/**
+	 * Changes whenever the words or settings used for spell checking change.
+	 *
+	 * @since 3.32
+	 */
+	private static final AtomicLong fgModificationStamp= new AtomicLong();
+
 	/**
 	 * Caches the locales of installed dictionaries.
 	 *
@@ -239,6 +247,27 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 		return fgEngine;
 	}
 
+	/**
+	 * Returns a stamp that changes whenever the words or settings used for spell checking change,
+	 * so that the result of a spell check can change without a change of the checked document.
+	 *
+	 * @return the modification stamp
+	 * @since 3.32
+	 */
+	public static long getModificationStamp() {
+		return fgModificationStamp.get();
+	}
+
+	/**
+	 * Signals that the words or settings used for spell checking have changed.
+	 *
+	 * @see #getModificationStamp()
+	 * @since 3.32
+	 */
+	public static void spellingChanged() {
+		fgModificationStamp.incrementAndGet();
+	}
+
 	/**
 	 * Shuts down the singleton instance of the spell check engine.
 	 */
@@ -369,6 +398,8 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 	 */
 	@Override
 	public final void propertyChange(final PropertyChangeEvent event) {
+		spellingChanged();
+
 		if (PreferenceConstants.SPELLING_LOCALE.equals(event.getProperty())) {
 			resetSpellChecker();
 			return;
@@ -396,6 +427,7 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 	 * Resets the current checker's user dictionary.
 	 */
 	private synchronized void resetUserDictionary() {
+		spellingChanged();
 		if (fChecker == null)
 			return;
 
@@ -484,6 +516,7 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 	}
 
 	private synchronized void resetSpellChecker() {
+		spellingChanged();
 		if (fChecker != null) {
 			ISpellDictionary dictionary= fLocaleDictionaries.get(fChecker.getLocale());
 			if (dictionary != null)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import org.eclipse.jface.text.IRegion;
 import org.eclipse.ui.texteditor.spelling.ISpellingEngine;
 import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
 import org.eclipse.ui.texteditor.spelling.SpellingContext;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 
@@ -74,8 +75,18 @@ public abstract class SpellingEngine implements ISpellingEngine {
 		public void handle(ISpellEvent event) {
 			if (isProblemsThresholdReached())
 				return;
+			accept(new JavaSpellingProblem(event, fDocument));
+		}
+
+		/**
+		 * Forwards the given problem to the spelling problem collector.
+		 *
+		 * @param problem the spelling problem
+		 * @since 3.32
+		 */
+		void accept(SpellingProblem problem) {
 			fProblemCount++;
-			fCollector.accept(new JavaSpellingProblem(event, fDocument));
+			fCollector.accept(problem);
 		}
 
 		boolean isProblemsThresholdReached() {
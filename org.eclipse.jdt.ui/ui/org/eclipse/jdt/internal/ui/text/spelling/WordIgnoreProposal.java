@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,7 @@ public class WordIgnoreProposal implements IJavaCompletionProposal {
 
 		if (checker != null) {
 			checker.ignoreWord(fWord);
+			SpellCheckEngine.spellingChanged();
 			ISourceViewer sourceViewer= fContext.getSourceViewer();
 			if (sourceViewer != null)
 				SpellingProblem.removeAll(sourceViewer, fWord);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,24 +14,31 @@
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -39,6 +46,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.util.ConcurrentLRUCache;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.JavaUI;
@@ -86,12 +94,40 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		}
 	}
 
-
 	/**
-	 * Canonical name for UTF-8 encoding
-	 * @since 3.6
+	 * The proposals computed for a word, together with the word list generation they were computed
+	 * from
+	 * @since 3.32
 	 */
-	private static final String UTF_8= "UTF-8"; //$NON-NLS-1$
+	private static final class CachedProposals {
+
+		private final int fGeneration;
+
+		private final String[] fTexts;
+
+		private final int[] fRanks;
+
+		public CachedProposals(int generation, Set<RankedWordProposal> proposals) {
+			fGeneration= generation;
+			fTexts= new String[proposals.size()];
+			fRanks= new int[proposals.size()];
+			int index= 0;
+			for (RankedWordProposal proposal : proposals) {
+				fTexts[index]= proposal.getText();
+				fRanks[index]= proposal.getRank();
+				index++;
+			}
+		}
+
+		public Set<RankedWordProposal> getProposals() {
+			// proposals are mutable, hence every caller gets its own copies
+			final HashSet<RankedWordProposal> result= new HashSet<>(fTexts.length * 2);
+			for (int index= 0; index < fTexts.length; index++)
+				result.add(new RankedWordProposal(fTexts[index], fRanks[index]));
+			return result;
+		}
+	}
+
 
 	/** The bucket capacity */
 	protected static final int BUCKET_CAPACITY= 4;
@@ -111,16 +147,81 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	/** The phonetic distance algorithm */
 	private IPhoneticDistanceAlgorithm fDistanceAlgorithm= new DefaultPhoneticDistanceAlgorithm();
 
-	/** The mapping from phonetic hashes to word lists */
+	/** The mapping from phonetic hashes to word lists, guarded by {@link #fHashBucketsLock} */
 	private final Map<ByteArrayWrapper, Object> fHashBuckets= new HashMap<>(getInitialSize(), LOAD_FACTOR);
 
+	/**
+	 * The lock of the hash buckets, which are read by spell checks in parallel while words are
+	 * added
+	 * @since 3.32
+	 */
+	private final Object fHashBucketsLock= new Object();
+
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
 
-	/** Is the dictionary already loaded? */
-	private boolean fLoaded= false;
 	/**
-	 * Must the dictionary be loaded?
+	 * The system property to set the number of words whose proposals are cached per dictionary,
+	 * <code>0</code> disables the cache
+	 * @since 3.32
+	 */
+	public static final String PROPOSAL_CACHE_SIZE_PROPERTY= "jdt.spelling.proposalCacheSize"; //$NON-NLS-1$
+
+	/**
+	 * The number of words whose proposals are cached per dictionary
+	 * @since 3.32
+	 */
+	private static final int PROPOSAL_CACHE_SIZE= Integer.getInteger(PROPOSAL_CACHE_SIZE_PROPERTY, 64).intValue();
+
+	/**
+	 * The recently computed proposals, keyed by the word and whether it starts a sentence, or
+	 * <code>null</code> if proposals are not cached
+	 * @since 3.32
+	 */
+	private final ConcurrentLRUCache<String, CachedProposals> fProposalCache= PROPOSAL_CACHE_SIZE > 0 ? new ConcurrentLRUCache<>(PROPOSAL_CACHE_SIZE) : null;
+
+	/**
+	 * The generation of the word list, incremented whenever words or algorithms change, so that
+	 * cached proposals of older generations are ignored
+	 * @since 3.32
+	 */
+	private final AtomicInteger fGeneration= new AtomicInteger();
+
+	/**
+	 * The compiled word list, or <code>null</code> if the words are in the hash buckets
+	 * @since 3.32
+	 */
+	private volatile CompiledSpellDictionary fCompiled;
+
+	/**
+	 * The system property to disable compiled word lists, see {@link #isCompilable()}
+	 * @since 3.32
+	 */
+	public static final String COMPILED_DICTIONARIES_PROPERTY= "jdt.spelling.compiledDictionaries"; //$NON-NLS-1$
+
+	/**
+	 * Are compiled word lists enabled?
+	 * @since 3.32
+	 */
+	protected static final boolean COMPILED_DICTIONARIES_ENABLED= Boolean.parseBoolean(System.getProperty(COMPILED_DICTIONARIES_PROPERTY, "true")); //$NON-NLS-1$
+
+	/**
+	 * The name of the directory in the state location for compiled word lists
+	 * @since 3.32
+	 */
+	private static final String COMPILED_DICTIONARIES= "dictionaries"; //$NON-NLS-1$
+
+	/**
+	 * The maximum number of candidates with the same phonetic hash that are ranked, see
+	 * https://bugs.eclipse.org/bugs/show_bug.cgi?id=195357
+	 * @since 3.32
+	 */
+	private static final int MAX_RANKED_CANDIDATES= 500;
+
+	/** Is the dictionary already loaded? Read without holding the lock of the dictionary. */
+	private volatile boolean fLoaded= false;
+	/**
+	 * Must the dictionary be loaded? Guarded by the lock of the dictionary.
 	 * @since 3.2
 	 */
 	private boolean fMustLoad= true;
@@ -142,21 +243,40 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	}
 
 	/**
-	 * Returns all candidates with the same phonetic hash.
+	 * Returns the candidates with the same phonetic hash.
+	 * <p>
+	 * The words of the compiled word list come first, followed by the words which have been
+	 * hashed into this dictionary.
+	 * </p>
 	 *
 	 * @param hash
 	 *                   The hash to retrieve the candidates of
-	 * @return Array of candidates for the phonetic hash
+	 * @param limit
+	 *                   The maximum number of candidates
+	 * @return List of candidates for the phonetic hash
+	 * @since 3.32
 	 */
-	protected final Object getCandidates(final String hash) {
-		ByteArrayWrapper hashBytes;
-		try {
-			hashBytes= new ByteArrayWrapper(hash.getBytes(UTF_8));
-		} catch (UnsupportedEncodingException e) {
-			JavaPlugin.log(e);
-			return null;
+	protected final List<String> getCandidates(final String hash, final int limit) {
+		final byte[] hashBytes= hash.getBytes(StandardCharsets.UTF_8);
+		final List<String> result= new ArrayList<>();
+
+		final CompiledSpellDictionary compiled= fCompiled;
+		if (compiled != null)
+			compiled.getWords(hashBytes, limit, result);
+
+		synchronized (fHashBucketsLock) {
+			final Object candidates= fHashBuckets.get(new ByteArrayWrapper(hashBytes));
+			if (candidates instanceof byte[]) {
+				if (result.size() < limit)
+					result.add(new String((byte[])candidates, StandardCharsets.UTF_8));
+			} else if (candidates != null) {
+				@SuppressWarnings("unchecked")
+				final ArrayList<byte[]> candidateList= (ArrayList<byte[]>)candidates;
+				for (int index= 0; index < candidateList.size() && result.size() < limit; index++)
+					result.add(new String(candidateList.get(index), StandardCharsets.UTF_8));
+			}
 		}
-		return fHashBuckets.get(hashBytes);
+		return result;
 	}
 
 	/**
@@ -184,41 +304,9 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 			hash= hash2;
 
-			final Object candidates= getCandidates(hash);
-			if (candidates == null)
-				continue;
-			else if (candidates instanceof byte[]) {
-				String candidate;
-				try {
-					candidate= new String((byte[])candidates, UTF_8);
-				} catch (UnsupportedEncodingException e) {
-					JavaPlugin.log(e);
-					return result;
-				}
-				distance= fDistanceAlgorithm.getDistance(word, candidate);
-				if (distance < DISTANCE_THRESHOLD) {
-					buffer.setLength(0);
-					buffer.append(candidate);
-					if (sentence)
-						buffer.setCharAt(0, Character.toUpperCase(buffer.charAt(0)));
-					result.add(new RankedWordProposal(buffer.toString(), -distance));
-				}
-				continue;
-			}
+			for (String candidate : getCandidates(hash, MAX_RANKED_CANDIDATES)) {
 
-			@SuppressWarnings("unchecked")
-			final ArrayList<byte[]> candidateList= (ArrayList<byte[]>)candidates;
-			int candidateSize= Math.min(500, candidateList.size()); // see https://bugs.eclipse.org/bugs/show_bug.cgi?id=195357
-			for (int offset= 0; offset < candidateSize; offset++) {
-
-				String candidate;
-				try {
-					candidate= new String(candidateList.get(offset), UTF_8);
-				} catch (UnsupportedEncodingException e) {
-					JavaPlugin.log(e);
-					return result;
-				}
-				distance= fDistanceAlgorithm.getDistance(word, candidate);
+				distance= fDistanceAlgorithm.getDistance(word, candidate, DISTANCE_THRESHOLD - 1);
 
 				if (distance < DISTANCE_THRESHOLD) {
 
@@ -255,37 +343,10 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 		StringBuilder buffer= new StringBuilder(BUFFER_CAPACITY);
 
-		final Object candidates= getCandidates(fHashProvider.getHash(word));
-		if (candidates == null)
-			return;
-		else if (candidates instanceof byte[]) {
-			String candidate;
-			try {
-				candidate= new String((byte[])candidates, UTF_8);
-			} catch (UnsupportedEncodingException e) {
-				JavaPlugin.log(e);
-				return;
-			}
-			distance= fDistanceAlgorithm.getDistance(word, candidate);
-			buffer.append(candidate);
-			if (sentence)
-				buffer.setCharAt(0, Character.toUpperCase(buffer.charAt(0)));
-			result.add(new RankedWordProposal(buffer.toString(), -distance));
-			return;
-		}
-
-		@SuppressWarnings("unchecked")
-		final ArrayList<byte[]> candidateList= (ArrayList<byte[]>)candidates;
-		final ArrayList<RankedWordProposal> matches= new ArrayList<>(candidateList.size());
+		final List<String> candidates= getCandidates(fHashProvider.getHash(word), Integer.MAX_VALUE);
+		final ArrayList<RankedWordProposal> matches= new ArrayList<>(candidates.size());
 
-		for (byte[] element : candidateList) {
-			String candidate;
-			try {
-				candidate= new String(element, UTF_8);
-			} catch (UnsupportedEncodingException e) {
-				JavaPlugin.log(e);
-				return;
-			}
+		for (String candidate : candidates) {
 			distance= fDistanceAlgorithm.getDistance(word, candidate);
 
 			if (distance <= minimum) {
@@ -314,7 +375,10 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @since 3.3
 	 */
 	protected boolean isEmpty() {
-		return fHashBuckets.isEmpty();
+		final CompiledSpellDictionary compiled= fCompiled;
+		synchronized (fHashBucketsLock) {
+			return fHashBuckets.isEmpty() && (compiled == null || compiled.isEmpty());
+		}
 	}
 
 	/**
@@ -338,28 +402,26 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	@Override
 	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
 
-		try {
-
-			if (!fLoaded) {
-				synchronized (this) {
-					fLoaded= load(getURL());
-					if (fLoaded)
-						compact();
-				}
-			}
+		ensureLoaded();
 
-		} catch (MalformedURLException exception) {
-			// Do nothing
+		final int generation= fGeneration.get();
+		final String key= fProposalCache != null ? (sentence ? "S" : "W") + word : null; //$NON-NLS-1$ //$NON-NLS-2$
+		if (key != null) {
+			final CachedProposals cached= fProposalCache.get(key);
+			if (cached != null && cached.fGeneration == generation)
+				return cached.getProposals();
 		}
 
 		final String hash= fHashProvider.getHash(word);
 		final char[] mutators= fHashProvider.getMutators();
 
-		final ArrayList<String> neighborhood= new ArrayList<>((word.length() + 1) * (mutators.length + 2));
-		neighborhood.add(hash);
+		final ArrayList<String> hashs= new ArrayList<>(1);
+		hashs.add(hash);
+
+		final Set<RankedWordProposal> candidates= getCandidates(word, sentence, hashs);
 
-		final Set<RankedWordProposal> candidates= getCandidates(word, sentence, neighborhood);
-		neighborhood.clear();
+		// many mutations map to the same phonetic hash, each hash is searched once
+		final LinkedHashSet<String> neighborhood= new LinkedHashSet<>((word.length() + 1) * (mutators.length + 2));
 
 		char previous= 0;
 		char next= 0;
@@ -435,16 +497,42 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		}
 
 		neighborhood.remove(hash);
-		final Set<RankedWordProposal> matches= getCandidates(word, sentence, neighborhood);
+		final Set<RankedWordProposal> matches= getCandidates(word, sentence, new ArrayList<>(neighborhood));
 
 		if (matches.isEmpty() && candidates.isEmpty())
 			getCandidates(word, sentence, candidates);
 
 		candidates.addAll(matches);
 
+		if (key != null && fGeneration.get() == generation)
+			fProposalCache.put(key, new CachedProposals(generation, candidates));
+
 		return candidates;
 	}
 
+	/**
+	 * Loads the word list unless it has been loaded already. Concurrent callers wait until the
+	 * first one has loaded the word list.
+	 *
+	 * @since 3.32
+	 */
+	private void ensureLoaded() {
+		if (fLoaded)
+			return;
+		synchronized (this) {
+			if (fLoaded)
+				return;
+			try {
+				boolean loaded= load(getURL());
+				if (loaded)
+					compact();
+				fLoaded= loaded;
+			} catch (MalformedURLException exception) {
+				// Do nothing
+			}
+		}
+	}
+
 	/**
 	 * Returns the URL of the dictionary word list.
 	 *
@@ -463,81 +551,57 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	protected final void hashWord(final String word) {
 
 		final String hash= fHashProvider.getHash(word);
-		ByteArrayWrapper hashBytes;
-		byte[] wordBytes;
-		try {
-			hashBytes= new ByteArrayWrapper(hash.getBytes(UTF_8));
-			wordBytes= word.getBytes(UTF_8);
-		} catch (UnsupportedEncodingException e) {
-			JavaPlugin.log(e);
-			return;
-		}
-
-		Object bucket= fHashBuckets.get(hashBytes);
-
-		if (bucket == null) {
-			fHashBuckets.put(hashBytes, wordBytes);
-		} else if (bucket instanceof ArrayList) {
-			@SuppressWarnings("unchecked")
-			ArrayList<byte[]> bucketList= (ArrayList<byte[]>)bucket;
-			bucketList.add(wordBytes);
-		} else {
-			ArrayList<Object> list= new ArrayList<>(BUCKET_CAPACITY);
-			list.add(bucket);
-			list.add(wordBytes);
-			fHashBuckets.put(hashBytes, list);
+		final ByteArrayWrapper hashBytes= new ByteArrayWrapper(hash.getBytes(StandardCharsets.UTF_8));
+		final byte[] wordBytes= word.getBytes(StandardCharsets.UTF_8);
+
+		synchronized (fHashBucketsLock) {
+			fGeneration.incrementAndGet();
+			Object bucket= fHashBuckets.get(hashBytes);
+
+			if (bucket == null) {
+				fHashBuckets.put(hashBytes, wordBytes);
+			} else if (bucket instanceof ArrayList) {
+				@SuppressWarnings("unchecked")
+				ArrayList<byte[]> bucketList= (ArrayList<byte[]>)bucket;
+				bucketList.add(wordBytes);
+			} else {
+				ArrayList<Object> list= new ArrayList<>(BUCKET_CAPACITY);
+				list.add(bucket);
+				list.add(wordBytes);
+				fHashBuckets.put(hashBytes, list);
+			}
 		}
 	}
 
 	@Override
 	public boolean isCorrect(String word) {
 		word= stripNonLetters(word);
-		try {
+		ensureLoaded();
 
-			if (!fLoaded) {
-				synchronized (this) {
-					fLoaded= load(getURL());
-					if (fLoaded)
-						compact();
-				}
-			}
+		final byte[] hashBytes= fHashProvider.getHash(word).getBytes(StandardCharsets.UTF_8);
+		final byte[] wordBytes= word.getBytes(StandardCharsets.UTF_8);
+		final byte[] lowercaseWordBytes= word.toLowerCase().getBytes(StandardCharsets.UTF_8);
 
-		} catch (MalformedURLException exception) {
-			// Do nothing
-		}
+		final CompiledSpellDictionary compiled= fCompiled;
+		if (compiled != null && compiled.contains(hashBytes, wordBytes, lowercaseWordBytes))
+			return true;
 
-		final Object candidates= getCandidates(fHashProvider.getHash(word));
-		if (candidates == null)
-			return false;
-		else if (candidates instanceof byte[]) {
-			String candidate;
-			try {
-				candidate= new String((byte[])candidates, UTF_8);
-			} catch (UnsupportedEncodingException e) {
-				JavaPlugin.log(e);
+		synchronized (fHashBucketsLock) {
+			final Object candidates= fHashBuckets.get(new ByteArrayWrapper(hashBytes));
+			if (candidates == null)
 				return false;
+			else if (candidates instanceof byte[])
+				return Arrays.equals((byte[])candidates, wordBytes) || Arrays.equals((byte[])candidates, lowercaseWordBytes);
+
+			@SuppressWarnings("unchecked")
+			final ArrayList<byte[]> candidateList= (ArrayList<byte[]>)candidates;
+			for (byte[] candidate : candidateList) {
+				if (Arrays.equals(candidate, wordBytes) || Arrays.equals(candidate, lowercaseWordBytes)) {
+					return true;
+				}
 			}
-			if (candidate.equals(word) || candidate.equals(word.toLowerCase()))
-				return true;
 			return false;
 		}
-		@SuppressWarnings("unchecked")
-		final ArrayList<byte[]> candidateList= (ArrayList<byte[]>)candidates;
-		byte[] wordBytes;
-		byte[] lowercaseWordBytes;
-		try {
-			wordBytes= word.getBytes(UTF_8);
-			lowercaseWordBytes= word.toLowerCase().getBytes(UTF_8);
-		} catch (UnsupportedEncodingException e) {
-			JavaPlugin.log(e);
-			return false;
-		}
-		for (byte[] candidate : candidateList) {
-			if (Arrays.equals(candidate, wordBytes) || Arrays.equals(candidate, lowercaseWordBytes)) {
-				return true;
-			}
-		}
-		return false;
 	}
 
 	@Override
@@ -574,7 +638,11 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 	@Override
 	public synchronized final boolean isLoaded() {
-		return fLoaded || fHashBuckets.size() > 0;
+		if (fLoaded)
+			return true;
+		synchronized (fHashBucketsLock) {
+			return fHashBuckets.size() > 0;
+		}
 	}
 
 	/**
@@ -589,6 +657,19 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		 if (!fMustLoad)
 			 return fLoaded;
 
+		if (url != null && isCompilable()) {
+			String sourceKey= CompiledSpellDictionary.getSourceKey(url, getEncoding());
+			if (sourceKey != null) {
+				CompiledSpellDictionary compiled= CompiledSpellDictionary.open(getCompiledFile(url), sourceKey);
+				if (compiled != null) {
+					fCompiled= compiled;
+					fGeneration.incrementAndGet();
+					fMustLoad= false;
+					return true;
+				}
+			}
+		}
+
 		if (url != null) {
 			InputStream stream= null;
 			int line= 0;
@@ -627,6 +708,8 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 								hashWord(word);
 						}
 					}
+					if (isCompilable())
+						compile(url);
 					return true;
 				}
 			} catch (FileNotFoundException ex) {
@@ -659,17 +742,95 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		return false;
 	}
 
+	/**
+	 * Tells whether the word list of this dictionary is compiled into a memory-mapped file when it
+	 * is loaded for the first time. The words of later sessions are then looked up in the mapped
+	 * file instead of the hash buckets. Words added with {@link #hashWord(String)} are still kept
+	 * in the hash buckets on top of the compiled word list.
+	 * <p>
+	 * The default implementation returns <code>false</code>, subclasses with large word lists that
+	 * rarely change may return {@link #COMPILED_DICTIONARIES_ENABLED}.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the word list is compiled
+	 * @since 3.32
+	 */
+	protected boolean isCompilable() {
+		return false;
+	}
+
+	/**
+	 * Compiles the words which have been loaded into the hash buckets and replaces them with the
+	 * compiled word list.
+	 *
+	 * @param url the URL of the loaded word list
+	 * @since 3.32
+	 */
+	private void compile(final URL url) {
+		String sourceKey= CompiledSpellDictionary.getSourceKey(url, getEncoding());
+		if (sourceKey == null)
+			return;
+
+		// the words are not looked up before the word list is loaded, but words may be added
+		synchronized (fHashBucketsLock) {
+			List<byte[]> hashes= new ArrayList<>(fHashBuckets.size());
+			List<List<byte[]>> buckets= new ArrayList<>(fHashBuckets.size());
+			for (Map.Entry<ByteArrayWrapper, Object> entry : fHashBuckets.entrySet()) {
+				hashes.add(entry.getKey().byteArray);
+				Object bucket= entry.getValue();
+				if (bucket instanceof byte[]) {
+					buckets.add(List.of((byte[])bucket));
+				} else {
+					@SuppressWarnings("unchecked")
+					List<byte[]> bucketList= (List<byte[]>)bucket;
+					buckets.add(bucketList);
+				}
+			}
+
+			File file= getCompiledFile(url);
+			if (!CompiledSpellDictionary.write(file, sourceKey, hashes, buckets))
+				return;
+			CompiledSpellDictionary compiled= CompiledSpellDictionary.open(file, sourceKey);
+			if (compiled != null) {
+				fCompiled= compiled;
+				fHashBuckets.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns the file of the compiled word list for the given URL. The file is named by a digest
+	 * of the URL, so that different word lists do not share a file.
+	 *
+	 * @param url the URL of the word list
+	 * @return the file of the compiled word list
+	 * @since 3.32
+	 */
+	private static File getCompiledFile(final URL url) {
+		byte[] digest;
+		try {
+			digest= MessageDigest.getInstance("SHA-256").digest(url.toExternalForm().getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+		String name= HexFormat.of().formatHex(digest) + ".dictionary"; //$NON-NLS-1$
+		return JavaPlugin.getDefault().getStateLocation().append(COMPILED_DICTIONARIES).append(name).toFile();
+	}
+
 	/**
 	 * Compacts the dictionary.
 	 *
 	 * @since 3.3.
 	 */
 	private void compact() {
-		Iterator<Object> iter= fHashBuckets.values().iterator();
-		while (iter.hasNext()) {
-			Object element= iter.next();
-			if (element instanceof ArrayList)
-				((ArrayList<?>)element).trimToSize();
+		synchronized (fHashBucketsLock) {
+			Iterator<Object> iter= fHashBuckets.values().iterator();
+			while (iter.hasNext()) {
+				Object element= iter.next();
+				if (element instanceof ArrayList)
+					((ArrayList<?>)element).trimToSize();
+			}
 		}
 	}
 
@@ -681,6 +842,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 */
 	protected final void setDistanceAlgorithm(final IPhoneticDistanceAlgorithm algorithm) {
 		fDistanceAlgorithm= algorithm;
+		fGeneration.incrementAndGet();
 	}
 
 	/**
@@ -691,13 +853,18 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 */
 	protected final void setHashProvider(final IPhoneticHashProvider provider) {
 		fHashProvider= provider;
+		fGeneration.incrementAndGet();
 	}
 
 	@Override
 	public synchronized void unload() {
 		fLoaded= false;
 		fMustLoad= true;
-		fHashBuckets.clear();
+		fCompiled= null;
+		synchronized (fHashBucketsLock) {
+			fHashBuckets.clear();
+		}
+		fGeneration.incrementAndGet();
 	}
 
 	@Override
@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.URIUtil;
+
+/**
+ * A read-only word list in a compact binary format which is memory-mapped from a file.
+ * <p>
+ * The file starts with a header that identifies the word list it was compiled from, followed by
+ * an open addressing table of bucket offsets and the buckets. A bucket holds a phonetic hash and
+ * the sorted, front-coded UTF-8 bytes of the words with that hash. Lookups work on the mapped
+ * buffer and do not create objects per word, except for the candidates that are returned. As they
+ * only use absolute reads of the buffer, lookups can run in parallel.
+ * </p>
+ *
+ * @since 3.32
+ */
+final class CompiledSpellDictionary {
+
+	/** The version of the file format */
+	private static final int VERSION= 1;
+
+	/** The size of a table slot in bytes */
+	private static final int SLOT_SIZE= 4;
+
+	/** The marker of an empty table slot */
+	private static final int EMPTY_SLOT= -1;
+
+	/** The maximum length of a word or phonetic hash in bytes */
+	private static final int MAX_LENGTH= 0xFF;
+
+	/** The maximum number of words in a bucket */
+	private static final int MAX_BUCKET_SIZE= 0xFFFF;
+
+	/** The mapped table and buckets */
+	private final ByteBuffer fBuffer;
+
+	/** The number of table slots, a power of two */
+	private final int fSlotCount;
+
+	/** The number of buckets */
+	private final int fBucketCount;
+
+	/** The maximum length of a word in bytes */
+	private final int fMaxWordLength;
+
+	private CompiledSpellDictionary(ByteBuffer buffer, int slotCount, int bucketCount, int maxWordLength) {
+		fBuffer= buffer;
+		fSlotCount= slotCount;
+		fBucketCount= bucketCount;
+		fMaxWordLength= maxWordLength;
+	}
+
+	/**
+	 * Returns the key which identifies the current content of a word list.
+	 *
+	 * @param url the URL of the word list
+	 * @param encoding the encoding of the word list
+	 * @return the key, or <code>null</code> if the word list can not be accessed
+	 */
+	static String getSourceKey(URL url, String encoding) {
+		try {
+			long lastModified;
+			long length;
+			if ("file".equals(url.getProtocol())) { //$NON-NLS-1$
+				// a file URL connection opens the file when it is connected
+				File file= URIUtil.toFile(URIUtil.toURI(url));
+				if (file == null || !file.isFile())
+					return null;
+				lastModified= file.lastModified();
+				length= file.length();
+			} else {
+				URLConnection connection= url.openConnection();
+				// not cached, so that closing the stream also closes the archive of a jar URL
+				connection.setUseCaches(false);
+				try (InputStream stream= connection.getInputStream()) {
+					lastModified= connection.getLastModified();
+					length= connection.getContentLengthLong();
+				}
+				if (length < 0)
+					return null;
+			}
+			return url.toExternalForm() + '|' + encoding + '|' + lastModified + '|' + length;
+		} catch (IOException | URISyntaxException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Maps a compiled word list.
+	 *
+	 * @param file the file of the compiled word list
+	 * @param sourceKey the key of the word list the file must have been compiled from
+	 * @return the compiled word list, or <code>null</code> if the file does not exist, is
+	 *         outdated or can not be read
+	 */
+	static CompiledSpellDictionary open(File file, String sourceKey) {
+		if (!file.isFile())
+			return null;
+		try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			// not buffered, so that the channel position is at the end of the header afterwards
+			DataInputStream in= new DataInputStream(Channels.newInputStream(channel));
+			if (in.readInt() != VERSION || !sourceKey.equals(in.readUTF()))
+				return null;
+			int slotCount= in.readInt();
+			int bucketCount= in.readInt();
+			int maxWordLength= in.readInt();
+			long start= channel.position();
+			ByteBuffer buffer= channel.map(FileChannel.MapMode.READ_ONLY, start, channel.size() - start);
+			if (buffer.capacity() < slotCount * SLOT_SIZE)
+				return null;
+			return new CompiledSpellDictionary(buffer, slotCount, bucketCount, maxWordLength);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a compiled word list. The file is written to a temporary file first and then moved,
+	 * so that another session never maps a partially written file.
+	 *
+	 * @param file the file to write
+	 * @param sourceKey the key of the word list that is compiled
+	 * @param hashes the UTF-8 bytes of the phonetic hashes
+	 * @param buckets the UTF-8 bytes of the words for each phonetic hash
+	 * @return <code>true</code> if the file has been written, <code>false</code> if the words
+	 *         do not fit into the format or the file could not be written
+	 */
+	static boolean write(File file, String sourceKey, List<byte[]> hashes, List<List<byte[]>> buckets) {
+		int bucketCount= hashes.size();
+		int slotCount= Integer.highestOneBit(Math.max(1, bucketCount) * 2 - 1) << 1;
+		int[] slots= new int[slotCount];
+		Arrays.fill(slots, EMPTY_SLOT);
+		int maxWordLength= 0;
+
+		ByteArrayOutputStream data= new ByteArrayOutputStream(bucketCount * 16);
+		for (int i= 0; i < bucketCount; i++) {
+			byte[] hash= hashes.get(i);
+			byte[][] words= buckets.get(i).toArray(new byte[0][]);
+			if (hash.length > MAX_LENGTH || words.length > MAX_BUCKET_SIZE)
+				return false;
+			Arrays.sort(words, Arrays::compareUnsigned);
+
+			int slot= hash(hash) & (slotCount - 1);
+			while (slots[slot] != EMPTY_SLOT)
+				slot= (slot + 1) & (slotCount - 1);
+			slots[slot]= data.size();
+
+			data.write(hash.length);
+			data.write(hash, 0, hash.length);
+			data.write(words.length >>> 8);
+			data.write(words.length);
+			byte[] previous= new byte[0];
+			for (byte[] word : words) {
+				if (word.length > MAX_LENGTH)
+					return false;
+				int mismatch= Arrays.mismatch(previous, word);
+				int prefix= mismatch < 0 ? word.length : mismatch;
+				data.write(prefix);
+				data.write(word.length - prefix);
+				data.write(word, prefix, word.length - prefix);
+				maxWordLength= Math.max(maxWordLength, word.length);
+				previous= word;
+			}
+		}
+
+		File parent= file.getAbsoluteFile().getParentFile();
+		parent.mkdirs();
+		File temp= null;
+		try {
+			temp= File.createTempFile(file.getName(), ".tmp", parent); //$NON-NLS-1$
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(sourceKey);
+				out.writeInt(slotCount);
+				out.writeInt(bucketCount);
+				out.writeInt(maxWordLength);
+				for (int slot : slots)
+					out.writeInt(slot == EMPTY_SLOT ? EMPTY_SLOT : slotCount * SLOT_SIZE + slot);
+				data.writeTo(out);
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			return false;
+		} finally {
+			if (temp != null)
+				temp.delete();
+		}
+		return true;
+	}
+
+	/**
+	 * Tells whether this word list contains no words.
+	 *
+	 * @return <code>true</code> if this word list is empty
+	 */
+	boolean isEmpty() {
+		return fBucketCount == 0;
+	}
+
+	/**
+	 * Adds the words with the given phonetic hash to the result.
+	 *
+	 * @param hash the UTF-8 bytes of the phonetic hash
+	 * @param limit the maximum number of words to add
+	 * @param result the list to add the words to
+	 */
+	void getWords(byte[] hash, int limit, List<String> result) {
+		int bucket= findBucket(hash);
+		if (bucket < 0)
+			return;
+		int count= Math.min(limit, getBucketSize(bucket));
+		int position= getFirstWord(bucket);
+		byte[] word= new byte[fMaxWordLength];
+		for (int i= 0; i < count; i++) {
+			int prefix= fBuffer.get(position) & 0xFF;
+			int suffix= fBuffer.get(position + 1) & 0xFF;
+			fBuffer.get(position + 2, word, prefix, suffix);
+			position+= 2 + suffix;
+			result.add(new String(word, 0, prefix + suffix, StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Tells whether a word with the given phonetic hash is contained in this word list.
+	 *
+	 * @param hash the UTF-8 bytes of the phonetic hash
+	 * @param word the UTF-8 bytes of the word
+	 * @param alternative the UTF-8 bytes of an alternative spelling of the word, for example in
+	 *            lower case
+	 * @return <code>true</code> if the word or its alternative spelling is contained
+	 */
+	boolean contains(byte[] hash, byte[] word, byte[] alternative) {
+		int bucket= findBucket(hash);
+		if (bucket < 0)
+			return false;
+		int count= getBucketSize(bucket);
+		int position= getFirstWord(bucket);
+		byte[] current= new byte[fMaxWordLength];
+		for (int i= 0; i < count; i++) {
+			int prefix= fBuffer.get(position) & 0xFF;
+			int suffix= fBuffer.get(position + 1) & 0xFF;
+			fBuffer.get(position + 2, current, prefix, suffix);
+			position+= 2 + suffix;
+			int length= prefix + suffix;
+			if (Arrays.equals(current, 0, length, word, 0, word.length) || Arrays.equals(current, 0, length, alternative, 0, alternative.length))
+				return true;
+		}
+		return false;
+	}
+
+	private int findBucket(byte[] hash) {
+		if (hash.length > MAX_LENGTH)
+			return -1;
+		int slot= hash(hash) & (fSlotCount - 1);
+		while (true) {
+			int bucket= fBuffer.getInt(slot * SLOT_SIZE);
+			if (bucket == EMPTY_SLOT)
+				return -1;
+			if (matches(bucket, hash))
+				return bucket;
+			slot= (slot + 1) & (fSlotCount - 1);
+		}
+	}
+
+	private boolean matches(int bucket, byte[] hash) {
+		if ((fBuffer.get(bucket) & 0xFF) != hash.length)
+			return false;
+		for (int i= 0; i < hash.length; i++) {
+			if (fBuffer.get(bucket + 1 + i) != hash[i])
+				return false;
+		}
+		return true;
+	}
+
+	private int getBucketSize(int bucket) {
+		int position= bucket + 1 + (fBuffer.get(bucket) & 0xFF);
+		return (fBuffer.get(position) & 0xFF) << 8 | fBuffer.get(position + 1) & 0xFF;
+	}
+
+	private int getFirstWord(int bucket) {
+		return bucket + 3 + (fBuffer.get(bucket) & 0xFF);
+	}
+
+	private static int hash(byte[] bytes) {
+		int hash= 0x811C9DC5;
+		for (byte b : bytes) {
+			hash^= b & 0xFF;
+			hash*= 0x01000193;
+		}
+		return hash;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,19 +41,37 @@ public final class DefaultPhoneticDistanceAlgorithm implements IPhoneticDistance
 
 	@Override
 	public int getDistance(final String from, final String to) {
+		return getDistance(from, to, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Only three rows of the distance matrix are kept. Words whose lengths differ too much are
+	 * rejected without computing a matrix, and the computation stops as soon as two consecutive
+	 * rows exceed the maximum, as swaps can skip a row but every path passes one of two consecutive
+	 * rows.
+	 * </p>
+	 *
+	 * @since 3.32
+	 */
+	@Override
+	public int getDistance(final String from, final String to, final int maximum) {
 
-		final char[] first= (" " + from).toCharArray(); //$NON-NLS-1$
-		final char[] second= (" " + to).toCharArray(); //$NON-NLS-1$
+		final int rows= from.length() + 1;
+		final int columns= to.length() + 1;
 
-		final int rows= first.length;
-		final int columns= second.length;
+		// every character that is inserted or removed costs at least the cheaper of both
+		final long lengthCost= (long) Math.abs(rows - columns) * Math.min(COST_INSERT, COST_REMOVE);
+		if (lengthCost > maximum)
+			return (int) Math.min(Integer.MAX_VALUE, lengthCost);
 
-		final int[][] metric= new int[rows][columns];
-		for (int column= 1; column < columns; column++)
-			metric[0][column]= metric[0][column - 1] + COST_REMOVE;
+		int[] previous2= new int[columns];
+		int[] previous= new int[columns];
+		int[] current= new int[columns];
 
-		for (int row= 1; row < rows; row++)
-			metric[row][0]= metric[row - 1][0] + COST_INSERT;
+		for (int column= 1; column < columns; column++)
+			previous[column]= previous[column - 1] + COST_REMOVE;
 
 		char source, target;
 
@@ -61,16 +79,22 @@ public final class DefaultPhoneticDistanceAlgorithm implements IPhoneticDistance
 		int change= Integer.MAX_VALUE;
 
 		int minimum, diagonal, insert, remove;
+		int previousRowMinimum= 0;
 		for (int row= 1; row < rows; row++) {
 
-			source= first[row];
+			source= from.charAt(row - 1);
+			current[0]= previous[0] + COST_INSERT;
+			int rowMinimum= current[0];
+
 			for (int column= 1; column < columns; column++) {
 
-				target= second[column];
-				diagonal= metric[row - 1][column - 1];
+				target= to.charAt(column - 1);
+				diagonal= previous[column - 1];
 
 				if (source == target) {
-					metric[row][column]= diagonal;
+					current[column]= diagonal;
+					if (diagonal < rowMinimum)
+						rowMinimum= diagonal;
 					continue;
 				}
 
@@ -79,26 +103,37 @@ public final class DefaultPhoneticDistanceAlgorithm implements IPhoneticDistance
 					change= COST_CASE + diagonal;
 
 				swap= Integer.MAX_VALUE;
-				if (row != 1 && column != 1 && source == second[column - 1] && first[row - 1] == target)
-					swap= COST_SWAP + metric[row - 2][column - 2];
+				if (row != 1 && column != 1 && source == to.charAt(column - 2) && from.charAt(row - 2) == target)
+					swap= COST_SWAP + previous2[column - 2];
 
 				minimum= COST_SUBSTITUTE + diagonal;
 				if (swap < minimum)
 					minimum= swap;
 
-				remove= metric[row][column - 1];
+				remove= current[column - 1];
 				if (COST_REMOVE + remove < minimum)
 					minimum= COST_REMOVE + remove;
 
-				insert= metric[row - 1][column];
+				insert= previous[column];
 				if (COST_INSERT + insert < minimum)
 					minimum= COST_INSERT + insert;
 				if (change < minimum)
 					minimum= change;
 
-				metric[row][column]= minimum;
+				current[column]= minimum;
+				if (minimum < rowMinimum)
+					rowMinimum= minimum;
 			}
+
+			if (rowMinimum > maximum && previousRowMinimum > maximum)
+				return rowMinimum;
+			previousRowMinimum= rowMinimum;
+
+			final int[] recycled= previous2;
+			previous2= previous;
+			previous= current;
+			current= recycled;
 		}
-		return metric[rows - 1][columns - 1];
+		return previous[columns - 1];
 	}
 }
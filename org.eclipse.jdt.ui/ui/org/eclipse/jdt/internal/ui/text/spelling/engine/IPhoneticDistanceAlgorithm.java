@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2005 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,4 +31,26 @@ public interface IPhoneticDistanceAlgorithm {
 	 * @return The non-negative phonetic distance between the words.
 	 */
 	int getDistance(String from, String to);
+
+	/**
+	 * Returns the non-negative phonetic distance between two words if it is not greater than the
+	 * given maximum.
+	 * <p>
+	 * Implementations may stop computing the distance as soon as it is known to exceed the
+	 * maximum. The default implementation computes the complete distance.
+	 * </p>
+	 *
+	 * @param from
+	 *                  The first word
+	 * @param to
+	 *                  The second word
+	 * @param maximum
+	 *                  The maximum distance of interest
+	 * @return The non-negative phonetic distance between the words, or a value greater than
+	 *               <code>maximum</code> if the distance is greater than <code>maximum</code>
+	 * @since 3.32
+	 */
+	default int getDistance(String from, String to, int maximum) {
+		return getDistance(from, to);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -79,6 +79,18 @@ public class PersistentSpellDictionary extends AbstractSpellDictionary {
 		hashWord(word);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The added words are kept on top of the compiled word list until the word list is compiled
+	 * again in a later session.
+	 * </p>
+	 */
+	@Override
+	protected boolean isCompilable() {
+		return COMPILED_DICTIONARIES_ENABLED;
+	}
+
 	@Override
 	protected final URL getURL() {
 		return fLocation;